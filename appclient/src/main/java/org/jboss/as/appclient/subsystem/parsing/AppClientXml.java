@@ -92,7 +92,8 @@ public class AppClientXml extends CommonXml {
                 break;
             }
             case DOMAIN_1_1:
-            case DOMAIN_1_2: {
+            case DOMAIN_1_2:
+            case DOMAIN_1_3: {
                 readServerElement_1_1(readerNS, reader, address, operationList);
                 break;
             }
@@ -209,4 +209,16 @@ public interface ClusteringImplLogger extends ClusteringApiLogger {
     @LogMessage(level = WARN)
     @Message(id = 10255, value = "Failed to stop lock manager")
     void lockManagerStopFailed(@Cause Throwable cause);
+
+    /**
+     * Logs a warning message indicating that a call by method id from a member, whose method table for the rpc handler of
+     * a service differs from the local one, was rejected.
+     *
+     * @param groupName   the partition group name.
+     * @param serviceName the service name of the rpc handler.
+     * @param sender      the address of the calling member.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 10256, value = "Partition %s rejected call on service %s from %s, since it identifies its method by an id of a different method table")
+    void rpcMethodTableMismatch(String groupName, String serviceName, Address sender);
 }
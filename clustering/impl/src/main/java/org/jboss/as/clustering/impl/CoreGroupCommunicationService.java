@@ -36,7 +36,9 @@ import java.lang.ref.WeakReference;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -129,6 +131,9 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
 
     private static final byte NULL_VALUE = 0;
     private static final byte SERIALIZABLE_VALUE = 1;
+    // Service under which members announce the method tables of their rpc handlers to each other
+    static final String METHOD_TABLES_SERVICE = CoreGroupCommunicationService.class.getName() + ".methodTables";
+    private static final Class<?>[] METHOD_TABLES_TYPES = new Class<?>[] { Address.class, Map.class };
     // TODO add Streamable support
     // private static final byte STREAMABLE_VALUE = 2;
 
@@ -156,6 +161,7 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
 
     public CoreGroupCommunicationService(short scope) {
         this.scopeId = scope;
+        this.rpcHandlers.put(METHOD_TABLES_SERVICE, new MethodTablesHandler());
     }
 
     public ServiceBuilder<CoreGroupCommunicationService> build(ServiceTarget target, String name) {
@@ -221,6 +227,9 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
     final short scopeId;
     private RpcDispatcher dispatcher = null;
     final Map<String, Object> rpcHandlers = new ConcurrentHashMap<String, Object>();
+    final Map<String, RpcMethodTable> rpcMethodTables = new ConcurrentHashMap<String, RpcMethodTable>();
+    /** The method table fingerprints of the rpc handlers of the other members, as announced by each member */
+    final Map<Address, Map<String, Integer>> memberMethodTables = new ConcurrentHashMap<Address, Map<String, Integer>>();
     private boolean directlyInvokeLocal;
     final Map<String, ClassResolver> resolvers = new ConcurrentHashMap<String, ClassResolver>();
 
@@ -320,7 +329,14 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
      */
     @Override
     public void registerRPCHandler(String objName, Object subscriber) {
+        RpcMethodTable table = RpcMethodTable.create(subscriber.getClass());
+        if (table != null) {
+            this.rpcMethodTables.put(objName, table);
+        } else {
+            this.rpcMethodTables.remove(objName);
+        }
         this.rpcHandlers.put(objName, subscriber);
+        this.announceMethodTables();
     }
 
     /**
@@ -343,7 +359,9 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
     @Override
     public void unregisterRPCHandler(String objName, Object subscriber) {
         this.rpcHandlers.remove(objName);
+        this.rpcMethodTables.remove(objName);
         this.resolvers.remove(objName);
+        this.announceMethodTables();
     }
 
     /**
@@ -367,7 +385,7 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
      */
     @Override
     public <T> List<T> callMethodOnCluster(String serviceName, String methodName, Object[] args, Class<?>[] types, boolean excludeSelf, ResponseFilter filter, long methodTimeout, boolean unordered) throws InterruptedException {
-        MethodCall m = new MethodCall(serviceName + "." + methodName, args, types);
+        MethodCall m = this.createMethodCall(serviceName, methodName, args, types, this.groupView.jgmembers);
         RequestOptions options = new RequestOptions(ResponseMode.GET_ALL, methodTimeout, false, new NoHandlerForRPCRspFilter(filter));
         if (excludeSelf) {
             options.setExclusionList(this.localJGAddress);
@@ -400,14 +418,78 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
         }
     }
 
+    /**
+     * Creates a method call for the specified service method.  If the service has a locally registered handler that declares
+     * the method, and every one of the specified members announced the same method table for the service, or no handler for
+     * it, the call identifies the method by its id in that table.  Otherwise, the call identifies the method by name.
+     */
+    MethodCall createMethodCall(String serviceName, String methodName, Object[] args, Class<?>[] types, List<Address> members) {
+        RpcMethodTable table = this.rpcMethodTables.get(serviceName);
+        if (table != null) {
+            int id = table.getId(methodName, types);
+            if ((id >= 0) && this.shareMethodTable(members, serviceName, table.getFingerprint())) {
+                return new ServiceMethodCall(serviceName, table.getFingerprint(), (short) id, args);
+            }
+        }
+        return new MethodCall(serviceName + "." + methodName, args, types);
+    }
+
+    private boolean shareMethodTable(List<Address> members, String serviceName, int fingerprint) {
+        for (Address member : members) {
+            if (member == null) return false;
+            if (member.equals(this.localJGAddress)) continue;
+            // Members that did not announce their method tables, e.g. because they predate method ids, are called by name
+            Map<String, Integer> tables = this.memberMethodTables.get(member);
+            if (tables == null) return false;
+            // A member without a handler for the service answers NoHandlerForRPC to either form of call
+            if (tables.containsKey(serviceName)) {
+                Integer memberFingerprint = tables.get(serviceName);
+                if ((memberFingerprint == null) || (memberFingerprint.intValue() != fingerprint)) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Announces the method table fingerprints of the local rpc handlers to the other members, so that they can call them by
+     * method id.
+     */
+    void announceMethodTables() {
+        // Handlers registered before the channel is connected are announced once the service starts
+        if ((this.me == null) || (this.channel == null)) return;
+        Map<String, Integer> tables = new HashMap<String, Integer>();
+        for (String serviceName : this.rpcHandlers.keySet()) {
+            if (!serviceName.equals(METHOD_TABLES_SERVICE)) {
+                RpcMethodTable table = this.rpcMethodTables.get(serviceName);
+                tables.put(serviceName, (table != null) ? Integer.valueOf(table.getFingerprint()) : null);
+            }
+        }
+        try {
+            this.callAsynchMethodOnCluster(METHOD_TABLES_SERVICE, "setMethodTables", new Object[] { this.localJGAddress, tables }, METHOD_TABLES_TYPES, true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            this.log.methodFailure(e, "announceMethodTables");
+        }
+    }
+
+    /**
+     * Returns the method table of the specified service, if it matches the class of its handler.
+     */
+    private RpcMethodTable getMethodTable(String serviceName, Object handler) {
+        RpcMethodTable table = this.rpcMethodTables.get(serviceName);
+        return ((table != null) && (table.getHandlerClass() == handler.getClass())) ? table : null;
+    }
+
     @SuppressWarnings("unchecked")
     <T> T invokeDirectly(String serviceName, String methodName, Object[] args, Class<?>[] types, List<T> remoteResponses, ResponseFilter filter) throws Exception {
         T retVal = null;
         Object handler = this.rpcHandlers.get(serviceName);
         if (handler != null) {
-            MethodCall call = new MethodCall(methodName, args, types);
+            RpcMethodTable table = this.getMethodTable(serviceName, handler);
+            int id = (table != null) ? table.getId(methodName, types) : -1;
             try {
-                Object result = call.invoke(handler);
+                Object result = (id >= 0) ? table.invoke(handler, id, args) : new MethodCall(methodName, args, types).invoke(handler);
                 retVal = (T) result;
                 if (remoteResponses != null && (filter == null || filter.isAcceptable(retVal, me))) {
                     remoteResponses.add(retVal);
@@ -439,8 +521,6 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
     public <T> T callMethodOnCoordinatorNode(String serviceName, String methodName, Object[] args, Class<?>[] types, boolean excludeSelf, long methodTimeout, boolean unordered) throws Exception {
         boolean trace = this.log.isTraceEnabled();
 
-        MethodCall m = new MethodCall(serviceName + "." + methodName, args, types);
-
         if (trace) {
             this.log.tracef("callMethodOnCoordinatorNode(false), objName=%s, methodName=%s", serviceName, methodName);
         }
@@ -456,6 +536,7 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
         }
 
         Address coord = this.groupView.coordinator;
+        MethodCall m = this.createMethodCall(serviceName, methodName, args, types, Collections.singletonList(coord));
         RequestOptions opt = new RequestOptions(ResponseMode.GET_ALL, methodTimeout, false, new NoHandlerForRPCRspFilter());
         if (unordered) {
             opt.setFlags(Message.OOB);
@@ -498,7 +579,8 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
         }
         boolean trace = this.log.isTraceEnabled();
 
-        MethodCall m = new MethodCall(serviceName + "." + methodName, args, types);
+        Address target = ((ClusterNodeImpl) targetNode).getOriginalJGAddress();
+        MethodCall m = this.createMethodCall(serviceName, methodName, args, types, Collections.singletonList(target));
 
         if (trace) {
             this.log.tracef("callMethodOnNode( objName=%s, methodName=%s )", serviceName, methodName);
@@ -512,7 +594,7 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
             opt.setFlags(Message.OOB);
         }
         try {
-            return this.dispatcher.<T>callRemoteMethod(((ClusterNodeImpl) targetNode).getOriginalJGAddress(), m, opt);
+            return this.dispatcher.<T>callRemoteMethod(target, m, opt);
         } catch (Exception e) {
             throw e;
         } catch (Error e) {
@@ -542,7 +624,8 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
         }
         boolean trace = this.log.isTraceEnabled();
 
-        MethodCall m = new MethodCall(serviceName + "." + methodName, args, types);
+        Address target = ((ClusterNodeImpl) targetNode).getOriginalJGAddress();
+        MethodCall m = this.createMethodCall(serviceName, methodName, args, types, Collections.singletonList(target));
 
         if (trace) {
             this.log.tracef("callAsyncMethodOnNode( objName=%s, methodName=%s )" + methodName, serviceName, methodName);
@@ -558,7 +641,7 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
             opt.setFlags(Message.OOB);
         }
         try {
-            this.dispatcher.callRemoteMethod(((ClusterNodeImpl) targetNode).getOriginalJGAddress(), m, opt);
+            this.dispatcher.callRemoteMethod(target, m, opt);
         } catch (Exception e) {
             throw e;
         } catch (Error e) {
@@ -581,7 +664,7 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
      */
     @Override
     public void callAsynchMethodOnCluster(final String serviceName, final String methodName, final Object[] args, final Class<?>[] types, boolean excludeSelf, boolean unordered) throws InterruptedException {
-        MethodCall m = new MethodCall(serviceName + "." + methodName, args, types);
+        MethodCall m = this.createMethodCall(serviceName, methodName, args, types, this.groupView.jgmembers);
         RequestOptions options = new RequestOptions(ResponseMode.GET_NONE, this.getMethodCallTimeout(), false, new NoHandlerForRPCRspFilter());
         if (excludeSelf) {
             options.setExclusionList(this.localJGAddress);
@@ -622,8 +705,6 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
 
         boolean trace = this.log.isTraceEnabled();
 
-        MethodCall m = new MethodCall(serviceName + "." + methodName, args, types);
-
         if (trace) {
             this.log.tracef("callMethodOnCoordinatorNode(false), objName=%s, methodName=%s", serviceName, methodName);
         }
@@ -643,6 +724,7 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
         }
 
         Address coord = this.groupView.coordinator;
+        MethodCall m = this.createMethodCall(serviceName, methodName, args, types, Collections.singletonList(coord));
         RequestOptions opt = new RequestOptions(ResponseMode.GET_ALL, this.getMethodCallTimeout(), false, new NoHandlerForRPCRspFilter());
         if (unordered) {
             opt.setFlags(Message.OOB);
@@ -982,6 +1064,8 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
 
         // Start the asynch listener handler thread
         this.asynchHandler.start();
+
+        this.announceMethodTables();
     }
 
     protected void stopService() throws Exception {
@@ -1181,6 +1265,7 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
         this.logHistory(MESSAGES.viewCreated(newGroupView.allMembers, newGroupView.viewId, oldMembers));
 
         this.groupView = newGroupView;
+        this.memberMethodTables.keySet().retainAll(newGroupView.jgmembers);
 
         if (oldMembers.viewId == -1) {
             // Initial viewAccepted
@@ -1391,6 +1476,13 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
 
         @Override
         public Buffer objectToBuffer(Object obj) throws Exception {
+            // wrap the arguments of a call by method id in Object[service_name, byte[], fingerprint, method_id], so that the
+            // receiver can check that the id was assigned against its own method table
+            if (obj instanceof ServiceMethodCall) {
+                ServiceMethodCall call = (ServiceMethodCall) obj;
+                Object[] args = (call.getArgs() != null) ? call.getArgs() : new Object[0];
+                return new Buffer(CoreGroupCommunicationService.this.objectToByteBufferInternal(new Object[] { call.serviceName, CoreGroupCommunicationService.this.objectToByteBufferInternal(args), call.fingerprint, call.getId() }));
+            }
             // wrap MethodCall in Object[service_name, byte[]] so that service name is available during demarshalling
             if (obj instanceof MethodCall) {
                 String name = ((MethodCall) obj).getName();
@@ -1438,135 +1530,178 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
     }
 
     /**
-     * Overrides RpcDispatcher.Handle so that we can dispatch to many different objects.
+     * Analyze the MethodCall contained in <code>req</code> to find the registered service object to invoke against, and
+     * then execute it against *that* object and return result.
+     *
+     * @param req The org.jgroups. representation of the method invocation
+     * @return The serializable return value from the invocation
      */
-    private class RpcHandler extends MuxRpcDispatcher {
-        RpcHandler(short scopeId, Channel channel, MessageListener messageListener, MembershipListener membershipListener, Marshaller reqMarshaller, Marshaller rspMarshaller) {
-            super(scopeId);
+    Object handle(Message req) {
+        Object body = null;
+        Object retval = null;
+        Object handler = null;
+        boolean trace = this.log.isTraceEnabled();
+        String service = null;
+        byte[] request_bytes = null;
+        RpcMethodTable table = null;
+        short methodId = -1;
 
-            setMessageListener(messageListener);
-            setMembershipListener(membershipListener);
-            setRequestMarshaller(reqMarshaller);
-            setResponseMarshaller(rspMarshaller);
-            setChannel(channel);
-            channel.addChannelListener(this);
-            start();
+        if (trace) {
+            this.log.tracef("Partition %s received msg", this.getGroupName());
         }
-
-        @Override
-        public UpHandler getProtocolAdapter() {
-            return new ClassLoaderAwareUpHandler(this.prot_adapter, CoreGroupCommunicationService.class.getClassLoader());
+        if (req == null || req.getRawBuffer() == null) {
+            this.log.nullPartitionMessage(this.getGroupName());
+            return null;
         }
 
-        /**
-         * Analyze the MethodCall contained in <code>req</code> to find the registered service object to invoke against, and
-         * then execute it against *that* object and return result.
-         *
-         * This overrides RpcDispatcher.Handle so that we can dispatch to many different objects.
-         *
-         * @param req The org.jgroups. representation of the method invocation
-         * @return The serializable return value from the invocation
-         */
-        @Override
-        public Object handle(Message req) {
-            Object body = null;
-            Object retval = null;
-            Object handler = null;
-            boolean trace = CoreGroupCommunicationService.this.log.isTraceEnabled();
-            String service = null;
-            byte[] request_bytes = null;
-
-            if (trace) {
-                CoreGroupCommunicationService.this.log.tracef("Partition %s received msg", CoreGroupCommunicationService.this.getGroupName());
-            }
-            if (req == null || req.getRawBuffer() == null) {
-                CoreGroupCommunicationService.this.log.nullPartitionMessage(CoreGroupCommunicationService.this.getGroupName());
+        try {
+            Object wrapper = this.objectFromByteBufferInternal(null, req.getRawBuffer(), req.getOffset(), req.getLength());
+            if (wrapper == null || !(wrapper instanceof Object[])) {
+                this.log.invalidPartitionMessageWrapper(this.getGroupName());
                 return null;
             }
 
-            try {
-                Object wrapper = CoreGroupCommunicationService.this.objectFromByteBufferInternal(null, req.getRawBuffer(), req.getOffset(), req.getLength());
-                if (wrapper == null || !(wrapper instanceof Object[])) {
-                    CoreGroupCommunicationService.this.log.invalidPartitionMessageWrapper(CoreGroupCommunicationService.this.getGroupName());
-                    return null;
-                }
-
-                // wrapper should be Object[]{service_name, byte[]}
-                Object[] temp = (Object[]) wrapper;
-                service = (String) temp[0];
-                request_bytes = (byte[]) temp[1];
+            // wrapper should be Object[]{service_name, byte[]}, or Object[]{service_name, byte[], fingerprint, method_id} for a call by method id
+            Object[] temp = (Object[]) wrapper;
+            service = (String) temp[0];
+            request_bytes = (byte[]) temp[1];
 
-                // see if this node has registered to handle this service
-                handler = CoreGroupCommunicationService.this.rpcHandlers.get(service);
-                if (handler == null) {
-                    if (trace) {
-                        CoreGroupCommunicationService.this.log.tracef("Partition %s no rpc handler registered under service %s", CoreGroupCommunicationService.this.getGroupName(), service);
-                    }
+            // see if this node has registered to handle this service
+            handler = this.rpcHandlers.get(service);
+            if (handler == null) {
+                if (trace) {
+                    this.log.tracef("Partition %s no rpc handler registered under service %s", this.getGroupName(), service);
+                }
+                return new NoHandlerForRPC();
+            }
+            if (temp.length > 3) {
+                // The caller only sends a method id if our announced method table matched its own, but the handler may
+                // since have been replaced.  Without a method name, there is nothing else to dispatch on.
+                table = this.getMethodTable(service, handler);
+                if ((table == null) || (table.getFingerprint() != ((Integer) temp[2]).intValue())) {
+                    this.log.rpcMethodTableMismatch(this.getGroupName(), service, req.getSrc());
                     return new NoHandlerForRPC();
                 }
-            } catch (Exception e) {
-                CoreGroupCommunicationService.this.log.partitionFailedUnserialing(e, CoreGroupCommunicationService.this.getGroupName(), req);
-                return null;
+                methodId = ((Short) temp[3]).shortValue();
             }
+        } catch (Exception e) {
+            this.log.partitionFailedUnserialing(e, this.getGroupName(), req);
+            return null;
+        }
 
-            // If client registered the service with a classloader, override the thread classloader here
-            ClassResolver resolver = CoreGroupCommunicationService.this.resolvers.get(service);
-            if (resolver == null) {
-                resolver = new SimpleClassResolver(CoreGroupCommunicationService.class.getClassLoader());
-            }
-            try {
-                body = CoreGroupCommunicationService.this.objectFromByteBufferInternal(resolver, request_bytes, 0, request_bytes.length);
-            } catch (Exception e) {
-                CoreGroupCommunicationService.this.log.partitionFailedExtractingMessageBody(e, CoreGroupCommunicationService.this.getGroupName());
+        // If client registered the service with a classloader, override the thread classloader here
+        ClassResolver resolver = this.resolvers.get(service);
+        if (resolver == null) {
+            resolver = new SimpleClassResolver(CoreGroupCommunicationService.class.getClassLoader());
+        }
+        try {
+            body = this.objectFromByteBufferInternal(resolver, request_bytes, 0, request_bytes.length);
+        } catch (Exception e) {
+            this.log.partitionFailedExtractingMessageBody(e, this.getGroupName());
+            return null;
+        }
+
+        String handlerName;
+        MethodCall method_call = null;
+        Object[] args = null;
+        if (table != null) {
+            // a call by method id only carries the arguments
+            if (!(body instanceof Object[]) || (table.getMethod(methodId) == null)) {
+                this.log.invalidPartitionMessage(this.getGroupName());
                 return null;
             }
-
+            args = (Object[]) body;
+            handlerName = service;
+            if (trace) {
+                this.log.tracef("handlerName: %s methodName: %s", handlerName, table.getMethod(methodId).getName());
+            }
+        } else {
             if (body == null || !(body instanceof MethodCall)) {
-                CoreGroupCommunicationService.this.log.invalidPartitionMessage(CoreGroupCommunicationService.this.getGroupName());
+                this.log.invalidPartitionMessage(this.getGroupName());
                 return null;
             }
 
             // get method call information
-            MethodCall method_call = (MethodCall) body;
+            method_call = (MethodCall) body;
             String methodName = method_call.getName();
 
             if (trace) {
-                CoreGroupCommunicationService.this.log.tracef("full methodName: %s", methodName);
+                this.log.tracef("full methodName: %s", methodName);
             }
 
-            int idx = methodName.lastIndexOf('.');
-            String handlerName = methodName.substring(0, idx);
+            int idx = (methodName != null) ? methodName.lastIndexOf('.') : -1;
+            if (idx < 0) {
+                this.log.invalidPartitionMessage(this.getGroupName());
+                return null;
+            }
+            handlerName = methodName.substring(0, idx);
             String newMethodName = methodName.substring(idx + 1);
             if (trace) {
-                CoreGroupCommunicationService.this.log.tracef("handlerName: %s methodName: %s", handlerName, newMethodName);
-                CoreGroupCommunicationService.this.log.tracef("Handle: %s",  methodName);
+                this.log.tracef("handlerName: %s methodName: %s", handlerName, newMethodName);
+                this.log.tracef("Handle: %s",  methodName);
             }
 
             // prepare method call
             method_call.setName(newMethodName);
+        }
 
-            /*
-             * Invoke it and just return any exception with trace level logging of the exception. The exception semantics of a
-             * group rpc call are weak as the return value may be a normal return value or the exception thrown.
-             */
-            try {
-                retval = method_call.invoke(handler);
-                if (resolver != null) {
-                    // wrap the response so that the service name can be accessed during unmarshalling of the response
-                    byte[] retbytes = CoreGroupCommunicationService.this.objectToByteBufferResponseInternal(retval);
-                    retval = new HAServiceResponse(handlerName, retbytes);
-                }
-                if (trace) {
-                    CoreGroupCommunicationService.this.log.tracef("rpc call return value: %s", retval);
-                }
-            } catch (Throwable t) {
-                if (trace) {
-                    CoreGroupCommunicationService.this.log.tracef(t, "Partition %s rpc call threw exception", CoreGroupCommunicationService.this.getGroupName());
-                }
-                retval = t;
+        /*
+         * Invoke it and just return any exception with trace level logging of the exception. The exception semantics of a
+         * group rpc call are weak as the return value may be a normal return value or the exception thrown.
+         */
+        try {
+            retval = (table != null) ? table.invoke(handler, methodId, args) : method_call.invoke(handler);
+            if (resolver != null) {
+                // wrap the response so that the service name can be accessed during unmarshalling of the response
+                byte[] retbytes = this.objectToByteBufferResponseInternal(retval);
+                retval = new HAServiceResponse(handlerName, retbytes);
+            }
+            if (trace) {
+                this.log.tracef("rpc call return value: %s", retval);
+            }
+        } catch (Throwable t) {
+            if (trace) {
+                this.log.tracef(t, "Partition %s rpc call threw exception", this.getGroupName());
             }
+            retval = t;
+        }
+
+        return retval;
+    }
+
+    /**
+     * Overrides RpcDispatcher.Handle so that we can dispatch to many different objects.
+     */
+    private class RpcHandler extends MuxRpcDispatcher {
+        RpcHandler(short scopeId, Channel channel, MessageListener messageListener, MembershipListener membershipListener, Marshaller reqMarshaller, Marshaller rspMarshaller) {
+            super(scopeId);
 
-            return retval;
+            setMessageListener(messageListener);
+            setMembershipListener(membershipListener);
+            setRequestMarshaller(reqMarshaller);
+            setResponseMarshaller(rspMarshaller);
+            setChannel(channel);
+            channel.addChannelListener(this);
+            start();
+        }
+
+        @Override
+        public UpHandler getProtocolAdapter() {
+            return new ClassLoaderAwareUpHandler(this.prot_adapter, CoreGroupCommunicationService.class.getClassLoader());
+        }
+
+        /**
+         * Analyze the MethodCall contained in <code>req</code> to find the registered service object to invoke against, and
+         * then execute it against *that* object and return result.
+         *
+         * This overrides RpcDispatcher.Handle so that we can dispatch to many different objects.
+         *
+         * @param req The org.jgroups. representation of the method invocation
+         * @return The serializable return value from the invocation
+         */
+        @Override
+        public Object handle(Message req) {
+            return CoreGroupCommunicationService.this.handle(req);
         }
     }
 
@@ -1577,6 +1712,9 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
         @Override
         public void processEvent(Object event) {
             GroupView vce = (GroupView) event;
+            if (!vce.newMembers.isEmpty()) {
+                CoreGroupCommunicationService.this.announceMethodTables();
+            }
             CoreGroupCommunicationService.this.notifyListeners(CoreGroupCommunicationService.this.asyncMembershipListeners,
                     vce.viewId, vce.allMembers, vce.deadMembers, vce.newMembers, vce.originatingGroups);
 
@@ -1974,6 +2112,31 @@ public class CoreGroupCommunicationService extends AsynchronousService<CoreGroup
         }
     }
 
+    /**
+     * A call by method id, together with its service name and the fingerprint of the method table that assigned the id.
+     */
+    static class ServiceMethodCall extends MethodCall {
+        private static final long serialVersionUID = -2563207286327233453L;
+
+        final String serviceName;
+        final int fingerprint;
+
+        ServiceMethodCall(String serviceName, int fingerprint, short methodId, Object[] args) {
+            super(methodId, args);
+            this.serviceName = serviceName;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * Records the method tables announced by the other members.
+     */
+    public class MethodTablesHandler {
+        public void setMethodTables(Address member, Map<String, Integer> tables) {
+            CoreGroupCommunicationService.this.memberMethodTables.put(member, tables);
+        }
+    }
+
     /**
      * Uses the service's thread pool to asynchronously invoke on the local object.
      */
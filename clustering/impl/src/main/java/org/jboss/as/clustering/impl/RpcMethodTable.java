@@ -0,0 +1,156 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.impl;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Table of the methods of an RPC handler class, so that a call can identify its target method by a numeric id instead of
+ * by its name and parameter types, and can be dispatched without a reflective method lookup.
+ * Ids are assigned in signature order, so every node assigns the same ids to the same handler class.  The fingerprint of
+ * the table identifies its signatures, so a node can reject ids assigned against a different version of the class.
+ */
+class RpcMethodTable {
+    private final Class<?> handlerClass;
+    private final Method[] methods;
+    private final Class<?>[][] parameterTypes;
+    private final Map<String, int[]> idsByName;
+    private final int fingerprint;
+
+    /**
+     * Creates the method table of the specified handler class.
+     * @param handlerClass the class of an RPC handler
+     * @return a method table, or null if the class has too many methods to be identified by a short
+     */
+    static RpcMethodTable create(Class<?> handlerClass) {
+        // Include non-public and inherited methods, like a by-name method call does
+        Map<String, Method> signatures = new TreeMap<String, Method>();
+        for (Class<?> targetClass = handlerClass; (targetClass != null) && (targetClass != Object.class); targetClass = targetClass.getSuperclass()) {
+            for (Method method : targetClass.getDeclaredMethods()) {
+                String signature = signature(method);
+                // Overriding methods take precedence
+                if (!signatures.containsKey(signature)) {
+                    signatures.put(signature, method);
+                }
+            }
+        }
+        if (signatures.size() > Short.MAX_VALUE) return null;
+        return new RpcMethodTable(handlerClass, signatures);
+    }
+
+    private RpcMethodTable(Class<?> handlerClass, Map<String, Method> signatures) {
+        this.handlerClass = handlerClass;
+        this.methods = new Method[signatures.size()];
+        this.parameterTypes = new Class<?>[this.methods.length][];
+        Map<String, int[]> idsByName = new HashMap<String, int[]>();
+        int fingerprint = 0;
+        int id = 0;
+        for (Map.Entry<String, Method> entry : signatures.entrySet()) {
+            Method method = entry.getValue();
+            try {
+                method.setAccessible(true);
+            } catch (SecurityException e) {
+                // Dispatch will be subject to access checks
+            }
+            this.methods[id] = method;
+            this.parameterTypes[id] = method.getParameterTypes();
+            int[] ids = idsByName.get(method.getName());
+            if (ids == null) {
+                ids = new int[] { id };
+            } else {
+                ids = Arrays.copyOf(ids, ids.length + 1);
+                ids[ids.length - 1] = id;
+            }
+            idsByName.put(method.getName(), ids);
+            fingerprint = 31 * fingerprint + entry.getKey().hashCode();
+            id += 1;
+        }
+        this.idsByName = idsByName;
+        this.fingerprint = fingerprint;
+    }
+
+    Class<?> getHandlerClass() {
+        return this.handlerClass;
+    }
+
+    int getFingerprint() {
+        return this.fingerprint;
+    }
+
+    /**
+     * Returns the id of the method with the specified name and parameter types.
+     * @return a method id, or -1 if no such method exists
+     */
+    int getId(String name, Class<?>[] types) {
+        if (types == null) return -1;
+        int[] ids = this.idsByName.get(name);
+        if (ids != null) {
+            for (int id : ids) {
+                if (Arrays.equals(this.parameterTypes[id], types)) {
+                    return id;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the method with the specified id.
+     * @return a method, or null if the id is not valid
+     */
+    Method getMethod(int id) {
+        return ((id >= 0) && (id < this.methods.length)) ? this.methods[id] : null;
+    }
+
+    /**
+     * Invokes the method with the specified id on the specified handler.  Like a method call, exceptions thrown by the
+     * method are thrown as is.
+     * @return the return value of the method
+     */
+    Object invoke(Object handler, int id, Object[] args) throws Exception {
+        try {
+            return this.methods[id].invoke(handler, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) throw (Error) cause;
+            if (cause instanceof Exception) throw (Exception) cause;
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private static String signature(Method method) {
+        StringBuilder builder = new StringBuilder(method.getName()).append('(');
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; ++i) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(types[i].getName());
+        }
+        return builder.append(')').toString();
+    }
+}
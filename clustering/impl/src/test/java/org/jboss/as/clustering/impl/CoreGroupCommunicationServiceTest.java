@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.clustering.impl.CoreGroupCommunicationService.NoHandlerForRPC;
+import org.jgroups.Address;
+import org.jgroups.Message;
+import org.jgroups.blocks.MethodCall;
+import org.jgroups.util.Buffer;
+import org.jgroups.util.UUID;
+import org.junit.Test;
+
+/**
+ * Verifies that rpc calls are only sent by method id to members that announced the same method table, and are dispatched
+ * between members that do and do not send method ids.
+ */
+public class CoreGroupCommunicationServiceTest {
+    private static final String SERVICE = "service";
+    private static final Object[] ARGS = new Object[] { "value", 2 };
+    private static final Class<?>[] TYPES = new Class<?>[] { String.class, int.class };
+
+    @Test
+    public void callByMethodId() throws Exception {
+        CoreGroupCommunicationService sender = createService(new RpcMethodTableTest.Handler());
+        CoreGroupCommunicationService receiver = createService(new RpcMethodTableTest.Handler());
+        List<Address> members = announce(sender, receiver);
+
+        MethodCall call = sender.createMethodCall(SERVICE, "echo", ARGS, TYPES, members);
+        assertTrue(call instanceof CoreGroupCommunicationService.ServiceMethodCall);
+
+        // Only the arguments are sent, not the method name
+        Message message = newMessage(sender, call);
+        Object[] wrapper = (Object[]) sender.objectFromByteBufferInternal(null, message.getRawBuffer(), message.getOffset(), message.getLength());
+        assertEquals(4, wrapper.length);
+        byte[] bytes = (byte[]) wrapper[1];
+        assertArrayEquals(ARGS, (Object[]) sender.objectFromByteBufferInternal(null, bytes, 0, bytes.length));
+
+        assertEquals("valuevalue", invoke(receiver, message));
+    }
+
+    @Test
+    public void callByNameToUnknownMember() throws Exception {
+        CoreGroupCommunicationService sender = createService(new RpcMethodTableTest.Handler());
+        CoreGroupCommunicationService receiver = createService(new RpcMethodTableTest.Handler());
+
+        // Members that did not announce their method tables, e.g. because they predate method ids, are called by name
+        MethodCall call = sender.createMethodCall(SERVICE, "echo", ARGS, TYPES, Collections.<Address>singletonList(UUID.randomUUID()));
+        assertFalse(call instanceof CoreGroupCommunicationService.ServiceMethodCall);
+        assertEquals(SERVICE + ".echo", call.getName());
+
+        assertEquals("valuevalue", invoke(receiver, newMessage(sender, call)));
+    }
+
+    @Test
+    public void callByNameFromOldMember() throws Exception {
+        CoreGroupCommunicationService receiver = createService(new RpcMethodTableTest.Handler());
+
+        // Old members send Object[]{service_name, byte[]} with a call by name
+        MethodCall call = new MethodCall(SERVICE + ".echo", ARGS, TYPES);
+        byte[] wrapper = receiver.objectToByteBufferInternal(new Object[] { SERVICE, receiver.objectToByteBufferInternal(call) });
+
+        assertEquals("valuevalue", invoke(receiver, new Message(null, null, wrapper)));
+    }
+
+    @Test
+    public void callByNameWithDifferentMethodTable() throws Exception {
+        CoreGroupCommunicationService sender = createService(new RpcMethodTableTest.Handler());
+        CoreGroupCommunicationService receiver = createService(new RpcMethodTableTest.ExtendedHandler());
+        List<Address> members = announce(sender, receiver);
+
+        MethodCall call = sender.createMethodCall(SERVICE, "ping", new Object[0], new Class<?>[0], members);
+        assertFalse(call instanceof CoreGroupCommunicationService.ServiceMethodCall);
+        assertEquals("extended pong", invoke(receiver, newMessage(sender, call)));
+
+        // A single member with a different method table is enough to call the whole cluster by name
+        CoreGroupCommunicationService other = createService(new RpcMethodTableTest.Handler());
+        List<Address> cluster = new ArrayList<Address>(members);
+        cluster.addAll(announce(sender, other));
+        assertFalse(sender.createMethodCall(SERVICE, "ping", new Object[0], new Class<?>[0], cluster) instanceof CoreGroupCommunicationService.ServiceMethodCall);
+    }
+
+    @Test
+    public void callByMethodIdWithReplacedHandler() throws Exception {
+        CoreGroupCommunicationService sender = createService(new RpcMethodTableTest.Handler());
+        CoreGroupCommunicationService receiver = createService(new RpcMethodTableTest.Handler());
+        List<Address> members = announce(sender, receiver);
+
+        // The receiver replaced its handler before the sender learned about its new method table
+        receiver.registerRPCHandler(SERVICE, new RpcMethodTableTest.ExtendedHandler());
+        assertTrue(receiver.handle(newMessage(sender, sender.createMethodCall(SERVICE, "ping", new Object[0], new Class<?>[0], members))) instanceof NoHandlerForRPC);
+    }
+
+    @Test
+    public void callByNameWithoutMethodTable() throws Exception {
+        CoreGroupCommunicationService sender = createService(new RpcMethodTableTest.Handler());
+        Address member = UUID.randomUUID();
+        Map<String, Integer> tables = new HashMap<String, Integer>();
+        tables.put(SERVICE, null);
+        sender.memberMethodTables.put(member, tables);
+
+        assertFalse(sender.createMethodCall(SERVICE, "ping", new Object[0], new Class<?>[0], Collections.singletonList(member)) instanceof CoreGroupCommunicationService.ServiceMethodCall);
+    }
+
+    @Test
+    public void callWithoutHandler() throws Exception {
+        CoreGroupCommunicationService sender = createService(new RpcMethodTableTest.Handler());
+        CoreGroupCommunicationService receiver = new CoreGroupCommunicationService((short) 1);
+        List<Address> members = announce(sender, receiver);
+
+        // A member without a handler answers either form of call with NoHandlerForRPC
+        MethodCall call = sender.createMethodCall(SERVICE, "ping", new Object[0], new Class<?>[0], members);
+        assertTrue(call instanceof CoreGroupCommunicationService.ServiceMethodCall);
+        assertTrue(receiver.handle(newMessage(sender, call)) instanceof NoHandlerForRPC);
+    }
+
+    private static CoreGroupCommunicationService createService(Object handler) {
+        CoreGroupCommunicationService service = new CoreGroupCommunicationService((short) 1);
+        service.registerRPCHandler(SERVICE, handler);
+        return service;
+    }
+
+    /**
+     * Delivers the method table announcement of the specified member to the specified service.
+     * @return the address of the announcing member
+     */
+    private static List<Address> announce(CoreGroupCommunicationService service, CoreGroupCommunicationService member) throws Exception {
+        Address address = UUID.randomUUID();
+        Map<String, Integer> tables = new HashMap<String, Integer>();
+        for (Map.Entry<String, RpcMethodTable> entry : member.rpcMethodTables.entrySet()) {
+            tables.put(entry.getKey(), entry.getValue().getFingerprint());
+        }
+        MethodCall call = new MethodCall(CoreGroupCommunicationService.METHOD_TABLES_SERVICE + ".setMethodTables", new Object[] { address, tables }, new Class<?>[] { Address.class, Map.class });
+        invoke(service, newMessage(member, call));
+        assertEquals(tables, service.memberMethodTables.get(address));
+        return Collections.singletonList(address);
+    }
+
+    private static Message newMessage(CoreGroupCommunicationService sender, MethodCall call) throws Exception {
+        Buffer buffer = sender.new RequestMarshallerImpl().objectToBuffer(call);
+        return new Message(null, null, buffer.getBuf(), buffer.getOffset(), buffer.getLength());
+    }
+
+    private static Object invoke(CoreGroupCommunicationService receiver, Message message) throws Exception {
+        Object result = receiver.handle(message);
+        Buffer buffer = receiver.new ResponseMarshallerImpl().objectToBuffer(result);
+        return receiver.new ResponseMarshallerImpl().objectFromBuffer(buffer.getBuf(), buffer.getOffset(), buffer.getLength());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+public class RpcMethodTableTest {
+
+    @Test
+    public void ids() throws Exception {
+        RpcMethodTable table = RpcMethodTable.create(Handler.class);
+        assertSame(Handler.class, table.getHandlerClass());
+
+        int echo = table.getId("echo", new Class<?>[] { String.class });
+        int echoTwice = table.getId("echo", new Class<?>[] { String.class, int.class });
+        int ping = table.getId("ping", new Class<?>[0]);
+        assertTrue(echo >= 0);
+        assertTrue(echoTwice >= 0);
+        assertTrue(ping >= 0);
+        assertFalse(echo == echoTwice);
+
+        // Ids follow signature order
+        assertTrue(echo < echoTwice);
+        assertTrue(echoTwice < ping);
+
+        assertEquals(Handler.class.getDeclaredMethod("echo", String.class), table.getMethod(echo));
+        assertEquals(Handler.class.getDeclaredMethod("ping"), table.getMethod(ping));
+
+        assertEquals(-1, table.getId("echo", new Class<?>[] { Object.class }));
+        assertEquals(-1, table.getId("missing", new Class<?>[0]));
+        assertEquals(-1, table.getId("echo", null));
+        assertNull(table.getMethod(-1));
+        assertNull(table.getMethod(Short.MAX_VALUE));
+    }
+
+    @Test
+    public void inherited() throws Exception {
+        RpcMethodTable table = RpcMethodTable.create(ExtendedHandler.class);
+
+        Method ping = table.getMethod(table.getId("ping", new Class<?>[0]));
+        assertNotNull(ping);
+        // Overriding method takes precedence
+        assertSame(ExtendedHandler.class, ping.getDeclaringClass());
+
+        Method echo = table.getMethod(table.getId("echo", new Class<?>[] { String.class }));
+        assertNotNull(echo);
+        assertSame(Handler.class, echo.getDeclaringClass());
+
+        assertTrue(table.getId("reset", new Class<?>[0]) >= 0);
+    }
+
+    @Test
+    public void fingerprint() {
+        assertEquals(RpcMethodTable.create(Handler.class).getFingerprint(), RpcMethodTable.create(Handler.class).getFingerprint());
+        // Same signatures yield the same fingerprint
+        assertEquals(RpcMethodTable.create(Handler.class).getFingerprint(), RpcMethodTable.create(CopyHandler.class).getFingerprint());
+        assertFalse(RpcMethodTable.create(Handler.class).getFingerprint() == RpcMethodTable.create(ExtendedHandler.class).getFingerprint());
+    }
+
+    @Test
+    public void invoke() throws Exception {
+        RpcMethodTable table = RpcMethodTable.create(Handler.class);
+        assertEquals("valuevalue", table.invoke(new Handler(), table.getId("echo", new Class<?>[] { String.class, int.class }), new Object[] { "value", 2 }));
+        assertEquals("pong", table.invoke(new Handler(), table.getId("ping", new Class<?>[0]), null));
+    }
+
+    public static class Handler {
+        public String echo(String value) {
+            return value;
+        }
+
+        public String echo(String value, int times) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < times; ++i) {
+                builder.append(value);
+            }
+            return builder.toString();
+        }
+
+        public String ping() {
+            return "pong";
+        }
+    }
+
+    public static class CopyHandler {
+        public String echo(String value) {
+            return value;
+        }
+
+        public String echo(String value, int times) {
+            return value;
+        }
+
+        public String ping() {
+            return "PONG";
+        }
+    }
+
+    public static class ExtendedHandler extends Handler {
+        @Override
+        public String ping() {
+            return "extended pong";
+        }
+
+        public void reset() {
+        }
+    }
+}
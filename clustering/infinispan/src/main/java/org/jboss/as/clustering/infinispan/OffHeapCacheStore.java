@@ -0,0 +1,488 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.clustering.infinispan;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.infinispan.Cache;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.loaders.AbstractCacheStore;
+import org.infinispan.loaders.AbstractCacheStoreConfig;
+import org.infinispan.loaders.CacheLoaderConfig;
+import org.infinispan.loaders.CacheLoaderException;
+import org.infinispan.loaders.CacheLoaderMetadata;
+import org.infinispan.loaders.file.FileCacheStore;
+import org.infinispan.loaders.file.FileCacheStoreConfig;
+import org.infinispan.marshall.StreamingMarshaller;
+
+/**
+ * Local cache store that keeps marshalled entries in memory outside of the java heap.
+ * Once the configured amount of memory is exhausted, the least recently used entries are moved to a file store.
+ * Intended as the passivation target of a web session cache, so that the number of active sessions can be kept low
+ * without paying the cost of disk access when an idle session is reactivated.
+ */
+@CacheLoaderMetadata(configurationClass = OffHeapCacheStore.OffHeapCacheStoreConfig.class)
+public class OffHeapCacheStore extends AbstractCacheStore {
+
+    // Access ordered, so that iteration starts from the least recently used entry
+    private final Map<Object, Slot> slots = new LinkedHashMap<Object, Slot>(16, 0.75f, true);
+    // Entries evicted from memory that are still being written to disk
+    private final Map<Object, byte[]> passivating = new HashMap<Object, byte[]>();
+    private final FileCacheStore overflow = new FileCacheStore();
+    private volatile OffHeapCacheStoreConfig config;
+    private volatile OffHeapMemory memory;
+    private volatile File mappedFile;
+
+    @Override
+    public void init(CacheLoaderConfig config, Cache<?, ?> cache, StreamingMarshaller marshaller) throws CacheLoaderException {
+        super.init(config, cache, marshaller);
+        this.config = (OffHeapCacheStoreConfig) config;
+        FileCacheStoreConfig overflowConfig = new FileCacheStoreConfig();
+        overflowConfig.setLocation(new File(this.config.getLocation(), "overflow").getPath());
+        overflowConfig.setPurgeSynchronously(Boolean.TRUE);
+        this.overflow.init(overflowConfig, cache, marshaller);
+    }
+
+    @Override
+    public void start() throws CacheLoaderException {
+        super.start();
+        long size = this.config.getMaxMemory();
+        int blockSize = this.config.getBlockSize();
+        if (this.config.isMemoryMapped()) {
+            File directory = new File(this.config.getLocation());
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new CacheLoaderException(String.format("Failed to create directory %s", directory));
+            }
+            this.mappedFile = new File(directory, this.cache.getName() + ".dat");
+            try {
+                this.memory = new OffHeapMemory(this.mappedFile, size, blockSize);
+            } catch (IOException e) {
+                throw new CacheLoaderException(e);
+            }
+        } else {
+            this.memory = new OffHeapMemory(size, blockSize);
+        }
+        this.overflow.start();
+    }
+
+    @Override
+    public void stop() throws CacheLoaderException {
+        try {
+            this.overflow.stop();
+        } finally {
+            synchronized (this.slots) {
+                this.slots.clear();
+                this.memory = null;
+            }
+            if ((this.mappedFile != null) && !this.mappedFile.delete()) {
+                this.mappedFile.deleteOnExit();
+            }
+            super.stop();
+        }
+    }
+
+    @Override
+    public Class<? extends CacheLoaderConfig> getConfigurationClass() {
+        return OffHeapCacheStoreConfig.class;
+    }
+
+    @Override
+    public void store(InternalCacheEntry entry) throws CacheLoaderException {
+        Object key = entry.getKey();
+        byte[] bytes = this.marshal(entry);
+        Map<Object, byte[]> evicted = new LinkedHashMap<Object, byte[]>();
+        int[] blocks = null;
+        synchronized (this.slots) {
+            this.awaitPassivation(key);
+            this.release(this.slots.remove(key));
+            // An entry larger than the entire memory region would otherwise evict every other entry, and still not fit
+            if (this.memory.fits(bytes.length)) {
+                blocks = this.memory.write(bytes);
+                Iterator<Map.Entry<Object, Slot>> eldest = this.slots.entrySet().iterator();
+                while ((blocks == null) && eldest.hasNext()) {
+                    Map.Entry<Object, Slot> slot = eldest.next();
+                    eldest.remove();
+                    evicted.put(slot.getKey(), this.release(slot.getValue()));
+                    blocks = this.memory.write(bytes);
+                }
+            }
+            this.passivating.putAll(evicted);
+            // Hold the key until its copy on disk is up to date, so that a concurrent eviction cannot interleave with it
+            this.passivating.put(key, bytes);
+        }
+        try {
+            // Move evicted entries to disk without holding the lock, so that concurrent passivations do not wait on file I/O
+            for (Map.Entry<Object, byte[]> passivated: evicted.entrySet()) {
+                this.passivate(passivated.getKey(), passivated.getValue());
+            }
+            if (blocks != null) {
+                // Discard any stale copy that was previously moved to disk
+                this.overflow.remove(key);
+            } else {
+                this.overflow.store(entry);
+            }
+        } finally {
+            synchronized (this.slots) {
+                this.passivating.remove(key);
+                if (blocks != null) {
+                    this.slots.put(key, new Slot(blocks, bytes.length, entry.getExpiryTime()));
+                }
+                this.slots.notifyAll();
+            }
+        }
+    }
+
+    private void passivate(Object key, byte[] bytes) throws CacheLoaderException {
+        try {
+            this.overflow.store(this.unmarshal(bytes));
+        } finally {
+            synchronized (this.slots) {
+                this.passivating.remove(key);
+                this.slots.notifyAll();
+            }
+        }
+    }
+
+    // Must be called while holding the monitor of this.slots
+    private void awaitPassivation(Object key) {
+        boolean interrupted = false;
+        try {
+            while (this.passivating.containsKey(key)) {
+                try {
+                    this.slots.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Must be called while holding the monitor of this.slots
+    private void awaitPassivation() {
+        boolean interrupted = false;
+        try {
+            while (!this.passivating.isEmpty()) {
+                try {
+                    this.slots.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public InternalCacheEntry load(Object key) throws CacheLoaderException {
+        byte[] bytes = null;
+        synchronized (this.slots) {
+            Slot slot = this.slots.get(key);
+            if (slot != null) {
+                if (slot.isExpired(System.currentTimeMillis())) {
+                    this.release(this.slots.remove(key));
+                    return null;
+                }
+                bytes = this.memory.read(slot.blocks, slot.length);
+            } else {
+                // Entry may be on its way to disk
+                bytes = this.passivating.get(key);
+            }
+        }
+        return (bytes != null) ? this.unmarshal(bytes) : this.overflow.load(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) throws CacheLoaderException {
+        synchronized (this.slots) {
+            Slot slot = this.slots.get(key);
+            if (slot != null) {
+                return !slot.isExpired(System.currentTimeMillis());
+            }
+            if (this.passivating.containsKey(key)) return true;
+        }
+        return this.overflow.containsKey(key);
+    }
+
+    @Override
+    public Set<InternalCacheEntry> loadAll() throws CacheLoaderException {
+        return this.load(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Set<InternalCacheEntry> load(int numEntries) throws CacheLoaderException {
+        if (numEntries < 0) return this.loadAll();
+        List<byte[]> values = new ArrayList<byte[]>();
+        long now = System.currentTimeMillis();
+        synchronized (this.slots) {
+            Iterator<Slot> slots = this.slots.values().iterator();
+            while (slots.hasNext() && (values.size() < numEntries)) {
+                Slot slot = slots.next();
+                if (!slot.isExpired(now)) {
+                    values.add(this.memory.read(slot.blocks, slot.length));
+                }
+            }
+        }
+        Set<InternalCacheEntry> result = new HashSet<InternalCacheEntry>();
+        for (byte[] value: values) {
+            result.add(this.unmarshal(value));
+        }
+        if (result.size() < numEntries) {
+            for (InternalCacheEntry entry: this.overflow.load(numEntries - result.size())) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Object> loadAllKeys(Set<Object> keysToExclude) throws CacheLoaderException {
+        Set<Object> result = new HashSet<Object>();
+        synchronized (this.slots) {
+            for (Object key: this.slots.keySet()) {
+                if ((keysToExclude == null) || !keysToExclude.contains(key)) {
+                    result.add(key);
+                }
+            }
+            for (Object key: this.passivating.keySet()) {
+                if ((keysToExclude == null) || !keysToExclude.contains(key)) {
+                    result.add(key);
+                }
+            }
+        }
+        result.addAll(this.overflow.loadAllKeys(keysToExclude));
+        return result;
+    }
+
+    @Override
+    public boolean remove(Object key) throws CacheLoaderException {
+        boolean removed = false;
+        synchronized (this.slots) {
+            this.awaitPassivation(key);
+            removed = (this.release(this.slots.remove(key)) != null);
+        }
+        return this.overflow.remove(key) || removed;
+    }
+
+    @Override
+    public void clear() throws CacheLoaderException {
+        synchronized (this.slots) {
+            this.awaitPassivation();
+            this.slots.clear();
+            this.memory.clear();
+            // Clear the overflow while holding the lock, so that no passivation can rewrite an entry afterwards
+            this.overflow.clear();
+        }
+    }
+
+    @Override
+    public void toStream(ObjectOutput output) throws CacheLoaderException {
+        try {
+            for (InternalCacheEntry entry: this.loadAll()) {
+                this.getMarshaller().objectToObjectStream(entry, output);
+            }
+            this.getMarshaller().objectToObjectStream(null, output);
+        } catch (IOException e) {
+            throw new CacheLoaderException(e);
+        }
+    }
+
+    @Override
+    public void fromStream(ObjectInput input) throws CacheLoaderException {
+        try {
+            InternalCacheEntry entry = (InternalCacheEntry) this.getMarshaller().objectFromObjectStream(input);
+            while (entry != null) {
+                this.store(entry);
+                entry = (InternalCacheEntry) this.getMarshaller().objectFromObjectStream(input);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            throw new CacheLoaderException(e);
+        }
+    }
+
+    @Override
+    protected void purgeInternal() throws CacheLoaderException {
+        long now = System.currentTimeMillis();
+        synchronized (this.slots) {
+            Iterator<Slot> slots = this.slots.values().iterator();
+            while (slots.hasNext()) {
+                Slot slot = slots.next();
+                if (slot.isExpired(now)) {
+                    slots.remove();
+                    this.release(slot);
+                }
+            }
+        }
+        this.overflow.purgeExpired();
+    }
+
+    /**
+     * Returns the number of bytes of off-heap memory currently holding entries.
+     * @return a number of bytes
+     */
+    public long getMemoryUsed() {
+        synchronized (this.slots) {
+            return (this.memory != null) ? this.memory.getUsed() : 0;
+        }
+    }
+
+    /**
+     * Returns the number of entries currently held in off-heap memory.
+     * @return a number of entries
+     */
+    public int getOffHeapEntries() {
+        synchronized (this.slots) {
+            return this.slots.size();
+        }
+    }
+
+    // Must be called while holding the monitor of this.slots
+    private byte[] release(Slot slot) {
+        if (slot == null) return null;
+        byte[] bytes = this.memory.read(slot.blocks, slot.length);
+        this.memory.free(slot.blocks);
+        return bytes;
+    }
+
+    private byte[] marshal(InternalCacheEntry entry) throws CacheLoaderException {
+        try {
+            return this.getMarshaller().objectToByteBuffer(entry);
+        } catch (IOException e) {
+            throw new CacheLoaderException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CacheLoaderException(e);
+        }
+    }
+
+    private InternalCacheEntry unmarshal(byte[] bytes) throws CacheLoaderException {
+        try {
+            return (InternalCacheEntry) this.getMarshaller().objectFromByteBuffer(bytes);
+        } catch (IOException e) {
+            throw new CacheLoaderException(e);
+        } catch (ClassNotFoundException e) {
+            throw new CacheLoaderException(e);
+        }
+    }
+
+    private static class Slot {
+        final int[] blocks;
+        final int length;
+        final long expiryTime;
+
+        Slot(int[] blocks, int length, long expiryTime) {
+            this.blocks = blocks;
+            this.length = length;
+            this.expiryTime = expiryTime;
+        }
+
+        boolean isExpired(long now) {
+            return (this.expiryTime > 0) && (this.expiryTime < now);
+        }
+    }
+
+    public static class OffHeapCacheStoreConfig extends AbstractCacheStoreConfig {
+        private static final long serialVersionUID = 6003958232478461426L;
+
+        private long maxMemory = 64L * 1024 * 1024;
+        private int blockSize = 512;
+        private boolean memoryMapped = false;
+        private String location = "Infinispan-OffHeapCacheStore";
+
+        public OffHeapCacheStoreConfig() {
+            this.setCacheLoaderClassName(OffHeapCacheStore.class.getName());
+        }
+
+        /**
+         * The amount of off-heap memory, in bytes, used to hold entries before moving them to disk.
+         */
+        public long getMaxMemory() {
+            return this.maxMemory;
+        }
+
+        public void setMaxMemory(long maxMemory) {
+            this.testImmutability("maxMemory");
+            this.maxMemory = maxMemory;
+        }
+
+        /**
+         * The allocation granularity, in bytes, of the off-heap memory region.
+         */
+        public int getBlockSize() {
+            return this.blockSize;
+        }
+
+        public void setBlockSize(int blockSize) {
+            this.testImmutability("blockSize");
+            this.blockSize = blockSize;
+        }
+
+        /**
+         * Indicates whether the off-heap memory region is a memory-mapped file, rather than a direct buffer.
+         */
+        public boolean isMemoryMapped() {
+            return this.memoryMapped;
+        }
+
+        public void setMemoryMapped(boolean memoryMapped) {
+            this.testImmutability("memoryMapped");
+            this.memoryMapped = memoryMapped;
+        }
+
+        /**
+         * The directory containing the memory-mapped file and the entries moved to disk.
+         */
+        public String getLocation() {
+            return this.location;
+        }
+
+        public void setLocation(String location) {
+            this.testImmutability("location");
+            this.location = location;
+        }
+
+        @Override
+        public OffHeapCacheStoreConfig clone() {
+            return (OffHeapCacheStoreConfig) super.clone();
+        }
+    }
+}
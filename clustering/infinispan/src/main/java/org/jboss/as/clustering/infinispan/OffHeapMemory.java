@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.clustering.infinispan;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Fixed size region of memory outside of the java heap, divided into equally sized blocks.
+ * The region is either a direct buffer or a memory-mapped file, allocated once up front, so that storing
+ * a value never allocates a new buffer.
+ * This class is not thread-safe - callers are expected to provide their own synchronization.
+ */
+public class OffHeapMemory {
+
+    private final ByteBuffer buffer;
+    private final int blockSize;
+    private final int[] freeBlocks;
+    private int freeCount;
+
+    /**
+     * Creates a region backed by a direct buffer.
+     * @param capacity the size of the region in bytes
+     * @param blockSize the allocation granularity in bytes
+     */
+    public OffHeapMemory(long capacity, int blockSize) {
+        this(ByteBuffer.allocateDirect(blockCount(capacity, blockSize) * blockSize), blockSize);
+    }
+
+    /**
+     * Creates a region backed by the specified memory-mapped file.
+     * @param file the file that backs the region
+     * @param capacity the size of the region in bytes
+     * @param blockSize the allocation granularity in bytes
+     * @throws IOException if the file could not be mapped
+     */
+    public OffHeapMemory(File file, long capacity, int blockSize) throws IOException {
+        this(map(file, blockCount(capacity, blockSize) * (long) blockSize), blockSize);
+    }
+
+    private OffHeapMemory(ByteBuffer buffer, int blockSize) {
+        this.buffer = buffer;
+        this.blockSize = blockSize;
+        int blocks = buffer.capacity() / blockSize;
+        this.freeBlocks = new int[blocks];
+        // Hand out blocks in ascending order
+        for (int i = 0; i < blocks; ++i) {
+            this.freeBlocks[i] = blocks - i - 1;
+        }
+        this.freeCount = blocks;
+    }
+
+    private static int blockCount(long capacity, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException(Integer.toString(blockSize));
+        }
+        long blocks = capacity / blockSize;
+        if ((blocks <= 0) || (blocks * blockSize > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException(Long.toString(capacity));
+        }
+        return (int) blocks;
+    }
+
+    private static ByteBuffer map(File file, long size) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(size);
+            // The mapping remains valid after the channel is closed
+            return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Indicates whether the specified number of bytes could be stored in this region, were it empty.
+     * @param length a number of bytes
+     * @return true, if the bytes fit within the capacity of this region, false otherwise
+     */
+    public boolean fits(int length) {
+        return Math.max(1, (length + this.blockSize - 1) / this.blockSize) <= this.freeBlocks.length;
+    }
+
+    /**
+     * Writes the specified bytes into newly allocated blocks.
+     * @param bytes the bytes to store
+     * @return the blocks containing the specified bytes, or null if there is insufficient free space.
+     */
+    public int[] write(byte[] bytes) {
+        int count = Math.max(1, (bytes.length + this.blockSize - 1) / this.blockSize);
+        if (count > this.freeCount) return null;
+        int[] blocks = new int[count];
+        int offset = 0;
+        for (int i = 0; i < count; ++i) {
+            int block = this.freeBlocks[--this.freeCount];
+            blocks[i] = block;
+            int length = Math.min(this.blockSize, bytes.length - offset);
+            this.buffer.position(block * this.blockSize);
+            this.buffer.put(bytes, offset, length);
+            offset += length;
+        }
+        return blocks;
+    }
+
+    /**
+     * Reads the specified number of bytes from the specified blocks.
+     * @param blocks blocks returned by {@link #write(byte[])}
+     * @param length the number of bytes originally written
+     * @return a copy of the stored bytes
+     */
+    public byte[] read(int[] blocks, int length) {
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (int block: blocks) {
+            int size = Math.min(this.blockSize, length - offset);
+            this.buffer.position(block * this.blockSize);
+            this.buffer.get(bytes, offset, size);
+            offset += size;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the specified blocks to the free list.
+     * @param blocks blocks returned by {@link #write(byte[])}
+     */
+    public void free(int[] blocks) {
+        for (int block: blocks) {
+            this.freeBlocks[this.freeCount++] = block;
+        }
+    }
+
+    /**
+     * Returns all blocks to the free list.
+     */
+    public void clear() {
+        int blocks = this.freeBlocks.length;
+        for (int i = 0; i < blocks; ++i) {
+            this.freeBlocks[i] = blocks - i - 1;
+        }
+        this.freeCount = blocks;
+    }
+
+    public long getCapacity() {
+        return this.buffer.capacity();
+    }
+
+    public long getUsed() {
+        return (long) (this.freeBlocks.length - this.freeCount) * this.blockSize;
+    }
+}
@@ -528,7 +528,7 @@ public abstract class CacheAdd extends AbstractAddStepHandler {
         } else {
             String className = store.require(ModelKeys.CLASS).asString();
             try {
-                CacheLoader loader = CacheLoader.class.getClassLoader().loadClass(className).asSubclass(CacheLoader.class).newInstance();
+                CacheLoader loader = this.loadCacheLoaderClass(className).asSubclass(CacheLoader.class).newInstance();
                 builder.cacheLoader(loader);
             } catch (Exception e) {
                 throw new IllegalArgumentException(String.format("%s is not a valid cache store", className), e);
@@ -536,6 +536,15 @@ public abstract class CacheAdd extends AbstractAddStepHandler {
         }
     }
 
+    private Class<?> loadCacheLoaderClass(String className) throws ClassNotFoundException {
+        try {
+            return CacheLoader.class.getClassLoader().loadClass(className);
+        } catch (ClassNotFoundException e) {
+            // Allow stores provided by this subsystem, e.g. OffHeapCacheStore
+            return CacheAdd.class.getClassLoader().loadClass(className);
+        }
+    }
+
     private CacheStore createJDBCStore(Properties properties, OperationContext context, ModelNode store) throws OperationFailedException {
         boolean useStringKeyedTable = store.hasDefined(ModelKeys.STRING_KEYED_TABLE);
         boolean useBinaryKeyedTable = store.hasDefined(ModelKeys.BINARY_KEYED_TABLE);
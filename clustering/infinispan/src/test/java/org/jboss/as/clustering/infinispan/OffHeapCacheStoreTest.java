@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.clustering.infinispan;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.infinispan.Cache;
+import org.infinispan.container.entries.ImmortalCacheEntry;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.marshall.StreamingMarshaller;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OffHeapCacheStoreTest {
+
+    private EmbeddedCacheManager manager;
+    private OffHeapCacheStore store;
+    private File location;
+
+    @Before
+    public void init() throws Exception {
+        this.manager = new DefaultCacheManager();
+        Cache<Object, Object> cache = this.manager.getCache();
+        StreamingMarshaller marshaller = cache.getAdvancedCache().getComponentRegistry().getComponent(StreamingMarshaller.class, KnownComponentNames.CACHE_MARSHALLER);
+        this.location = File.createTempFile("offheap", "");
+        this.location.delete();
+        OffHeapCacheStore.OffHeapCacheStoreConfig config = new OffHeapCacheStore.OffHeapCacheStoreConfig();
+        config.setMaxMemory(4096);
+        config.setBlockSize(256);
+        config.setLocation(this.location.getPath());
+        this.store = new OffHeapCacheStore();
+        this.store.init(config, cache, marshaller);
+        this.store.start();
+    }
+
+    @After
+    public void destroy() throws Exception {
+        try {
+            this.store.stop();
+        } finally {
+            this.manager.stop();
+            delete(this.location);
+        }
+    }
+
+    @Test
+    public void storeLoadRemove() throws Exception {
+        byte[] value = value(100, 1);
+        this.store.store(new ImmortalCacheEntry("a", value));
+        assertEquals(1, this.store.getOffHeapEntries());
+        assertTrue(this.store.containsKey("a"));
+
+        InternalCacheEntry entry = this.store.load("a");
+        assertNotNull(entry);
+        assertArrayEquals(value, (byte[]) entry.getValue());
+
+        assertTrue(this.store.remove("a"));
+        assertEquals(0, this.store.getOffHeapEntries());
+        assertEquals(0, this.store.getMemoryUsed());
+        assertNull(this.store.load("a"));
+        assertFalse(this.store.containsKey("a"));
+    }
+
+    @Test
+    public void evict() throws Exception {
+        // Each entry needs more than a quarter of the memory region
+        for (int i = 0; i < 8; ++i) {
+            this.store.store(new ImmortalCacheEntry(key(i), value(1100, i)));
+        }
+        int offHeap = this.store.getOffHeapEntries();
+        assertTrue(offHeap > 0);
+        assertTrue(offHeap < 8);
+        assertEquals(8, this.store.loadAllKeys(null).size());
+        assertEquals(8, this.store.loadAll().size());
+
+        // Least recently used entries were moved to disk, but can still be loaded
+        for (int i = 0; i < 8; ++i) {
+            InternalCacheEntry entry = this.store.load(key(i));
+            assertNotNull(entry);
+            assertArrayEquals(value(1100, i), (byte[]) entry.getValue());
+        }
+
+        // Re-storing an entry that was moved to disk discards the copy on disk
+        this.store.store(new ImmortalCacheEntry(key(0), value(10, 0)));
+        assertArrayEquals(value(10, 0), (byte[]) this.store.load(key(0)).getValue());
+        assertTrue(this.store.remove(key(0)));
+        assertNull(this.store.load(key(0)));
+    }
+
+    @Test
+    public void oversize() throws Exception {
+        this.store.store(new ImmortalCacheEntry("small", value(100, 1)));
+
+        byte[] value = value(8192, 2);
+        this.store.store(new ImmortalCacheEntry("large", value));
+
+        // The oversize entry went straight to disk, without evicting anything
+        assertEquals(1, this.store.getOffHeapEntries());
+        assertNotNull(this.store.load("small"));
+        assertArrayEquals(value, (byte[]) this.store.load("large").getValue());
+    }
+
+    private static String key(int index) {
+        return "key" + index;
+    }
+
+    private static byte[] value(int length, int seed) {
+        byte[] value = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            value[i] = (byte) (i + seed);
+        }
+        return value;
+    }
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child: files) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.clustering.infinispan;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+
+import org.junit.Test;
+
+public class OffHeapMemoryTest {
+
+    @Test
+    public void writeRead() {
+        OffHeapMemory memory = new OffHeapMemory(1024, 64);
+        assertEquals(1024, memory.getCapacity());
+        assertEquals(0, memory.getUsed());
+
+        byte[] bytes = bytes(150);
+        int[] blocks = memory.write(bytes);
+        assertNotNull(blocks);
+        assertEquals(3, blocks.length);
+        assertEquals(192, memory.getUsed());
+        assertArrayEquals(bytes, memory.read(blocks, bytes.length));
+
+        memory.free(blocks);
+        assertEquals(0, memory.getUsed());
+    }
+
+    @Test
+    public void exhaust() {
+        OffHeapMemory memory = new OffHeapMemory(320, 64);
+        int[] first = memory.write(bytes(200));
+        assertNotNull(first);
+        assertNull(memory.write(bytes(100)));
+
+        byte[] bytes = bytes(64);
+        int[] second = memory.write(bytes);
+        assertNotNull(second);
+        assertNull(memory.write(new byte[0]));
+
+        memory.free(first);
+        assertArrayEquals(bytes, memory.read(second, bytes.length));
+        assertNotNull(memory.write(bytes(192)));
+
+        memory.clear();
+        assertEquals(0, memory.getUsed());
+    }
+
+    @Test
+    public void memoryMapped() throws Exception {
+        File file = File.createTempFile("offheap", ".dat");
+        try {
+            OffHeapMemory memory = new OffHeapMemory(file, 4096, 128);
+            assertEquals(4096, file.length());
+            byte[] bytes = bytes(1000);
+            int[] blocks = memory.write(bytes);
+            assertArrayEquals(bytes, memory.read(blocks, bytes.length));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacitySmallerThanBlock() {
+        new OffHeapMemory(10, 64);
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+}
@@ -64,6 +64,12 @@ public class RegistryService<K, V> extends AsynchronousService<Registry<K, V>> i
     private final RegistryEntryProvider<K, V> provider;
     private final Set<Listener<K, V>> listeners = new CopyOnWriteArraySet<Listener<K, V>>();
     private volatile Cache<Address, Map.Entry<K, V>> cache;
+    // Entries of the members, guarded by members
+    private final Map<Address, Map.Entry<K, V>> members = new HashMap<Address, Map.Entry<K, V>>();
+    private final Map<K, V> entries = new HashMap<K, V>();
+    // Immutable copy of the entries returned by getEntries(), republished by the event path whenever the entries change
+    private volatile Map<K, V> entriesView = Collections.emptyMap();
+    private boolean active = false;
 
     public RegistryService(RegistryEntryProvider<K, V> provider) {
         this.provider = provider;
@@ -104,15 +110,13 @@ public class RegistryService<K, V> extends AsynchronousService<Registry<K, V>> i
 
     /**
      * {@inheritDoc}
+     * Returns an immutable copy of the registry entries, which are maintained incrementally from cache events.
+     * The copy is made by the event that changed the entries, so that readers never wait on event processing.
      * @see org.jboss.as.clustering.registry.Registry#getEntries()
      */
     @Override
     public Map<K, V> getEntries() {
-        Map<K, V> map = new HashMap<K, V>();
-        for (Map.Entry<K, V> entry: this.cache.values()) {
-            map.put(entry.getKey(), entry.getValue());
-        }
-        return Collections.unmodifiableMap(map);
+        return this.entriesView;
     }
 
     @Override
@@ -130,8 +134,17 @@ public class RegistryService<K, V> extends AsynchronousService<Registry<K, V>> i
     protected void start() {
         this.cache = this.cacheRef.getValue();
         this.refreshLocalEntry();
-        this.cache.getCacheManager().addListener(this);
-        this.cache.addListener(this);
+        // Register as a listener and read the initial entries while holding the lock,
+        // so that changes notified in the meantime are applied afterwards, on top of the initial entries
+        synchronized (this.members) {
+            this.cache.getCacheManager().addListener(this);
+            this.cache.addListener(this);
+            for (Map.Entry<Address, Map.Entry<K, V>> entry: this.cache.entrySet()) {
+                this.putMember(entry.getKey(), entry.getValue());
+            }
+            this.publishEntries();
+            this.active = true;
+        }
     }
 
     @Override
@@ -155,6 +168,13 @@ public class RegistryService<K, V> extends AsynchronousService<Registry<K, V>> i
 
     @Override
     protected void stop() {
+        // Changes notified after listener removal are ignored
+        synchronized (this.members) {
+            this.active = false;
+            this.members.clear();
+            this.entries.clear();
+            this.entriesView = Collections.emptyMap();
+        }
         if (this.cache != null) {
             this.cache.removeListener(this);
             this.cache.getCacheManager().removeListener(this);
@@ -170,6 +190,54 @@ public class RegistryService<K, V> extends AsynchronousService<Registry<K, V>> i
         }
     }
 
+    /**
+     * Applies the changed entry of a member that was added or modified.
+     */
+    void updateMember(Address member, Map.Entry<K, V> entry) {
+        synchronized (this.members) {
+            if (this.active && this.putMember(member, entry)) {
+                this.publishEntries();
+            }
+        }
+    }
+
+    /**
+     * Applies the removal of the entries of the specified members.
+     */
+    void removeMembers(Collection<Address> removed) {
+        synchronized (this.members) {
+            if (this.active) {
+                boolean changed = false;
+                for (Address member: removed) {
+                    Map.Entry<K, V> old = this.members.remove(member);
+                    if (old != null) {
+                        this.entries.remove(old.getKey());
+                        changed = true;
+                    }
+                }
+                if (changed) {
+                    this.publishEntries();
+                }
+            }
+        }
+    }
+
+    // Must be called while holding the monitor of this.members
+    private boolean putMember(Address member, Map.Entry<K, V> entry) {
+        Map.Entry<K, V> old = this.members.put(member, entry);
+        if (entry.equals(old)) return false;
+        if ((old != null) && !old.getKey().equals(entry.getKey())) {
+            this.entries.remove(old.getKey());
+        }
+        this.entries.put(entry.getKey(), entry.getValue());
+        return true;
+    }
+
+    // Must be called while holding the monitor of this.members
+    private void publishEntries() {
+        this.entriesView = Collections.unmodifiableMap(new HashMap<K, V>(this.entries));
+    }
+
     static Address getLocalAddress(Cache<?, ?> cache) {
         Address address = cache.getCacheManager().getAddress();
         return (address != null) ? address : LOCAL_ADDRESS;
@@ -201,6 +269,11 @@ public class RegistryService<K, V> extends AsynchronousService<Registry<K, V>> i
         };
 
         Set<K> removed = this.invoke(operation);
+        Set<Address> departed = new HashSet<Address>(event.getOldMembers());
+        departed.removeAll(event.getNewMembers());
+        if (!departed.isEmpty()) {
+            this.removeMembers(departed);
+        }
         if (!removed.isEmpty()) {
             for (Listener<K, V> listener: this.listeners) {
                 listener.removedEntries(removed);
@@ -210,9 +283,13 @@ public class RegistryService<K, V> extends AsynchronousService<Registry<K, V>> i
 
     @CacheEntryCreated
     public void created(CacheEntryCreatedEvent<Address, Map.Entry<K, V>> event) {
-        if (event.isPre() || event.isOriginLocal()) return;
+        if (event.isPre()) return;
+        Map.Entry<K, V> entry = event.getCache().get(event.getKey());
+        if (entry != null) {
+            this.updateMember(event.getKey(), entry);
+        }
+        if (event.isOriginLocal()) return;
         if (!this.listeners.isEmpty()) {
-            Map.Entry<K, V> entry = event.getCache().get(event.getKey());
             if (entry != null) {
                 for (Listener<K, V> listener: this.listeners) {
                     listener.addedEntries(Collections.singletonMap(entry.getKey(), entry.getValue()));
@@ -223,9 +300,13 @@ public class RegistryService<K, V> extends AsynchronousService<Registry<K, V>> i
 
     @CacheEntryModified
     public void modified(CacheEntryModifiedEvent<Address, Map.Entry<K, V>> event) {
-        if (event.isPre() || event.isOriginLocal()) return;
+        if (event.isPre()) return;
+        Map.Entry<K, V> entry = event.getValue();
+        if (entry != null) {
+            this.updateMember(event.getKey(), entry);
+        }
+        if (event.isOriginLocal()) return;
         if (!this.listeners.isEmpty()) {
-            Map.Entry<K, V> entry = event.getValue();
             Map.Entry<K, V> old = event.getCache().get(event.getKey());
             if (entry != null) {
                 for (Listener<K, V> listener: this.listeners) {
@@ -242,7 +323,9 @@ public class RegistryService<K, V> extends AsynchronousService<Registry<K, V>> i
     @CacheEntryRemoved
     public void removed(CacheEntryRemovedEvent<Address, Map.Entry<K, V>> event) {
         // Need to run prior to removal, so the cache entry is available
-        if (!event.isPre() || event.isOriginLocal()) return;
+        if (!event.isPre()) return;
+        this.removeMembers(Collections.singleton(event.getKey()));
+        if (event.isOriginLocal()) return;
         Map.Entry<K, V> entry = event.getValue();
         if (entry != null) {
             for (Listener<K, V> listener: this.listeners) {
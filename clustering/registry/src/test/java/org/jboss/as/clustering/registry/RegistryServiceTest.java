@@ -0,0 +1,204 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.infinispan.Cache;
+import org.infinispan.context.Flag;
+import org.infinispan.notifications.cachelistener.event.CacheEntryCreatedEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryModifiedEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
+import org.infinispan.notifications.cachemanagerlistener.event.ViewChangedEvent;
+import org.infinispan.remoting.transport.Address;
+import org.jboss.as.clustering.registry.Registry.RegistryEntryProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class RegistryServiceTest {
+    private final Address address1 = mock(Address.class);
+    private final Address address2 = mock(Address.class);
+    private final Address address3 = mock(Address.class);
+    private final Map.Entry<String, String> entry1 = entry("node1", "value1");
+    private final Map.Entry<String, String> entry2 = entry("node2", "value2");
+
+    @SuppressWarnings("unchecked")
+    private final RegistryEntryProvider<String, String> provider = mock(RegistryEntryProvider.class);
+    @SuppressWarnings("unchecked")
+    private final Cache<Address, Map.Entry<String, String>> cache = mock(Cache.class, RETURNS_DEEP_STUBS);
+    private final Map<Address, Map.Entry<String, String>> cacheEntries = new HashMap<Address, Map.Entry<String, String>>();
+    private final RegistryService<String, String> service = new RegistryService<String, String>(this.provider);
+
+    @Before
+    public void init() {
+        this.cacheEntries.put(this.address1, this.entry1);
+        this.cacheEntries.put(this.address2, this.entry2);
+        when(this.cache.entrySet()).thenReturn(this.cacheEntries.entrySet());
+        this.service.getCacheInjector().inject(this.cache);
+    }
+
+    @After
+    public void destroy() {
+        this.service.getCacheInjector().uninject();
+    }
+
+    @Test
+    public void start() {
+        assertTrue(this.service.getEntries().isEmpty());
+
+        this.service.start();
+
+        Map<String, String> entries = this.service.getEntries();
+        assertEquals(2, entries.size());
+        assertEquals("value1", entries.get("node1"));
+        assertEquals("value2", entries.get("node2"));
+        // Unchanged entries are not copied again
+        assertSame(entries, this.service.getEntries());
+
+        this.service.stop();
+
+        assertTrue(this.service.getEntries().isEmpty());
+    }
+
+    @Test
+    public void events() {
+        this.service.start();
+        Map<String, String> entries = this.service.getEntries();
+
+        Map.Entry<String, String> entry3 = entry("node3", "value3");
+        this.service.created(this.createdEvent(this.address3, entry3));
+        Map<String, String> created = this.service.getEntries();
+        assertNotSame(entries, created);
+        assertEquals(3, created.size());
+        assertEquals("value3", created.get("node3"));
+        // Copies returned earlier are not affected
+        assertEquals(2, entries.size());
+
+        this.service.modified(this.modifiedEvent(this.address1, entry("node1", "modified")));
+        Map<String, String> modified = this.service.getEntries();
+        assertEquals(3, modified.size());
+        assertEquals("modified", modified.get("node1"));
+
+        // Modification to the same entry does not change the entries
+        this.service.modified(this.modifiedEvent(this.address1, entry("node1", "modified")));
+        assertSame(modified, this.service.getEntries());
+
+        this.service.removed(this.removedEvent(this.address2));
+        Map<String, String> removed = this.service.getEntries();
+        assertEquals(2, removed.size());
+        assertEquals(null, removed.get("node2"));
+
+        // Entry of the crashed member is removed on view change
+        when(this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).remove(this.address3)).thenReturn(entry3);
+        ViewChangedEvent event = mock(ViewChangedEvent.class);
+        when(event.getOldMembers()).thenReturn(Arrays.asList(this.address1, this.address3));
+        when(event.getNewMembers()).thenReturn(Collections.singletonList(this.address1));
+        this.service.viewChanged(event);
+        assertEquals(Collections.singletonMap("node1", "modified"), this.service.getEntries());
+    }
+
+    @Test
+    public void eventsAfterStop() {
+        this.service.start();
+        this.service.stop();
+
+        this.service.created(this.createdEvent(this.address3, entry("node3", "value3")));
+        this.service.modified(this.modifiedEvent(this.address1, entry("node1", "modified")));
+
+        assertTrue(this.service.getEntries().isEmpty());
+    }
+
+    @Test
+    public void eventDuringStart() throws Exception {
+        final CacheEntryRemovedEvent<Address, Map.Entry<String, String>> event = this.removedEvent(this.address1);
+        final Thread[] notifier = new Thread[1];
+        // Notify the removal of an initial entry concurrently with the registration of the listener
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                notifier[0] = new Thread() {
+                    @Override
+                    public void run() {
+                        RegistryServiceTest.this.service.removed(event);
+                    }
+                };
+                notifier[0].start();
+                return null;
+            }
+        }).when(this.cache).addListener(this.service);
+
+        this.service.start();
+        notifier[0].join();
+
+        // The removal applies on top of the initial entries
+        assertEquals(Collections.singletonMap("node2", "value2"), this.service.getEntries());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheEntryCreatedEvent<Address, Map.Entry<String, String>> createdEvent(Address address, Map.Entry<String, String> entry) {
+        CacheEntryCreatedEvent<Address, Map.Entry<String, String>> event = mock(CacheEntryCreatedEvent.class);
+        when(event.isPre()).thenReturn(false);
+        when(event.isOriginLocal()).thenReturn(false);
+        when(event.getKey()).thenReturn(address);
+        when(event.getCache()).thenReturn(this.cache);
+        when(this.cache.get(address)).thenReturn(entry);
+        return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheEntryModifiedEvent<Address, Map.Entry<String, String>> modifiedEvent(Address address, Map.Entry<String, String> entry) {
+        CacheEntryModifiedEvent<Address, Map.Entry<String, String>> event = mock(CacheEntryModifiedEvent.class);
+        when(event.isPre()).thenReturn(false);
+        when(event.isOriginLocal()).thenReturn(false);
+        when(event.getKey()).thenReturn(address);
+        when(event.getValue()).thenReturn(entry);
+        when(event.getCache()).thenReturn(this.cache);
+        return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheEntryRemovedEvent<Address, Map.Entry<String, String>> removedEvent(Address address) {
+        CacheEntryRemovedEvent<Address, Map.Entry<String, String>> event = mock(CacheEntryRemovedEvent.class);
+        when(event.isPre()).thenReturn(true);
+        when(event.isOriginLocal()).thenReturn(false);
+        when(event.getKey()).thenReturn(address);
+        when(event.getValue()).thenReturn(this.cacheEntries.get(address));
+        return event;
+    }
+
+    private static Map.Entry<String, String> entry(String key, String value) {
+        return new AbstractMap.SimpleImmutableEntry<String, String>(key, value);
+    }
+}
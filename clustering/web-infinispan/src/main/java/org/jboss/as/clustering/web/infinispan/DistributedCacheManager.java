@@ -27,7 +27,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.infinispan.Cache;
 import org.infinispan.configuration.cache.Configuration;
@@ -38,9 +41,13 @@ import org.infinispan.notifications.Listener;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryActivated;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
+import org.infinispan.notifications.cachelistener.annotation.DataRehashed;
+import org.infinispan.notifications.cachelistener.annotation.TopologyChanged;
 import org.infinispan.notifications.cachelistener.event.CacheEntryActivatedEvent;
 import org.infinispan.notifications.cachelistener.event.CacheEntryModifiedEvent;
 import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
+import org.infinispan.notifications.cachelistener.event.DataRehashedEvent;
+import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
 import org.infinispan.remoting.transport.Address;
 import org.jboss.as.clustering.infinispan.invoker.BatchOperation;
 import org.jboss.as.clustering.infinispan.invoker.CacheInvoker;
@@ -85,6 +92,11 @@ public class DistributedCacheManager<T extends OutgoingDistributableSessionData>
     private final boolean passivationEnabled;
     private final Registry<String, Void> registry;
     private final long lockTimeout;
+    // Upper bound on cached session locations, since sessions owned by other nodes may expire without notifying this node
+    static final int MAX_LOCATIONS = 10000;
+
+    // Replaced, rather than cleared, on topology change, so that locations computed against a stale topology are discarded
+    private final AtomicReference<ConcurrentMap<String, SessionLocation>> locations = new AtomicReference<ConcurrentMap<String, SessionLocation>>(new ConcurrentHashMap<String, SessionLocation>());
 
     public DistributedCacheManager(LocalDistributableSessionManager manager,
             Cache<String, Map<Object, Object>> cache, Registry<String, Void> registry,
@@ -265,6 +277,7 @@ public class DistributedCacheManager<T extends OutgoingDistributableSessionData>
     }
 
     private void removeSession(final String sessionId, final boolean local) {
+        this.locations.get().remove(sessionId);
         Operation<Void> operation = new Operation<Void>() {
             @Override
             public Void invoke(Cache<String, Map<Object, Object>> cache) {
@@ -297,6 +310,7 @@ public class DistributedCacheManager<T extends OutgoingDistributableSessionData>
     @Override
     public void evictSession(final String sessionId) {
         this.trace("evictSession(%s)", sessionId);
+        this.locations.get().remove(sessionId);
         Operation<Void> operation = new Operation<Void>() {
             @Override
             public Void invoke(Cache<String, Map<Object, Object>> cache) {
@@ -394,12 +408,7 @@ public class DistributedCacheManager<T extends OutgoingDistributableSessionData>
      */
     @Override
     public boolean isLocal(String sessionId) {
-        DistributionManager dist = this.cache.getAdvancedCache().getDistributionManager();
-        if (dist != null) {
-            DataLocality locality = dist.getLocality(sessionId);
-            return locality.isLocal() || locality.isUncertain();
-        }
-        return true;
+        return this.getLocation(sessionId, false).isLocal();
     }
 
     /**
@@ -409,27 +418,88 @@ public class DistributedCacheManager<T extends OutgoingDistributableSessionData>
      */
     @Override
     public String locate(String sessionId) {
-        if (!this.isLocal(sessionId)) {
-            // Locate nodes on which the cache entry will reside
-            List<Address> addresses = this.cache.getAdvancedCache().getDistributionManager().locate(sessionId);
-            if (!addresses.contains(this.cache.getCacheManager().getAddress())) {
-                // We need to force synchronous invocations to guarantee
-                // session replicates before subsequent request.
-                this.invoker.forceThreadSynchronous();
-                // Otherwise choose random node from hash targets
-                Map.Entry<String, Void> entry = this.registry.getRemoteEntry(addresses.get(this.random.nextInt(addresses.size())));
-                if (entry != null) {
-                    return entry.getKey();
-                }
+        SessionLocation location = this.getLocation(sessionId, true);
+        if (location.isRemote()) {
+            // We need to force synchronous invocations to guarantee
+            // session replicates before subsequent request.
+            this.invoker.forceThreadSynchronous();
+            String route = location.getRoute();
+            if (route != null) {
+                return route;
             }
         }
         return this.manager.getJvmRoute();
     }
 
+    /**
+     * Returns the location of the specified session, as computed for the current topology.
+     * Locations are cached until the next topology change, since hashing a session to its owners is
+     * comparatively expensive and would otherwise happen on every request.
+     * @param sessionId a session identifier
+     * @param resolve indicates whether the owners of a non-local session need to be resolved
+     */
+    private SessionLocation getLocation(String sessionId, boolean resolve) {
+        DistributionManager dist = this.cache.getAdvancedCache().getDistributionManager();
+        if (dist == null) return SessionLocation.LOCAL;
+
+        ConcurrentMap<String, SessionLocation> locations = this.locations.get();
+        SessionLocation location = locations.get(sessionId);
+        if ((location == null) || (resolve && !location.isResolved())) {
+            if (location == null) {
+                DataLocality locality = dist.getLocality(sessionId);
+                // Locations are not stable while a rehash is in progress, so don't cache them
+                if (locality.isUncertain()) return SessionLocation.LOCAL;
+
+                location = locality.isLocal() ? SessionLocation.LOCAL : SessionLocation.NOT_LOCAL;
+            }
+            if (resolve && !location.isResolved()) {
+                location = this.resolve(dist.locate(sessionId));
+                // Don't cache a remote location whose route is not yet known, so that it is retried on the next request
+                if (location.isRemote() && (location.getRoute() == null)) return location;
+            }
+            this.cacheLocation(locations, sessionId, location);
+        }
+        return location;
+    }
+
+    private void cacheLocation(ConcurrentMap<String, SessionLocation> locations, String sessionId, SessionLocation location) {
+        if (locations.size() >= MAX_LOCATIONS) {
+            // Start over, rather than tracking recency of every request
+            ConcurrentMap<String, SessionLocation> empty = new ConcurrentHashMap<String, SessionLocation>();
+            if (this.locations.compareAndSet(locations, empty)) {
+                empty.put(sessionId, location);
+            }
+            return;
+        }
+        locations.put(sessionId, location);
+    }
+
+    private SessionLocation resolve(List<Address> addresses) {
+        // Locate nodes on which the cache entry will reside
+        if (addresses.contains(this.cache.getCacheManager().getAddress())) {
+            return new SessionLocation(false, false, null);
+        }
+        // Otherwise choose random node from hash targets
+        Map.Entry<String, Void> entry = this.registry.getRemoteEntry(addresses.get(this.random.nextInt(addresses.size())));
+        return new SessionLocation(false, true, (entry != null) ? entry.getKey() : null);
+    }
+
+    @TopologyChanged
+    public void topologyChanged(TopologyChangedEvent event) {
+        this.locations.set(new ConcurrentHashMap<String, SessionLocation>());
+    }
+
+    @DataRehashed
+    public void dataRehashed(DataRehashedEvent event) {
+        this.locations.set(new ConcurrentHashMap<String, SessionLocation>());
+    }
+
     @CacheEntryRemoved
     public void removed(CacheEntryRemovedEvent<String, Map<Object, Object>> event) {
         if (event.isPre() || event.isOriginLocal()) return;
 
+        this.locations.get().remove(event.getKey());
+
         try {
             this.manager.notifyRemoteInvalidation(event.getKey());
         } catch (Throwable e) {
@@ -486,6 +556,44 @@ public class DistributedCacheManager<T extends OutgoingDistributableSessionData>
         return this.invoker.invoke(this.cache, operation);
     }
 
+    static class SessionLocation {
+        static final SessionLocation LOCAL = new SessionLocation(true, false, null);
+        // Non-local session whose owners are not yet resolved
+        static final SessionLocation NOT_LOCAL = new SessionLocation(false, false, null);
+
+        private final boolean local;
+        private final boolean remote;
+        private final String route;
+
+        SessionLocation(boolean local, boolean remote, String route) {
+            this.local = local;
+            this.remote = remote;
+            this.route = route;
+        }
+
+        boolean isLocal() {
+            return this.local;
+        }
+
+        boolean isResolved() {
+            return this != NOT_LOCAL;
+        }
+
+        /**
+         * Indicates whether this node is not among the owners of the session.
+         */
+        boolean isRemote() {
+            return this.remote;
+        }
+
+        /**
+         * The jvm route of an owner of the session, if remote.
+         */
+        String getRoute() {
+            return this.route;
+        }
+    }
+
     // Simplified CacheInvoker.Operation using assigned key/value types
     abstract class Operation<R> implements CacheInvoker.Operation<String, Map<Object, Object>, R> {
     }
@@ -30,6 +30,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
@@ -43,6 +46,8 @@ import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.notifications.cachelistener.event.CacheEntryActivatedEvent;
 import org.infinispan.notifications.cachelistener.event.CacheEntryModifiedEvent;
 import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
+import org.infinispan.notifications.cachelistener.event.DataRehashedEvent;
+import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
 import org.infinispan.remoting.transport.Address;
 import org.jboss.as.clustering.infinispan.invoker.CacheInvoker;
 import org.jboss.as.clustering.lock.SharedLocalYieldingClusterLockManager;
@@ -586,11 +591,47 @@ public class DistributedCacheManagerTest {
             when(this.cache.getDistributionManager()).thenReturn(null);
         }
 
+        // Discard any location cached by a previous invocation
+        this.manager.topologyChanged(mock(TopologyChangedEvent.class));
+
         boolean result = this.manager.isLocal(sessionId);
 
         assertEquals(local, result);
     }
 
+    @Test
+    public void isLocalCached() {
+        DistributionManager distManager = mock(DistributionManager.class);
+        String sessionId = "ABC123";
+
+        when(this.cache.getAdvancedCache()).thenReturn(this.cache);
+        when(this.cache.getDistributionManager()).thenReturn(distManager);
+        when(distManager.getLocality(sessionId)).thenReturn(DataLocality.LOCAL);
+
+        assertTrue(this.manager.isLocal(sessionId));
+        assertTrue(this.manager.isLocal(sessionId));
+
+        verify(distManager, times(1)).getLocality(sessionId);
+
+        // Uncertain localities are never cached
+        when(distManager.getLocality("DEF456")).thenReturn(DataLocality.NOT_LOCAL_UNCERTAIN);
+
+        assertTrue(this.manager.isLocal("DEF456"));
+        assertTrue(this.manager.isLocal("DEF456"));
+
+        verify(distManager, times(2)).getLocality("DEF456");
+
+        // Topology change invalidates cached locations
+        when(distManager.getLocality(sessionId)).thenReturn(DataLocality.NOT_LOCAL);
+
+        this.manager.dataRehashed(mock(DataRehashedEvent.class));
+
+        assertFalse(this.manager.isLocal(sessionId));
+        assertFalse(this.manager.isLocal(sessionId));
+
+        verify(distManager, times(2)).getLocality(sessionId);
+    }
+
     @Test
     public void locate() {
         String sessionId = "ABC123";
@@ -618,6 +659,7 @@ public class DistributedCacheManagerTest {
         assertSame(expected, result);
 
         // Test session hashes locally
+        this.manager.topologyChanged(mock(TopologyChangedEvent.class));
         EmbeddedCacheManager container = mock(EmbeddedCacheManager.class);
         Address address1 = mock(Address.class);
         Address address2 = mock(Address.class);
@@ -637,6 +679,7 @@ public class DistributedCacheManagerTest {
         assertSame(expected, result);
 
         // Test session does not hash locally
+        this.manager.topologyChanged(mock(TopologyChangedEvent.class));
         addresses = Arrays.asList(address1, address2);
         ArgumentCaptor<Address> capturedAddress = ArgumentCaptor.forClass(Address.class);
 
@@ -654,4 +697,59 @@ public class DistributedCacheManagerTest {
         assertSame(expected, result);
         assertTrue(addresses.contains(capturedAddress.getValue()));
     }
+
+    @Test
+    public void locateUnknownRoute() throws Exception {
+        String sessionId = "ABC123";
+        String expected = "node1";
+        String local = "node2";
+        DistributionManager distManager = mock(DistributionManager.class);
+        EmbeddedCacheManager container = mock(EmbeddedCacheManager.class);
+        Address address = mock(Address.class);
+        Address localAddress = mock(Address.class);
+
+        when(this.cache.getAdvancedCache()).thenReturn(this.cache);
+        when(this.cache.getDistributionManager()).thenReturn(distManager);
+        when(distManager.getLocality(sessionId)).thenReturn(DataLocality.NOT_LOCAL);
+        when(distManager.locate(same(sessionId))).thenReturn(Arrays.asList(address));
+        when(this.cache.getCacheManager()).thenReturn(container);
+        when(container.getAddress()).thenReturn(localAddress);
+        when(this.cache.withFlags(Flag.FORCE_SYNCHRONOUS)).thenReturn(this.cache);
+        when(this.sessionManager.getJvmRoute()).thenReturn(local);
+
+        // Owner has not yet registered its route
+        when(this.registry.getRemoteEntry(address)).thenReturn(null);
+
+        assertSame(local, this.locate(sessionId));
+
+        // Unknown route was not cached
+        when(this.registry.getRemoteEntry(address)).thenReturn(new AbstractMap.SimpleImmutableEntry<String, Void>(expected, null));
+
+        assertSame(expected, this.locate(sessionId));
+        assertSame(expected, this.locate(sessionId));
+
+        verify(distManager, times(2)).locate(sessionId);
+
+        // Evicting the session discards its location
+        this.manager.evictSession(sessionId);
+
+        assertSame(expected, this.locate(sessionId));
+
+        verify(distManager, times(3)).locate(sessionId);
+    }
+
+    // Remote locations force subsequent invocations on the calling thread to be synchronous, so keep them off the test thread
+    private String locate(final String sessionId) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return DistributedCacheManagerTest.this.manager.locate(sessionId);
+                }
+            }).get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -37,11 +37,11 @@
     import java.util.Map;
     import java.util.ResourceBundle;
 
+    import org.jboss.as.connector.pool.PoolMetrics;
     import org.jboss.as.controller.descriptions.DescriptionProvider;
     import org.jboss.as.controller.descriptions.OverrideDescriptionProvider;
     import org.jboss.as.controller.registry.ManagementResourceRegistration;
     import org.jboss.dmr.ModelNode;
-    import org.jboss.dmr.ModelType;
     import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
 
 
@@ -108,14 +108,7 @@
                 for (String name : plugin.getNames()) {
                     ModelNode node = new ModelNode();
                     node.get(DESCRIPTION).set(plugin.getDescription(name));
-                    ModelType modelType = ModelType.STRING;
-                    if (plugin.getType(name) == int.class) {
-                        modelType = ModelType.INT;
-                    }
-                    if (plugin.getType(name) == long.class) {
-                        modelType = ModelType.LONG;
-                    }
-                    node.get(TYPE).set(modelType);
+                    node.get(TYPE).set(PoolMetrics.getType(plugin, name));
                     node.get(REQUIRED).set(false);
                     node.get(READ_ONLY).set(true);
                     attributes.put(name, node);
@@ -32,6 +32,7 @@ import org.jboss.as.controller.PathAddress;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.jca.core.api.management.ManagementRepository;
 import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
 import org.jboss.msc.service.ServiceController;
@@ -60,7 +61,7 @@ public abstract class PoolMetrics implements OperationStepHandler {
                             List<StatisticsPlugin> stats = getMatchingStats(jndiName, repository);
                             for (StatisticsPlugin stat : stats) {
 
-                                result.set("" + stat.getValue(attributeName));
+                                setValue(result, stat, attributeName);
                             }
                         } catch (Exception e) {
                             throw new OperationFailedException(MESSAGES.failedToGetMetrics(e.getLocalizedMessage()));
@@ -76,6 +77,56 @@ public abstract class PoolMetrics implements OperationStepHandler {
 
     protected abstract List<StatisticsPlugin> getMatchingStats(String jndiName, ManagementRepository repository);
 
+    /**
+     * Sets the specified statistic as a value of the type declared by the plugin, rather than as a string.
+     *
+     * @param result the node to set
+     * @param stats the statistics plugin
+     * @param name the name of the statistic
+     */
+    public static void setValue(ModelNode result, StatisticsPlugin stats, String name) {
+        Object value = stats.getValue(name);
+        if (value == null) {
+            result.clear();
+        } else if (value instanceof Integer) {
+            result.set(((Integer) value).intValue());
+        } else if (value instanceof Long) {
+            result.set(((Long) value).longValue());
+        } else if (value instanceof Boolean) {
+            result.set(((Boolean) value).booleanValue());
+        } else if ((value instanceof Double) || (value instanceof Float)) {
+            result.set(((Number) value).doubleValue());
+        } else {
+            result.set(value.toString());
+        }
+    }
+
+    /**
+     * Returns the management type of the specified statistic.
+     *
+     * @param stats the statistics plugin
+     * @param name the name of the statistic
+     * @return the type of the values set by {@link #setValue(ModelNode, StatisticsPlugin, String)}
+     */
+    public static ModelType getType(StatisticsPlugin stats, String name) {
+        Class<?> type = stats.getType(name);
+        if ((type == int.class) || (type == Integer.class)) {
+            return ModelType.INT;
+        } else if ((type == long.class) || (type == Long.class)) {
+            return ModelType.LONG;
+        } else if ((type == boolean.class) || (type == Boolean.class)) {
+            return ModelType.BOOLEAN;
+        } else if ((type == double.class) || (type == Double.class) || (type == float.class) || (type == Float.class)) {
+            return ModelType.DOUBLE;
+        }
+        return ModelType.STRING;
+    }
+
+    /**
+     * Reads the metrics of a statistics resource of a data source or resource adapter connection pool.
+     * The handler is registered with the statistics plugin of the running pool, so metrics are read from the plugin
+     * directly, without looking up the pool in the management repository.
+     */
     public static class ParametrizedPoolMetricsHandler implements OperationStepHandler {
 
         private final StatisticsPlugin stats;
@@ -89,19 +140,14 @@ public abstract class PoolMetrics implements OperationStepHandler {
             if (context.isNormalServer()) {
                 context.addStep(new OperationStepHandler() {
                     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
-                        final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
                         final String attributeName = operation.require(NAME).asString();
 
-                        final ServiceController<?> managementRepoService = context.getServiceRegistry(false).getService(
-                                ConnectorServices.MANAGEMENT_REPOSITORY_SERVICE);
-                        if (managementRepoService != null) {
-                            try {
-                                final ModelNode result = context.getResult();
-                                result.set("" + stats.getValue(attributeName));
+                        try {
+                            final ModelNode result = context.getResult();
+                            setValue(result, stats, attributeName);
 
-                            } catch (Exception e) {
-                               throw new OperationFailedException(MESSAGES.failedToGetMetrics(e.getLocalizedMessage()));
-                            }
+                        } catch (Exception e) {
+                           throw new OperationFailedException(MESSAGES.failedToGetMetrics(e.getLocalizedMessage()));
                         }
                         context.completeStep();
                     }
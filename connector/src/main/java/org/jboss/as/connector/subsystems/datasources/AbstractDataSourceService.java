@@ -99,6 +99,8 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
     protected CommonDeployment deploymentMD;
     private javax.sql.DataSource sqlDataSource;
+    private final DataSourceLatencyStatistics latencyStatistics = new DataSourceLatencyStatistics();
+    private MeteredCachedConnectionManager meteredCcm;
 
     protected AbstractDataSourceService(final String jndiName) {
         this.jndiName = jndiName;
@@ -138,12 +140,20 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
         }
 
         sqlDataSource = null;
+        if (meteredCcm != null) {
+            meteredCcm.stop();
+            meteredCcm = null;
+        }
     }
 
     public CommonDeployment getDeploymentMD() {
         return deploymentMD;
     }
 
+    public DataSourceLatencyStatistics getLatencyStatistics() {
+        return latencyStatistics;
+    }
+
     public synchronized DataSource getValue() throws IllegalStateException, IllegalArgumentException {
         return sqlDataSource;
     }
@@ -339,7 +349,15 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
         @Override
         public CachedConnectionManager getCachedConnectionManager() {
-            return ccmValue.getValue();
+            final CachedConnectionManager ccm = ccmValue.getOptionalValue();
+            if (ccm == null) {
+                return null;
+            }
+            // Called several times per deployment, all connection managers of the data source share one wrapper
+            if (meteredCcm == null) {
+                meteredCcm = new MeteredCachedConnectionManager(ccm, latencyStatistics);
+            }
+            return meteredCcm;
         }
 
         @Override
@@ -413,7 +431,7 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
         @Override
         protected ManagedConnectionFactory createMcf(org.jboss.jca.common.api.metadata.ds.DataSource arg0, String arg1,
                 ClassLoader arg2) throws NotFoundException, DeployException {
-            final LocalManagedConnectionFactory managedConnectionFactory = new LocalManagedConnectionFactory();
+            final MyLocalMCF managedConnectionFactory = new MyLocalMCF();
             managedConnectionFactory.setUserTransactionJndiName("java:comp/UserTransaction");
             managedConnectionFactory.setDriverClass(dataSourceConfig.getDriverClass());
 
@@ -565,5 +583,19 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
             xaProps.putAll(inputProperties);
         }
 
+        @Override
+        public Object createConnectionFactory(javax.resource.spi.ConnectionManager cm) throws ResourceException {
+            return super.createConnectionFactory(new MeteredConnectionManager(cm, latencyStatistics));
+        }
+    }
+
+    private class MyLocalMCF extends LocalManagedConnectionFactory {
+
+        private static final long serialVersionUID = -3127436529817232614L;
+
+        @Override
+        public Object createConnectionFactory(javax.resource.spi.ConnectionManager cm) throws ResourceException {
+            return super.createConnectionFactory(new MeteredConnectionManager(cm, latencyStatistics));
+        }
     }
 }
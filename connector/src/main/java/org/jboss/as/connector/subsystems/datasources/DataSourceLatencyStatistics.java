@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.jboss.as.threads.LatencyHistogram;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * Statistics plugin exposing percentiles of the connection wait and hold times of a data source.
+ * Times are recorded in microseconds.
+ */
+public class DataSourceLatencyStatistics implements StatisticsPlugin {
+
+    private static final long serialVersionUID = 8294813527365198321L;
+
+    private static final String WAIT_TIME = "ConnectionWaitTime";
+    private static final String HOLD_TIME = "ConnectionHoldTime";
+
+    private enum Statistic {
+        COUNT("Count") {
+            @Override
+            long getValue(LatencyHistogram histogram) {
+                return histogram.getCount();
+            }
+        },
+        P50("P50") {
+            @Override
+            long getValue(LatencyHistogram histogram) {
+                return histogram.getPercentile(50);
+            }
+        },
+        P90("P90") {
+            @Override
+            long getValue(LatencyHistogram histogram) {
+                return histogram.getPercentile(90);
+            }
+        },
+        P99("P99") {
+            @Override
+            long getValue(LatencyHistogram histogram) {
+                return histogram.getPercentile(99);
+            }
+        },
+        P999("P999") {
+            @Override
+            long getValue(LatencyHistogram histogram) {
+                return histogram.getPercentile(99.9);
+            }
+        },
+        MAX("Max") {
+            @Override
+            long getValue(LatencyHistogram histogram) {
+                return histogram.getMax();
+            }
+        },
+        ;
+        private final String suffix;
+
+        private Statistic(String suffix) {
+            this.suffix = suffix;
+        }
+
+        abstract long getValue(LatencyHistogram histogram);
+    }
+
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram holdTime = new LatencyHistogram();
+    private final Map<String, String> descriptionKeys = new LinkedHashMap<String, String>();
+    private volatile boolean enabled = true;
+
+    public DataSourceLatencyStatistics() {
+        for (String prefix : new String[] { WAIT_TIME, HOLD_TIME }) {
+            for (Statistic statistic : Statistic.values()) {
+                this.descriptionKeys.put(prefix + statistic.suffix, "statistics." + prefix + "." + statistic.name().toLowerCase(Locale.ENGLISH));
+            }
+        }
+    }
+
+    /**
+     * Records the time spent waiting for a connection, unless statistics are disabled.
+     * @param micros a time in microseconds
+     */
+    public void recordWaitTime(long micros) {
+        if (this.enabled) {
+            this.waitTime.record(micros);
+        }
+    }
+
+    /**
+     * Records the time a connection was held by the application, unless statistics are disabled.
+     * @param micros a time in microseconds
+     */
+    public void recordHoldTime(long micros) {
+        if (this.enabled) {
+            this.holdTime.record(micros);
+        }
+    }
+
+    @Override
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(this.descriptionKeys.keySet());
+    }
+
+    @Override
+    public Class getType(String name) {
+        return this.descriptionKeys.containsKey(name) ? long.class : null;
+    }
+
+    @Override
+    public String getDescription(String name) {
+        return this.getDescription(name, Locale.getDefault());
+    }
+
+    @Override
+    public String getDescription(String name, Locale locale) {
+        String key = this.descriptionKeys.get(name);
+        if (key == null) return null;
+        return ResourceBundle.getBundle(DataSourcesSubsystemProviders.RESOURCE_NAME, locale).getString(key);
+    }
+
+    @Override
+    public Object getValue(String name) {
+        LatencyHistogram histogram = name.startsWith(WAIT_TIME) ? this.waitTime : name.startsWith(HOLD_TIME) ? this.holdTime : null;
+        if (histogram == null) return null;
+        for (Statistic statistic : Statistic.values()) {
+            if (name.endsWith(statistic.suffix)) {
+                return statistic.getValue(histogram);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void clear() {
+        this.waitTime.clear();
+        this.holdTime.clear();
+    }
+}
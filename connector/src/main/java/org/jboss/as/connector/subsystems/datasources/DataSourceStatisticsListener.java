@@ -35,6 +35,7 @@ public class DataSourceStatisticsListener extends AbstractServiceListener<Object
 
                 StatisticsPlugin jdbcStats = deploymentMD.getDataSources()[0].getStatistics();
                 StatisticsPlugin poolStats = deploymentMD.getDataSources()[0].getPool().getStatistics();
+                StatisticsPlugin latencyStats = ((AbstractDataSourceService) controller.getService()).getLatencyStatistics();
                 int jdbcStatsSize = jdbcStats.getNames().size();
                 int poolStatsSize = poolStats.getNames().size();
                 if (jdbcStatsSize > 0 || poolStatsSize > 0) {
@@ -52,13 +53,16 @@ public class DataSourceStatisticsListener extends AbstractServiceListener<Object
                     }
 
                     if (poolStatsSize > 0) {
-                        ManagementResourceRegistration poolRegistration = subRegistration.registerSubModel(PathElement.pathElement("statistics", "pool"), new StatisticsDescriptionProvider(DataSourcesSubsystemProviders.RESOURCE_NAME, "statistics", poolStats));
+                        ManagementResourceRegistration poolRegistration = subRegistration.registerSubModel(PathElement.pathElement("statistics", "pool"), new StatisticsDescriptionProvider(DataSourcesSubsystemProviders.RESOURCE_NAME, "statistics", poolStats, latencyStats));
                         poolRegistration.setRuntimeOnly(true);
-                        poolRegistration.registerOperationHandler("clear-statistics", new ClearStatisticsHandler(poolStats), DataSourcesSubsystemProviders.CLEAR_STATISTICS_DESC, false);
+                        poolRegistration.registerOperationHandler("clear-statistics", new ClearStatisticsHandler(poolStats, latencyStats), DataSourcesSubsystemProviders.CLEAR_STATISTICS_DESC, false);
 
                         for (String statName : poolStats.getNames()) {
                             poolRegistration.registerMetric(statName, new PoolMetrics.ParametrizedPoolMetricsHandler(poolStats));
                         }
+                        for (String statName : latencyStats.getNames()) {
+                            poolRegistration.registerMetric(statName, new PoolMetrics.ParametrizedPoolMetricsHandler(latencyStats));
+                        }
                     }
                 }
                 break;
@@ -221,6 +221,8 @@ public class DataSourcesExtension implements Extension {
                     INSTALLED_DRIVERS_LIST_DESC, RUNTIME_ONLY_FLAG);
             subsystem.registerOperationHandler("get-installed-driver", GetInstalledDriverOperationHandler.INSTANCE,
                     GET_INSTALLED_DRIVER_DESC, RUNTIME_ONLY_FLAG);
+            subsystem.registerOperationHandler(ReadDataSourceStatisticsHandler.OPERATION_NAME, ReadDataSourceStatisticsHandler.INSTANCE,
+                    DataSourcesSubsystemProviders.READ_ALL_STATISTICS_DESC, RUNTIME_ONLY_FLAG);
         }
 
         final ManagementResourceRegistration jdbcDrivers = subsystem.registerSubModel(PathElement.pathElement(JDBC_DRIVER_NAME),
@@ -241,6 +243,8 @@ public class DataSourcesExtension implements Extension {
                     PoolOperations.FlushAllConnectionInPool.DS_INSTANCE, FLUSH_ALL_CONNECTION_DESC, false, RUNTIME_ONLY_FLAG);
             dataSources.registerOperationHandler("test-connection-in-pool", PoolOperations.TestConnectionInPool.DS_INSTANCE,
                     TEST_CONNECTION_DESC, false, RUNTIME_ONLY_FLAG);
+            dataSources.registerOperationHandler(ReadDataSourceStatisticsHandler.OPERATION_NAME, ReadDataSourceStatisticsHandler.INSTANCE,
+                    DataSourcesSubsystemProviders.READ_STATISTICS_DESC, false, RUNTIME_ONLY_FLAG);
         }
 
         final ManagementResourceRegistration configAdapter = dataSources.registerSubModel(PathElement.pathElement(CONNECTION_PROPERTIES.getName()), CONNECTION_PROPERTIES_DESC);
@@ -269,6 +273,8 @@ public class DataSourcesExtension implements Extension {
                     PoolOperations.FlushAllConnectionInPool.DS_INSTANCE, FLUSH_ALL_CONNECTION_DESC, false, RUNTIME_ONLY_FLAG);
             xaDataSources.registerOperationHandler("test-connection-in-pool", PoolOperations.TestConnectionInPool.DS_INSTANCE,
                     TEST_CONNECTION_DESC, false, RUNTIME_ONLY_FLAG);
+            xaDataSources.registerOperationHandler(ReadDataSourceStatisticsHandler.OPERATION_NAME, ReadDataSourceStatisticsHandler.INSTANCE,
+                    DataSourcesSubsystemProviders.READ_STATISTICS_DESC, false, RUNTIME_ONLY_FLAG);
         }
 
         final ManagementResourceRegistration xadatasourcePropertyAdapter = xaDataSources.registerSubModel(PathElement.pathElement(XADATASOURCE_PROPERTIES.getName()), XADATASOURCE_PROPERTIES_DESC);
@@ -717,6 +717,34 @@ class DataSourcesSubsystemProviders {
         }
     };
 
+    static DescriptionProvider READ_STATISTICS_DESC = new DescriptionProvider() {
+        @Override
+        public ModelNode getModelDescription(final Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+            final ModelNode operation = new ModelNode();
+            operation.get(OPERATION_NAME).set(ReadDataSourceStatisticsHandler.OPERATION_NAME);
+            operation.get(DESCRIPTION).set(bundle.getString("data-source.read-statistics"));
+            operation.get(REQUEST_PROPERTIES).setEmptyObject();
+            operation.get(REPLY_PROPERTIES, DESCRIPTION).set(bundle.getString("data-source.read-statistics.reply"));
+            operation.get(REPLY_PROPERTIES, TYPE).set(ModelType.OBJECT);
+            return operation;
+        }
+    };
+
+    static DescriptionProvider READ_ALL_STATISTICS_DESC = new DescriptionProvider() {
+        @Override
+        public ModelNode getModelDescription(final Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+            final ModelNode operation = new ModelNode();
+            operation.get(OPERATION_NAME).set(ReadDataSourceStatisticsHandler.OPERATION_NAME);
+            operation.get(DESCRIPTION).set(bundle.getString("datasources.read-statistics"));
+            operation.get(REQUEST_PROPERTIES).setEmptyObject();
+            operation.get(REPLY_PROPERTIES, DESCRIPTION).set(bundle.getString("datasources.read-statistics.reply"));
+            operation.get(REPLY_PROPERTIES, TYPE).set(ModelType.OBJECT);
+            return operation;
+        }
+    };
+
      static DescriptionProvider CLEAR_STATISTICS_DESC = new DescriptionProvider() {
         @Override
         public ModelNode getModelDescription(final Locale locale) {
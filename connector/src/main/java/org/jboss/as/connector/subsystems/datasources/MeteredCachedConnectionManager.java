@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.resource.ResourceException;
+import javax.resource.spi.ConnectionRequestInfo;
+import javax.transaction.RollbackException;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.SystemException;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+import org.jboss.jca.core.api.connectionmanager.ccm.CachedConnectionManager;
+import org.jboss.jca.core.api.connectionmanager.listener.ConnectionCacheListener;
+import org.jboss.jca.core.api.connectionmanager.listener.ConnectionListener;
+
+/**
+ * {@link CachedConnectionManager} of a data source that records how long connection handles are held, i.e. the time
+ * between their registration on allocation and their unregistration on close.
+ * A connection allocated within a transaction is considered released at the latest when the transaction completes,
+ * so that connections the cached connection manager closes on its own are not tracked forever.
+ * All other calls are delegated to the shared cached connection manager.
+ */
+public class MeteredCachedConnectionManager implements CachedConnectionManager {
+
+    private final CachedConnectionManager delegate;
+    private final DataSourceLatencyStatistics statistics;
+    private final ConcurrentMap<Object, Long> allocated = new ConcurrentHashMap<Object, Long>();
+
+    public MeteredCachedConnectionManager(CachedConnectionManager delegate, DataSourceLatencyStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void registerConnection(ConnectionCacheListener cm, ConnectionListener cl, Object connection, ConnectionRequestInfo cri) {
+        this.delegate.registerConnection(cm, cl, connection, cri);
+        if (this.statistics.isEnabled()) {
+            this.allocated.put(connection, System.nanoTime());
+            this.releaseOnCompletion(connection);
+        }
+    }
+
+    @Override
+    public void unregisterConnection(ConnectionCacheListener cm, Object connection) {
+        this.release(connection);
+        this.delegate.unregisterConnection(cm, connection);
+    }
+
+    /**
+     * Returns the number of connections currently tracked.
+     */
+    int getAllocatedCount() {
+        return this.allocated.size();
+    }
+
+    void release(Object connection) {
+        Long start = this.allocated.remove(connection);
+        if (start != null) {
+            this.statistics.recordHoldTime(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start.longValue()));
+        }
+    }
+
+    private void releaseOnCompletion(final Object connection) {
+        TransactionManager tm = this.delegate.getTransactionManager();
+        if (tm == null) return;
+        try {
+            Transaction tx = tm.getTransaction();
+            if ((tx != null) && (tx.getStatus() == Status.STATUS_ACTIVE)) {
+                tx.registerSynchronization(new Synchronization() {
+                    @Override
+                    public void beforeCompletion() {
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        MeteredCachedConnectionManager.this.release(connection);
+                    }
+                });
+            }
+        } catch (SystemException e) {
+            // The connection is then only released on close
+        } catch (RollbackException e) {
+            // The connection is then only released on close
+        }
+    }
+
+    @Override
+    public TransactionManager getTransactionManager() {
+        return this.delegate.getTransactionManager();
+    }
+
+    @Override
+    public void setDebug(boolean value) {
+        this.delegate.setDebug(value);
+    }
+
+    @Override
+    public void setError(boolean value) {
+        this.delegate.setError(value);
+    }
+
+    @Override
+    public void start() {
+        // Lifecycle of the shared cached connection manager is managed by its own service
+    }
+
+    @Override
+    public void stop() {
+        this.allocated.clear();
+    }
+
+    @Override
+    public void userTransactionStarted() throws SystemException {
+        this.delegate.userTransactionStarted();
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public void pushMetaAwareObject(Object rawKey, Set unsharableResources) throws ResourceException {
+        this.delegate.pushMetaAwareObject(rawKey, unsharableResources);
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public void popMetaAwareObject(Set unsharableResources) throws ResourceException {
+        this.delegate.popMetaAwareObject(unsharableResources);
+    }
+}
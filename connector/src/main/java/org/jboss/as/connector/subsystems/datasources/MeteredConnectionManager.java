@@ -0,0 +1,74 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.connector.subsystems.datasources;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.resource.ResourceException;
+import javax.resource.spi.ConnectionManager;
+import javax.resource.spi.ConnectionRequestInfo;
+import javax.resource.spi.ManagedConnectionFactory;
+import javax.transaction.RollbackException;
+import javax.transaction.SystemException;
+
+import org.jboss.jca.core.spi.transaction.TransactionTimeoutConfiguration;
+
+/**
+ * {@link ConnectionManager} handed to the managed connection factory of a data source, that records the time spent
+ * allocating a connection, i.e. waiting for a pooled connection listener and obtaining a handle from it.
+ * The connection factory bound in JNDI is still the one created by the managed connection factory.
+ */
+public class MeteredConnectionManager implements ConnectionManager, TransactionTimeoutConfiguration {
+
+    private static final long serialVersionUID = -2817384410928346118L;
+
+    private final ConnectionManager delegate;
+    private final DataSourceLatencyStatistics statistics;
+
+    public MeteredConnectionManager(ConnectionManager delegate, DataSourceLatencyStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Object allocateConnection(ManagedConnectionFactory mcf, ConnectionRequestInfo cri) throws ResourceException {
+        if (!this.statistics.isEnabled()) {
+            return this.delegate.allocateConnection(mcf, cri);
+        }
+        long start = System.nanoTime();
+        try {
+            return this.delegate.allocateConnection(mcf, cri);
+        } finally {
+            this.statistics.recordWaitTime(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+    }
+
+    @Override
+    public int getTransactionTimeout() throws SystemException {
+        return (this.delegate instanceof TransactionTimeoutConfiguration) ? ((TransactionTimeoutConfiguration) this.delegate).getTransactionTimeout() : -1;
+    }
+
+    @Override
+    public long getTimeLeftBeforeTransactionTimeout(boolean errorRollback) throws RollbackException {
+        return (this.delegate instanceof TransactionTimeoutConfiguration) ? ((TransactionTimeoutConfiguration) this.delegate).getTimeLeftBeforeTransactionTimeout(errorRollback) : -1;
+    }
+}
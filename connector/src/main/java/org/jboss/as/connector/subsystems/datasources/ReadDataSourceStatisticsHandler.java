@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+import static org.jboss.as.connector.ConnectorMessages.MESSAGES;
+import static org.jboss.as.connector.subsystems.datasources.Constants.DATA_SOURCE;
+import static org.jboss.as.connector.subsystems.datasources.Constants.JNDINAME;
+import static org.jboss.as.connector.subsystems.datasources.Constants.XA_DATASOURCE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.as.connector.pool.PoolMetrics;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.dmr.ModelNode;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+import org.jboss.jca.deployers.common.CommonDeployment;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceRegistry;
+
+/**
+ * Reads all jdbc and pool statistics of a data source, or of all data sources if invoked on the subsystem,
+ * in a single operation.
+ * The statistics are read from the services of the running data sources.
+ */
+public class ReadDataSourceStatisticsHandler implements OperationStepHandler {
+
+    public static final String OPERATION_NAME = "read-statistics";
+    public static final String JDBC = "jdbc";
+    public static final String POOL = "pool";
+
+    public static final ReadDataSourceStatisticsHandler INSTANCE = new ReadDataSourceStatisticsHandler();
+
+    private ReadDataSourceStatisticsHandler() {
+    }
+
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+        // Jndi names of the data sources to read, keyed by data source name
+        final Map<String, String> jndiNames = new LinkedHashMap<String, String>();
+        final boolean subsystem = SUBSYSTEM.equals(address.getLastElement().getKey());
+        if (subsystem) {
+            final Resource resource = context.readResource(PathAddress.EMPTY_ADDRESS);
+            for (String type : new String[] { DATA_SOURCE, XA_DATASOURCE }) {
+                for (Resource.ResourceEntry entry : resource.getChildren(type)) {
+                    addJndiName(context, jndiNames, entry.getName(), entry.getModel());
+                }
+            }
+        } else {
+            addJndiName(context, jndiNames, address.getLastElement().getValue(), context.readModel(PathAddress.EMPTY_ADDRESS));
+        }
+
+        if (context.isNormalServer()) {
+            context.addStep(new OperationStepHandler() {
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final ServiceRegistry registry = context.getServiceRegistry(false);
+                    final ModelNode result = context.getResult();
+                    if (subsystem) {
+                        result.setEmptyObject();
+                    }
+                    for (Map.Entry<String, String> entry : jndiNames.entrySet()) {
+                        final AbstractDataSourceService service = getRunningService(registry, entry.getValue());
+                        if (service != null) {
+                            readStatistics(service, subsystem ? result.get(entry.getKey()) : result);
+                        }
+                    }
+                    context.completeStep();
+                }
+            }, OperationContext.Stage.RUNTIME);
+        } else {
+            context.getResult().set(MESSAGES.noMetricsAvailable());
+        }
+
+        context.completeStep();
+    }
+
+    private static void addJndiName(OperationContext context, Map<String, String> jndiNames, String dsName, ModelNode model) throws OperationFailedException {
+        if (model.hasDefined(JNDINAME.getName())) {
+            jndiNames.put(dsName, JNDINAME.resolveModelAttribute(context, model).asString());
+        }
+    }
+
+    private static AbstractDataSourceService getRunningService(ServiceRegistry registry, String jndiName) {
+        final ServiceController<?> controller = registry.getService(AbstractDataSourceService.SERVICE_NAME_BASE.append(jndiName));
+        if ((controller == null) || (controller.getState() != ServiceController.State.UP)) return null;
+        final AbstractDataSourceService service = (AbstractDataSourceService) controller.getService();
+        return (service.getDeploymentMD() != null) ? service : null;
+    }
+
+    static void readStatistics(AbstractDataSourceService service, ModelNode result) {
+        final CommonDeployment deploymentMD = service.getDeploymentMD();
+        readStatistics(deploymentMD.getDataSources()[0].getStatistics(), deploymentMD.getDataSources()[0].getPool().getStatistics(), service.getLatencyStatistics(), result);
+    }
+
+    static void readStatistics(StatisticsPlugin jdbc, StatisticsPlugin pool, StatisticsPlugin latency, ModelNode result) {
+        readStatistics(jdbc, result.get(JDBC).setEmptyObject());
+        readStatistics(pool, result.get(POOL).setEmptyObject());
+        // Connection latency statistics are attributes of the pool statistics resource
+        readStatistics(latency, result.get(POOL));
+    }
+
+    private static void readStatistics(StatisticsPlugin stats, ModelNode result) {
+        for (String name : stats.getNames()) {
+            PoolMetrics.setValue(result.get(name), stats, name);
+        }
+    }
+}
@@ -44,6 +44,8 @@ class Constants {
     static final String THREAD_POOL = "thread-pool";
     static final String WORKMANAGER_SHORT_RUNNING = "short-running-threads";
     static final String WORKMANAGER_LONG_RUNNING = "long-running-threads";
+    static final String WORKMANAGER_SHORT_RUNNING_WORK_STEALING = "short-running-work-stealing-threads";
+    static final String WORKMANAGER_LONG_RUNNING_WORK_STEALING = "long-running-work-stealing-threads";
 
     static final String WORKMANAGERS = "workmanagers";
 
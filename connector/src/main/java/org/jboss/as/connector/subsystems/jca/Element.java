@@ -51,6 +51,12 @@ public enum Element {
     /** long-running-threads element **/
     LONG_RUNNING_THREADS("long-running-threads"),
 
+    /** short-running-work-stealing-threads element **/
+    SHORT_RUNNING_WORK_STEALING_THREADS("short-running-work-stealing-threads"),
+
+    /** long-running-work-stealing-threads element **/
+    LONG_RUNNING_WORK_STEALING_THREADS("long-running-work-stealing-threads"),
+
     /** workmanager element **/
     WORKMANAGER("workmanager"),
 
@@ -31,7 +31,9 @@ import static org.jboss.as.connector.subsystems.jca.Constants.DEFAULT_NAME;
 import static org.jboss.as.connector.subsystems.jca.Constants.JCA;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_LONG_RUNNING;
+import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_LONG_RUNNING_WORK_STEALING;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_SHORT_RUNNING;
+import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_SHORT_RUNNING_WORK_STEALING;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DESCRIBE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
@@ -65,6 +67,8 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.threads.BoundedQueueThreadPoolResourceDefinition;
 import org.jboss.as.threads.ThreadsParser;
+import org.jboss.as.threads.ThreadsServices;
+import org.jboss.as.threads.WorkStealingThreadPoolResourceDefinition;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
 import org.jboss.staxmapper.XMLElementReader;
@@ -133,6 +137,11 @@ public class JcaExtension implements Extension {
 
         workManager.registerSubModel(BoundedQueueThreadPoolResourceDefinition.create(true, WORKMANAGER_SHORT_RUNNING, registerRuntimeOnly));
         workManager.registerSubModel(BoundedQueueThreadPoolResourceDefinition.create(true, WORKMANAGER_LONG_RUNNING, registerRuntimeOnly));
+        // Alternatives to the bounded pools, installed under the same executor service names
+        workManager.registerSubModel(WorkStealingThreadPoolResourceDefinition.create(WORKMANAGER_SHORT_RUNNING_WORK_STEALING,
+                ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly));
+        workManager.registerSubModel(WorkStealingThreadPoolResourceDefinition.create(WORKMANAGER_LONG_RUNNING_WORK_STEALING,
+                ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly));
 
 
         final ManagementResourceRegistration bootstrapContext =
@@ -152,6 +161,7 @@ public class JcaExtension implements Extension {
     public void initializeParsers(final ExtensionParsingContext context) {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_1_0.getUriString(), ConnectorSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_1_1.getUriString(), ConnectorSubsystemParser.INSTANCE);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_1_2.getUriString(), ConnectorSubsystemParser.INSTANCE);
     }
 
     private static ModelNode createEmptyAddOperation() {
@@ -237,9 +247,15 @@ public class JcaExtension implements Extension {
                         if (WORKMANAGER_LONG_RUNNING.equals(prop.getName()) && prop.getValue().isDefined() && prop.getValue().asPropertyList().size() != 0) {
                             ThreadsParser.getInstance().writeBoundedQueueThreadPool(writer, prop.getValue().asProperty().getValue(), Element.LONG_RUNNING_THREADS.getLocalName(), false);
                         }
-                        if (WORKMANAGER_SHORT_RUNNING.equals(prop.getName())) {
+                        if (WORKMANAGER_SHORT_RUNNING.equals(prop.getName()) && prop.getValue().isDefined() && prop.getValue().asPropertyList().size() != 0) {
                             ThreadsParser.getInstance().writeBoundedQueueThreadPool(writer, prop.getValue().asProperty().getValue(), Element.SHORT_RUNNING_THREADS.getLocalName(), false);
                         }
+                        if (WORKMANAGER_SHORT_RUNNING_WORK_STEALING.equals(prop.getName()) && prop.getValue().isDefined() && prop.getValue().asPropertyList().size() != 0) {
+                            ThreadsParser.getInstance().writeWorkStealingThreadPool(writer, prop.getValue().asProperty().getValue(), Element.SHORT_RUNNING_WORK_STEALING_THREADS.getLocalName(), false);
+                        }
+                        if (WORKMANAGER_LONG_RUNNING_WORK_STEALING.equals(prop.getName()) && prop.getValue().isDefined() && prop.getValue().asPropertyList().size() != 0) {
+                            ThreadsParser.getInstance().writeWorkStealingThreadPool(writer, prop.getValue().asProperty().getValue(), Element.LONG_RUNNING_WORK_STEALING_THREADS.getLocalName(), false);
+                        }
                     }
                     writer.writeEndElement();
                 }
@@ -295,6 +311,7 @@ public class JcaExtension implements Extension {
             while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
 
                 switch (Namespace.forUri(reader.getNamespaceURI())) {
+                    case JCA_1_2:
                     case JCA_1_1:
                     case JCA_1_0: {
                         final Element element = Element.forName(reader.getLocalName());
@@ -450,12 +467,20 @@ public class JcaExtension implements Extension {
             workManagerOperation.get(OP_ADDR).set(workManagerAddress);
             list.add(workManagerOperation);
 
+            // Each pool may be configured as either a bounded or a work stealing pool, but not both
+            final EnumSet<Element> visited = EnumSet.noneOf(Element.class);
             while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
 
                 final Element element = Element.forName(reader.getLocalName());
                 Namespace readerNS = Namespace.forUri(reader.getNamespaceURI());
+                if (!visited.add(element)) {
+                    throw unexpectedElement(reader);
+                }
                 switch (element) {
                     case LONG_RUNNING_THREADS: {
+                        if (visited.contains(Element.LONG_RUNNING_WORK_STEALING_THREADS)) {
+                            throw unexpectedElement(reader);
+                        }
                         switch (readerNS) {
                             case JCA_1_0: {
                                 org.jboss.as.threads.Namespace ns =  org.jboss.as.threads.Namespace.THREADS_1_0;
@@ -469,9 +494,13 @@ public class JcaExtension implements Extension {
                                         ns, workManagerAddress, list, WORKMANAGER_LONG_RUNNING, name + "-" + WORKMANAGER_LONG_RUNNING);
                             }
                         }
+                        workManagerOperation.get(WORKMANAGER_LONG_RUNNING).set(true);
                         break;
                     }
                     case SHORT_RUNNING_THREADS: {
+                        if (visited.contains(Element.SHORT_RUNNING_WORK_STEALING_THREADS)) {
+                            throw unexpectedElement(reader);
+                        }
                         switch (readerNS) {
                             case JCA_1_0: {
                                 org.jboss.as.threads.Namespace ns =  org.jboss.as.threads.Namespace.THREADS_1_0;
@@ -488,6 +517,25 @@ public class JcaExtension implements Extension {
                         }
                         break;
                     }
+                    case SHORT_RUNNING_WORK_STEALING_THREADS: {
+                        if (readerNS.compareTo(Namespace.JCA_1_2) < 0 || visited.contains(Element.SHORT_RUNNING_THREADS)) {
+                            throw unexpectedElement(reader);
+                        }
+                        ThreadsParser.getInstance().parseWorkStealingThreadPool(reader, readerNS.getUriString(),
+                                org.jboss.as.threads.Namespace.THREADS_1_2, workManagerAddress, list,
+                                WORKMANAGER_SHORT_RUNNING_WORK_STEALING, name + "-" + WORKMANAGER_SHORT_RUNNING);
+                        break;
+                    }
+                    case LONG_RUNNING_WORK_STEALING_THREADS: {
+                        if (readerNS.compareTo(Namespace.JCA_1_2) < 0 || visited.contains(Element.LONG_RUNNING_THREADS)) {
+                            throw unexpectedElement(reader);
+                        }
+                        ThreadsParser.getInstance().parseWorkStealingThreadPool(reader, readerNS.getUriString(),
+                                org.jboss.as.threads.Namespace.THREADS_1_2, workManagerAddress, list,
+                                WORKMANAGER_LONG_RUNNING_WORK_STEALING, name + "-" + WORKMANAGER_LONG_RUNNING);
+                        workManagerOperation.get(WORKMANAGER_LONG_RUNNING).set(true);
+                        break;
+                    }
                     default:
                         throw unexpectedElement(reader);
                 }
@@ -28,7 +28,9 @@ import static org.jboss.as.connector.subsystems.jca.Constants.BOOTSTRAP_CONTEXT;
 import static org.jboss.as.connector.subsystems.jca.Constants.CACHED_CONNECTION_MANAGER;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_LONG_RUNNING;
+import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_LONG_RUNNING_WORK_STEALING;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_SHORT_RUNNING;
+import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_SHORT_RUNNING_WORK_STEALING;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILDREN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DESCRIPTION;
@@ -64,7 +66,7 @@ class JcaSubsystemProviders {
             subsystem.get(DESCRIPTION).set(bundle.getString("jca"));
             subsystem.get(HEAD_COMMENT_ALLOWED).set(true);
             subsystem.get(TAIL_COMMENT_ALLOWED).set(true);
-            subsystem.get(NAMESPACE).set(Namespace.JCA_1_1.getUriString());
+            subsystem.get(NAMESPACE).set(Namespace.CURRENT.getUriString());
 
             subsystem.get(CHILDREN, ARCHIVE_VALIDATION , DESCRIPTION).set(bundle.getString("jca." + ARCHIVE_VALIDATION));
             subsystem.get(CHILDREN, BEAN_VALIDATION , DESCRIPTION).set(bundle.getString("jca." + BEAN_VALIDATION));
@@ -264,6 +266,8 @@ class JcaSubsystemProviders {
             }
             configPropertiesNode.get(CHILDREN, WORKMANAGER_LONG_RUNNING, DESCRIPTION).set(bundle.getString(WORKMANAGER_LONG_RUNNING));
             configPropertiesNode.get(CHILDREN, WORKMANAGER_SHORT_RUNNING , DESCRIPTION).set(bundle.getString(WORKMANAGER_SHORT_RUNNING));
+            configPropertiesNode.get(CHILDREN, WORKMANAGER_LONG_RUNNING_WORK_STEALING, DESCRIPTION).set(bundle.getString(WORKMANAGER_LONG_RUNNING_WORK_STEALING));
+            configPropertiesNode.get(CHILDREN, WORKMANAGER_SHORT_RUNNING_WORK_STEALING, DESCRIPTION).set(bundle.getString(WORKMANAGER_SHORT_RUNNING_WORK_STEALING));
 
             return configPropertiesNode;
         }
@@ -36,12 +36,14 @@ public enum Namespace {
 
     JCA_1_0("urn:jboss:domain:jca:1.0"),
 
-    JCA_1_1("urn:jboss:domain:jca:1.1");
+    JCA_1_1("urn:jboss:domain:jca:1.1"),
+
+    JCA_1_2("urn:jboss:domain:jca:1.2");
 
     /**
      * The current namespace version.
      */
-    public static final Namespace CURRENT = JCA_1_1;
+    public static final Namespace CURRENT = JCA_1_2;
 
     private final String name;
 
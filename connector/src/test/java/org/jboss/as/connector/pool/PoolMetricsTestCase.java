@@ -0,0 +1,173 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.connector.pool;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link PoolMetrics}.
+ */
+public class PoolMetricsTestCase {
+
+    @Test
+    public void testTypedValues() {
+        TestStatistics stats = new TestStatistics();
+        stats.put("int", int.class, 1);
+        stats.put("long", long.class, 2L);
+        stats.put("boolean", boolean.class, true);
+        stats.put("double", double.class, 0.5);
+        stats.put("string", String.class, "value");
+        stats.put("undefined", long.class, null);
+
+        assertEquals(ModelType.INT, PoolMetrics.getType(stats, "int"));
+        assertEquals(ModelType.LONG, PoolMetrics.getType(stats, "long"));
+        assertEquals(ModelType.BOOLEAN, PoolMetrics.getType(stats, "boolean"));
+        assertEquals(ModelType.DOUBLE, PoolMetrics.getType(stats, "double"));
+        assertEquals(ModelType.STRING, PoolMetrics.getType(stats, "string"));
+
+        for (String name : stats.getNames()) {
+            ModelNode value = new ModelNode();
+            PoolMetrics.setValue(value, stats, name);
+            if (stats.getValue(name) == null) {
+                assertEquals(ModelType.UNDEFINED, value.getType());
+            } else {
+                assertEquals(PoolMetrics.getType(stats, name), value.getType());
+            }
+        }
+    }
+
+    @Test
+    public void testParametrizedPoolMetricsHandler() throws Exception {
+        TestStatistics stats = new TestStatistics();
+        stats.put("ActiveCount", int.class, 3);
+        stats.put("MaxWaitTime", long.class, 42L);
+
+        OperationStepHandler handler = new PoolMetrics.ParametrizedPoolMetricsHandler(stats);
+        assertEquals(new ModelNode().set(3), readMetric(handler, "ActiveCount"));
+        assertEquals(new ModelNode().set(42L), readMetric(handler, "MaxWaitTime"));
+    }
+
+    /**
+     * Reads the specified metric through a context that supports no more than what a metric handler needs to read
+     * the value of its statistics plugin. In particular, it fails any service lookup.
+     */
+    private static ModelNode readMetric(OperationStepHandler handler, String name) throws Exception {
+        final ModelNode result = new ModelNode();
+        final List<OperationStepHandler> steps = new ArrayList<OperationStepHandler>();
+        OperationContext context = (OperationContext) Proxy.newProxyInstance(OperationContext.class.getClassLoader(), new Class<?>[] { OperationContext.class }, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                String methodName = method.getName();
+                if (methodName.equals("isNormalServer")) {
+                    return Boolean.TRUE;
+                } else if (methodName.equals("getResult")) {
+                    return result;
+                } else if (methodName.equals("addStep")) {
+                    steps.add((OperationStepHandler) args[0]);
+                    return null;
+                } else if (methodName.equals("completeStep")) {
+                    return null;
+                }
+                throw new UnsupportedOperationException(methodName);
+            }
+        });
+        ModelNode operation = new ModelNode();
+        operation.get(OP_ADDR).setEmptyList();
+        operation.get(NAME).set(name);
+
+        handler.execute(context, operation);
+        for (int i = 0; i < steps.size(); ++i) {
+            steps.get(i).execute(context, operation);
+        }
+        return result;
+    }
+
+    static class TestStatistics implements StatisticsPlugin {
+        private static final long serialVersionUID = 1L;
+
+        private final Map<String, Class<?>> types = new LinkedHashMap<String, Class<?>>();
+        private final Map<String, Object> values = new LinkedHashMap<String, Object>();
+
+        void put(String name, Class<?> type, Object value) {
+            this.types.put(name, type);
+            this.values.put(name, value);
+        }
+
+        @Override
+        public Set<String> getNames() {
+            return this.types.keySet();
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Class getType(String name) {
+            return this.types.get(name);
+        }
+
+        @Override
+        public String getDescription(String name) {
+            return name;
+        }
+
+        @Override
+        public String getDescription(String name, Locale locale) {
+            return name;
+        }
+
+        @Override
+        public Object getValue(String name) {
+            return this.values.get(name);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+        }
+
+        @Override
+        public void clear() {
+        }
+    }
+}
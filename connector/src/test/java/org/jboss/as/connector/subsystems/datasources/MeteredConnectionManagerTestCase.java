@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.connector.subsystems.datasources;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.resource.spi.ConnectionManager;
+import javax.resource.spi.ConnectionRequestInfo;
+import javax.resource.spi.ManagedConnectionFactory;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+import org.jboss.jca.core.api.connectionmanager.ccm.CachedConnectionManager;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link MeteredConnectionManager} and {@link MeteredCachedConnectionManager}.
+ */
+public class MeteredConnectionManagerTestCase {
+
+    private static final String WAIT_COUNT = "ConnectionWaitTimeCount";
+    private static final String HOLD_COUNT = "ConnectionHoldTimeCount";
+
+    @Test
+    public void testWaitTime() throws Exception {
+        final Object connection = new Object();
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics();
+        ConnectionManager cm = new MeteredConnectionManager(proxy(ConnectionManager.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return connection;
+            }
+        }), statistics);
+
+        assertSame(connection, cm.allocateConnection(null, null));
+        assertEquals(1L, statistics.getValue(WAIT_COUNT));
+
+        statistics.setEnabled(false);
+        assertSame(connection, cm.allocateConnection(null, null));
+        assertEquals(1L, statistics.getValue(WAIT_COUNT));
+    }
+
+    @Test
+    public void testHoldTime() {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics();
+        MeteredCachedConnectionManager ccm = new MeteredCachedConnectionManager(ccm(null), statistics);
+        Object connection = new Object();
+
+        ccm.registerConnection(null, null, connection, null);
+        assertEquals(1, ccm.getAllocatedCount());
+        ccm.unregisterConnection(null, connection);
+        assertEquals(0, ccm.getAllocatedCount());
+        assertEquals(1L, statistics.getValue(HOLD_COUNT));
+
+        statistics.setEnabled(false);
+        ccm.registerConnection(null, null, connection, null);
+        assertEquals(0, ccm.getAllocatedCount());
+        ccm.unregisterConnection(null, connection);
+        assertEquals(1L, statistics.getValue(HOLD_COUNT));
+    }
+
+    @Test
+    public void testReleaseOnTransactionCompletion() {
+        final List<Synchronization> synchronizations = new ArrayList<Synchronization>();
+        final Transaction tx = proxy(Transaction.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("getStatus")) {
+                    return Status.STATUS_ACTIVE;
+                }
+                if (method.getName().equals("registerSynchronization")) {
+                    synchronizations.add((Synchronization) args[0]);
+                }
+                return null;
+            }
+        });
+        TransactionManager tm = proxy(TransactionManager.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return method.getName().equals("getTransaction") ? tx : null;
+            }
+        });
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics();
+        MeteredCachedConnectionManager ccm = new MeteredCachedConnectionManager(ccm(tm), statistics);
+        Object closed = new Object();
+        Object leaked = new Object();
+
+        ccm.registerConnection(null, null, closed, null);
+        ccm.registerConnection(null, null, leaked, null);
+        assertEquals(2, synchronizations.size());
+        ccm.unregisterConnection(null, closed);
+        assertEquals(1, ccm.getAllocatedCount());
+
+        for (Synchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(Status.STATUS_COMMITTED);
+        }
+        assertEquals(0, ccm.getAllocatedCount());
+        assertEquals(2L, statistics.getValue(HOLD_COUNT));
+    }
+
+    private static CachedConnectionManager ccm(final TransactionManager tm) {
+        return proxy(CachedConnectionManager.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return method.getName().equals("getTransactionManager") ? tm : null;
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+}
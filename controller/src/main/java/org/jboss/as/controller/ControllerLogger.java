@@ -26,6 +26,7 @@ import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.WARN;
 
 import java.io.Closeable;
+import java.io.File;
 
 import javax.xml.stream.XMLStreamWriter;
 
@@ -283,4 +284,24 @@ public interface ControllerLogger extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     @Message(id = 14617, value = "A subystem '%s' was registered without calling ExtensionContext.createTracker(). The subsystems are registered normally but won't be cleaned up when the extension is removed.")
     void registerSubsystemNoWraper(String name);
+
+    /**
+     * Logs a debug message indicating the boot operation cache could not be read, and the configuration will be parsed.
+     *
+     * @param cause the cause of the error.
+     * @param file  the cache file.
+     */
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 14618, value = "Failed to read boot operation cache %s; the configuration will be parsed")
+    void failedToReadBootOperationCache(@Cause Throwable cause, File file);
+
+    /**
+     * Logs a warning message indicating the boot operation cache could not be written.
+     *
+     * @param cause the cause of the error.
+     * @param file  the cache file.
+     */
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 14619, value = "Failed to store boot operation cache %s")
+    void failedToStoreBootOperationCache(@Cause Throwable cause, File file);
 }
@@ -34,6 +34,7 @@ public class ModelDescriptionConstants {
 
     /** The key for {@link AttributeAccess.AccessType} fields. */
     public static final String ACCESS_TYPE = "access-type";
+    public static final String ACTIVE_CONNECTIONS = "active-connections";
     public static final String ADD = "add";
     public static final String ADDRESS = "address";
     public static final String ADMIN_ONLY = "admin-only";
@@ -54,6 +55,10 @@ public class ModelDescriptionConstants {
     public static final String BASE_DN = "base-dn";
     public static final String BOOT_TIME = "boot-time";
     public static final String BYTES = "bytes";
+    public static final String CACHE_HITS = "cache-hits";
+    public static final String CACHE_MAX_SIZE = "cache-max-size";
+    public static final String CACHE_MISSES = "cache-misses";
+    public static final String CACHE_TTL = "cache-ttl";
     public static final String CALLER_TYPE = "caller-type";
     public static final String CANCELLED = "cancelled";
     public static final String CHILD_TYPE = "child-type";
@@ -68,6 +73,7 @@ public class ModelDescriptionConstants {
     public static final String CONTENT = "content";
     public static final String CORE_SERVICE = "core-service";
     public static final String CPU_AFFINITY = "cpu-affinity";
+    public static final String CREATED_CONNECTIONS = "created-connections";
     public static final String CRITERIA = "criteria";
     public static final String DEFAULT = "default";
     public static final String DEFAULT_INTERFACE = "default-interface";
@@ -106,6 +112,7 @@ public class ModelDescriptionConstants {
     public static final String HOST_FAILURE_DESCRIPTIONS = "host-failure-descriptions";
     public static final String HOST_STATE = "host-state";
     public static final String HTTP_INTERFACE = "http-interface";
+    public static final String IDLE_CONNECTIONS = "idle-connections";
     public static final String IGNORED = "ignored-by-unaffected-host-controller";
     public static final String IGNORED_RESOURCES = "ignored-resources";
     public static final String IGNORED_RESOURCE_TYPE = "ignored-resource-type";
@@ -141,6 +148,7 @@ public class ModelDescriptionConstants {
     public static final String MAX_FAILURE_PERCENTAGE = "max-failure-percentage";
     public static final String MAX_LENGTH = "max-length";
     public static final String MAX_OCCURS = "max-occurs";
+    public static final String MAX_POOL_SIZE = "max-pool-size";
     public static final String MAX_THREADS = "max-threads";
     public static final String MIN = "min";
     public static final String MIN_LENGTH = "min-length";
@@ -174,12 +182,14 @@ public class ModelDescriptionConstants {
     public static final String PERSISTENT = "persistent";
     public static final String PLAIN_TEXT = "plain-text";
     public static final String PLATFORM_MBEAN = "platform-mbean";
+    public static final String POOL_IDLE_TIMEOUT = "pool-idle-timeout";
     public static final String PORT = "port";
     public static final String PORT_OFFSET = "port-offset";
     public static final String PRIORITY = "priority";
     public static final String PROBLEM = "problem";
     public static final String PROCESS_TYPE = "process-type";
     public static final String PROCESS_STATE = "process-state";
+    public static final String PROCESSOR_TIMINGS = "processor-timings";
     public static final String PRODUCT_NAME = "product-name";
     public static final String PRODUCT_VERSION = "product-version";
     public static final String PROFILE = "profile";
@@ -25,6 +25,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BYT
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILDREN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONTENT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ENABLED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FULL_REPLACE_DEPLOYMENT;
@@ -42,6 +43,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPE
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PATH;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PERSISTENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROCESSOR_TIMINGS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REDEPLOY;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RELATIVE_TO;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REPLACE_DEPLOYMENT;
@@ -149,6 +151,18 @@ public class DeploymentDescription {
                 root.get(ATTRIBUTES, STATUS, TYPE).set(ModelType.STRING);
                 root.get(ATTRIBUTES, STATUS, DESCRIPTION).set(bundle.getString("deployment.status"));
                 root.get(ATTRIBUTES, STATUS, REQUIRED).set(false);
+
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, TYPE).set(ModelType.LIST);
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, DESCRIPTION).set(bundle.getString("deployment.processor-timings"));
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, REQUIRED).set(false);
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, VALUE_TYPE, DEPLOYMENT, TYPE).set(ModelType.STRING);
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, VALUE_TYPE, DEPLOYMENT, DESCRIPTION).set(bundle.getString("deployment.processor-timings.deployment"));
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, VALUE_TYPE, "phase", TYPE).set(ModelType.STRING);
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, VALUE_TYPE, "phase", DESCRIPTION).set(bundle.getString("deployment.processor-timings.phase"));
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, VALUE_TYPE, "processor", TYPE).set(ModelType.STRING);
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, VALUE_TYPE, "processor", DESCRIPTION).set(bundle.getString("deployment.processor-timings.processor"));
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, VALUE_TYPE, "time", TYPE).set(ModelType.LONG);
+                root.get(ATTRIBUTES, PROCESSOR_TIMINGS, VALUE_TYPE, "time", DESCRIPTION).set(bundle.getString("deployment.processor-timings.time"));
             }
         }
 
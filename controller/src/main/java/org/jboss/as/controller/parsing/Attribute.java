@@ -43,6 +43,8 @@ public enum Attribute {
     ATTRIBUTE("attribute"),
     BASE_DN("base-dn"),
     BOOT_TIME("boot-time"),
+    CACHE_MAX_SIZE("cache-max-size"),
+    CACHE_TTL("cache-ttl"),
     CODE("code"),
     CONNECTION("connection"),
     CONNECTOR("connector"),
@@ -67,6 +69,7 @@ public enum Attribute {
     INTERFACE("interface"),
     JAVA_HOME("java-home"),
     MANAGEMENT_SUBSYSTEM_ENDPOINT("management-subsystem-endpoint"),
+    MAX_POOL_SIZE("max-pool-size"),
     MAX_SIZE("max-size"),
     MAX_THREADS("max-threads"),
     MODULE("module"),
@@ -78,6 +81,7 @@ public enum Attribute {
     PATH("path"),
     PATTERN("pattern"),
     PLAIN_TEXT("plain-text"),
+    POOL_IDLE_TIMEOUT("pool-idle-timeout"),
     PORT("port"),
     PORT_OFFSET("port-offset"),
     PREFIX("prefix"),
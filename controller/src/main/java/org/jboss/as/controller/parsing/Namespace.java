@@ -45,12 +45,14 @@ public enum Namespace {
 
     DOMAIN_1_1("urn:jboss:domain:1.1"),
 
-    DOMAIN_1_2("urn:jboss:domain:1.2"), ;
+    DOMAIN_1_2("urn:jboss:domain:1.2"),
+
+    DOMAIN_1_3("urn:jboss:domain:1.3"), ;
 
     /**
      * The current namespace version.
      */
-    public static final Namespace CURRENT = DOMAIN_1_2;
+    public static final Namespace CURRENT = DOMAIN_1_3;
 
     private final String name;
 
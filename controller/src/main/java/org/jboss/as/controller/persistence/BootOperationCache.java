@@ -0,0 +1,311 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.jboss.as.controller.ControllerLogger.ROOT_LOGGER;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.modules.ModuleIdentifier;
+
+/**
+ * Binary cache of the boot operations parsed from a configuration file.
+ * The operations are stored in DMR binary form, together with a digest of the configuration file content, the
+ * version of the server and a fingerprint of each core module holding the parsers and of each extension module
+ * referenced by the configuration.
+ * Cached operations are only returned if all of them still match, so editing the configuration, upgrading the server
+ * or patching one of its modules causes the file to be parsed again.
+ * Any failure to read or write the cache is non-fatal; the caller simply falls back to parsing.
+ */
+public class BootOperationCache {
+
+    private static final int MAGIC = 0x4a424f43;
+    private static final int VERSION = 2;
+    private static final String MODULE_PATH = "module.path";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final File file;
+    private final String version;
+    private final List<String> coreModules;
+    private final File[] moduleRoots;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param file the cache file
+     * @param version the version of the server, which invalidates the cache when it changes
+     * @param coreModules the modules of the server itself whose changes invalidate the cache, such as the ones
+     *                    containing the configuration parsers
+     * @param moduleRoots the directories from which core and extension modules are loaded
+     */
+    public BootOperationCache(final File file, final String version, final List<String> coreModules, final File... moduleRoots) {
+        this.file = file;
+        this.version = version;
+        this.coreModules = coreModules;
+        this.moduleRoots = moduleRoots;
+    }
+
+    /**
+     * Creates a cache whose modules are located using the {@code module.path} system property.
+     *
+     * @param file the cache file
+     * @param version the version of the server
+     * @param coreModules the modules of the server itself whose changes invalidate the cache
+     * @return a new cache
+     */
+    public static BootOperationCache create(final File file, final String version, final String... coreModules) {
+        final String modulePath = SecurityActions.getSystemProperty(MODULE_PATH);
+        final List<File> roots = new ArrayList<File>();
+        if (modulePath != null) {
+            for (String root : modulePath.split(File.pathSeparator)) {
+                if (root.length() > 0) {
+                    roots.add(new File(root));
+                }
+            }
+        }
+        return new BootOperationCache(file, version, Arrays.asList(coreModules), roots.toArray(new File[roots.size()]));
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the cached boot operations for the given configuration content.
+     *
+     * @param digest the digest of the configuration content, as returned by {@link #digest(byte[])}
+     * @return the cached operations, or {@code null} if the cache is missing, stale or unreadable
+     */
+    public List<ModelNode> load(final String digest) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            // DMR decodes byte by byte, so avoid going through a (synchronized) buffered file stream
+            final DataInputStream input = new DataInputStream(new ByteArrayInputStream(readFully(file)));
+            if (input.readInt() != MAGIC || input.readInt() != VERSION || !digest.equals(input.readUTF()) || !version.equals(input.readUTF())) {
+                return null;
+            }
+            final int modules = input.readInt();
+            for (int i = 0; i < modules; i++) {
+                final String module = input.readUTF();
+                final String fingerprint = input.readUTF();
+                if (!fingerprint.equals(fingerprint(module))) {
+                    return null;
+                }
+            }
+            final int size = input.readInt();
+            final List<ModelNode> operations = new ArrayList<ModelNode>(size);
+            for (int i = 0; i < size; i++) {
+                final ModelNode operation = new ModelNode();
+                operation.readExternal(input);
+                operations.add(operation);
+            }
+            return operations;
+        } catch (Exception e) {
+            ROOT_LOGGER.failedToReadBootOperationCache(e, file);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the boot operations parsed from the given configuration content.
+     * The cache is written to a temporary file first and then renamed, so a partially written cache is never read.
+     *
+     * @param digest the digest of the configuration content, as returned by {@link #digest(byte[])}
+     * @param operations the parsed boot operations
+     */
+    public void store(final String digest, final List<ModelNode> operations) {
+        final List<String> modules = new ArrayList<String>(coreModules);
+        for (ModelNode operation : operations) {
+            final String module = getExtensionModule(operation);
+            if (module != null) {
+                modules.add(module);
+            }
+        }
+        final Map<String, String> fingerprints = new LinkedHashMap<String, String>();
+        for (String module : modules) {
+            final String fingerprint = fingerprint(module);
+            if (fingerprint == null) {
+                // Module not found in any known module root, so we can't tell if it changes
+                file.delete();
+                return;
+            }
+            fingerprints.put(module, fingerprint);
+        }
+        final File dir = file.getAbsoluteFile().getParentFile();
+        final File temp = new File(dir, file.getName() + ".tmp");
+        try {
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                throw new IOException(dir.getPath());
+            }
+            final FileOutputStream fos = new FileOutputStream(temp);
+            try {
+                final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fos));
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeUTF(digest);
+                output.writeUTF(version);
+                output.writeInt(fingerprints.size());
+                for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    output.writeUTF(entry.getValue());
+                }
+                output.writeInt(operations.size());
+                for (ModelNode operation : operations) {
+                    operation.writeExternal(output);
+                }
+                output.flush();
+                fos.getFD().sync();
+            } finally {
+                safeClose(fos);
+            }
+            if (!temp.renameTo(file)) {
+                // Windows will not rename over an existing file
+                file.delete();
+                if (!temp.renameTo(file)) {
+                    throw new IOException(temp.getPath());
+                }
+            }
+        } catch (Exception e) {
+            ROOT_LOGGER.failedToStoreBootOperationCache(e, file);
+            temp.delete();
+        }
+    }
+
+    /**
+     * Computes the digest identifying the given configuration content.
+     *
+     * @param content the raw configuration file content
+     * @return a hex encoded SHA-1 digest
+     */
+    public static String digest(final byte[] content) {
+        return hex(newDigest().digest(content));
+    }
+
+    /**
+     * Computes a fingerprint of the files making up a module, based on their paths, sizes and modification times.
+     *
+     * @param module the module identifier
+     * @return the fingerprint, or {@code null} if the module could not be found
+     */
+    String fingerprint(final String module) {
+        final ModuleIdentifier identifier = ModuleIdentifier.fromString(module);
+        final String path = identifier.getName().replace('.', File.separatorChar) + File.separator + identifier.getSlot();
+        for (File root : moduleRoots) {
+            final File dir = new File(root, path);
+            if (new File(dir, "module.xml").isFile()) {
+                final MessageDigest digest = newDigest();
+                update(digest, dir, "");
+                return hex(digest.digest());
+            }
+        }
+        return null;
+    }
+
+    static byte[] readFully(final File file) throws IOException {
+        final FileInputStream fis = new FileInputStream(file);
+        try {
+            final byte[] content = new byte[(int) file.length()];
+            new DataInputStream(fis).readFully(content);
+            if (fis.read() >= 0) {
+                // File grew while being read
+                throw new IOException(file.getPath());
+            }
+            fis.close();
+            return content;
+        } finally {
+            safeClose(fis);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final File dir, final String prefix) {
+        final File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            final String name = prefix + file.getName();
+            if (file.isDirectory()) {
+                update(digest, file, name + '/');
+            } else {
+                digest.update((name + ':' + file.length() + ':' + file.lastModified() + '\n').getBytes());
+            }
+        }
+    }
+
+    private static String getExtensionModule(final ModelNode operation) {
+        if (ADD.equals(operation.get(OP).asString()) && operation.hasDefined(OP_ADDR)) {
+            final List<ModelNode> address = operation.get(OP_ADDR).asList();
+            if (address.size() == 1 && EXTENSION.equals(address.get(0).asProperty().getName())) {
+                return address.get(0).asProperty().getValue().asString();
+            }
+        }
+        return null;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(final byte[] bytes) {
+        final StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+        return builder.toString();
+    }
+
+    private static void safeClose(final Closeable closeable) {
+        if (closeable != null) try {
+            closeable.close();
+        } catch (Throwable t) {
+            ROOT_LOGGER.failedToCloseResource(t, closeable);
+        }
+    }
+}
@@ -27,10 +27,12 @@ import static org.jboss.as.controller.ControllerMessages.MESSAGES;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -58,6 +60,7 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
     private final QName rootElement;
     private final XMLElementReader<List<ModelNode>> rootParser;
     private final Map<QName, XMLElementReader<List<ModelNode>>> additionalParsers;
+    private volatile BootOperationCache bootOperationCache;
 
     /**
      * Construct a new instance.
@@ -81,6 +84,16 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
         }
     }
 
+    /**
+     * Sets the cache from which {@link #load()} obtains the boot operations, if the configuration file and the extension
+     * modules it references are unchanged since they were last parsed.
+     *
+     * @param bootOperationCache the cache, or {@code null} to always parse the configuration file
+     */
+    public void setBootOperationCache(final BootOperationCache bootOperationCache) {
+        this.bootOperationCache = bootOperationCache;
+    }
+
     /** {@inheritDoc} */
     @Override
     public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
@@ -117,6 +130,51 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
     /** {@inheritDoc} */
     @Override
     public List<ModelNode> load() throws ConfigurationPersistenceException {
+        final BootOperationCache cache = bootOperationCache;
+        if (cache == null) {
+            try {
+                final FileInputStream fis = new FileInputStream(fileName);
+                try {
+                    final List<ModelNode> updates = parse(new BufferedInputStream(fis));
+                    fis.close();
+                    return updates;
+                } finally {
+                    safeClose(fis);
+                }
+            } catch (Exception e) {
+                throw MESSAGES.failedToParseConfiguration(e);
+            }
+        }
+
+        final long start = System.currentTimeMillis();
+        final byte[] content;
+        try {
+            content = BootOperationCache.readFully(fileName);
+        } catch (Exception e) {
+            throw MESSAGES.failedToParseConfiguration(e);
+        }
+        final String digest = BootOperationCache.digest(content);
+        final List<ModelNode> cached = cache.load(digest);
+        if (cached != null) {
+            if (ROOT_LOGGER.isDebugEnabled()) {
+                ROOT_LOGGER.debugf("Loaded %d boot operations from %s in [%d] ms", cached.size(), cache.getFile(), System.currentTimeMillis() - start);
+            }
+            return cached;
+        }
+        final List<ModelNode> updates;
+        try {
+            updates = parse(new ByteArrayInputStream(content));
+        } catch (Exception e) {
+            throw MESSAGES.failedToParseConfiguration(e);
+        }
+        cache.store(digest, updates);
+        if (ROOT_LOGGER.isDebugEnabled()) {
+            ROOT_LOGGER.debugf("Parsed %d boot operations from %s in [%d] ms", updates.size(), fileName, System.currentTimeMillis() - start);
+        }
+        return updates;
+    }
+
+    private List<ModelNode> parse(final InputStream input) throws Exception {
         final XMLMapper mapper = XMLMapper.Factory.create();
         mapper.registerRootElement(rootElement, rootParser);
         synchronized (additionalParsers) {
@@ -125,21 +183,10 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
             }
         }
         final List<ModelNode> updates = new ArrayList<ModelNode>();
-        try {
-            final FileInputStream fis = new FileInputStream(fileName);
-            try {
-                BufferedInputStream input = new BufferedInputStream(fis);
-                XMLStreamReader streamReader = XMLInputFactory.newInstance().createXMLStreamReader(input);
-                mapper.parseDocument(updates, streamReader);
-                streamReader.close();
-                input.close();
-                fis.close();
-            } finally {
-                safeClose(fis);
-            }
-        } catch (Exception e) {
-            throw MESSAGES.failedToParseConfiguration(e);
-        }
+        XMLStreamReader streamReader = XMLInputFactory.newInstance().createXMLStreamReader(input);
+        mapper.parseDocument(updates, streamReader);
+        streamReader.close();
+        input.close();
         return updates;
     }
 
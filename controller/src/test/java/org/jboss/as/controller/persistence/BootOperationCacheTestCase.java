@@ -0,0 +1,288 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SYSTEM_PROPERTY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.logging.Logger;
+import org.jboss.staxmapper.XMLElementReader;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Tests of {@link BootOperationCache} and its use by {@link XmlConfigurationPersister}.
+ */
+public class BootOperationCacheTestCase {
+
+    private static final String NAMESPACE = "urn:jboss:test:boot-operation-cache:1.0";
+    private static final String MODULE = "org.jboss.as.test.extension";
+    private static final String CORE_MODULE = "org.jboss.as.test.core";
+    private static final Logger log = Logger.getLogger(BootOperationCacheTestCase.class);
+
+    private File dir;
+    private File modules;
+    private File config;
+    private File cacheFile;
+    private CountingParser parser;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("boot-operation-cache", null);
+        dir.delete();
+        dir.mkdirs();
+        modules = new File(dir, "modules");
+        final File moduleDir = new File(modules, MODULE.replace('.', File.separatorChar) + File.separator + "main");
+        moduleDir.mkdirs();
+        write(new File(moduleDir, "module.xml"), "<module xmlns=\"urn:jboss:module:1.1\" name=\"" + MODULE + "\"/>");
+        write(new File(moduleDir, "test-extension.jar"), "1.0");
+        final File coreModuleDir = new File(modules, CORE_MODULE.replace('.', File.separatorChar) + File.separator + "main");
+        coreModuleDir.mkdirs();
+        write(new File(coreModuleDir, "module.xml"), "<module xmlns=\"urn:jboss:module:1.1\" name=\"" + CORE_MODULE + "\"/>");
+        write(new File(coreModuleDir, "test-core.jar"), "1.0");
+        config = new File(dir, "standalone.xml");
+        cacheFile = new File(new File(dir, "data"), "boot-operations.cache");
+        parser = new CountingParser();
+    }
+
+    @After
+    public void tearDown() {
+        delete(dir);
+    }
+
+    @Test
+    public void testCacheHit() throws Exception {
+        writeConfig(config, 10);
+        final XmlConfigurationPersister persister = createPersister();
+        final List<ModelNode> parsed = persister.load();
+        assertEquals(1, parser.count);
+        assertTrue(cacheFile.isFile());
+
+        final List<ModelNode> cached = persister.load();
+        assertEquals(1, parser.count);
+        assertEquals(parsed, cached);
+        // Expressions must survive the binary encoding unresolved
+        assertEquals(ModelType.EXPRESSION, cached.get(1).get(VALUE).getType());
+    }
+
+    @Test
+    public void testConfigurationChange() throws Exception {
+        writeConfig(config, 10);
+        final XmlConfigurationPersister persister = createPersister();
+        persister.load();
+        writeConfig(config, 11);
+        final List<ModelNode> operations = persister.load();
+        assertEquals(2, parser.count);
+        assertEquals(12, operations.size());
+        persister.load();
+        assertEquals(2, parser.count);
+    }
+
+    @Test
+    public void testModuleChange() throws Exception {
+        writeConfig(config, 10);
+        final XmlConfigurationPersister persister = createPersister();
+        persister.load();
+        final File jar = new File(modules, MODULE.replace('.', File.separatorChar) + File.separator + "main" + File.separator + "test-extension.jar");
+        write(jar, "1.0.1");
+        persister.load();
+        assertEquals(2, parser.count);
+    }
+
+    @Test
+    public void testCoreModuleChange() throws Exception {
+        writeConfig(config, 10);
+        final XmlConfigurationPersister persister = createPersister();
+        persister.load();
+        final File jar = new File(modules, CORE_MODULE.replace('.', File.separatorChar) + File.separator + "main" + File.separator + "test-core.jar");
+        write(jar, "1.0.1");
+        persister.load();
+        assertEquals(2, parser.count);
+        persister.load();
+        assertEquals(2, parser.count);
+    }
+
+    @Test
+    public void testVersionChange() throws Exception {
+        writeConfig(config, 10);
+        createPersister().load();
+        final XmlConfigurationPersister persister = new XmlConfigurationPersister(config, new QName(NAMESPACE, "server"), parser, null);
+        persister.setBootOperationCache(new BootOperationCache(cacheFile, "1.1", Collections.singletonList(CORE_MODULE), modules));
+        persister.load();
+        assertEquals(2, parser.count);
+        persister.load();
+        assertEquals(2, parser.count);
+    }
+
+    @Test
+    public void testMissingModule() throws Exception {
+        writeConfig(config, 10);
+        final XmlConfigurationPersister persister = new XmlConfigurationPersister(config, new QName(NAMESPACE, "server"), parser, null);
+        persister.setBootOperationCache(new BootOperationCache(cacheFile, "1.0", Collections.singletonList(CORE_MODULE), new File(dir, "missing")));
+        persister.load();
+        assertFalse(cacheFile.exists());
+        persister.load();
+        assertEquals(2, parser.count);
+    }
+
+    @Test
+    public void testCorruptCache() throws Exception {
+        writeConfig(config, 10);
+        final XmlConfigurationPersister persister = createPersister();
+        final List<ModelNode> parsed = persister.load();
+        final RandomAccessFile file = new RandomAccessFile(cacheFile, "rw");
+        try {
+            file.setLength(file.length() / 2);
+        } finally {
+            file.close();
+        }
+        assertEquals(parsed, persister.load());
+        assertEquals(2, parser.count);
+        assertEquals(parsed, persister.load());
+        assertEquals(2, parser.count);
+    }
+
+    /**
+     * Compares the time taken to load the boot operations of a large configuration with and without the cache.
+     */
+    @Test
+    @Ignore("Benchmark that only logs its timings; run it manually")
+    public void testStartupBenchmark() throws Exception {
+        final int properties = 20000;
+        final int iterations = 10;
+        writeConfig(config, properties);
+
+        final XmlConfigurationPersister uncached = new XmlConfigurationPersister(config, new QName(NAMESPACE, "server"), parser, null);
+        final XmlConfigurationPersister cached = createPersister();
+        final List<ModelNode> expected = cached.load();
+
+        // Warm up
+        for (int i = 0; i < iterations; i++) {
+            uncached.load();
+            cached.load();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            uncached.load();
+        }
+        final long parseTime = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertEquals(properties + 1, cached.load().size());
+        }
+        final long cacheTime = System.nanoTime() - start;
+
+        assertEquals(expected, cached.load());
+        assertEquals(1 + 2 * iterations, parser.count);
+        log.infof("Loaded %d boot operations: parsed in %.1f ms, cached in %.1f ms", expected.size(),
+                parseTime / iterations / 1000000.0, cacheTime / iterations / 1000000.0);
+    }
+
+    private XmlConfigurationPersister createPersister() {
+        final XmlConfigurationPersister persister = new XmlConfigurationPersister(config, new QName(NAMESPACE, "server"), parser, null);
+        persister.setBootOperationCache(new BootOperationCache(cacheFile, "1.0", Collections.singletonList(CORE_MODULE), modules));
+        return persister;
+    }
+
+    private static void writeConfig(final File file, final int properties) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("<server xmlns=\"").append(NAMESPACE).append("\">\n");
+        builder.append("    <extension module=\"").append(MODULE).append("\"/>\n");
+        for (int i = 0; i < properties; i++) {
+            builder.append("    <property name=\"property").append(i).append("\" value=\"${property").append(i).append(":value").append(i).append("}\"/>\n");
+        }
+        builder.append("</server>\n");
+        write(file, builder.toString());
+    }
+
+    private static void write(final File file, final String content) throws IOException {
+        final long lastModified = file.lastModified();
+        final Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            writer.write(content);
+        } finally {
+            writer.close();
+        }
+        // Ensure rewrites are detected on file systems with coarse timestamps
+        if (lastModified != 0 && file.lastModified() <= lastModified) {
+            file.setLastModified(lastModified + 1000);
+        }
+    }
+
+    private static void delete(final File file) {
+        final File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static class CountingParser implements XMLElementReader<List<ModelNode>> {
+        volatile int count;
+
+        @Override
+        public void readElement(final XMLExtendedStreamReader reader, final List<ModelNode> operations) throws XMLStreamException {
+            count++;
+            while (reader.hasNext() && reader.nextTag() != XMLStreamConstants.END_ELEMENT) {
+                final String element = reader.getLocalName();
+                final ModelNode operation = new ModelNode();
+                operation.get(OP).set(ADD);
+                if (EXTENSION.equals(element)) {
+                    operation.get(OP_ADDR).add(EXTENSION, reader.getAttributeValue(null, "module"));
+                } else {
+                    operation.get(OP_ADDR).add(SYSTEM_PROPERTY, reader.getAttributeValue(null, "name"));
+                    operation.get(VALUE).setExpression(reader.getAttributeValue(null, "value"));
+                }
+                operations.add(operation);
+                reader.nextTag();
+            }
+        }
+    }
+}
@@ -30,10 +30,30 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 
 import javax.naming.Context;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.DirContext;
 import javax.naming.directory.InitialDirContext;
+import javax.naming.spi.NamingManager;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Hashtable;
+import java.util.LinkedHashSet;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CACHE_MAX_SIZE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CACHE_TTL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INITIAL_CONTEXT_FACTORY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_POOL_SIZE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.POOL_IDLE_TIMEOUT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SEARCH_CREDENTIAL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SEARCH_DN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.URL;
@@ -41,6 +61,9 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.URL
 /**
  * The LDAP connection manager to maintain the LDAP connections.
  *
+ * Connections obtained using the search credential are pooled; closing such a connection returns it to the pool, unless
+ * the pool is full, an operation on the connection failed, or the configuration changed since it was created.
+ *
  * @author <a href="mailto:darran.lofthouse@jboss.com">Darran Lofthouse</a>
  */
 public class LdapConnectionManagerService implements Service<LdapConnectionManagerService>, ConnectionManager {
@@ -49,6 +72,12 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
 
     private volatile ModelNode resolvedConfiguration;
 
+    private final BlockingDeque<PooledDirContext> idleConnections = new LinkedBlockingDeque<PooledDirContext>();
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final AtomicLong createdConnections = new AtomicLong();
+    final AtomicLong cacheHits = new AtomicLong();
+    final AtomicLong cacheMisses = new AtomicLong();
+
     public LdapConnectionManagerService(final ModelNode resolvedConfiguration) {
         setResolvedConfiguration(resolvedConfiguration);
     }
@@ -61,6 +90,8 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
         resolvedConfiguration.require(LdapConnectionResourceDefinition.INITIAL_CONTEXT_FACTORY.getName());
         // Store
         this.resolvedConfiguration = resolvedConfiguration;
+        // Connections and cached lookups made with the previous configuration must not be reused
+        closeIdleConnections();
     }
 
     /*
@@ -71,6 +102,7 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
     }
 
     public synchronized void stop(StopContext context) {
+        closeIdleConnections();
     }
 
     public synchronized LdapConnectionManagerService getValue() throws IllegalStateException, IllegalArgumentException {
@@ -83,7 +115,21 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
 
     public Object getConnection() throws Exception {
         final ModelNode config = resolvedConfiguration;
-        return getConnection(getFullProperties(config));
+        final long idleTimeout = getPoolIdleTimeout(config);
+        final long now = System.currentTimeMillis();
+        PooledDirContext connection = idleConnections.pollFirst();
+        while (connection != null) {
+            if (connection.configuration == config && (idleTimeout <= 0 || now - connection.released < idleTimeout)) {
+                connection.reopen();
+                activeConnections.incrementAndGet();
+                return connection;
+            }
+            connection.destroy();
+            connection = idleConnections.pollFirst();
+        }
+        connection = createPooledConnection(config);
+        activeConnections.incrementAndGet();
+        return connection;
     }
 
     public Object getConnection(String principal, String credential) throws Exception {
@@ -111,6 +157,123 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
         }
     }
 
+    private DirContext reconnect(final Hashtable<?, ?> environment) throws NamingException {
+        ClassLoader original = null;
+        try {
+            original = Thread.currentThread().getContextClassLoader();
+            if (original != null) {
+                Thread.currentThread().setContextClassLoader(null);
+            }
+            DirContext connection = (DirContext) NamingManager.getInitialContext(environment);
+            createdConnections.incrementAndGet();
+            return connection;
+        } finally {
+            if (original != null) {
+                Thread.currentThread().setContextClassLoader(original);
+            }
+        }
+    }
+
+    private PooledDirContext createPooledConnection(final ModelNode config) throws Exception {
+        ClassLoader original = null;
+        try {
+            original = Thread.currentThread().getContextClassLoader();
+            if (original != null) {
+                Thread.currentThread().setContextClassLoader(null);
+            }
+            PooledDirContext connection = new PooledDirContext(getFullProperties(config), config);
+            createdConnections.incrementAndGet();
+            return connection;
+        } finally {
+            if (original != null) {
+                Thread.currentThread().setContextClassLoader(original);
+            }
+        }
+    }
+
+    private void release(final PooledDirContext connection) {
+        activeConnections.decrementAndGet();
+        final ModelNode config = resolvedConfiguration;
+        if (connection.failed || connection.configuration != config || idleConnections.size() >= getMaxPoolSize(config)) {
+            connection.destroy();
+            return;
+        }
+        connection.released = System.currentTimeMillis();
+        idleConnections.offerFirst(connection);
+        // Discard connections at the tail of the pool that have been idle for too long
+        final long idleTimeout = getPoolIdleTimeout(config);
+        if (idleTimeout > 0) {
+            PooledDirContext oldest = idleConnections.peekLast();
+            while (oldest != null && connection.released - oldest.released >= idleTimeout) {
+                if (idleConnections.removeLastOccurrence(oldest)) {
+                    oldest.destroy();
+                }
+                oldest = idleConnections.peekLast();
+            }
+        }
+    }
+
+    private void closeIdleConnections() {
+        PooledDirContext connection = idleConnections.pollFirst();
+        while (connection != null) {
+            connection.destroy();
+            connection = idleConnections.pollFirst();
+        }
+    }
+
+    /**
+     * Creates a cache of user lookups made against this connection, configured by this connection's cache attributes.
+     *
+     * @return a new user cache.
+     */
+    public LdapUserCache createUserCache() {
+        return new LdapUserCache(this);
+    }
+
+    ModelNode getResolvedConfiguration() {
+        return resolvedConfiguration;
+    }
+
+    /*
+     *  Metrics
+     */
+
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    public int getIdleConnections() {
+        return idleConnections.size();
+    }
+
+    public long getCreatedConnections() {
+        return createdConnections.get();
+    }
+
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    private static int getMaxPoolSize(final ModelNode config) {
+        return config.hasDefined(MAX_POOL_SIZE) ? config.get(MAX_POOL_SIZE).asInt() : 0;
+    }
+
+    private static long getPoolIdleTimeout(final ModelNode config) {
+        return config.hasDefined(POOL_IDLE_TIMEOUT) ? config.get(POOL_IDLE_TIMEOUT).asLong() : 0;
+    }
+
+    static long getCacheTimeToLive(final ModelNode config) {
+        return config.hasDefined(CACHE_TTL) ? config.get(CACHE_TTL).asLong() : 0;
+    }
+
+    static int getCacheMaxSize(final ModelNode config) {
+        return config.hasDefined(CACHE_MAX_SIZE) ? config.get(CACHE_MAX_SIZE).asInt() : 0;
+    }
+
     private Properties getConnectionOnlyProperties(final ModelNode config) {
         final Properties result = new Properties();
         String initialContextFactory = config.require(INITIAL_CONTEXT_FACTORY).asString();
@@ -129,4 +292,130 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
         return result;
     }
 
+    /**
+     * A search connection that returns itself to the pool when closed.
+     *
+     * All operations are made through a proxy of the underlying directory context. Any {@link NamingException}, including one
+     * thrown while iterating over search results, marks the connection as failed so that it is not pooled again. A failed
+     * operation is retried once on a new underlying context, since a pooled connection may have been closed by the server.
+     */
+    private final class PooledDirContext extends InitialDirContext {
+
+        private final ModelNode configuration;
+        private volatile long released;
+        private volatile boolean failed = false;
+        private boolean closed = false;
+        private DirContext delegate;
+        private DirContext proxy;
+
+        private PooledDirContext(final Properties properties, final ModelNode configuration) throws NamingException {
+            super(true);
+            this.configuration = configuration;
+            init(properties);
+        }
+
+        @Override
+        protected Context getDefaultInitCtx() throws NamingException {
+            if (proxy == null) {
+                delegate = (DirContext) super.getDefaultInitCtx();
+                proxy = createProxy(delegate, DirContext.class, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        return invokeWithRetry(method, args);
+                    }
+                });
+            }
+            return proxy;
+        }
+
+        private Object invokeWithRetry(final Method method, final Object[] args) throws Throwable {
+            try {
+                return invokeDelegate(method, args);
+            } catch (NamingException e) {
+                final DirContext replacement;
+                try {
+                    replacement = reconnect(myProps);
+                } catch (NamingException ignored) {
+                    throw e;
+                }
+                destroyDelegate();
+                delegate = replacement;
+                failed = false;
+                return invokeDelegate(method, args);
+            }
+        }
+
+        private Object invokeDelegate(final Method method, final Object[] args) throws Throwable {
+            try {
+                final Object result = method.invoke(delegate, args);
+                return (result instanceof NamingEnumeration) ? createProxy(result, NamingEnumeration.class, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        try {
+                            return method.invoke(result, args);
+                        } catch (InvocationTargetException e) {
+                            if (e.getCause() instanceof NamingException) {
+                                failed = true;
+                            }
+                            throw e.getCause();
+                        }
+                    }
+                }) : result;
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof NamingException) {
+                    failed = true;
+                }
+                throw e.getCause();
+            }
+        }
+
+        @Override
+        public void close() throws NamingException {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release(this);
+        }
+
+        private synchronized void reopen() {
+            closed = false;
+        }
+
+        private void destroy() {
+            destroyDelegate();
+            try {
+                super.close();
+            } catch (NamingException ignored) {
+            }
+        }
+
+        private void destroyDelegate() {
+            if (delegate != null) {
+                try {
+                    delegate.close();
+                } catch (NamingException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a proxy implementing all interfaces of the specified target, e.g. so that an LDAP context can still be cast
+     * to {@link javax.naming.ldap.LdapContext}.
+     */
+    private static <T> T createProxy(final Object target, final Class<T> type, final InvocationHandler handler) {
+        final Set<Class<?>> interfaces = new LinkedHashSet<Class<?>>();
+        interfaces.add(type);
+        for (Class<?> targetClass = target.getClass(); targetClass != null; targetClass = targetClass.getSuperclass()) {
+            for (Class<?> targetInterface : targetClass.getInterfaces()) {
+                if (Modifier.isPublic(targetInterface.getModifiers())) {
+                    interfaces.add(targetInterface);
+                }
+            }
+        }
+        return type.cast(Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces.toArray(new Class<?>[interfaces.size()]), handler));
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.management.connections.ldap;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACTIVE_CONNECTIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CACHE_HITS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CACHE_MISSES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CREATED_CONNECTIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IDLE_CONNECTIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Handler for reading the connection pool and user cache metrics of ldap management connections.
+ */
+public class LdapConnectionMetricsHandler implements OperationStepHandler {
+
+    public static final LdapConnectionMetricsHandler INSTANCE = new LdapConnectionMetricsHandler();
+
+    private LdapConnectionMetricsHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        context.addStep(new OperationStepHandler() {
+            @Override
+            public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                final String name = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+                final String attributeName = operation.require(NAME).asString();
+                final ServiceController<?> controller = context.getServiceRegistry(false).getService(LdapConnectionManagerService.BASE_SERVICE_NAME.append(name));
+                final ModelNode result = context.getResult();
+                if (controller != null && controller.getState() == ServiceController.State.UP) {
+                    final LdapConnectionManagerService service = LdapConnectionManagerService.class.cast(controller.getValue());
+                    if (ACTIVE_CONNECTIONS.equals(attributeName)) {
+                        result.set(service.getActiveConnections());
+                    } else if (IDLE_CONNECTIONS.equals(attributeName)) {
+                        result.set(service.getIdleConnections());
+                    } else if (CREATED_CONNECTIONS.equals(attributeName)) {
+                        result.set(service.getCreatedConnections());
+                    } else if (CACHE_HITS.equals(attributeName)) {
+                        result.set(service.getCacheHits());
+                    } else if (CACHE_MISSES.equals(attributeName)) {
+                        result.set(service.getCacheMisses());
+                    }
+                } else {
+                    // The connection has not been used yet
+                    result.set(0);
+                }
+                context.completeStep();
+            }
+        }, OperationContext.Stage.RUNTIME);
+        context.completeStep();
+    }
+}
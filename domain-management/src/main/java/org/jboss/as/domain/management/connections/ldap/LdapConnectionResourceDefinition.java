@@ -30,8 +30,11 @@ import org.jboss.as.controller.ResourceDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.common.ManagementDescription;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
@@ -62,7 +65,39 @@ public class LdapConnectionResourceDefinition extends SimpleResourceDefinition {
     public static final SimpleAttributeDefinition INITIAL_CONTEXT_FACTORY = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.INITIAL_CONTEXT_FACTORY, ModelType.STRING, true)
             .setAllowExpression(true).setDefaultValue(new ModelNode(DEFAULT_INITIAL_CONTEXT)).setValidator(new StringLengthValidator(1, Integer.MAX_VALUE, true, true)).build();
 
-    public static final AttributeDefinition[] ATTRIBUTE_DEFINITIONS = {URL, SEARCH_DN, SEARCH_CREDENTIAL, INITIAL_CONTEXT_FACTORY};
+    public static final SimpleAttributeDefinition MAX_POOL_SIZE = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.MAX_POOL_SIZE, ModelType.INT, true)
+            .setAllowExpression(true).setDefaultValue(new ModelNode(10)).setValidator(new IntRangeValidator(0, true, true)).build();
+
+    public static final SimpleAttributeDefinition POOL_IDLE_TIMEOUT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.POOL_IDLE_TIMEOUT, ModelType.LONG, true)
+            .setAllowExpression(true).setDefaultValue(new ModelNode(60000L)).setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS).build();
+
+    public static final SimpleAttributeDefinition CACHE_TTL = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.CACHE_TTL, ModelType.LONG, true)
+            .setAllowExpression(true).setDefaultValue(new ModelNode(0L)).setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS).build();
+
+    public static final SimpleAttributeDefinition CACHE_MAX_SIZE = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.CACHE_MAX_SIZE, ModelType.INT, true)
+            .setAllowExpression(true).setDefaultValue(new ModelNode(1000)).setValidator(new IntRangeValidator(1, true, true)).build();
+
+    public static final AttributeDefinition[] ATTRIBUTE_DEFINITIONS = {URL, SEARCH_DN, SEARCH_CREDENTIAL, INITIAL_CONTEXT_FACTORY,
+            MAX_POOL_SIZE, POOL_IDLE_TIMEOUT, CACHE_TTL, CACHE_MAX_SIZE};
+
+    public static final SimpleAttributeDefinition ACTIVE_CONNECTIONS = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.ACTIVE_CONNECTIONS, ModelType.INT, true)
+            .setStorageRuntime().build();
+
+    public static final SimpleAttributeDefinition IDLE_CONNECTIONS = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.IDLE_CONNECTIONS, ModelType.INT, true)
+            .setStorageRuntime().build();
+
+    public static final SimpleAttributeDefinition CREATED_CONNECTIONS = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.CREATED_CONNECTIONS, ModelType.LONG, true)
+            .setStorageRuntime().build();
+
+    public static final SimpleAttributeDefinition CACHE_HITS = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.CACHE_HITS, ModelType.LONG, true)
+            .setStorageRuntime().build();
+
+    public static final SimpleAttributeDefinition CACHE_MISSES = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.CACHE_MISSES, ModelType.LONG, true)
+            .setStorageRuntime().build();
+
+    public static final AttributeDefinition[] METRICS = {ACTIVE_CONNECTIONS, IDLE_CONNECTIONS, CREATED_CONNECTIONS, CACHE_HITS, CACHE_MISSES};
 
     public static final LdapConnectionResourceDefinition INSTANCE = new LdapConnectionResourceDefinition();
 
@@ -78,5 +113,9 @@ public class LdapConnectionResourceDefinition extends SimpleResourceDefinition {
 
         LdapConnectionWriteAttributeHandler writeHandler = new LdapConnectionWriteAttributeHandler();
         writeHandler.registerAttributes(resourceRegistration);
+
+        for (AttributeDefinition metric : METRICS) {
+            resourceRegistration.registerMetric(metric, LdapConnectionMetricsHandler.INSTANCE);
+        }
     }
 }
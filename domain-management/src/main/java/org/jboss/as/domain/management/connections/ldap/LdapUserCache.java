@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.management.connections.ldap;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Short lived cache of the distinguished names of users, and of the passwords that were successfully verified for them.
+ *
+ * Passwords are never held in clear; only a salted digest of the last verified password is kept, so that a repeated
+ * authentication with the same password can be accepted without binding to the directory again.
+ * The time to live and size of the cache are taken from the configuration of the owning connection manager, and all
+ * entries are discarded when that configuration changes.
+ */
+public class LdapUserCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final LdapConnectionManagerService connectionManager;
+    private final byte[] salt = new byte[16];
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+    LdapUserCache(final LdapConnectionManagerService connectionManager) {
+        this.connectionManager = connectionManager;
+        new SecureRandom().nextBytes(salt);
+    }
+
+    /**
+     * Obtain the cached entry for a user.
+     *
+     * @param username - The name of the user.
+     * @return the entry for the user, or {@code null} if caching is disabled or there is no current entry.
+     */
+    public Entry get(final String username) {
+        final ModelNode config = connectionManager.getResolvedConfiguration();
+        final long timeToLive = LdapConnectionManagerService.getCacheTimeToLive(config);
+        if (timeToLive <= 0) {
+            return null;
+        }
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(username);
+            if (entry != null && (entry.configuration != config || System.currentTimeMillis() - entry.created >= timeToLive)) {
+                entries.remove(username);
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            connectionManager.cacheHits.incrementAndGet();
+        } else {
+            connectionManager.cacheMisses.incrementAndGet();
+        }
+        return entry;
+    }
+
+    /**
+     * Cache the distinguished name of a user and the password just verified for them.
+     *
+     * @param username - The name of the user.
+     * @param distinguishedName - The distinguished name the user was resolved to.
+     * @param password - The verified password, or {@code null} if only the name should be cached.
+     */
+    public void put(final String username, final String distinguishedName, final String password) {
+        final ModelNode config = connectionManager.getResolvedConfiguration();
+        if (LdapConnectionManagerService.getCacheTimeToLive(config) <= 0) {
+            return;
+        }
+        final int maxSize = LdapConnectionManagerService.getCacheMaxSize(config);
+        final Entry entry = new Entry(distinguishedName, password != null ? digest(password) : null, config);
+        synchronized (entries) {
+            entries.put(username, entry);
+            // Evict the least recently used entries
+            while (entries.size() > maxSize) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Remove any cached entry for a user, e.g. after the user failed to authenticate.
+     *
+     * @param username - The name of the user.
+     */
+    public void remove(final String username) {
+        synchronized (entries) {
+            entries.remove(username);
+        }
+    }
+
+    private byte[] digest(final String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            digest.update(salt);
+            return digest.digest(password.getBytes("UTF-8"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A cached user lookup.
+     */
+    public final class Entry {
+
+        private final String distinguishedName;
+        private final byte[] passwordDigest;
+        private final ModelNode configuration;
+        private final long created = System.currentTimeMillis();
+
+        private Entry(final String distinguishedName, final byte[] passwordDigest, final ModelNode configuration) {
+            this.distinguishedName = distinguishedName;
+            this.passwordDigest = passwordDigest;
+            this.configuration = configuration;
+        }
+
+        public String getDistinguishedName() {
+            return distinguishedName;
+        }
+
+        /**
+         * Check whether the password was previously verified for this user.
+         *
+         * @param password - The password being verified.
+         * @return {@code true} if the password matches the last verified password.
+         */
+        public boolean isVerified(final String password) {
+            return passwordDigest != null && password != null && MessageDigest.isEqual(passwordDigest, digest(password));
+        }
+    }
+}
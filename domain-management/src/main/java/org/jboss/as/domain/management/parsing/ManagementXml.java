@@ -169,7 +169,7 @@ public class ManagementXml {
             final Element element = Element.forName(reader.getLocalName());
             switch (element) {
                 case LDAP: {
-                    parseLdapConnection(reader, address, list);
+                    parseLdapConnection(reader, address, expectedNs, list);
                     break;
                 }
                 default: {
@@ -179,7 +179,7 @@ public class ManagementXml {
         }
     }
 
-    private void parseLdapConnection(final XMLExtendedStreamReader reader, final ModelNode address, final List<ModelNode> list)
+    private void parseLdapConnection(final XMLExtendedStreamReader reader, final ModelNode address, final Namespace expectedNs, final List<ModelNode> list)
             throws XMLStreamException {
 
         final ModelNode add = new ModelNode();
@@ -217,6 +217,26 @@ public class ManagementXml {
                         LdapConnectionResourceDefinition.INITIAL_CONTEXT_FACTORY.parseAndSetParameter(value, add, reader);
                         break;
                     }
+                    case MAX_POOL_SIZE: {
+                        requirePoolingNamespace(reader, expectedNs, i);
+                        LdapConnectionResourceDefinition.MAX_POOL_SIZE.parseAndSetParameter(value, add, reader);
+                        break;
+                    }
+                    case POOL_IDLE_TIMEOUT: {
+                        requirePoolingNamespace(reader, expectedNs, i);
+                        LdapConnectionResourceDefinition.POOL_IDLE_TIMEOUT.parseAndSetParameter(value, add, reader);
+                        break;
+                    }
+                    case CACHE_TTL: {
+                        requirePoolingNamespace(reader, expectedNs, i);
+                        LdapConnectionResourceDefinition.CACHE_TTL.parseAndSetParameter(value, add, reader);
+                        break;
+                    }
+                    case CACHE_MAX_SIZE: {
+                        requirePoolingNamespace(reader, expectedNs, i);
+                        LdapConnectionResourceDefinition.CACHE_MAX_SIZE.parseAndSetParameter(value, add, reader);
+                        break;
+                    }
                     default: {
                         throw unexpectedAttribute(reader, i);
                     }
@@ -231,6 +251,16 @@ public class ManagementXml {
         requireNoContent(reader);
     }
 
+    /**
+     * The connection pool and cache attributes of an LDAP connection were introduced in the 1.3 namespace.
+     */
+    private static void requirePoolingNamespace(final XMLExtendedStreamReader reader, final Namespace expectedNs, final int index)
+            throws XMLStreamException {
+        if (expectedNs == Namespace.DOMAIN_1_0 || expectedNs == Namespace.DOMAIN_1_1 || expectedNs == Namespace.DOMAIN_1_2) {
+            throw unexpectedAttribute(reader, index);
+        }
+    }
+
     private void parseSecurityRealms(final XMLExtendedStreamReader reader, final ModelNode address, final Namespace expectedNs, final List<ModelNode> list)
             throws XMLStreamException {
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
@@ -1058,6 +1088,10 @@ public class ManagementXml {
             LdapConnectionResourceDefinition.SEARCH_DN.marshallAsAttribute(connection, writer);
             LdapConnectionResourceDefinition.SEARCH_CREDENTIAL.marshallAsAttribute(connection, writer);
             LdapConnectionResourceDefinition.INITIAL_CONTEXT_FACTORY.marshallAsAttribute(connection, writer);
+            LdapConnectionResourceDefinition.MAX_POOL_SIZE.marshallAsAttribute(connection, writer);
+            LdapConnectionResourceDefinition.POOL_IDLE_TIMEOUT.marshallAsAttribute(connection, writer);
+            LdapConnectionResourceDefinition.CACHE_TTL.marshallAsAttribute(connection, writer);
+            LdapConnectionResourceDefinition.CACHE_MAX_SIZE.marshallAsAttribute(connection, writer);
         }
         writer.writeEndElement();
     }
@@ -44,6 +44,8 @@ import javax.security.sasl.RealmCallback;
 import java.io.IOException;
 
 import org.jboss.as.domain.management.connections.ConnectionManager;
+import org.jboss.as.domain.management.connections.ldap.LdapConnectionManagerService;
+import org.jboss.as.domain.management.connections.ldap.LdapUserCache;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
@@ -65,6 +67,7 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
     private static final String DEFAULT_USER_DN = "dn";
 
     private final InjectedValue<ConnectionManager> connectionManager = new InjectedValue<ConnectionManager>();
+    private volatile LdapUserCache userCache;
 
     private final String baseDn;
     private final String usernameAttribute;
@@ -102,9 +105,14 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
      */
 
     public void start(StartContext context) throws StartException {
+        ConnectionManager connectionManager = this.connectionManager.getValue();
+        if (connectionManager instanceof LdapConnectionManagerService) {
+            userCache = ((LdapConnectionManagerService) connectionManager).createUserCache();
+        }
     }
 
     public void stop(StopContext context) {
+        userCache = null;
     }
 
     public UserLdapCallbackHandler getValue() throws IllegalStateException, IllegalArgumentException {
@@ -169,8 +177,41 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
             throw MESSAGES.noPassword();
         }
 
-        InitialDirContext searchContext = null;
+        LdapUserCache userCache = this.userCache;
+        LdapUserCache.Entry cached = userCache != null ? userCache.get(username) : null;
+        if (cached != null && cached.isVerified(verifyPasswordCallback.getPassword())) {
+            verifyPasswordCallback.setVerified(true);
+            return;
+        }
+
         InitialDirContext userContext = null;
+        try {
+            String distinguishedUserDN = cached != null ? cached.getDistinguishedName() : null;
+            if (distinguishedUserDN == null) {
+                distinguishedUserDN = findDistinguishedName(connectionManager, username);
+            }
+
+            // 3 - Connect as user once their DN is identified
+            userContext = (InitialDirContext) connectionManager.getConnection(distinguishedUserDN, verifyPasswordCallback.getPassword());
+            if (userContext != null) {
+                verifyPasswordCallback.setVerified(true);
+                if (userCache != null) {
+                    userCache.put(username, distinguishedUserDN, verifyPasswordCallback.getPassword());
+                }
+            }
+
+        } catch (Exception e) {
+            if (userCache != null) {
+                userCache.remove(username);
+            }
+            throw MESSAGES.cannotPerformVerification(e);
+        } finally {
+            safeClose(userContext);
+        }
+    }
+
+    private String findDistinguishedName(ConnectionManager connectionManager, String username) throws Exception {
+        InitialDirContext searchContext = null;
         NamingEnumeration<SearchResult> searchEnumeration = null;
         try {
             // 1 - Obtain Connection to LDAP
@@ -209,19 +250,10 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
                 else
                     throw MESSAGES.nameNotFound(result.getName());
             }
-
-            // 3 - Connect as user once their DN is identified
-            userContext = (InitialDirContext) connectionManager.getConnection(distinguishedUserDN, verifyPasswordCallback.getPassword());
-            if (userContext != null) {
-                verifyPasswordCallback.setVerified(true);
-            }
-
-        } catch (Exception e) {
-            throw MESSAGES.cannotPerformVerification(e);
+            return distinguishedUserDN;
         } finally {
             safeClose(searchEnumeration);
             safeClose(searchContext);
-            safeClose(userContext);
         }
     }
 
@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.domain.management.connections.ldap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+
+import javax.naming.CommunicationException;
+import javax.naming.Context;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.DirContext;
+import javax.naming.directory.InitialDirContext;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.spi.InitialContextFactory;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of the search connection pool of {@link LdapConnectionManagerService}.
+ */
+public class LdapConnectionManagerServiceTestCase {
+
+    /**
+     * The behaviour of the contexts created by {@link TestContextFactory}, in creation order.
+     * A context whose behaviour is missing behaves as {@link Behaviour#SUCCEED}.
+     */
+    enum Behaviour {
+        SUCCEED, FAIL_SEARCH, FAIL_ENUMERATION
+    }
+
+    static final List<Behaviour> behaviours = new ArrayList<Behaviour>();
+    static int created;
+
+    private LdapConnectionManagerService service;
+
+    @Before
+    public void setUp() {
+        behaviours.clear();
+        created = 0;
+        ModelNode config = new ModelNode();
+        config.get(LdapConnectionResourceDefinition.URL.getName()).set("ldap://localhost:389");
+        config.get(LdapConnectionResourceDefinition.SEARCH_DN.getName()).set("uid=admin");
+        config.get(LdapConnectionResourceDefinition.SEARCH_CREDENTIAL.getName()).set("secret");
+        config.get(LdapConnectionResourceDefinition.INITIAL_CONTEXT_FACTORY.getName()).set(TestContextFactory.class.getName());
+        config.get(LdapConnectionResourceDefinition.MAX_POOL_SIZE.getName()).set(2);
+        service = new LdapConnectionManagerService(config);
+    }
+
+    @After
+    public void tearDown() {
+        service.stop(null);
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        search();
+        search();
+        assertEquals(1, created);
+        assertEquals(1, service.getIdleConnections());
+        assertEquals(0, service.getActiveConnections());
+    }
+
+    @Test
+    public void testRetryOnNewConnection() throws Exception {
+        behaviours.add(Behaviour.FAIL_SEARCH);
+        search();
+        assertEquals(2, created);
+        assertEquals(2, service.getCreatedConnections());
+        // The retried connection works, so it is pooled
+        assertEquals(1, service.getIdleConnections());
+    }
+
+    @Test
+    public void testFailureAfterRetry() throws Exception {
+        behaviours.add(Behaviour.FAIL_SEARCH);
+        behaviours.add(Behaviour.FAIL_SEARCH);
+        try {
+            search();
+            fail("Search should fail on both connections");
+        } catch (CommunicationException expected) {
+        }
+        assertEquals(2, created);
+        assertEquals(0, service.getIdleConnections());
+    }
+
+    @Test
+    public void testFailedEnumeration() throws Exception {
+        behaviours.add(Behaviour.FAIL_ENUMERATION);
+        try {
+            search();
+            fail("Iterating over the results should fail");
+        } catch (CommunicationException expected) {
+        }
+        assertEquals(1, created);
+        assertEquals(0, service.getIdleConnections());
+    }
+
+    private void search() throws Exception {
+        InitialDirContext context = (InitialDirContext) service.getConnection();
+        try {
+            NamingEnumeration<SearchResult> results = context.search("dc=example", "(uid={0})", new Object[] { "user" }, new SearchControls());
+            try {
+                assertFalse(results.hasMore());
+            } finally {
+                results.close();
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    public static class TestContextFactory implements InitialContextFactory {
+        @Override
+        public Context getInitialContext(Hashtable<?, ?> environment) throws NamingException {
+            final Behaviour behaviour = (created < behaviours.size()) ? behaviours.get(created) : Behaviour.SUCCEED;
+            created += 1;
+            return (DirContext) Proxy.newProxyInstance(DirContext.class.getClassLoader(), new Class<?>[] { DirContext.class }, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    if (method.getName().equals("search")) {
+                        if (behaviour == Behaviour.FAIL_SEARCH) {
+                            throw new CommunicationException();
+                        }
+                        return results(behaviour == Behaviour.FAIL_ENUMERATION);
+                    }
+                    return null;
+                }
+            });
+        }
+
+        static NamingEnumeration<?> results(final boolean fail) {
+            return (NamingEnumeration<?>) Proxy.newProxyInstance(NamingEnumeration.class.getClassLoader(), new Class<?>[] { NamingEnumeration.class }, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    if (method.getName().equals("hasMore")) {
+                        if (fail) {
+                            throw new CommunicationException();
+                        }
+                        return false;
+                    }
+                    return null;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.domain.management.parsing;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CACHE_TTL;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_POOL_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jboss.as.controller.parsing.Namespace;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLElementReader;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+import org.jboss.staxmapper.XMLMapper;
+import org.junit.Test;
+
+/**
+ * Tests that the pool and cache attributes of an LDAP connection are only accepted in the namespace that introduced them.
+ */
+public class ManagementXmlTestCase {
+
+    @Test
+    public void testPoolAttributes() throws Exception {
+        List<ModelNode> operations = parse(Namespace.DOMAIN_1_3);
+        assertEquals(1, operations.size());
+        assertEquals(5, operations.get(0).get(MAX_POOL_SIZE).asInt());
+        assertEquals(60000L, operations.get(0).get(CACHE_TTL).asLong());
+    }
+
+    @Test
+    public void testPoolAttributesInOlderNamespaces() throws Exception {
+        for (Namespace namespace : new Namespace[] { Namespace.DOMAIN_1_1, Namespace.DOMAIN_1_2 }) {
+            try {
+                parse(namespace);
+                fail("Pool attributes should not be accepted in " + namespace.getUriString());
+            } catch (XMLStreamException expected) {
+            }
+        }
+    }
+
+    private static List<ModelNode> parse(final Namespace namespace) throws XMLStreamException {
+        final String xml = "<?xml version='1.0' encoding='UTF-8'?>" +
+                "<management xmlns=\"" + namespace.getUriString() + "\">" +
+                "    <outbound-connections>" +
+                "        <ldap name=\"ldap\" url=\"ldap://localhost:389\" search-dn=\"uid=admin\" search-credential=\"secret\"" +
+                "              max-pool-size=\"5\" cache-ttl=\"60000\"/>" +
+                "    </outbound-connections>" +
+                "</management>";
+        final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml));
+        final ManagementXml managementXml = new ManagementXml(null);
+        final List<ModelNode> operationList = new ArrayList<ModelNode>();
+        final XMLMapper mapper = XMLMapper.Factory.create();
+        mapper.registerRootElement(new QName(namespace.getUriString(), "management"), new XMLElementReader<List<ModelNode>>() {
+            @Override
+            public void readElement(XMLExtendedStreamReader reader, List<ModelNode> value) throws XMLStreamException {
+                managementXml.parseManagement(reader, new ModelNode().setEmptyList(), namespace, value, false, false);
+            }
+        });
+        mapper.parseDocument(operationList, reader);
+        return operationList;
+    }
+}
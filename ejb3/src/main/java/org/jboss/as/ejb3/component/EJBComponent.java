@@ -23,8 +23,11 @@ package org.jboss.as.ejb3.component;
 
 import java.lang.reflect.Method;
 import java.security.Principal;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.ejb.EJBHome;
 import javax.ejb.EJBLocalHome;
@@ -71,8 +74,14 @@ public abstract class EJBComponent extends BasicComponent {
 
     private static final ApplicationExceptionDetails APPLICATION_EXCEPTION = new ApplicationExceptionDetails("java.lang.Exception", true, false);
 
+    private static final int METHOD_INTF_COUNT = MethodIntf.values().length;
+
     private final Map<MethodTransactionAttributeKey, TransactionAttributeType> txAttrs;
     private final Map<MethodTransactionAttributeKey, Integer> txTimeouts;
+    /**
+     * Resolved transaction metadata of each invoked method, indexed by {@link MethodIntf} ordinal
+     */
+    private final ConcurrentMap<Method, TransactionMetaData[]> txMetaData = new ConcurrentHashMap<Method, TransactionMetaData[]>();
 
     private final EJBUtilities utilities;
     private final boolean isBeanManagedTransaction;
@@ -119,6 +128,12 @@ public abstract class EJBComponent extends BasicComponent {
             this.txTimeouts = txTimeouts;
         }
         isBeanManagedTransaction = TransactionManagementType.BEAN.equals(ejbComponentCreateService.getTransactionManagementType());
+        // resolve the transaction metadata of the view methods up front, so invocations don't have to
+        for (final Map.Entry<MethodIntf, Collection<Method>> entry : ejbComponentCreateService.getViewMethods().entrySet()) {
+            for (final Method method : entry.getValue()) {
+                this.getTransactionMetaData(entry.getKey(), method);
+            }
+        }
 
         // security metadata
         this.securityMetaData = ejbComponentCreateService.getSecurityMetaData();
@@ -291,14 +306,7 @@ public abstract class EJBComponent extends BasicComponent {
     }
 
     public TransactionAttributeType getTransactionAttributeType(final MethodIntf methodIntf, final Method method) {
-        TransactionAttributeType txAttr = txAttrs.get(new MethodTransactionAttributeKey(methodIntf, MethodIdentifier.getIdentifierForMethod(method)));
-        //fall back to type bean if not found
-        if (txAttr == null && methodIntf != MethodIntf.BEAN) {
-            txAttr = txAttrs.get(new MethodTransactionAttributeKey(MethodIntf.BEAN, MethodIdentifier.getIdentifierForMethod(method)));
-        }
-        if (txAttr == null)
-            return TransactionAttributeType.REQUIRED;
-        return txAttr;
+        return getTransactionMetaData(methodIntf, method).attribute;
     }
 
     public TransactionManager getTransactionManager() {
@@ -310,14 +318,40 @@ public abstract class EJBComponent extends BasicComponent {
     }
 
     public int getTransactionTimeout(final MethodIntf methodIntf, final Method method) {
-        Integer txTimeout = txTimeouts.get(new MethodTransactionAttributeKey(methodIntf, MethodIdentifier.getIdentifierForMethod(method)));
-        if(txTimeout == null && methodIntf != MethodIntf.BEAN) {
-            txTimeout = txTimeouts.get(new MethodTransactionAttributeKey(MethodIntf.BEAN, MethodIdentifier.getIdentifierForMethod(method)));
+        return getTransactionMetaData(methodIntf, method).timeout;
+    }
+
+    private TransactionMetaData getTransactionMetaData(final MethodIntf methodIntf, final Method method) {
+        TransactionMetaData[] metaData = txMetaData.get(method);
+        if (metaData == null) {
+            metaData = new TransactionMetaData[METHOD_INTF_COUNT];
+            final TransactionMetaData[] existing = txMetaData.putIfAbsent(method, metaData);
+            if (existing != null) {
+                metaData = existing;
+            }
+        }
+        TransactionMetaData result = metaData[methodIntf.ordinal()];
+        if (result == null) {
+            // racing threads resolve the same immutable value, so there is no need to synchronize
+            result = resolveTransactionMetaData(methodIntf, MethodIdentifier.getIdentifierForMethod(method));
+            metaData[methodIntf.ordinal()] = result;
         }
-        if (txTimeout == null)
-            return -1;
+        return result;
+    }
 
-        return txTimeout;
+    private TransactionMetaData resolveTransactionMetaData(final MethodIntf methodIntf, final MethodIdentifier identifier) {
+        final MethodTransactionAttributeKey key = new MethodTransactionAttributeKey(methodIntf, identifier);
+        final MethodTransactionAttributeKey beanKey = (methodIntf != MethodIntf.BEAN) ? new MethodTransactionAttributeKey(MethodIntf.BEAN, identifier) : null;
+        TransactionAttributeType txAttr = txAttrs.get(key);
+        //fall back to type bean if not found
+        if (txAttr == null && beanKey != null) {
+            txAttr = txAttrs.get(beanKey);
+        }
+        Integer txTimeout = txTimeouts.get(key);
+        if (txTimeout == null && beanKey != null) {
+            txTimeout = txTimeouts.get(beanKey);
+        }
+        return new TransactionMetaData(txAttr == null ? TransactionAttributeType.REQUIRED : txAttr, txTimeout == null ? -1 : txTimeout);
     }
 
     public UserTransaction getUserTransaction() throws IllegalStateException {
@@ -455,4 +489,17 @@ public abstract class EJBComponent extends BasicComponent {
     public AllowedMethodsInformation getAllowedMethodsInformation() {
         return AllowedMethodsInformation.INSTANCE;
     }
+
+    /**
+     * The transaction attribute and timeout that apply to a method invoked through a particular view type.
+     */
+    private static final class TransactionMetaData {
+        final TransactionAttributeType attribute;
+        final int timeout;
+
+        TransactionMetaData(final TransactionAttributeType attribute, final int timeout) {
+            this.attribute = attribute;
+            this.timeout = timeout;
+        }
+    }
 }
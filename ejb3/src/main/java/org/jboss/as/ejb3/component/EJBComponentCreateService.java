@@ -24,7 +24,10 @@ package org.jboss.as.ejb3.component;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -59,6 +62,8 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
 
     private final Map<MethodTransactionAttributeKey, Integer> txTimeouts;
 
+    private final Map<MethodIntf, Collection<Method>> viewMethods = new EnumMap<MethodIntf, Collection<Method>>(MethodIntf.class);
+
     private final TransactionManagementType transactionManagementType;
 
     private final ApplicationExceptions applicationExceptions;
@@ -139,6 +144,14 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
                         } else {
                             this.processTxAttr(ejbComponentDescription, viewType, method);
                         }
+                        if (txAttrs != null) {
+                            Collection<Method> methods = this.viewMethods.get(viewType);
+                            if (methods == null) {
+                                methods = new ArrayList<Method>();
+                                this.viewMethods.put(viewType, methods);
+                            }
+                            methods.add(method);
+                        }
                     }
                 }
         }
@@ -195,6 +208,13 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
         return txTimeouts;
     }
 
+    /**
+     * Returns the public methods of the container managed transaction views of this component, by view type.
+     */
+    Map<MethodIntf, Collection<Method>> getViewMethods() {
+        return viewMethods;
+    }
+
     TransactionManagementType getTransactionManagementType() {
         return transactionManagementType;
     }
@@ -21,16 +21,20 @@
  */
 package org.jboss.as.ejb3.component.session;
 
-
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.ejb.EJBLocalObject;
 import javax.ejb.EJBObject;
 import javax.ejb.TransactionAttributeType;
 
+import org.jboss.as.ejb3.component.EJBBusinessMethod;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.concurrency.AccessTimeoutDetails;
 import org.jboss.invocation.InterceptorContext;
@@ -42,7 +46,13 @@ import static org.jboss.as.ejb3.EjbMessages.MESSAGES;
  */
 public abstract class SessionBeanComponent extends EJBComponent {
 
+    /**
+     * Marks methods without an explicit access timeout in {@link #explicitAccessTimeouts}
+     */
+    private static final AccessTimeoutDetails NO_ACCESS_TIMEOUT = new AccessTimeoutDetails(-1, TimeUnit.MILLISECONDS);
+
     protected final Map<String, AccessTimeoutDetails> beanLevelAccessTimeout;
+    private final ConcurrentMap<Method, AccessTimeoutDetails> explicitAccessTimeouts = new ConcurrentHashMap<Method, AccessTimeoutDetails>();
     private final ExecutorService asyncExecutor;
 
     /**
@@ -82,6 +92,30 @@ public abstract class SessionBeanComponent extends EJBComponent {
         return createViewInstanceProxy(EJBObject.class, Collections.<Object, Object>emptyMap(), getEjbObjectViewServiceName());
     }
 
+    /**
+     * Returns the access timeout specified for the given method, or for its declaring class, resolving it only on the
+     * first invocation of the method.
+     *
+     * @param method the invoked method
+     * @param methodAccessTimeouts the method level access timeouts of this component
+     * @return the explicit access timeout, or null if the default access timeout applies
+     */
+    protected AccessTimeoutDetails getExplicitAccessTimeout(final Method method, final Map<EJBBusinessMethod, AccessTimeoutDetails> methodAccessTimeouts) {
+        AccessTimeoutDetails accessTimeout = this.explicitAccessTimeouts.get(method);
+        if (accessTimeout == null) {
+            accessTimeout = methodAccessTimeouts.get(new EJBBusinessMethod(method));
+            if (accessTimeout == null) {
+                // check bean level access timeout
+                accessTimeout = this.beanLevelAccessTimeout.get(method.getDeclaringClass().getName());
+            }
+            if (accessTimeout == null) {
+                accessTimeout = NO_ACCESS_TIMEOUT;
+            }
+            this.explicitAccessTimeouts.put(method, accessTimeout);
+        }
+        return (accessTimeout != NO_ACCESS_TIMEOUT) ? accessTimeout : null;
+    }
+
     /**
      * Return the {@link Executor} used for asynchronous invocations.
      *
@@ -25,6 +25,8 @@ package org.jboss.as.ejb3.component.singleton;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.ejb.LockType;
@@ -62,6 +64,8 @@ public class SingletonComponent extends SessionBeanComponent implements Lockable
 
     private final Map<EJBBusinessMethod, LockType> methodLockTypes;
 
+    private final ConcurrentMap<Method, LockType> lockTypes = new ConcurrentHashMap<Method, LockType>();
+
     private final Map<EJBBusinessMethod, AccessTimeoutDetails> methodAccessTimeouts;
 
     private final List<ServiceName> dependsOn;
@@ -139,6 +143,15 @@ public class SingletonComponent extends SessionBeanComponent implements Lockable
 
     @Override
     public LockType getLockType(Method method) {
+        LockType lockType = this.lockTypes.get(method);
+        if (lockType == null) {
+            lockType = this.resolveLockType(method);
+            this.lockTypes.put(method, lockType);
+        }
+        return lockType;
+    }
+
+    private LockType resolveLockType(Method method) {
         final EJBBusinessMethod ejbMethod = new EJBBusinessMethod(method);
         final LockType lockType = this.methodLockTypes.get(ejbMethod);
         if (lockType != null) {
@@ -155,16 +168,10 @@ public class SingletonComponent extends SessionBeanComponent implements Lockable
 
     @Override
     public AccessTimeoutDetails getAccessTimeout(Method method) {
-        final EJBBusinessMethod ejbMethod = new EJBBusinessMethod(method);
-        final AccessTimeoutDetails accessTimeout = this.methodAccessTimeouts.get(ejbMethod);
+        final AccessTimeoutDetails accessTimeout = this.getExplicitAccessTimeout(method, this.methodAccessTimeouts);
         if (accessTimeout != null) {
             return accessTimeout;
         }
-        // check bean level access timeout
-        final AccessTimeoutDetails beanTimeout = this.beanLevelAccessTimeout.get(method.getDeclaringClass().getName());
-        if (beanTimeout != null) {
-            return beanTimeout;
-        }
         return getDefaultAccessTimeout();
     }
 
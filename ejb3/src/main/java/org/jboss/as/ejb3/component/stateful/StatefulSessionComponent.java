@@ -199,17 +199,10 @@ public class StatefulSessionComponent extends SessionBeanComponent implements St
      * Returns the {@link AccessTimeout} applicable to given method
      */
     public AccessTimeoutDetails getAccessTimeout(Method method) {
-        final EJBBusinessMethod ejbMethod = new EJBBusinessMethod(method);
-        final AccessTimeoutDetails accessTimeout = this.methodAccessTimeouts.get(ejbMethod);
+        final AccessTimeoutDetails accessTimeout = this.getExplicitAccessTimeout(method, this.methodAccessTimeouts);
         if (accessTimeout != null) {
             return accessTimeout;
         }
-        // check bean level access timeout
-        final AccessTimeoutDetails timeout = this.beanLevelAccessTimeout.get(method.getDeclaringClass().getName());
-        if (timeout != null) {
-            return timeout;
-        }
-
         return defaultAccessTimeoutProvider.getDefaultAccessTimeout();
     }
 
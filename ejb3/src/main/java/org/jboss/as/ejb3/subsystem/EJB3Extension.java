@@ -45,6 +45,7 @@ import org.jboss.as.ejb3.subsystem.deployment.StatelessSessionBeanDeploymentReso
 import org.jboss.as.threads.ThreadFactoryResolver;
 import org.jboss.as.threads.ThreadsServices;
 import org.jboss.as.threads.UnboundedQueueThreadPoolResourceDefinition;
+import org.jboss.as.threads.WorkStealingThreadPoolResourceDefinition;
 
 /**
  * Extension that provides the EJB3 subsystem.
@@ -58,6 +59,7 @@ public class EJB3Extension implements Extension {
     public static final String NAMESPACE_1_0 = "urn:jboss:domain:ejb3:1.0";
     public static final String NAMESPACE_1_1 = "urn:jboss:domain:ejb3:1.1";
     public static final String NAMESPACE_1_2 = "urn:jboss:domain:ejb3:1.2";
+    public static final String NAMESPACE_1_3 = "urn:jboss:domain:ejb3:1.3";
 
     private static final String RESOURCE_NAME = EJB3Extension.class.getPackage().getName() + ".LocalDescriptions";
 
@@ -102,6 +104,10 @@ public class EJB3Extension implements Extension {
         subsystemRegistration.registerSubModel(UnboundedQueueThreadPoolResourceDefinition.create(EJB3SubsystemModel.THREAD_POOL,
                 new EJB3ThreadFactoryResolver(), EJB3SubsystemModel.BASE_THREAD_POOL_SERVICE_NAME, registerRuntimeOnly));
 
+        // subsystem=ejb3/work-stealing-thread-pool=*
+        subsystemRegistration.registerSubModel(WorkStealingThreadPoolResourceDefinition.create(EJB3SubsystemModel.WORK_STEALING_THREAD_POOL,
+                new EJB3ThreadFactoryResolver(), EJB3SubsystemModel.BASE_THREAD_POOL_SERVICE_NAME, registerRuntimeOnly));
+
         // subsystem=ejb3/service=iiop
         subsystemRegistration.registerSubModel(EJB3IIOPResourceDefinition.INSTANCE);
 
@@ -125,6 +131,7 @@ public class EJB3Extension implements Extension {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, NAMESPACE_1_0, EJB3Subsystem10Parser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, NAMESPACE_1_1, EJB3Subsystem11Parser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, NAMESPACE_1_2, EJB3Subsystem12Parser.INSTANCE);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, NAMESPACE_1_3, EJB3Subsystem12Parser.INSTANCE);
     }
 
     private static class EJB3ThreadFactoryResolver extends ThreadFactoryResolver.SimpleResolver {
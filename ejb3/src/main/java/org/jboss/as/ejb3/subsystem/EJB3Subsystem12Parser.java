@@ -65,7 +65,7 @@ public class EJB3Subsystem12Parser implements XMLElementReader<List<ModelNode>>,
     @Override
     public void writeContent(final XMLExtendedStreamWriter writer, final SubsystemMarshallingContext context) throws XMLStreamException {
 
-        context.startSubsystemElement(EJB3Extension.NAMESPACE_1_2, false);
+        context.startSubsystemElement(EJB3Extension.NAMESPACE_1_3, false);
 
         ModelNode model = context.getModelNode();
 
@@ -189,12 +189,16 @@ public class EJB3Subsystem12Parser implements XMLElementReader<List<ModelNode>>,
         }
 
         // thread-pools
-        if (model.hasDefined(THREAD_POOL)) {
-            // <timer-service>
+        if (model.hasDefined(THREAD_POOL) || model.hasDefined(WORK_STEALING_THREAD_POOL)) {
+            // <thread-pools>
             writer.writeStartElement(EJB3SubsystemXMLElement.THREAD_POOLS.getLocalName());
-            final ModelNode threadsModel = model.get(THREAD_POOL);
-            this.writeThreadPools(writer, threadsModel);
-            // </timer-service>
+            if (model.hasDefined(THREAD_POOL)) {
+                this.writeThreadPools(writer, model.get(THREAD_POOL));
+            }
+            if (model.hasDefined(WORK_STEALING_THREAD_POOL)) {
+                this.writeWorkStealingThreadPools(writer, model.get(WORK_STEALING_THREAD_POOL));
+            }
+            // </thread-pools>
             writer.writeEndElement();
         }
 
@@ -228,6 +232,12 @@ public class EJB3Subsystem12Parser implements XMLElementReader<List<ModelNode>>,
         }
     }
 
+    private void writeWorkStealingThreadPools(final XMLExtendedStreamWriter writer, final ModelNode threadPoolsModel) throws XMLStreamException {
+        for (Property threadPool : threadPoolsModel.asPropertyList()) {
+            ThreadsParser.getInstance().writeWorkStealingThreadPool(writer, threadPool.getValue(), EJB3SubsystemXMLElement.WORK_STEALING_THREAD_POOL.getLocalName(), true);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -245,7 +255,8 @@ public class EJB3Subsystem12Parser implements XMLElementReader<List<ModelNode>>,
         final EnumSet<EJB3SubsystemXMLElement> encountered = EnumSet.noneOf(EJB3SubsystemXMLElement.class);
         while (reader.hasNext() && reader.nextTag() != XMLStreamConstants.END_ELEMENT) {
             switch (EJB3SubsystemNamespace.forUri(reader.getNamespaceURI())) {
-                case EJB3_1_2: {
+                case EJB3_1_2:
+                case EJB3_1_3: {
                     final EJB3SubsystemXMLElement element = EJB3SubsystemXMLElement.forName(reader.getLocalName());
                     if (!encountered.add(element)) {
                         throw unexpectedElement(reader);
@@ -1104,6 +1115,14 @@ public class EJB3Subsystem12Parser implements XMLElementReader<List<ModelNode>>,
                             Namespace.THREADS_1_1, parentAddress, operations, THREAD_POOL, null);
                     break;
                 }
+                case WORK_STEALING_THREAD_POOL: {
+                    if (readerNS.compareTo(EJB3SubsystemNamespace.EJB3_1_3) < 0) {
+                        throw unexpectedElement(reader);
+                    }
+                    ThreadsParser.getInstance().parseWorkStealingThreadPool(reader, readerNS.getUriString(),
+                            Namespace.THREADS_1_2, parentAddress, operations, WORK_STEALING_THREAD_POOL, null);
+                    break;
+                }
                 default: {
                     throw unexpectedElement(reader);
                 }
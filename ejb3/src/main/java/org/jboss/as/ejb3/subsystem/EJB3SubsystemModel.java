@@ -67,6 +67,7 @@ public interface EJB3SubsystemModel {
     String TIMER_SERVICE = "timer-service";
     String THREAD_POOL = "thread-pool";
     String THREAD_POOL_NAME = "thread-pool-name";
+    String WORK_STEALING_THREAD_POOL = "work-stealing-thread-pool";
     String DEFAULT = "default";
 
     String USE_QUALIFIED_NAME = "use-qualified-name";
@@ -37,6 +37,7 @@ public enum EJB3SubsystemNamespace {
     EJB3_1_0("urn:jboss:domain:ejb3:1.0"),
     EJB3_1_1("urn:jboss:domain:ejb3:1.1"),
     EJB3_1_2("urn:jboss:domain:ejb3:1.2"),
+    EJB3_1_3("urn:jboss:domain:ejb3:1.3"),
     ;
 
 
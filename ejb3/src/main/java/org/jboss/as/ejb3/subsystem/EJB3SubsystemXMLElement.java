@@ -73,6 +73,8 @@ public enum EJB3SubsystemXMLElement {
     THREAD_POOLS("thread-pools"),
     TIMER_SERVICE("timer-service"),
 
+    WORK_STEALING_THREAD_POOL("work-stealing-thread-pool"),
+
     ;
 
     private final String name;
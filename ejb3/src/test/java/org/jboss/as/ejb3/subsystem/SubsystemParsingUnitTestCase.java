@@ -40,8 +40,17 @@ public class SubsystemParsingUnitTestCase extends AbstractSubsystemTest {
 
     @Test
     public void testParseAndMarshalModel() throws Exception {
+        parseAndMarshalModel("subsystem.xml");
+    }
+
+    @Test
+    public void testParseAndMarshalModel13() throws Exception {
+        parseAndMarshalModel("subsystem-1.3.xml");
+    }
+
+    private void parseAndMarshalModel(String resource) throws Exception {
         //Parse the subsystem xml and install into the first controller
-        String subsystemXml = readResource("subsystem.xml");
+        String subsystemXml = readResource(resource);
 
         AdditionalInitialization additionalInit = AdditionalInitialization.MANAGEMENT;
 
@@ -118,19 +118,25 @@ public class ApplyRemoteMasterDomainModelHandler implements OperationStepHandler
         final ModelNode startRoot = Resource.Tools.readModel(context.readResourceFromRoot(PathAddress.EMPTY_ADDRESS));
 
         final Set<String> ourServerGroups = getOurServerGroups(context);
-        final Map<String, Set<byte[]>> deploymentHashes = new HashMap<String, Set<byte[]>>();
-        final Set<String> relevantDeployments = new HashSet<String>();
-        final Set<byte[]> requiredContent = new HashSet<byte[]>();
+        // A delta only contains the resources changed since the model we last applied
+        final boolean delta = operation.hasDefined(ReadMasterDomainModelHandler.DOMAIN_MODEL_DELTA)
+                && operation.get(ReadMasterDomainModelHandler.DOMAIN_MODEL_DELTA).asBoolean();
 
         final Resource rootResource = context.readResourceForUpdate(PathAddress.EMPTY_ADDRESS);
-        clearDomain(rootResource);
+        if (!delta) {
+            clearDomain(rootResource);
+        }
 
         for (final ModelNode resourceDescription : domainModel.asList()) {
 
-            final PathAddress resourceAddress = PathAddress.pathAddress(resourceDescription.require("domain-resource-address"));
+            final PathAddress resourceAddress = PathAddress.pathAddress(resourceDescription.require(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_ADDRESS));
             if (ignoredResourceRegistry.isResourceExcluded(resourceAddress)) {
                 continue;
             }
+            if (resourceDescription.hasDefined(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_REMOVED)) {
+                removeResource(resourceAddress, rootResource);
+                continue;
+            }
 
             final Resource resource = getResource(resourceAddress, rootResource, context);
             if (resourceAddress.size() == 1 && resourceAddress.getElement(0).getKey().equals(EXTENSION)) {
@@ -140,50 +146,12 @@ public class ApplyRemoteMasterDomainModelHandler implements OperationStepHandler
                     initializeExtension(module);
                 }
             }
-            resource.writeModel(resourceDescription.get("domain-resource-model"));
-
-            // Track deployment and management content hashes and server group deployments so we can pull over the content we need
-            if (resourceAddress.size() == 1) {
-                PathElement pe = resourceAddress.getElement(0);
-                String peKey = pe.getKey();
-                if (peKey.equals(DEPLOYMENT)) {
-                    ModelNode model = resource.getModel();
-                    String id = resourceAddress.getElement(0).getValue();
-                    if (model.hasDefined(CONTENT)) {
-                        for (ModelNode contentItem : model.get(CONTENT).asList()) {
-                            if (contentItem.hasDefined(HASH)) {
-                                Set<byte[]> hashes = deploymentHashes.get(id);
-                                if (hashes == null) {
-                                    hashes = new HashSet<byte[]>();
-                                    deploymentHashes.put(id, hashes);
-                                }
-                                hashes.add(contentItem.get(HASH).asBytes());
-                            }
-                        }
-                    }
-                } else if (peKey.equals(MANAGEMENT_CLIENT_CONTENT)) {
-                    // We need to pull over management content from the master HC's repo
-                    ModelNode model = resource.getModel();
-                    if (model.hasDefined(HASH)) {
-                        requiredContent.add(model.get(HASH).asBytes());
-                    }
-                }
-
-            } else if (resourceAddress.size() == 2
-                    && resourceAddress.getElement(0).getKey().equals(SERVER_GROUP)
-                    && ourServerGroups.contains(resourceAddress.getElement(0).getValue())
-                    && resourceAddress.getElement(1).getKey().equals(DEPLOYMENT)) {
-                relevantDeployments.add(resourceAddress.getElement(1).getValue());
-            }
+            resource.writeModel(resourceDescription.get(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_MODEL));
         }
 
-        // Make sure we have all needed deployment and management client content
-        for (String id : relevantDeployments) {
-            Set<byte[]> hashes = deploymentHashes.remove(id);
-            if (hashes != null) {
-                requiredContent.addAll(hashes);
-            }
-        }
+        // Make sure we have all needed deployment and management client content. This is based on the resulting
+        // model rather than the applied resources, since a delta may make content relevant which did not change itself
+        final Set<byte[]> requiredContent = getRequiredContent(rootResource, ourServerGroups);
         for (byte[] hash : requiredContent) {
             fileRepository.getDeploymentFiles(hash);
         }
@@ -387,6 +355,50 @@ public class ApplyRemoteMasterDomainModelHandler implements OperationStepHandler
         }
     }
 
+    private Set<byte[]> getRequiredContent(final Resource rootResource, final Set<String> ourServerGroups) {
+        final Set<byte[]> requiredContent = new HashSet<byte[]>();
+        // Track deployment and management content hashes and server group deployments so we can pull over the content we need
+        for (final String group : ourServerGroups) {
+            final Resource serverGroup = rootResource.getChild(PathElement.pathElement(SERVER_GROUP, group));
+            if (serverGroup == null) {
+                continue;
+            }
+            for (final String id : serverGroup.getChildrenNames(DEPLOYMENT)) {
+                final Resource deployment = rootResource.getChild(PathElement.pathElement(DEPLOYMENT, id));
+                if (deployment == null) {
+                    continue;
+                }
+                final ModelNode model = deployment.getModel();
+                if (model.hasDefined(CONTENT)) {
+                    for (ModelNode contentItem : model.get(CONTENT).asList()) {
+                        if (contentItem.hasDefined(HASH)) {
+                            requiredContent.add(contentItem.get(HASH).asBytes());
+                        }
+                    }
+                }
+            }
+        }
+        // We need to pull over management content from the master HC's repo
+        for (final Resource.ResourceEntry entry : rootResource.getChildren(MANAGEMENT_CLIENT_CONTENT)) {
+            final ModelNode model = entry.getModel();
+            if (model.hasDefined(HASH)) {
+                requiredContent.add(model.get(HASH).asBytes());
+            }
+        }
+        return requiredContent;
+    }
+
+    private void removeResource(final PathAddress resourceAddress, final Resource rootResource) {
+        Resource parent = rootResource;
+        for (int i = 0; i < resourceAddress.size() - 1 && parent != null; i++) {
+            parent = parent.getChild(resourceAddress.getElement(i));
+        }
+        // The resource may already be gone along with a removed parent
+        if (parent != null && resourceAddress.size() > 0) {
+            parent.removeChild(resourceAddress.getLastElement());
+        }
+    }
+
     private Resource getResource(PathAddress resourceAddress, Resource rootResource, OperationContext context) {
         if(resourceAddress.size() == 0) {
             return rootResource;
@@ -0,0 +1,148 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.controller.operations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Versioned log of the changes made to the master domain model, as seen by {@link ReadMasterDomainModelHandler}.
+ * Each time the domain model description is recorded and differs from the previous one, a new version is created
+ * along with the addresses of the resources which were added, changed or removed. A slave which knows the version
+ * it last applied can then be sent only the resources which changed since. Versions are qualified by a random
+ * generation id, so that versions handed out by a previous master process are never mistaken for current ones.
+ */
+class DomainModelChangeLog {
+
+    static final int DEFAULT_MAX_VERSIONS = 64;
+
+    private final String generation = UUID.randomUUID().toString();
+    private final int maxVersions;
+    // The changes leading to each of the retained versions, oldest first
+    private final LinkedList<Set<PathAddress>> changes = new LinkedList<Set<PathAddress>>();
+    private Map<PathAddress, ModelNode> snapshot = Collections.emptyMap();
+    private long version = 0;
+
+    DomainModelChangeLog() {
+        this(DEFAULT_MAX_VERSIONS);
+    }
+
+    DomainModelChangeLog(final int maxVersions) {
+        this.maxVersions = maxVersions;
+    }
+
+    /**
+     * Record the current description of the domain model, creating a new version if it changed.
+     *
+     * @param description the resource descriptions, as created by {@link ReadMasterDomainModelHandler#describeAsNodeList}
+     * @return the version of the recorded description
+     */
+    synchronized String update(final List<ModelNode> description) {
+        final Map<PathAddress, ModelNode> current = new LinkedHashMap<PathAddress, ModelNode>();
+        final Set<PathAddress> changed = new HashSet<PathAddress>();
+        for (final ModelNode resourceDescription : description) {
+            final PathAddress address = PathAddress.pathAddress(resourceDescription.get(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_ADDRESS));
+            current.put(address, resourceDescription);
+            if (!resourceDescription.equals(snapshot.get(address))) {
+                changed.add(address);
+            }
+        }
+        for (final PathAddress address : snapshot.keySet()) {
+            if (!current.containsKey(address)) {
+                changed.add(address);
+            }
+        }
+        snapshot = current;
+        if (!changed.isEmpty() || version == 0) {
+            version++;
+            changes.addLast(changed);
+            if (changes.size() > maxVersions) {
+                changes.removeFirst();
+            }
+        }
+        return getVersion();
+    }
+
+    /**
+     * Get the resources which changed since the given version. Removed resources are described by their address only,
+     * flagged with {@link ReadMasterDomainModelHandler#DOMAIN_RESOURCE_REMOVED}.
+     *
+     * @param knownVersion the version last applied by the caller
+     * @return the changed resource descriptions, or {@code null} if the version is unknown, or too old to be
+     *         worth a delta, and the complete domain model needs to be sent
+     */
+    synchronized List<ModelNode> getChangesSince(final String knownVersion) {
+        final int index = knownVersion.lastIndexOf(':');
+        if (index < 0 || !generation.equals(knownVersion.substring(0, index))) {
+            return null;
+        }
+        final long known;
+        try {
+            known = Long.parseLong(knownVersion.substring(index + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        final long missed = version - known;
+        if (known <= 0 || missed < 0 || missed > changes.size()) {
+            // The changes leading away from the known version are no longer retained
+            return null;
+        }
+        final Set<PathAddress> changed = new HashSet<PathAddress>();
+        final Iterator<Set<PathAddress>> iterator = changes.descendingIterator();
+        for (long i = 0; i < missed; i++) {
+            changed.addAll(iterator.next());
+        }
+        if (changed.size() >= snapshot.size()) {
+            return null;
+        }
+        final List<ModelNode> result = new ArrayList<ModelNode>(changed.size());
+        // Keep the description order, so parents get created before their children
+        for (final Map.Entry<PathAddress, ModelNode> entry : snapshot.entrySet()) {
+            if (changed.remove(entry.getKey())) {
+                result.add(entry.getValue());
+            }
+        }
+        for (final PathAddress address : changed) {
+            final ModelNode removed = new ModelNode();
+            removed.get(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_ADDRESS).set(address.toModelNode());
+            removed.get(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_REMOVED).set(true);
+            result.add(removed);
+        }
+        return result;
+    }
+
+    synchronized String getVersion() {
+        return generation + ":" + version;
+    }
+}
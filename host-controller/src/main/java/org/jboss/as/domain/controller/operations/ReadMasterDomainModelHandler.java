@@ -38,6 +38,10 @@ import org.jboss.dmr.ModelNode;
 /**
  * Step handler responsible for collecting a complete description of the domain model,
  * which is going to be sent back to a remote host-controller.
+ * <p>
+ * If the operation includes the {@link #DOMAIN_MODEL_VERSION} last applied by the remote host-controller, the
+ * result includes the current version and, if the master still knows the changes made since, only the resources
+ * which changed.
  *
  * @author John Bailey
  */
@@ -46,11 +50,30 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler, Descr
     public static final String OPERATION_NAME = "read-master-domain-model";
     public static final ReadMasterDomainModelHandler INSTANCE = new ReadMasterDomainModelHandler();
 
+    public static final String DOMAIN_MODEL_VERSION = "domain-model-version";
+    public static final String DOMAIN_MODEL_DELTA = "domain-model-delta";
+    public static final String DOMAIN_RESOURCE_ADDRESS = "domain-resource-address";
+    public static final String DOMAIN_RESOURCE_MODEL = "domain-resource-model";
+    public static final String DOMAIN_RESOURCE_REMOVED = "domain-resource-removed";
+
+    private final DomainModelChangeLog changeLog = new DomainModelChangeLog();
+
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
         // Lock the model here
         final Resource root = context.readResourceForUpdate(PathAddress.EMPTY_ADDRESS);
         // Get the list of all resources registered in this model
-        context.getResult().set(describeAsNodeList(root));
+        final List<ModelNode> description = describeAsNodeList(root);
+        final String version = changeLog.update(description);
+        if (operation.hasDefined(DOMAIN_MODEL_VERSION)) {
+            // Only send what changed since the version the host-controller last applied, if we still know
+            final List<ModelNode> changes = changeLog.getChangesSince(operation.get(DOMAIN_MODEL_VERSION).asString());
+            final ModelNode result = context.getResult();
+            result.get(DOMAIN_MODEL_VERSION).set(version);
+            result.get(DOMAIN_MODEL_DELTA).set(changes != null);
+            result.get(ModelDescriptionConstants.DOMAIN_MODEL).set(changes != null ? changes : description);
+        } else {
+            context.getResult().set(description);
+        }
         // The HC registration process will hijack the operationPrepared call and push
         // the model to a registering host-controller
         context.completeStep();
@@ -78,8 +101,8 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler, Descr
             return; // ignore hosts
         }
         final ModelNode description = new ModelNode();
-        description.get("domain-resource-address").set(base.toModelNode());
-        description.get("domain-resource-model").set(resource.getModel());
+        description.get(DOMAIN_RESOURCE_ADDRESS).set(base.toModelNode());
+        description.get(DOMAIN_RESOURCE_MODEL).set(resource.getModel());
         nodes.add(description);
         for(final String childType : resource.getChildTypes()) {
             for(final Resource.ResourceEntry entry : resource.getChildren(childType)) {
@@ -85,7 +85,7 @@ public class HostControllerConfigurationPersister implements ExtensibleConfigura
             }
         } else {
             final ConfigurationFile configurationFile = environment.getDomainConfigurationFile();
-            domainPersister = ConfigurationPersisterFactory.createDomainXmlConfigurationPersister(configurationFile, executorService, extensionRegistry);
+            domainPersister = ConfigurationPersisterFactory.createDomainXmlConfigurationPersister(configurationFile, environment.getDomainDataDir(), executorService, extensionRegistry);
         }
         this.slave = Boolean.valueOf(slave);
     }
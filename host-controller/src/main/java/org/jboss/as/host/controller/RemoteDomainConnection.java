@@ -24,6 +24,7 @@ package org.jboss.as.host.controller;
 
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
+import org.jboss.as.domain.controller.operations.ReadMasterDomainModelHandler;
 import org.jboss.as.domain.management.CallbackHandlerFactory;
 import org.jboss.as.domain.management.SecurityRealm;
 import org.jboss.as.host.controller.mgmt.DomainControllerProtocol;
@@ -38,6 +39,7 @@ import org.jboss.as.protocol.mgmt.ManagementClientChannelStrategy;
 import org.jboss.as.protocol.mgmt.ManagementRequestContext;
 import org.jboss.as.remoting.management.ManagementRemotingServices;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.remoting3.Channel;
 import org.jboss.remoting3.CloseHandler;
 import org.jboss.remoting3.Connection;
@@ -78,6 +80,8 @@ class RemoteDomainConnection extends ManagementClientChannelStrategy {
     private volatile Connection connection;
     private volatile Channel channel;
     private volatile int reconnectionCount;
+    // The version of the domain model last applied, or an empty string if it needs to be sent in full
+    private volatile String domainModelVersion = "";
 
     RemoteDomainConnection(final String localHostName, final ModelNode localHostInfo,
                            final ProtocolChannelClient.Configuration configuration, final SecurityRealm realm,
@@ -285,8 +289,20 @@ class RemoteDomainConnection extends ManagementClientChannelStrategy {
         if(! result.hasDefined(ModelDescriptionConstants.RESULT)) {
             return false;
         }
-        final List<ModelNode> bootOperations= result.get(ModelDescriptionConstants.RESULT).asList();
-        return callback.applyDomainModel(bootOperations);
+        final ModelNode domainModel = result.get(ModelDescriptionConstants.RESULT);
+        if(domainModel.getType() == ModelType.LIST) {
+            // The remote DC does not version its domain model
+            return callback.applyDomainModel(domainModel.asList(), false);
+        }
+        final boolean delta = domainModel.get(ReadMasterDomainModelHandler.DOMAIN_MODEL_DELTA).asBoolean();
+        final List<ModelNode> resources = domainModel.get(ModelDescriptionConstants.DOMAIN_MODEL).asList();
+        if(callback.applyDomainModel(resources, delta)) {
+            domainModelVersion = domainModel.get(ReadMasterDomainModelHandler.DOMAIN_MODEL_VERSION).asString();
+            return true;
+        }
+        // Ask for the complete model next time
+        domainModelVersion = "";
+        return false;
     }
 
     void registered() {
@@ -331,9 +347,10 @@ class RemoteDomainConnection extends ManagementClientChannelStrategy {
          * Apply the remote domain model.
          *
          * @param result the read-domain-model operation result
+         * @param delta {@code true} if the result only contains the resources changed since the last applied model
          * @return {@code true} if the model was applied successfully, {@code false} otherwise
          */
-        boolean applyDomainModel(List<ModelNode> result);
+        boolean applyDomainModel(List<ModelNode> result, boolean delta);
 
         /**
          * Event that the registration was completed.
@@ -358,7 +375,9 @@ class RemoteDomainConnection extends ManagementClientChannelStrategy {
         protected void sendRequest(final ActiveOperation.ResultHandler<RegistrationResult> resultHandler, final ManagementRequestContext<Void> context, final FlushableDataOutput output) throws IOException {
             output.write(DomainControllerProtocol.PARAM_HOST_ID);
             output.writeUTF(localHostName);
-            localHostInfo.writeExternal(output);
+            final ModelNode hostInfo = localHostInfo.clone();
+            hostInfo.get(ReadMasterDomainModelHandler.DOMAIN_MODEL_VERSION).set(domainModelVersion);
+            hostInfo.writeExternal(output);
         }
 
         @Override
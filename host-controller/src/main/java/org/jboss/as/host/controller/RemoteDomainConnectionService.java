@@ -62,6 +62,7 @@ import org.jboss.as.controller.remote.TransactionalModelControllerOperationHandl
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
 import org.jboss.as.domain.controller.operations.ApplyRemoteMasterDomainModelHandler;
+import org.jboss.as.domain.controller.operations.ReadMasterDomainModelHandler;
 import org.jboss.as.domain.management.SecurityRealm;
 import org.jboss.as.domain.management.security.SecurityRealmService;
 import org.jboss.as.host.controller.mgmt.DomainControllerProtocol;
@@ -271,9 +272,9 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
             connection = new RemoteDomainConnection(localHostInfo.getLocalHostName(), hostInfo, configuration, realm,
                                                     executor, new RemoteDomainConnection.HostRegistrationCallback() {
                 @Override
-                public boolean applyDomainModel(final List<ModelNode> bootOperations) {
+                public boolean applyDomainModel(final List<ModelNode> bootOperations, final boolean delta) {
                     // Apply the model..
-                    return applyRemoteDomainModel(bootOperations);
+                    return applyRemoteDomainModel(bootOperations, delta);
                 }
 
                 @Override
@@ -296,14 +297,18 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
      * Apply the remote domain model to the local host controller.
      *
      * @param bootOperations the result of the remote read-domain-model op
+     * @param delta {@code true} if only the resources changed since the last applied model were sent
      * @return {@code true} if the model was applied successfully, {@code false} otherwise
      */
-    private boolean applyRemoteDomainModel(final List<ModelNode> bootOperations) {
+    private boolean applyRemoteDomainModel(final List<ModelNode> bootOperations, final boolean delta) {
         final ModelNode result;
         try {
             // Create the apply-domain-model operation
             final ModelNode operation = APPLY_DOMAIN_MODEL.clone();
             operation.get(DOMAIN_MODEL).set(bootOperations);
+            if (delta) {
+                operation.get(ReadMasterDomainModelHandler.DOMAIN_MODEL_DELTA).set(true);
+            }
             // Execute the operation
             result = controller.execute(operation, OperationMessageHandler.logging, ModelController.OperationTransactionControl.COMMIT, OperationAttachments.EMPTY);
         } catch (Exception e) {
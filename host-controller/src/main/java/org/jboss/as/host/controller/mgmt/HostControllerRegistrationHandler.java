@@ -125,10 +125,18 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
                 @Override
                 public void execute(ManagementRequestContext<RegistrationContext> context) throws Exception {
                     final Channel channel = context.getChannel();
+                    final ModelNode operation;
+                    if (hostInfo.hasDefined(ReadMasterDomainModelHandler.DOMAIN_MODEL_VERSION)) {
+                        // The host-controller can apply the changes since the domain model version it last applied
+                        operation = READ_DOMAIN_MODEL.clone();
+                        operation.get(ReadMasterDomainModelHandler.DOMAIN_MODEL_VERSION).set(hostInfo.get(ReadMasterDomainModelHandler.DOMAIN_MODEL_VERSION));
+                    } else {
+                        operation = READ_DOMAIN_MODEL;
+                    }
                     final ModelNode result;
                     try {
                         // The domain model is going to be sent as part of the prepared notification
-                        result = controller.execute(READ_DOMAIN_MODEL, OperationMessageHandler.logging, registration, OperationAttachments.EMPTY);
+                        result = controller.execute(operation, OperationMessageHandler.logging, registration, OperationAttachments.EMPTY);
                     } catch (Exception e) {
                         registration.failed(SlaveRegistrationException.ErrorCode.UNKNOWN, e.getClass().getName() + ":" + e.getMessage());
                         return;
@@ -117,7 +117,8 @@ public class DomainXml extends CommonXml {
                 break;
             }
             case DOMAIN_1_1:
-            case DOMAIN_1_2: {
+            case DOMAIN_1_2:
+            case DOMAIN_1_3: {
                 readDomainElement1_1(reader, new ModelNode(), readerNS, nodes);
                 break;
             }
@@ -340,6 +341,7 @@ public class DomainXml extends CommonXml {
                             break;
                         case DOMAIN_1_1:
                         case DOMAIN_1_2:
+                        case DOMAIN_1_3:
                             // parse 1.1 socket binding group
                             this.parseSocketBindingGroup_1_1(reader, interfaces, address, expectedNs, list);
                             break;
@@ -623,7 +625,8 @@ public class DomainXml extends CommonXml {
                     }
                     case DOMAIN_1_0:
                     case DOMAIN_1_1:
-                    case DOMAIN_1_2: {
+                    case DOMAIN_1_2:
+                    case DOMAIN_1_3: {
                         requireNamespace(reader, expectedNs);
                         // include should come first
                         if (configuredSubsystemTypes.size() > 0) {
@@ -122,7 +122,8 @@ public class HostXml extends CommonXml implements ManagementXml.Delegate {
                 break;
             }
             case DOMAIN_1_1:
-            case DOMAIN_1_2: {
+            case DOMAIN_1_2:
+            case DOMAIN_1_3: {
                 readHostElement_1_1(readerNS, reader, address, operationList);
                 break;
             }
@@ -22,6 +22,8 @@
 
 package org.jboss.as.domain.controller.operations;
 
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOMAIN_MODEL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
@@ -489,4 +491,37 @@ public class ApplyRemoteMasterDomainModelHandlerTestCase extends AbstractOperati
         assertTrue(r instanceof ManagedDMRContentTypeResource);
     }
 
+    @Test
+    public void testDeltaNoChanges() throws Exception {
+        final ModelNode operation = new ModelNode();
+        operation.get(DOMAIN_MODEL).setEmptyList();
+        operation.get(ReadMasterDomainModelHandler.DOMAIN_MODEL_DELTA).set(true);
+        final MockOperationContext operationContext = getOperationContext();
+        operationContext.root.registerChild(PathElement.pathElement(EXTENSION, "org.jboss.extension"), Resource.Factory.create());
+        operationContext.root.registerChild(PathElement.pathElement(PATH, "some-path"), Resource.Factory.create());
+        handler.execute(operationContext, operation);
+        operationContext.verify();
+        assertNotNull(operationContext.root.getChild(PathElement.pathElement(EXTENSION, "org.jboss.extension")));
+        assertNotNull(operationContext.root.getChild(PathElement.pathElement(PATH, "some-path")));
+    }
+
+    @Test
+    public void testDeltaPathRemove() throws Exception {
+        final ModelNode operation = new ModelNode();
+        final ModelNode change = new ModelNode();
+        change.get(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_ADDRESS).set(PathAddress.pathAddress(PathElement.pathElement(PATH, "some-path")).toModelNode());
+        change.get(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_REMOVED).set(true);
+        operation.get(DOMAIN_MODEL).add(change);
+        operation.get(ReadMasterDomainModelHandler.DOMAIN_MODEL_DELTA).set(true);
+        final MockOperationContext operationContext = getOperationContext();
+        operationContext.root.registerChild(PathElement.pathElement(PATH, "some-path"), Resource.Factory.create());
+        operationContext.root.registerChild(PathElement.pathElement(PATH, "other-path"), Resource.Factory.create());
+        operationContext.expectStep(PathAddress.pathAddress(PathElement.pathElement(HOST, "localhost"), PathElement.pathElement(SERVER, "server-one")));
+        operationContext.expectStep(PathAddress.pathAddress(PathElement.pathElement(HOST, "localhost"), PathElement.pathElement(SERVER, "server-three")));
+        handler.execute(operationContext, operation);
+        operationContext.verify();
+        assertNull(operationContext.root.getChild(PathElement.pathElement(PATH, "some-path")));
+        assertNotNull(operationContext.root.getChild(PathElement.pathElement(PATH, "other-path")));
+    }
+
 }
@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.controller.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PATH;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Tests of the versioned change log of the master domain model.
+ */
+public class DomainModelChangeLogTestCase {
+
+    @Test
+    public void testUnchangedModel() {
+        final DomainModelChangeLog log = new DomainModelChangeLog();
+        final Resource root = createRoot();
+        final String version = log.update(ReadMasterDomainModelHandler.describeAsNodeList(root));
+        assertEquals(version, log.update(ReadMasterDomainModelHandler.describeAsNodeList(root)));
+        final List<ModelNode> changes = log.getChangesSince(version);
+        assertNotNull(changes);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testChangedAndRemovedResources() {
+        final DomainModelChangeLog log = new DomainModelChangeLog();
+        final Resource root = createRoot();
+        final String version = log.update(ReadMasterDomainModelHandler.describeAsNodeList(root));
+
+        final ModelNode model = new ModelNode();
+        model.get("path").set("changed");
+        root.getChild(PathElement.pathElement(PATH, "path-one")).writeModel(model);
+        root.removeChild(PathElement.pathElement(PATH, "path-two"));
+        final Resource profile = Resource.Factory.create();
+        profile.registerChild(PathElement.pathElement(SUBSYSTEM, "test"), Resource.Factory.create());
+        root.registerChild(PathElement.pathElement(PROFILE, "new-profile"), profile);
+        final String newVersion = log.update(ReadMasterDomainModelHandler.describeAsNodeList(root));
+        assertFalse(version.equals(newVersion));
+
+        final List<ModelNode> changes = log.getChangesSince(version);
+        assertNotNull(changes);
+        assertEquals(4, changes.size());
+        assertEquals(pathAddress(PATH, "path-one"), address(changes.get(0)));
+        assertEquals(model, changes.get(0).get(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_MODEL));
+        // Parents precede their children
+        assertEquals(pathAddress(PROFILE, "new-profile"), address(changes.get(1)));
+        assertEquals(pathAddress(PROFILE, "new-profile").append(PathElement.pathElement(SUBSYSTEM, "test")), address(changes.get(2)));
+        assertEquals(pathAddress(PATH, "path-two"), address(changes.get(3)));
+        assertTrue(changes.get(3).get(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_REMOVED).asBoolean());
+
+        assertTrue(log.getChangesSince(newVersion).isEmpty());
+    }
+
+    @Test
+    public void testChangesAcrossVersions() {
+        final DomainModelChangeLog log = new DomainModelChangeLog();
+        final Resource root = createRoot();
+        final String version = log.update(ReadMasterDomainModelHandler.describeAsNodeList(root));
+        root.removeChild(PathElement.pathElement(PATH, "path-two"));
+        log.update(ReadMasterDomainModelHandler.describeAsNodeList(root));
+        root.registerChild(PathElement.pathElement(PATH, "path-two"), Resource.Factory.create());
+        log.update(ReadMasterDomainModelHandler.describeAsNodeList(root));
+
+        final List<ModelNode> changes = log.getChangesSince(version);
+        assertNotNull(changes);
+        assertEquals(1, changes.size());
+        assertEquals(pathAddress(PATH, "path-two"), address(changes.get(0)));
+        assertFalse(changes.get(0).hasDefined(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_REMOVED));
+    }
+
+    @Test
+    public void testFullResync() {
+        final DomainModelChangeLog log = new DomainModelChangeLog(2);
+        final Resource root = createRoot();
+        final String version = log.update(ReadMasterDomainModelHandler.describeAsNodeList(root));
+        assertNull(log.getChangesSince(""));
+        assertNull(log.getChangesSince("unknown:1"));
+        assertNull(log.getChangesSince(new DomainModelChangeLog().update(ReadMasterDomainModelHandler.describeAsNodeList(root))));
+
+        for (int i = 0; i < 3; i++) {
+            final ModelNode model = new ModelNode();
+            model.get("path").set(i);
+            root.getChild(PathElement.pathElement(PATH, "path-one")).writeModel(model);
+            log.update(ReadMasterDomainModelHandler.describeAsNodeList(root));
+        }
+        // The changes leading away from the first version are no longer retained
+        assertNull(log.getChangesSince(version));
+    }
+
+    private static Resource createRoot() {
+        final Resource root = Resource.Factory.create();
+        root.registerChild(PathElement.pathElement(PATH, "path-one"), Resource.Factory.create());
+        root.registerChild(PathElement.pathElement(PATH, "path-two"), Resource.Factory.create());
+        root.registerChild(PathElement.pathElement(PROFILE, "default"), Resource.Factory.create());
+        return root;
+    }
+
+    private static PathAddress pathAddress(final String key, final String value) {
+        return PathAddress.pathAddress(PathElement.pathElement(key, value));
+    }
+
+    private static PathAddress address(final ModelNode description) {
+        return PathAddress.pathAddress(description.get(ReadMasterDomainModelHandler.DOMAIN_RESOURCE_ADDRESS));
+    }
+}
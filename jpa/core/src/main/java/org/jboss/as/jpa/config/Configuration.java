@@ -125,6 +125,13 @@ public class Configuration {
      */
     public static final String ADAPTER_CLASS = "jboss.as.jpa.adapterClass";
 
+    /**
+     * defaults to false, if changed to true (in the persistence.xml), the entity manager factory is created in the
+     * background, in parallel with other persistence units.  Injected references only wait for it when first used.
+     * The deployment still waits for it, and fails if it cannot be created.
+     */
+    public static final String JPA_ASYNC_BOOTSTRAP = "jboss.as.jpa.asyncBootstrap";
+
     // key = provider class name, value = module name
     private static final Map<String, String> providerClassToModuleName = new HashMap<String, String>();
 
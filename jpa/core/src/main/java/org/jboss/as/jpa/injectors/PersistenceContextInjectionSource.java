@@ -29,7 +29,6 @@ import java.lang.reflect.Proxy;
 import java.util.Map;
 
 import javax.persistence.EntityManager;
-import javax.persistence.EntityManagerFactory;
 import javax.persistence.PersistenceContextType;
 
 import org.jboss.as.ee.component.InjectionSource;
@@ -136,19 +135,19 @@ public class PersistenceContextInjectionSource extends InjectionSource {
         @Override
         public ManagedReference getReference() {
             PersistenceUnitServiceImpl service = (PersistenceUnitServiceImpl) deploymentUnit.getServiceRegistry().getRequiredService(puServiceName).getValue();
-            EntityManagerFactory emf = service.getEntityManagerFactory();
             EntityManager entityManager;
             boolean standardEntityManager = ENTITY_MANAGER_CLASS.equals(injectionTypeName);
 
             if (type.equals(PersistenceContextType.TRANSACTION)) {
-                entityManager = new TransactionScopedEntityManager(unitName, properties, emf);
+                // only wait for an entity manager factory created in the background when the entity manager is used
+                entityManager = new TransactionScopedEntityManager(unitName, properties, service.getEntityManagerFactoryReference());
                 if (JPA_LOGGER.isDebugEnabled())
                     JPA_LOGGER.debugf("created new TransactionScopedEntityManager for unit name=%s", unitName);
             } else {
                 // handle PersistenceContextType.EXTENDED
                 ReferenceCountedEntityManager entityManager1 = SFSBCallStack.findPersistenceContext(unitName);
                 if (entityManager1 == null) {
-                    EntityManager tmpEm = emf.createEntityManager(properties);
+                    EntityManager tmpEm = service.getEntityManagerFactory().createEntityManager(properties);
                     entityManager = new ExtendedEntityManager(unitName, tmpEm);
                     entityManager1 = new ReferenceCountedEntityManager((ExtendedEntityManager)entityManager);
                     if (JPA_LOGGER.isDebugEnabled())
@@ -107,7 +107,7 @@ public class PersistenceUnitInjectionSource extends InjectionSource {
         @Override
         public ManagedReference getReference() {
             PersistenceUnitServiceImpl service = (PersistenceUnitServiceImpl) deploymentUnit.getServiceRegistry().getRequiredService(puServiceName).getValue();
-            EntityManagerFactory emf = service.getEntityManagerFactory();
+            EntityManagerFactory emf = service.getEntityManagerFactoryReference();
 
             if (!ENTITY_MANAGER_FACTORY_CLASS.equals(injectionTypeName)) { // inject non-standard wrapped class (e.g. org.hibernate.SessionFactory)
                 Class extensionClass;
@@ -121,6 +121,7 @@ public class PersistenceUnitInjectionSource extends InjectionSource {
                 //   Object targetValueToInject = emf.unwrap(extensionClass);
                 // Until jpa supports unwrap on sessionfactory, only support hibernate
 
+                emf = service.getEntityManagerFactory();    // the provider specific class is needed right away
                 Method getSessionFactory;
                 try {
                     getSessionFactory = emf.getClass().getMethod("getSessionFactory");
@@ -34,6 +34,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import javax.persistence.ValidationMode;
 import javax.persistence.spi.PersistenceProvider;
@@ -54,6 +55,8 @@ import org.jboss.as.jpa.config.PersistenceProviderDeploymentHolder;
 import org.jboss.as.jpa.config.PersistenceUnitMetadataHolder;
 import org.jboss.as.jpa.persistenceprovider.PersistenceProviderLoader;
 import org.jboss.as.jpa.service.JPAService;
+import org.jboss.as.jpa.service.JPABootstrapExecutorService;
+import org.jboss.as.jpa.service.PersistenceUnitReadyService;
 import org.jboss.as.jpa.service.PersistenceUnitServiceImpl;
 import org.jboss.as.jpa.spi.ManagementAdaptor;
 import org.jboss.as.jpa.spi.PersistenceProviderAdaptor;
@@ -361,7 +364,7 @@ public class PersistenceUnitDeploymentProcessor implements DeploymentUnitProcess
                         @Override
                         public void inject(final PersistenceUnitServiceImpl value) throws
                                 InjectionException {
-                            binderService.getManagedObjectInjector().inject(new ValueManagedReferenceFactory(new ImmediateValue<Object>(value.getEntityManagerFactory())));
+                            binderService.getManagedObjectInjector().inject(new ValueManagedReferenceFactory(new ImmediateValue<Object>(value.getEntityManagerFactoryReference())));
                         }
 
                         @Override
@@ -371,6 +374,17 @@ public class PersistenceUnitDeploymentProcessor implements DeploymentUnitProcess
                     }).install();
             }
 
+            if (PersistenceUnitServiceImpl.isAsyncBootstrap(pu)) {
+                builder.addDependency(JPABootstrapExecutorService.SERVICE_NAME, ExecutorService.class, service.getBootstrapExecutorInjector());
+                // the deployment waits for, and fails with, the entity manager factory created in the background
+                final ServiceName readyServiceName = PersistenceUnitReadyService.getServiceName(puServiceName);
+                final PersistenceUnitReadyService readyService = new PersistenceUnitReadyService();
+                serviceTarget.addService(readyServiceName, readyService)
+                    .addDependency(puServiceName, PersistenceUnitServiceImpl.class, readyService.getPersistenceUnitServiceInjector())
+                    .install();
+                phaseContext.addToAttachmentList(Attachments.NEXT_PHASE_DEPS, readyServiceName);
+            }
+
             builder.setInitialMode(ServiceController.Mode.ACTIVE)
                 .addInjection(service.getPropertiesInjector(), properties)
                 .addInjection(persistenceUnitRegistry.getInjector())
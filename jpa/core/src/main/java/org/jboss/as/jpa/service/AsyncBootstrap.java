@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.service;
+
+import static org.jboss.as.jpa.JpaMessages.MESSAGES;
+
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Creates the entity manager factory of a persistence unit in the background, and hands the outcome over to the
+ * services waiting for it:
+ * <ul>
+ * <li>the ready service of the persistence unit, whose start completes or fails with the bootstrap,</li>
+ * <li>the persistence unit service, whose stop completes once the entity manager factory was created and closed again,
+ * if it is stopped meanwhile,</li>
+ * <li>the callers of {@link #await()}, such as deferred entity manager factory references.</li>
+ * </ul>
+ */
+abstract class AsyncBootstrap implements Runnable {
+
+    private final String scopedPuName;
+    private boolean done;
+    private Throwable failure;
+    private StartContext readyContext;
+    private StopContext stopContext;
+
+    AsyncBootstrap(final String scopedPuName) {
+        this.scopedPuName = scopedPuName;
+    }
+
+    /**
+     * Creates the entity manager factory.
+     */
+    abstract void bootstrap() throws Exception;
+
+    /**
+     * Closes the entity manager factory, if it was created.
+     */
+    abstract void close();
+
+    @Override
+    public void run() {
+        final boolean stopped;
+        synchronized (this) {
+            stopped = stopContext != null;
+        }
+        Throwable failure = null;
+        if (!stopped) {
+            try {
+                bootstrap();
+            } catch (Throwable t) {
+                failure = t;
+            }
+        }
+        final StartContext readyContext;
+        final StopContext stopContext;
+        synchronized (this) {
+            this.failure = failure;
+            this.done = true;
+            readyContext = this.readyContext;
+            this.readyContext = null;
+            stopContext = this.stopContext;
+            notifyAll();
+        }
+        if (readyContext != null) {
+            if (failure != null) {
+                readyContext.failed(new StartException(MESSAGES.persistenceUnitBootstrapFailed(failure, scopedPuName)));
+            } else {
+                readyContext.complete();
+            }
+        }
+        if (stopContext != null) {
+            try {
+                close();
+            } finally {
+                stopContext.complete();
+            }
+        }
+    }
+
+    /**
+     * Starts the ready service, which completes once the entity manager factory has been created.
+     *
+     * @param context the start context of the ready service
+     * @throws StartException if the entity manager factory could not be created
+     */
+    synchronized void ready(final StartContext context) throws StartException {
+        if (done) {
+            if (failure != null) {
+                throw new StartException(MESSAGES.persistenceUnitBootstrapFailed(failure, scopedPuName));
+            }
+            return;
+        }
+        context.asynchronous();
+        readyContext = context;
+    }
+
+    /**
+     * Hands over the stop of the persistence unit service, if the entity manager factory is still being created.
+     *
+     * @param context the stop context of the persistence unit service
+     * @return {@code true} if the stop will be completed once the entity manager factory has been created
+     */
+    synchronized boolean stopping(final StopContext context) {
+        if (done) {
+            return false;
+        }
+        context.asynchronous();
+        stopContext = context;
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Waits until the entity manager factory has been created, or the persistence unit service is stopped.
+     *
+     * @throws IllegalStateException if the entity manager factory could not be created
+     */
+    synchronized void await() {
+        boolean interrupted = false;
+        try {
+            while (!done && stopContext == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure != null) {
+            throw MESSAGES.persistenceUnitBootstrapFailed(failure, scopedPuName);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.service;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.Map;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.metamodel.Metamodel;
+
+import static org.jboss.as.jpa.JpaMessages.MESSAGES;
+
+/**
+ * Entity manager factory reference handed out while the entity manager factory of a persistence unit is still being
+ * created in the background. Every call waits until the entity manager factory is ready, then delegates to it.
+ */
+class DeferredEntityManagerFactory implements EntityManagerFactory, Serializable {
+
+    private static final long serialVersionUID = 4385021337614752816L;
+
+    private final transient PersistenceUnitServiceImpl service;
+
+    DeferredEntityManagerFactory(final PersistenceUnitServiceImpl service) {
+        this.service = service;
+    }
+
+    private EntityManagerFactory getEntityManagerFactory() {
+        final EntityManagerFactory entityManagerFactory = service.getEntityManagerFactory();
+        if (entityManagerFactory == null) {
+            throw MESSAGES.persistenceUnitNotAvailable(service.getScopedPersistenceUnitName());
+        }
+        return entityManagerFactory;
+    }
+
+    @Override
+    public EntityManager createEntityManager() {
+        return getEntityManagerFactory().createEntityManager();
+    }
+
+    @Override
+    public EntityManager createEntityManager(Map map) {
+        return getEntityManagerFactory().createEntityManager(map);
+    }
+
+    @Override
+    public CriteriaBuilder getCriteriaBuilder() {
+        return getEntityManagerFactory().getCriteriaBuilder();
+    }
+
+    @Override
+    public Metamodel getMetamodel() {
+        return getEntityManagerFactory().getMetamodel();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return getEntityManagerFactory().isOpen();
+    }
+
+    @Override
+    public void close() {
+        getEntityManagerFactory().close();
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        return getEntityManagerFactory().getProperties();
+    }
+
+    @Override
+    public Cache getCache() {
+        return getEntityManagerFactory().getCache();
+    }
+
+    @Override
+    public PersistenceUnitUtil getPersistenceUnitUtil() {
+        return getEntityManagerFactory().getPersistenceUnitUtil();
+    }
+
+    /**
+     * Serialize the underlying entity manager factory, as if it had been injected directly.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return getEntityManagerFactory();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.service;
+
+import java.security.AccessController;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceListener;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.threads.JBossThreadFactory;
+
+/**
+ * Thread pool on which the entity manager factories of persistence units with
+ * {@link org.jboss.as.jpa.config.Configuration#JPA_ASYNC_BOOTSTRAP} are created.  It is bounded by the number of
+ * processors, and only started while such a persistence unit is deployed.
+ */
+public class JPABootstrapExecutorService implements Service<ExecutorService> {
+    public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("jpa-bootstrap-executor");
+
+    private volatile ThreadPoolExecutor executor;
+
+    @Override
+    public void start(StartContext context) throws StartException {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final JBossThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup("JPA Bootstrap"), Boolean.TRUE, null, "%G - %t", null, null, AccessController.getContext());
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        this.executor = executor;
+    }
+
+    @Override
+    public void stop(StopContext context) {
+        // persistence units stop first, and wait for their bootstrap, so the pool is idle by now
+        executor.shutdown();
+        executor = null;
+    }
+
+    @Override
+    public ExecutorService getValue() throws IllegalStateException, IllegalArgumentException {
+        return executor;
+    }
+
+    public static ServiceController<?> addService(final ServiceTarget target, final ServiceListener<Object>... listeners) {
+        return target.addService(SERVICE_NAME, new JPABootstrapExecutorService())
+                .addListener(listeners)
+                .setInitialMode(ServiceController.Mode.ON_DEMAND)
+                .install();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.service;
+
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.msc.value.InjectedValue;
+
+/**
+ * Service which is up once the entity manager factory of a persistence unit with
+ * {@link org.jboss.as.jpa.config.Configuration#JPA_ASYNC_BOOTSTRAP} has been created in the background, and fails if it
+ * could not be created.  The deployment waits for it, while the components of the deployment only depend on the
+ * persistence unit service and may start in the meantime.
+ */
+public class PersistenceUnitReadyService implements Service<Void> {
+
+    private final InjectedValue<PersistenceUnitServiceImpl> persistenceUnitService = new InjectedValue<PersistenceUnitServiceImpl>();
+
+    /**
+     * Returns the ready service name of a persistence unit.
+     *
+     * @param puServiceName the persistence unit service name
+     * @return the ready service name
+     */
+    public static ServiceName getServiceName(final ServiceName puServiceName) {
+        return puServiceName.append("ready");
+    }
+
+    @Override
+    public void start(StartContext context) throws StartException {
+        persistenceUnitService.getValue().ready(context);
+    }
+
+    @Override
+    public void stop(StopContext context) {
+    }
+
+    @Override
+    public Void getValue() throws IllegalStateException, IllegalArgumentException {
+        return null;
+    }
+
+    public InjectedValue<PersistenceUnitServiceImpl> getPersistenceUnitServiceInjector() {
+        return persistenceUnitService;
+    }
+}
@@ -23,12 +23,14 @@
 package org.jboss.as.jpa.service;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.spi.PersistenceProvider;
 import javax.sql.DataSource;
 
 import org.jboss.as.jpa.classloader.TempClassLoaderFactoryImpl;
+import org.jboss.as.jpa.config.Configuration;
 import org.jboss.as.jpa.spi.PersistenceProviderAdaptor;
 import org.jboss.as.jpa.spi.PersistenceUnitMetadata;
 import org.jboss.as.jpa.spi.PersistenceUnitService;
@@ -37,6 +39,7 @@ import org.jboss.as.naming.WritableServiceBasedNamingStore;
 import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
@@ -49,13 +52,17 @@ import static org.jboss.as.jpa.JpaLogger.JPA_LOGGER;
  * persistence context/unit injector.
  * <p/>
  * The persistence unit scoped
+ * <p/>
+ * If {@link Configuration#JPA_ASYNC_BOOTSTRAP} is enabled for the persistence unit, the service starts immediately and
+ * the entity manager factory is created in the background, on the {@link JPABootstrapExecutorService} pool.  The
+ * outcome is reported by the {@link PersistenceUnitReadyService} of the persistence unit.
  *
  * @author Scott Marlow
  */
 public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServiceImpl>, PersistenceUnitService {
 
-
     private final InjectedValue<Map> properties = new InjectedValue<Map>();
+    private final InjectedValue<ExecutorService> bootstrapExecutor = new InjectedValue<ExecutorService>();
 
     private final InjectedValue<DataSource> jtaDataSource = new InjectedValue<DataSource>();
     private final InjectedValue<DataSource> nonJtaDataSource = new InjectedValue<DataSource>();
@@ -66,6 +73,8 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
     private final ClassLoader classLoader;
 
     private volatile EntityManagerFactory entityManagerFactory;
+    private volatile Bootstrap bootstrap;
+    private volatile long timeToReady = -1;
 
     public PersistenceUnitServiceImpl(final ClassLoader classLoader, final PersistenceUnitMetadata pu, final PersistenceProviderAdaptor persistenceProviderAdaptor, final PersistenceProvider persistenceProvider) {
         this.pu = pu;
@@ -76,13 +85,22 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
 
     @Override
     public void start(StartContext context) throws StartException {
+        final long startTime = System.currentTimeMillis();
+        final ServiceTarget target = context.getController().getServiceContainer().subTarget();
+        JPA_LOGGER.startingService("Persistence Unit", pu.getScopedPersistenceUnitName());
+        pu.setTempClassLoaderFactory(new TempClassLoaderFactoryImpl(classLoader));
+        pu.setJtaDataSource(jtaDataSource.getOptionalValue());
+        pu.setNonJtaDataSource(nonJtaDataSource.getOptionalValue());
+        if (isAsyncBootstrap(pu)) {
+            final Bootstrap bootstrap = new Bootstrap(target, SecurityActions.getContextClassLoader(), startTime);
+            this.bootstrap = bootstrap;
+            bootstrapExecutor.getValue().execute(bootstrap);
+            return;
+        }
         try {
-            JPA_LOGGER.startingService("Persistence Unit", pu.getScopedPersistenceUnitName());
-            pu.setTempClassLoaderFactory(new TempClassLoaderFactoryImpl(classLoader));
-            pu.setJtaDataSource(jtaDataSource.getOptionalValue());
-            pu.setNonJtaDataSource(nonJtaDataSource.getOptionalValue());
-            WritableServiceBasedNamingStore.pushOwner(context.getController().getServiceContainer().subTarget());
+            WritableServiceBasedNamingStore.pushOwner(target);
             this.entityManagerFactory = createContainerEntityManagerFactory();
+            this.timeToReady = System.currentTimeMillis() - startTime;
         } finally {
             pu.setTempClassLoaderFactory(null);    // release the temp classloader factory (only needed when creating the EMF)
             WritableServiceBasedNamingStore.popOwner();
@@ -92,16 +110,13 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
     @Override
     public void stop(StopContext context) {
         JPA_LOGGER.stoppingService("Persistence Unit", pu.getScopedPersistenceUnitName());
-        if (entityManagerFactory != null) {
-            WritableServiceBasedNamingStore.pushOwner(context.getController().getServiceContainer().subTarget());
-            try {
-                entityManagerFactory.close();
-            } finally {
-                entityManagerFactory = null;
-                pu.setTempClassLoaderFactory(null);
-                WritableServiceBasedNamingStore.popOwner();
-            }
+        final Bootstrap bootstrap = this.bootstrap;
+        this.bootstrap = null;
+        this.timeToReady = -1;
+        if (bootstrap != null && bootstrap.stopping(context)) {
+            return;    // the entity manager factory is closed once created, see Bootstrap.run()
         }
+        close(context.getController().getServiceContainer().subTarget());
     }
 
     @Override
@@ -116,9 +131,47 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
      */
     @Override
     public EntityManagerFactory getEntityManagerFactory() {
+        final EntityManagerFactory entityManagerFactory = this.entityManagerFactory;
+        final Bootstrap bootstrap = this.bootstrap;
+        if (entityManagerFactory == null && bootstrap != null) {
+            bootstrap.await();
+            return this.entityManagerFactory;
+        }
         return entityManagerFactory;
     }
 
+    /**
+     * Get an entity manager factory reference to inject, or bind into JNDI. If the entity manager factory is still being
+     * created in the background, the reference only waits for it when first used.
+     *
+     * @return the entity manager factory reference
+     */
+    public EntityManagerFactory getEntityManagerFactoryReference() {
+        final EntityManagerFactory entityManagerFactory = this.entityManagerFactory;
+        if (entityManagerFactory == null && bootstrap != null) {
+            return new DeferredEntityManagerFactory(this);
+        }
+        return entityManagerFactory;
+    }
+
+    /**
+     * Starts the ready service of this persistence unit.
+     *
+     * @param context the start context of the ready service
+     * @throws StartException if the entity manager factory could not be created in the background
+     */
+    void ready(StartContext context) throws StartException {
+        final Bootstrap bootstrap = this.bootstrap;
+        if (bootstrap != null) {
+            bootstrap.ready(context);
+        }
+    }
+
+    @Override
+    public long getTimeToReady() {
+        return timeToReady;
+    }
+
     @Override
     public String getScopedPersistenceUnitName() {
         return pu.getScopedPersistenceUnitName();
@@ -128,6 +181,10 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
         return properties;
     }
 
+    public Injector<ExecutorService> getBootstrapExecutorInjector() {
+        return bootstrapExecutor;
+    }
+
     public Injector<DataSource> getJtaDataSourceInjector() {
         return jtaDataSource;
     }
@@ -151,6 +208,16 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
         return JPAServiceNames.getPUServiceName(scopedPersistenceUnitName);
     }
 
+    /**
+     * Returns whether the entity manager factory of a persistence unit is created in the background.
+     *
+     * @param pu persistence unit definition
+     * @return {@code true} if {@link Configuration#JPA_ASYNC_BOOTSTRAP} is enabled
+     */
+    public static boolean isAsyncBootstrap(PersistenceUnitMetadata pu) {
+        return Boolean.parseBoolean(pu.getProperties().getProperty(Configuration.JPA_ASYNC_BOOTSTRAP));
+    }
+
     /**
      * Create EE container entity manager factory
      *
@@ -170,4 +237,55 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
             }
         }
     }
+
+    private void close(final ServiceTarget target) {
+        if (entityManagerFactory != null) {
+            WritableServiceBasedNamingStore.pushOwner(target);
+            try {
+                entityManagerFactory.close();
+            } finally {
+                entityManagerFactory = null;
+                pu.setTempClassLoaderFactory(null);
+                WritableServiceBasedNamingStore.popOwner();
+            }
+        }
+    }
+
+    /**
+     * Creates the entity manager factory in the background. If the service is stopped meanwhile, the stop completes
+     * asynchronously once the entity manager factory has been created and closed again.
+     */
+    private final class Bootstrap extends AsyncBootstrap {
+        private final ServiceTarget target;
+        private final ClassLoader contextClassLoader;
+        private final long startTime;
+
+        Bootstrap(final ServiceTarget target, final ClassLoader contextClassLoader, final long startTime) {
+            super(pu.getScopedPersistenceUnitName());
+            this.target = target;
+            this.contextClassLoader = contextClassLoader;
+            this.startTime = startTime;
+        }
+
+        @Override
+        void bootstrap() {
+            final ClassLoader old = SecurityActions.getContextClassLoader();
+            SecurityActions.setContextClassLoader(contextClassLoader);
+            WritableServiceBasedNamingStore.pushOwner(target);
+            try {
+                entityManagerFactory = createContainerEntityManagerFactory();
+                timeToReady = System.currentTimeMillis() - startTime;
+                JPA_LOGGER.debugf("entity manager factory of persistence unit '%s' was ready after %d ms", pu.getScopedPersistenceUnitName(), timeToReady);
+            } finally {
+                pu.setTempClassLoaderFactory(null);    // release the temp classloader factory (only needed when creating the EMF)
+                WritableServiceBasedNamingStore.popOwner();
+                SecurityActions.setContextClassLoader(old);
+            }
+        }
+
+        @Override
+        void close() {
+            PersistenceUnitServiceImpl.this.close(target);
+        }
+    }
 }
@@ -43,6 +43,7 @@ import org.jboss.as.jpa.processor.PersistenceProviderProcessor;
 import org.jboss.as.jpa.processor.PersistenceRefProcessor;
 import org.jboss.as.jpa.processor.PersistenceUnitDeploymentProcessor;
 import org.jboss.as.jpa.processor.PersistenceUnitParseProcessor;
+import org.jboss.as.jpa.service.JPABootstrapExecutorService;
 import org.jboss.as.jpa.service.JPAService;
 import org.jboss.as.jpa.service.JPAUserTransactionListenerService;
 import org.jboss.as.server.AbstractDeploymentChainStep;
@@ -124,6 +125,7 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler implements Descript
         final ServiceTarget target = context.getServiceTarget();
         newControllers.add(JPAService.addService(target, dataSourceName, verificationHandler));
         newControllers.add(JPAUserTransactionListenerService.addService(target, verificationHandler));
+        newControllers.add(JPABootstrapExecutorService.addService(target, verificationHandler));
     }
 
     @Override
@@ -0,0 +1,250 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.junit.Test;
+
+/**
+ * Tests the hand over of a background bootstrap to the ready service, the stop of the persistence unit service and
+ * the callers waiting for the entity manager factory.
+ */
+public class AsyncBootstrapTestCase {
+
+    @Test
+    public void testReadyCompletesWithBootstrap() throws Exception {
+        final TestBootstrap bootstrap = new TestBootstrap(null);
+        final TestContext ready = new TestContext();
+        bootstrap.ready(ready);
+        assertTrue(ready.asynchronous);
+        assertFalse(ready.completed);
+        bootstrap.run();
+        assertTrue(ready.completed);
+        assertEquals(null, ready.failure);
+    }
+
+    @Test
+    public void testReadyFailsWithBootstrap() throws Exception {
+        final RuntimeException cause = new RuntimeException("bootstrap failed");
+        final TestBootstrap bootstrap = new TestBootstrap(cause);
+        final TestContext ready = new TestContext();
+        bootstrap.ready(ready);
+        bootstrap.run();
+        assertFalse(ready.completed);
+        assertNotNull(ready.failure);
+        assertSame(cause, ready.failure.getCause().getCause());
+    }
+
+    @Test
+    public void testReadyAfterBootstrap() throws Exception {
+        final TestBootstrap bootstrap = new TestBootstrap(null);
+        bootstrap.run();
+        final TestContext ready = new TestContext();
+        bootstrap.ready(ready);
+        assertFalse(ready.asynchronous);
+    }
+
+    @Test
+    public void testReadyAfterFailedBootstrap() {
+        final RuntimeException cause = new RuntimeException("bootstrap failed");
+        final TestBootstrap bootstrap = new TestBootstrap(cause);
+        bootstrap.run();
+        try {
+            bootstrap.ready(new TestContext());
+            fail("ready service started although the bootstrap failed");
+        } catch (StartException e) {
+            assertSame(cause, e.getCause().getCause());
+        }
+    }
+
+    @Test
+    public void testStopDuringBootstrap() throws Exception {
+        final TestBootstrap bootstrap = new TestBootstrap(null);
+        bootstrap.block = new CountDownLatch(1);
+        final Thread thread = new Thread(bootstrap);
+        thread.start();
+        assertTrue(bootstrap.started.await(10, TimeUnit.SECONDS));
+
+        final TestContext stop = new TestContext();
+        assertTrue(bootstrap.stopping(stop));
+        assertTrue(stop.asynchronous);
+        assertFalse(stop.completed);
+        assertEquals(0, bootstrap.closed);
+
+        bootstrap.block.countDown();
+        thread.join(10000);
+        assertTrue(bootstrap.bootstrapped);
+        assertEquals(1, bootstrap.closed);
+        assertTrue(stop.completed);
+    }
+
+    @Test
+    public void testStopBeforeBootstrap() {
+        final TestBootstrap bootstrap = new TestBootstrap(null);
+        final TestContext stop = new TestContext();
+        assertTrue(bootstrap.stopping(stop));
+        bootstrap.run();
+        assertFalse(bootstrap.bootstrapped);
+        assertEquals(1, bootstrap.closed);
+        assertTrue(stop.completed);
+    }
+
+    @Test
+    public void testStopAfterBootstrap() {
+        final TestBootstrap bootstrap = new TestBootstrap(null);
+        bootstrap.run();
+        final TestContext stop = new TestContext();
+        assertFalse(bootstrap.stopping(stop));
+        assertFalse(stop.asynchronous);
+        assertEquals(0, bootstrap.closed);
+    }
+
+    @Test
+    public void testAwait() throws Exception {
+        final TestBootstrap bootstrap = new TestBootstrap(null);
+        bootstrap.block = new CountDownLatch(1);
+        final Thread thread = new Thread(bootstrap);
+        thread.start();
+        assertTrue(bootstrap.started.await(10, TimeUnit.SECONDS));
+        final CountDownLatch awaited = new CountDownLatch(1);
+        final Thread waiter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                bootstrap.await();
+                awaited.countDown();
+            }
+        });
+        waiter.start();
+        assertFalse(awaited.await(100, TimeUnit.MILLISECONDS));
+        bootstrap.block.countDown();
+        assertTrue(awaited.await(10, TimeUnit.SECONDS));
+        assertTrue(bootstrap.bootstrapped);
+        thread.join(10000);
+    }
+
+    @Test
+    public void testAwaitFailedBootstrap() {
+        final RuntimeException cause = new RuntimeException("bootstrap failed");
+        final TestBootstrap bootstrap = new TestBootstrap(cause);
+        bootstrap.run();
+        try {
+            bootstrap.await();
+            fail("await returned although the bootstrap failed");
+        } catch (IllegalStateException e) {
+            assertSame(cause, e.getCause());
+        }
+    }
+
+    @Test
+    public void testAwaitStoppedBootstrap() {
+        final TestBootstrap bootstrap = new TestBootstrap(null);
+        assertTrue(bootstrap.stopping(new TestContext()));
+        // returns without waiting for the bootstrap, which will not run anymore
+        bootstrap.await();
+        assertFalse(bootstrap.bootstrapped);
+    }
+
+    private static class TestBootstrap extends AsyncBootstrap {
+        private final RuntimeException failure;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile CountDownLatch block;
+        private volatile boolean bootstrapped;
+        private volatile int closed;
+
+        TestBootstrap(final RuntimeException failure) {
+            super("test.jar#test");
+            this.failure = failure;
+        }
+
+        @Override
+        void bootstrap() throws Exception {
+            started.countDown();
+            if (block != null) {
+                block.await();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            bootstrapped = true;
+        }
+
+        @Override
+        void close() {
+            closed++;
+        }
+    }
+
+    private static class TestContext implements StartContext, StopContext {
+        private volatile boolean asynchronous;
+        private volatile boolean completed;
+        private volatile StartException failure;
+
+        @Override
+        public void failed(final StartException reason) {
+            failure = reason;
+        }
+
+        @Override
+        public ServiceTarget getChildTarget() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void asynchronous() {
+            asynchronous = true;
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public long getElapsedTime() {
+            return 0;
+        }
+
+        @Override
+        public ServiceController<?> getController() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+    }
+}
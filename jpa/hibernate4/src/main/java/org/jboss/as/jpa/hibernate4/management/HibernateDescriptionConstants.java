@@ -73,5 +73,6 @@ public class HibernateDescriptionConstants {
     public static final String SESSION_OPEN_COUNT = "hibernate.statistics.session-open-count";
     public static final String SUCCESSFUL_TRANSACTION_COUNT = "hibernate.statistics.successful-transaction-count";
     public static final String SUMMARY_STATISTICS = "summary";
+    public static final String TIME_TO_READY = "hibernate.statistics.time-to-ready";
 
 }
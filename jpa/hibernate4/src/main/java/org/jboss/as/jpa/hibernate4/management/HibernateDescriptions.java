@@ -145,6 +145,9 @@ public class HibernateDescriptions {
         subsystem.get(ATTRIBUTES, "optimistic-failure-count", DESCRIPTION).set(bundle.getString(HibernateDescriptionConstants.OPTIMISTIC_FAILURE_COUNT));
         subsystem.get(ATTRIBUTES, "optimistic-failure-count", TYPE).set(ModelType.INT);
 
+        subsystem.get(ATTRIBUTES, "time-to-ready", DESCRIPTION).set(bundle.getString(HibernateDescriptionConstants.TIME_TO_READY));
+        subsystem.get(ATTRIBUTES, "time-to-ready", TYPE).set(ModelType.LONG);
+
         subsystem.get(ATTRIBUTES, "enabled", DESCRIPTION).set(bundle.getString(HibernateDescriptionConstants.CHECK_STATISTICS));
         subsystem.get(ATTRIBUTES, "enabled", TYPE).set(ModelType.BOOLEAN);
 
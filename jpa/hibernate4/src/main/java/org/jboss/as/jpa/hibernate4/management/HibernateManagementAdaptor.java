@@ -38,6 +38,7 @@ import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.jpa.spi.ManagementAdaptor;
+import org.jboss.as.jpa.spi.PersistenceUnitService;
 import org.jboss.as.jpa.spi.PersistenceUnitServiceRegistry;
 import org.jboss.dmr.ModelNode;
 
@@ -88,6 +89,7 @@ public class HibernateManagementAdaptor implements ManagementAdaptor {
     public static final String OPERATION_PREPARED_STATEMENT_COUNT = "prepared-statement-count";
     public static final String OPERATION_CLOSE_STATEMENT_COUNT = "close-statement-count";
     public static final String OPERATION_OPTIMISTIC_FAILURE_COUNT = "optimistic-failure-count";
+    public static final String OPERATION_TIME_TO_READY = "time-to-ready";
 
     private PersistenceUnitServiceRegistry persistenceUnitRegistry;
 
@@ -495,6 +497,23 @@ public class HibernateManagementAdaptor implements ManagementAdaptor {
             }
         });
 
+        /**
+         * Get the time it took for the entity manager factory to become ready, which does not require it to be ready
+         * @return time in milliseconds, or -1 if not ready yet
+         */
+        jpaHibernateRegistration.registerMetric(OPERATION_TIME_TO_READY, new AbstractRuntimeOnlyHandler() {
+            @Override
+            protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws
+                OperationFailedException {
+                final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
+                final PersistenceUnitService persistenceUnitService = persistenceUnitRegistry.getPersistenceUnitService(address.getLastElement().getValue());
+                if (persistenceUnitService != null) {
+                    context.getResult().set(persistenceUnitService.getTimeToReady());
+                }
+                context.completeStep();
+            }
+        });
+
         /**
          * enable/disable statistics attribute
          */
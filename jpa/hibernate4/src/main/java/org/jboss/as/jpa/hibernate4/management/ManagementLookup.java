@@ -49,7 +49,8 @@ public class ManagementLookup {
 
         Statistics stats = null;
         PersistenceUnitService persistenceUnitService = registry.getPersistenceUnitService(persistenceUnitName);
-        if (persistenceUnitService != null) {
+        // statistics are not available until the entity manager factory is ready, don't wait for it
+        if (persistenceUnitService != null && persistenceUnitService.getTimeToReady() >= 0) {
             final EntityManagerFactory entityManagerFactory = persistenceUnitService.getEntityManagerFactory();
             // TODO:  with JPA 2.1, if unwrap is added to EMF, change cast to "entityManagerFactory.unwrap(HibernateEntityManagerFactory.class)"
             HibernateEntityManagerFactory entityManagerFactoryImpl = (HibernateEntityManagerFactory) entityManagerFactory;
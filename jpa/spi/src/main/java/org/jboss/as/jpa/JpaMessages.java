@@ -553,6 +553,27 @@ public interface JpaMessages {
         "with an extended persistence context (%s) cannot be a negative number.")
     RuntimeException referenceCountedEntityManagerNegativeCount(int referenceCount, String scopedPuName);
 
+    /**
+     * Creates an exception indicating the entity manager factory of a persistence unit, which was being created in
+     * the background, could not be created.
+     *
+     * @param cause        the cause of the error.
+     * @param scopedPuName the scoped persistence unit name.
+     *
+     * @return an {@link IllegalStateException} for the error.
+     */
+    @Message(id = 11473, value = "Persistence unit '%s' could not be started")
+    IllegalStateException persistenceUnitBootstrapFailed(@Cause Throwable cause, String scopedPuName);
+
+    /**
+     * Creates an exception indicating a persistence unit was used after it has been stopped.
+     *
+     * @param scopedPuName the scoped persistence unit name.
+     *
+     * @return an {@link IllegalStateException} for the error.
+     */
+    @Message(id = 11474, value = "Persistence unit '%s' is not available, it has been stopped")
+    IllegalStateException persistenceUnitNotAvailable(String scopedPuName);
 
 
     /**
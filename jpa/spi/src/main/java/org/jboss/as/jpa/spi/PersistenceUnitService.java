@@ -33,11 +33,20 @@ public interface PersistenceUnitService {
     /**
      * get the entity manager factory that represents the persistence unit service.  This corresponds to a
      * persistence unit definition in a persistence.xml
+     * <p/>
+     * If the entity manager factory is being created in the background, this waits until it is ready.
      *
      * @return EntityManagerFactory or {@code null} if this service has not been started or has been stopped
      */
     EntityManagerFactory getEntityManagerFactory();
 
+    /**
+     * Gets the time it took, from the start of this service, for the entity manager factory to become ready.
+     *
+     * @return the time in milliseconds, or -1 if the entity manager factory is not ready
+     */
+    long getTimeToReady();
+
     /**
      * Gets the scoped name of this persistence unit.
      *
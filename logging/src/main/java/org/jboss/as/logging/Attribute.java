@@ -44,6 +44,7 @@ public enum Attribute {
     MAX_BACKUP_INDEX(CommonAttributes.MAX_BACKUP_INDEX),
     MAX_INCLUSIVE(CommonAttributes.MAX_INCLUSIVE),
     MAX_LEVEL(CommonAttributes.MAX_LEVEL),
+    MEMORY_MAPPED(CommonAttributes.MEMORY_MAPPED),
     MODULE(CommonAttributes.MODULE),
     NAME(CommonAttributes.NAME),
     NEW_LEVEL(CommonAttributes.NEW_LEVEL),
@@ -28,6 +28,8 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.logging.formatters.FormatterType;
+import org.jboss.as.logging.handlers.async.Implementation;
 import org.jboss.as.logging.handlers.console.Target;
 import org.jboss.as.logging.validators.FileValidator;
 import org.jboss.as.logging.validators.LogLevelValidator;
@@ -66,6 +68,8 @@ public interface CommonAttributes {
 
     SimpleAttributeDefinition CLASS = SimpleAttributeDefinitionBuilder.create("class", ModelType.STRING).build();
 
+    String COMPILED_PATTERN_FORMATTER = "compiled-pattern-formatter";
+
     String CONSOLE_HANDLER = "console-handler";
 
     String CUSTOM_HANDLER = "custom-handler";
@@ -89,17 +93,30 @@ public interface CommonAttributes {
             setDefaultValue(new ModelNode().set("%d{HH:mm:ss,SSS} %-5p [%c] (%t) %s%E%n")).
             build();
 
+    SimpleAttributeDefinition FORMATTER_TYPE = SimpleAttributeDefinitionBuilder.create("formatter-type", ModelType.STRING, true).
+            setDefaultValue(new ModelNode().set(FormatterType.PATTERN.name())).
+            setValidator(EnumValidator.create(FormatterType.class, true, false)).
+            build();
+
     SimpleAttributeDefinition HANDLER = SimpleAttributeDefinitionBuilder.create("handler", ModelType.STRING).build();
 
     LogHandlerListAttributeDefinition HANDLERS = LogHandlerListAttributeDefinition.Builder.of("handlers", HANDLER).
             setAllowNull(true).
             build();
 
+    SimpleAttributeDefinition IMPLEMENTATION = SimpleAttributeDefinitionBuilder.create("implementation", ModelType.STRING, true).
+            setDefaultValue(new ModelNode().set(Implementation.QUEUE.name())).
+            setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES).
+            setValidator(EnumValidator.create(Implementation.class, true, false)).
+            build();
+
     SimpleAttributeDefinition LEVEL = SimpleAttributeDefinitionBuilder.create("level", ModelType.STRING, true).
             setCorrector(CaseParameterCorrector.TO_UPPER).
             setValidator(new LogLevelValidator(true)).
             build();
 
+    String JSON_FORMATTER = "json-formatter";
+
     String LOGGER = "logger";
 
     SimpleAttributeDefinition MATCH = SimpleAttributeDefinitionBuilder.create("match", ModelType.STRING, true).build();
@@ -118,6 +135,11 @@ public interface CommonAttributes {
             setValidator(new LogLevelValidator(true)).
             build();
 
+    SimpleAttributeDefinition MEMORY_MAPPED = SimpleAttributeDefinitionBuilder.create("memory-mapped", ModelType.BOOLEAN, true).
+            setDefaultValue(new ModelNode().set(false)).
+            setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES).
+            build();
+
     SimpleAttributeDefinition MIN_INCLUSIVE = SimpleAttributeDefinitionBuilder.create("min-inclusive", ModelType.BOOLEAN).
             setDefaultValue(new ModelNode().set(true)).
             build();
@@ -40,6 +40,7 @@ public enum Element {
     APPEND(CommonAttributes.APPEND),
     ASYNC_HANDLER(CommonAttributes.ASYNC_HANDLER),
     CHANGE_LEVEL(CommonAttributes.CHANGE_LEVEL),
+    COMPILED_PATTERN_FORMATTER(CommonAttributes.COMPILED_PATTERN_FORMATTER),
     CONSOLE_HANDLER(CommonAttributes.CONSOLE_HANDLER),
     CUSTOM_HANDLER(CommonAttributes.CUSTOM_HANDLER),
     DENY(CommonAttributes.DENY),
@@ -50,6 +51,8 @@ public enum Element {
     FORMATTER(CommonAttributes.FORMATTER),
     HANDLER(CommonAttributes.HANDLER),
     HANDLERS(CommonAttributes.HANDLERS),
+    IMPLEMENTATION(CommonAttributes.IMPLEMENTATION),
+    JSON_FORMATTER(CommonAttributes.JSON_FORMATTER),
     LEVEL(CommonAttributes.LEVEL),
     LEVEL_RANGE(CommonAttributes.LEVEL_RANGE),
     LOGGER(CommonAttributes.LOGGER),
@@ -47,10 +47,13 @@ import static org.jboss.as.logging.CommonAttributes.FILE;
 import static org.jboss.as.logging.CommonAttributes.FILE_HANDLER;
 import static org.jboss.as.logging.CommonAttributes.FILTER;
 import static org.jboss.as.logging.CommonAttributes.FORMATTER;
+import static org.jboss.as.logging.CommonAttributes.FORMATTER_TYPE;
 import static org.jboss.as.logging.CommonAttributes.HANDLERS;
+import static org.jboss.as.logging.CommonAttributes.IMPLEMENTATION;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
 import static org.jboss.as.logging.CommonAttributes.LOGGER;
 import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_INDEX;
+import static org.jboss.as.logging.CommonAttributes.MEMORY_MAPPED;
 import static org.jboss.as.logging.CommonAttributes.MODULE;
 import static org.jboss.as.logging.CommonAttributes.NAME;
 import static org.jboss.as.logging.CommonAttributes.OVERFLOW_ACTION;
@@ -141,6 +144,7 @@ public class LoggingDescribeHandler implements OperationStepHandler, Description
         copy(QUEUE_LENGTH, handler, add);
         copy(SUBHANDLERS, handler, add);
         copy(OVERFLOW_ACTION, handler, add);
+        copy(IMPLEMENTATION, handler, add);
 
         return add;
     }
@@ -197,6 +201,7 @@ public class LoggingDescribeHandler implements OperationStepHandler, Description
         copy(APPEND, handler, add);
         copy(MAX_BACKUP_INDEX, handler, add);
         copy(ROTATE_SIZE, handler, add);
+        copy(MEMORY_MAPPED, handler, add);
 
         return add;
     }
@@ -210,6 +215,7 @@ public class LoggingDescribeHandler implements OperationStepHandler, Description
         copy(NAME, from, to);
         copy(ENCODING, from, to);
         copy(FORMATTER, from, to);
+        copy(FORMATTER_TYPE, from, to);
         copy(LEVEL, from, to);
         copy(FILTER, from, to);
     }
@@ -50,12 +50,14 @@ import static org.jboss.as.logging.CommonAttributes.FILE;
 import static org.jboss.as.logging.CommonAttributes.FILE_HANDLER;
 import static org.jboss.as.logging.CommonAttributes.FILTER;
 import static org.jboss.as.logging.CommonAttributes.FORMATTER;
+import static org.jboss.as.logging.CommonAttributes.FORMATTER_TYPE;
 import static org.jboss.as.logging.CommonAttributes.HANDLERS;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
 import static org.jboss.as.logging.CommonAttributes.LEVEL_RANGE;
 import static org.jboss.as.logging.CommonAttributes.LOGGER;
 import static org.jboss.as.logging.CommonAttributes.MATCH;
 import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_INDEX;
+import static org.jboss.as.logging.CommonAttributes.MEMORY_MAPPED;
 import static org.jboss.as.logging.CommonAttributes.MAX_INCLUSIVE;
 import static org.jboss.as.logging.CommonAttributes.MAX_LEVEL;
 import static org.jboss.as.logging.CommonAttributes.MIN_INCLUSIVE;
@@ -64,6 +66,7 @@ import static org.jboss.as.logging.CommonAttributes.MODULE;
 import static org.jboss.as.logging.CommonAttributes.NAME;
 import static org.jboss.as.logging.CommonAttributes.NEW_LEVEL;
 import static org.jboss.as.logging.CommonAttributes.NOT;
+import static org.jboss.as.logging.CommonAttributes.IMPLEMENTATION;
 import static org.jboss.as.logging.CommonAttributes.OVERFLOW_ACTION;
 import static org.jboss.as.logging.CommonAttributes.PATH;
 import static org.jboss.as.logging.CommonAttributes.PATTERN;
@@ -97,6 +100,7 @@ import javax.xml.stream.XMLStreamException;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.persistence.SubsystemMarshallingContext;
+import org.jboss.as.logging.formatters.FormatterType;
 import org.jboss.as.logging.handlers.console.Target;
 import org.jboss.as.logging.loggers.RootLoggerAdd;
 import org.jboss.dmr.ModelNode;
@@ -142,7 +146,8 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             switch (Namespace.forUri(reader.getNamespaceURI())) {
                 case LOGGING_1_0:
-                case LOGGING_1_1: {
+                case LOGGING_1_1:
+                case LOGGING_1_2: {
                     final Element element = Element.forName(reader.getLocalName());
                     switch (element) {
                         case LOGGER: {
@@ -238,7 +243,8 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             switch (Namespace.forUri(reader.getNamespaceURI())) {
                 case LOGGING_1_0:
-                case LOGGING_1_1: {
+                case LOGGING_1_1:
+                case LOGGING_1_2: {
                     final Element element = Element.forName(reader.getLocalName());
                     if (!encountered.add(element)) {
                         throw duplicateNamedElement(reader, reader.getLocalName());
@@ -322,7 +328,7 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
                     break;
                 }
                 case FORMATTER: {
-                    FORMATTER.parseAndSetParameter(parseFormatterElement(reader), node, reader);
+                    parseFormatterElement(node, reader);
                     break;
                 }
                 case QUEUE_LENGTH: {
@@ -333,6 +339,11 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
                     OVERFLOW_ACTION.parseAndSetParameter(readStringAttributeElement(reader, "value").toUpperCase(Locale.US), node, reader);
                     break;
                 }
+                case IMPLEMENTATION: {
+                    requireNamespace(reader, Namespace.LOGGING_1_2);
+                    IMPLEMENTATION.parseAndSetParameter(readStringAttributeElement(reader, "value").toUpperCase(Locale.US).replace('-', '_'), node, reader);
+                    break;
+                }
                 default: {
                     throw unexpectedElement(reader);
                 }
@@ -354,7 +365,8 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             switch (Namespace.forUri(reader.getNamespaceURI())) {
                 case LOGGING_1_0:
-                case LOGGING_1_1: {
+                case LOGGING_1_1:
+                case LOGGING_1_2: {
                     final Element element = Element.forName(reader.getLocalName());
                     if (encountered.contains(element)) {
                         throw duplicateNamedElement(reader, reader.getLocalName());
@@ -443,7 +455,7 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
                     break;
                 }
                 case FORMATTER: {
-                    FORMATTER.parseAndSetParameter(parseFormatterElement(reader), node, reader);
+                    parseFormatterElement(node, reader);
                     break;
                 }
                 case TARGET: {
@@ -521,7 +533,7 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
                     break;
                 }
                 case FORMATTER: {
-                    FORMATTER.parseAndSetParameter(parseFormatterElement(reader), node, reader);
+                    parseFormatterElement(node, reader);
                     break;
                 }
                 case FILE: {
@@ -603,7 +615,7 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
                     break;
                 }
                 case FORMATTER: {
-                    FORMATTER.parseAndSetParameter(parseFormatterElement(reader), node, reader);
+                    parseFormatterElement(node, reader);
                     break;
                 }
                 case PROPERTIES: {
@@ -676,7 +688,7 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
                     break;
                 }
                 case FORMATTER: {
-                    FORMATTER.parseAndSetParameter(parseFormatterElement(reader), node, reader);
+                    parseFormatterElement(node, reader);
                     break;
                 }
                 case FILE: {
@@ -723,6 +735,13 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
                     AUTOFLUSH.parseAndSetParameter(value, node, reader);
                     break;
                 }
+                case MEMORY_MAPPED: {
+                    if (Namespace.forUri(reader.getNamespaceURI()).compareTo(Namespace.LOGGING_1_2) < 0) {
+                        throw unexpectedAttribute(reader, i);
+                    }
+                    MEMORY_MAPPED.parseAndSetParameter(value, node, reader);
+                    break;
+                }
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -760,7 +779,7 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
                     break;
                 }
                 case FORMATTER: {
-                    FORMATTER.parseAndSetParameter(parseFormatterElement(reader), node, reader);
+                    parseFormatterElement(node, reader);
                     break;
                 }
                 case FILE: {
@@ -812,21 +831,36 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
         requireNoContent(reader);
     }
 
-    private static String parseFormatterElement(final XMLExtendedStreamReader reader) throws XMLStreamException {
+    private static void parseFormatterElement(final ModelNode node, final XMLExtendedStreamReader reader) throws XMLStreamException {
         if (reader.getAttributeCount() > 0) {
             throw unexpectedAttribute(reader, 0);
         }
-        final String formatterSpec;
         if (reader.nextTag() != START_ELEMENT) {
             throw new XMLStreamException(MESSAGES.missingRequiredNestedFilterElement(), reader.getLocation());
         }
         switch (Namespace.forUri(reader.getNamespaceURI())) {
             case LOGGING_1_0:
-            case LOGGING_1_1: {
+            case LOGGING_1_1:
+            case LOGGING_1_2: {
                 final Element element = Element.forName(reader.getLocalName());
                 switch (element) {
                     case PATTERN_FORMATTER: {
-                        formatterSpec = parsePatternFormatterElement(reader);
+                        FORMATTER.parseAndSetParameter(parsePatternFormatterElement(reader), node, reader);
+                        break;
+                    }
+                    case COMPILED_PATTERN_FORMATTER: {
+                        requireNamespace(reader, Namespace.LOGGING_1_2);
+                        FORMATTER.parseAndSetParameter(parsePatternFormatterElement(reader), node, reader);
+                        FORMATTER_TYPE.parseAndSetParameter(FormatterType.COMPILED_PATTERN.name(), node, reader);
+                        break;
+                    }
+                    case JSON_FORMATTER: {
+                        requireNamespace(reader, Namespace.LOGGING_1_2);
+                        if (reader.getAttributeCount() > 0) {
+                            throw unexpectedAttribute(reader, 0);
+                        }
+                        requireNoContent(reader);
+                        FORMATTER_TYPE.parseAndSetParameter(FormatterType.JSON.name(), node, reader);
                         break;
                     }
                     default: {
@@ -842,7 +876,20 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
         if (reader.nextTag() != END_ELEMENT) {
             throw unexpectedElement(reader);
         }
-        return formatterSpec;
+    }
+
+    /**
+     * Rejects the current element if it was introduced in a later namespace than the one being parsed.
+     *
+     * @param reader   the reader positioned at the element
+     * @param required the first namespace that defines the element
+     *
+     * @throws XMLStreamException if the element's namespace predates {@code required}
+     */
+    private static void requireNamespace(final XMLExtendedStreamReader reader, final Namespace required) throws XMLStreamException {
+        if (Namespace.forUri(reader.getNamespaceURI()).compareTo(required) < 0) {
+            throw unexpectedElement(reader);
+        }
     }
 
     private static String parsePatternFormatterElement(final XMLExtendedStreamReader reader) throws XMLStreamException {
@@ -912,7 +959,8 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             switch (Namespace.forUri(reader.getNamespaceURI())) {
                 case LOGGING_1_0:
-                case LOGGING_1_1: {
+                case LOGGING_1_1:
+                case LOGGING_1_2: {
                     final Element element = Element.forName(reader.getLocalName());
                     switch (element) {
                         case HANDLER: {
@@ -950,7 +998,8 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             switch (Namespace.forUri(reader.getNamespaceURI())) {
                 case LOGGING_1_0:
-                case LOGGING_1_1: {
+                case LOGGING_1_1:
+                case LOGGING_1_2: {
                     final Element element = Element.forName(reader.getLocalName());
                     switch (element) {
                         case ACCEPT: {
@@ -1195,6 +1244,7 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
         writer.writeStartElement(Element.SIZE_ROTATING_FILE_HANDLER.getLocalName());
         writer.writeAttribute(NAME.getXmlName(), name);
         AUTOFLUSH.marshallAsAttribute(node, writer);
+        MEMORY_MAPPED.marshallAsAttribute(node, writer);
         writeLevel(writer, node);
         writeEncoding(writer, node);
         writeFilter(writer, node);
@@ -1233,6 +1283,11 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
             writer.writeAttribute(Attribute.VALUE.getLocalName(), node.get(OVERFLOW_ACTION.getName()).asString().toLowerCase());
             writer.writeEndElement();
         }
+        if (IMPLEMENTATION.isMarshallable(node)) {
+            writer.writeStartElement(Element.IMPLEMENTATION.getLocalName());
+            writer.writeAttribute(Attribute.VALUE.getLocalName(), node.get(IMPLEMENTATION.getName()).asString().toLowerCase(Locale.US).replace('_', '-'));
+            writer.writeEndElement();
+        }
         if (SUBHANDLERS.isMarshallable(node)) {
             final ModelNode handlers = node.get(SUBHANDLERS.getName());
             writeHandlersContent(writer, Element.SUBHANDLERS, handlers);
@@ -1316,7 +1371,19 @@ public class LoggingSubsystemParser implements XMLStreamConstants, XMLElementRea
     }
 
     private void writeFormatter(final XMLExtendedStreamWriter writer, final ModelNode node) throws XMLStreamException {
-        if (FORMATTER.isMarshallable(node)) {
+        final FormatterType type = node.hasDefined(FORMATTER_TYPE.getName()) ? FormatterType.valueOf(node.get(FORMATTER_TYPE.getName()).asString()) : FormatterType.PATTERN;
+        if (type == FormatterType.JSON) {
+            writer.writeStartElement(Element.FORMATTER.getLocalName());
+            writer.writeEmptyElement(Element.JSON_FORMATTER.getLocalName());
+            writer.writeEndElement();
+        } else if (type == FormatterType.COMPILED_PATTERN) {
+            final ModelNode pattern = node.hasDefined(FORMATTER.getName()) ? node.get(FORMATTER.getName()) : FORMATTER.getDefaultValue();
+            writer.writeStartElement(Element.FORMATTER.getLocalName());
+            writer.writeStartElement(Element.COMPILED_PATTERN_FORMATTER.getLocalName());
+            writeAttribute(writer, Attribute.PATTERN, pattern);
+            writer.writeEndElement();
+            writer.writeEndElement();
+        } else if (FORMATTER.isMarshallable(node)) {
             writer.writeStartElement(Element.FORMATTER.getLocalName());
             writer.writeStartElement(Element.PATTERN_FORMATTER.getLocalName());
             writeAttribute(writer, Attribute.PATTERN, node.get(FORMATTER.getName()));
@@ -48,11 +48,14 @@ import static org.jboss.as.logging.CommonAttributes.ENCODING;
 import static org.jboss.as.logging.CommonAttributes.FILE;
 import static org.jboss.as.logging.CommonAttributes.FILTER;
 import static org.jboss.as.logging.CommonAttributes.FORMATTER;
+import static org.jboss.as.logging.CommonAttributes.FORMATTER_TYPE;
 import static org.jboss.as.logging.CommonAttributes.HANDLERS;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
 import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_INDEX;
+import static org.jboss.as.logging.CommonAttributes.MEMORY_MAPPED;
 import static org.jboss.as.logging.CommonAttributes.MODULE;
 import static org.jboss.as.logging.CommonAttributes.NAME;
+import static org.jboss.as.logging.CommonAttributes.IMPLEMENTATION;
 import static org.jboss.as.logging.CommonAttributes.OVERFLOW_ACTION;
 import static org.jboss.as.logging.CommonAttributes.PATH;
 import static org.jboss.as.logging.CommonAttributes.PROPERTIES;
@@ -73,6 +76,7 @@ import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.logging.handlers.HandlerLevelChange;
 import org.jboss.as.logging.handlers.async.AsyncHandlerAssignSubhandler;
+import org.jboss.as.logging.handlers.async.AsyncHandlerMetrics;
 import org.jboss.as.logging.handlers.async.AsyncHandlerUnassignSubhandler;
 import org.jboss.as.logging.handlers.async.AsyncHandlerUpdateProperties;
 import org.jboss.as.logging.handlers.console.ConsoleHandlerUpdateProperties;
@@ -398,6 +402,7 @@ class LoggingSubsystemProviders {
         LEVEL.addResourceAttributeDescription(bundle, "handler", modelNode);
         FILTER.addResourceAttributeDescription(bundle, "handler", modelNode);
         FORMATTER.addResourceAttributeDescription(bundle, "handler", modelNode);
+        FORMATTER_TYPE.addResourceAttributeDescription(bundle, "handler", modelNode);
     }
 
     private static void addCommonHandlerRequestProperties(final ModelNode modelNode, final ResourceBundle bundle) {
@@ -406,6 +411,7 @@ class LoggingSubsystemProviders {
         LEVEL.addOperationParameterDescription(bundle, "handler", modelNode);
         FILTER.addOperationParameterDescription(bundle, "handler", modelNode);
         FORMATTER.addOperationParameterDescription(bundle, "handler", modelNode);
+        FORMATTER_TYPE.addOperationParameterDescription(bundle, "handler", modelNode);
     }
 
     private static void addCommonHandlerOutputStreamAttributes(final ModelNode modelNode, final ResourceBundle bundle) {
@@ -430,9 +436,14 @@ class LoggingSubsystemProviders {
             LEVEL.addResourceAttributeDescription(bundle, "handler", node);
             FILTER.addResourceAttributeDescription(bundle, "handler", node);
             FORMATTER.addResourceAttributeDescription(bundle, "handler", node);
+            FORMATTER_TYPE.addResourceAttributeDescription(bundle, "handler", node);
             QUEUE_LENGTH.addResourceAttributeDescription(bundle, "async", node);
             OVERFLOW_ACTION.addResourceAttributeDescription(bundle, "async", node);
+            IMPLEMENTATION.addResourceAttributeDescription(bundle, "async", node);
             SUBHANDLERS.addResourceAttributeDescription(bundle, "async.handler", node);
+            for (AttributeDefinition metric : AsyncHandlerMetrics.METRICS) {
+                metric.addResourceAttributeDescription(bundle, "async", node);
+            }
 
             return node;
         }
@@ -451,8 +462,10 @@ class LoggingSubsystemProviders {
             LEVEL.addOperationParameterDescription(bundle, "handler", operation);
             FILTER.addOperationParameterDescription(bundle, "handler", operation);
             FORMATTER.addOperationParameterDescription(bundle, "handler", operation);
+            FORMATTER_TYPE.addOperationParameterDescription(bundle, "handler", operation);
             QUEUE_LENGTH.addOperationParameterDescription(bundle, "async", operation);
             OVERFLOW_ACTION.addOperationParameterDescription(bundle, "async", operation);
+            IMPLEMENTATION.addOperationParameterDescription(bundle, "async", operation);
             SUBHANDLERS.addOperationParameterDescription(bundle, "async.handler", operation);
 
             return operation;
@@ -472,8 +485,10 @@ class LoggingSubsystemProviders {
             LEVEL.addOperationParameterDescription(bundle, "handler", operation);
             FILTER.addOperationParameterDescription(bundle, "handler", operation);
             FORMATTER.addOperationParameterDescription(bundle, "handler", operation);
+            FORMATTER_TYPE.addOperationParameterDescription(bundle, "handler", operation);
             QUEUE_LENGTH.addOperationParameterDescription(bundle, "async", operation);
             OVERFLOW_ACTION.addOperationParameterDescription(bundle, "async", operation);
+            IMPLEMENTATION.addOperationParameterDescription(bundle, "async", operation);
             SUBHANDLERS.addOperationParameterDescription(bundle, "async.handler", operation);
 
             return operation;
@@ -667,6 +682,7 @@ class LoggingSubsystemProviders {
             addCommonFileHandlerAttributes(node, bundle);
             ROTATE_SIZE.addResourceAttributeDescription(bundle, "size.periodic.handler", node);
             MAX_BACKUP_INDEX.addResourceAttributeDescription(bundle, "size.periodic.handler", node);
+            MEMORY_MAPPED.addResourceAttributeDescription(bundle, "size.periodic.handler", node);
 
             return node;
         }
@@ -683,6 +699,7 @@ class LoggingSubsystemProviders {
             addCommonFileHandlerRequestProperties(operation, bundle);
             ROTATE_SIZE.addOperationParameterDescription(bundle, "size.periodic.handler", operation);
             MAX_BACKUP_INDEX.addOperationParameterDescription(bundle, "size.periodic.handler", operation);
+            MEMORY_MAPPED.addOperationParameterDescription(bundle, "size.periodic.handler", operation);
 
             return operation;
         }
@@ -699,6 +716,7 @@ class LoggingSubsystemProviders {
             addCommonFileHandlerRequestProperties(operation, bundle);
             ROTATE_SIZE.addOperationParameterDescription(bundle, "size.periodic.handler", operation);
             MAX_BACKUP_INDEX.addOperationParameterDescription(bundle, "size.periodic.handler", operation);
+            MEMORY_MAPPED.addOperationParameterDescription(bundle, "size.periodic.handler", operation);
 
             return operation;
         }
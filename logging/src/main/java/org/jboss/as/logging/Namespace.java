@@ -34,12 +34,14 @@ public enum Namespace {
 
     LOGGING_1_0("urn:jboss:domain:logging:1.0"),
 
-    LOGGING_1_1("urn:jboss:domain:logging:1.1");
+    LOGGING_1_1("urn:jboss:domain:logging:1.1"),
+
+    LOGGING_1_2("urn:jboss:domain:logging:1.2");
 
     /**
      * The current namespace version.
      */
-    public static final Namespace CURRENT = LOGGING_1_1;
+    public static final Namespace CURRENT = LOGGING_1_2;
 
     private final String name;
 
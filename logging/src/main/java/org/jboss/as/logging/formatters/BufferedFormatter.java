@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.formatters;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import org.jboss.logmanager.ExtFormatter;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * Formatter that renders records into a per-thread {@link StringBuilder}, which is reused across records.
+ * Handlers that write bytes can use {@link #formatBytes(ExtLogRecord, Charset)} to encode the rendered record into a
+ * per-thread byte buffer, skipping the intermediate {@link String} altogether.
+ */
+public abstract class BufferedFormatter extends ExtFormatter {
+
+    // Buffers that grew beyond this are discarded after use, rather than retained by the thread
+    private static final int MAX_RETAINED_SIZE = 64 * 1024;
+    private static final int INITIAL_SIZE = 256;
+
+    private static final ThreadLocal<Buffers> BUFFERS = new ThreadLocal<Buffers>() {
+        @Override
+        protected Buffers initialValue() {
+            return new Buffers();
+        }
+    };
+
+    /**
+     * Renders the specified record.
+     *
+     * @param builder the target of the rendered record
+     * @param record  the record to render
+     */
+    public abstract void render(StringBuilder builder, ExtLogRecord record);
+
+    @Override
+    public String format(final ExtLogRecord record) {
+        final Buffers buffers = BUFFERS.get();
+        final StringBuilder builder = buffers.builder();
+        this.render(builder, record);
+        final String result = builder.toString();
+        buffers.release();
+        return result;
+    }
+
+    /**
+     * Renders the specified record, encoded with the specified charset.
+     * The returned buffer belongs to the calling thread, and is only valid until its next call to this method.
+     *
+     * @param record  the record to render
+     * @param charset the charset with which to encode the rendered record
+     * @return a buffer containing the encoded record between its position and limit
+     */
+    public ByteBuffer formatBytes(final ExtLogRecord record, final Charset charset) {
+        final Buffers buffers = BUFFERS.get();
+        final StringBuilder builder = buffers.builder();
+        this.render(builder, record);
+        final ByteBuffer result = buffers.encode(builder, charset);
+        buffers.release();
+        return result;
+    }
+
+    private static class Buffers {
+        private StringBuilder builder = new StringBuilder(INITIAL_SIZE);
+        private ByteBuffer bytes = ByteBuffer.allocate(INITIAL_SIZE);
+        private CharsetEncoder encoder;
+
+        StringBuilder builder() {
+            this.builder.setLength(0);
+            return this.builder;
+        }
+
+        ByteBuffer encode(final CharSequence chars, final Charset charset) {
+            CharsetEncoder encoder = this.encoder;
+            if ((encoder == null) || !encoder.charset().equals(charset)) {
+                encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+                this.encoder = encoder;
+            }
+            final int required = (int) Math.ceil(chars.length() * encoder.maxBytesPerChar());
+            if (this.bytes.capacity() < required) {
+                this.bytes = ByteBuffer.allocate(required);
+            }
+            final ByteBuffer bytes = this.bytes;
+            bytes.clear();
+            encoder.reset();
+            final CharBuffer input = CharBuffer.wrap(chars);
+            CoderResult result = encoder.encode(input, bytes, true);
+            if (!result.isUnderflow()) {
+                // Cannot happen, since the buffer was sized for the worst case
+                throw new IllegalStateException(result.toString());
+            }
+            encoder.flush(bytes);
+            bytes.flip();
+            return bytes;
+        }
+
+        void release() {
+            if (this.builder.capacity() > MAX_RETAINED_SIZE) {
+                this.builder = new StringBuilder(INITIAL_SIZE);
+            }
+            if (this.bytes.capacity() > MAX_RETAINED_SIZE) {
+                // The caller still needs the encoded bytes, so just stop retaining them
+                this.bytes = ByteBuffer.allocate(INITIAL_SIZE);
+            }
+        }
+    }
+}
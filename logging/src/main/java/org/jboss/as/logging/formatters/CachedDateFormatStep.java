@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.formatters;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.FormatStep;
+
+/**
+ * Date format step that formats with a per-thread date format, and reuses the formatted timestamp for records logged
+ * within the same millisecond.
+ * Justification and truncation behave as for the date steps of the {@link org.jboss.logmanager.formatters.PatternFormatter}.
+ */
+public class CachedDateFormatStep implements FormatStep {
+
+    static final String DEFAULT_FORMAT = "yyyy-MM-dd HH:mm:ss,SSS";
+
+    private static final char[] SPACES = "                                ".toCharArray();
+
+    private final boolean leftJustify;
+    private final int minimumWidth;
+    private final int maximumWidth;
+    private final ThreadLocal<Cache> cache;
+
+    public CachedDateFormatStep(final TimeZone timeZone, final String format, final boolean leftJustify, final int minimumWidth, final int maximumWidth) {
+        this.leftJustify = leftJustify;
+        this.minimumWidth = minimumWidth;
+        this.maximumWidth = maximumWidth;
+        final String pattern = (format != null) ? format : DEFAULT_FORMAT;
+        // Validate the format eagerly
+        new SimpleDateFormat(pattern);
+        this.cache = new ThreadLocal<Cache>() {
+            @Override
+            protected Cache initialValue() {
+                final SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
+                dateFormat.setTimeZone(timeZone);
+                return new Cache(dateFormat);
+            }
+        };
+    }
+
+    @Override
+    public void render(final StringBuilder builder, final ExtLogRecord record) {
+        final String formatted = this.cache.get().format(record.getMillis());
+        final int length = Math.min(formatted.length(), this.maximumWidth);
+        final int padding = this.minimumWidth - length;
+        if (!this.leftJustify) {
+            pad(builder, padding);
+        }
+        builder.append(formatted, 0, length);
+        if (this.leftJustify) {
+            pad(builder, padding);
+        }
+    }
+
+    @Override
+    public int estimateLength() {
+        return Math.max(this.minimumWidth, DEFAULT_FORMAT.length());
+    }
+
+    private static void pad(final StringBuilder builder, int padding) {
+        while (padding > 0) {
+            final int count = Math.min(padding, SPACES.length);
+            builder.append(SPACES, 0, count);
+            padding -= count;
+        }
+    }
+
+    private static class Cache {
+        private final SimpleDateFormat dateFormat;
+        private final Date date = new Date(0);
+        private long millis = Long.MIN_VALUE;
+        private String formatted;
+
+        Cache(final SimpleDateFormat dateFormat) {
+            this.dateFormat = dateFormat;
+        }
+
+        String format(final long millis) {
+            if (millis != this.millis) {
+                this.date.setTime(millis);
+                this.formatted = this.dateFormat.format(this.date);
+                this.millis = millis;
+            }
+            return this.formatted;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.formatters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.FormatStep;
+import org.jboss.logmanager.formatters.FormatStringParser;
+
+/**
+ * Formatter accepting the same patterns as the {@link org.jboss.logmanager.formatters.PatternFormatter}, whose output
+ * it reproduces, but which renders records into reusable per-thread buffers.
+ * The pattern is compiled once into a list of steps. Date steps are replaced by {@link CachedDateFormatStep}s, which
+ * avoid both the lock around the shared date format and re-formatting timestamps within the same millisecond; all
+ * other conversions reuse the steps of the pattern formatter.
+ */
+public class CompiledPatternFormatter extends BufferedFormatter {
+
+    // Same syntax as the FormatStringParser
+    private static final Pattern PATTERN = Pattern.compile("([^%]++)|(?:%(?:(-)?(\\d+))?(?:\\.(\\d+))?(.)(?:\\{([^}]*)\\})?)");
+
+    private final String pattern;
+    private final FormatStep[] steps;
+
+    public CompiledPatternFormatter(final String pattern) {
+        this.pattern = pattern;
+        this.steps = compile(pattern);
+    }
+
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    @Override
+    public void render(final StringBuilder builder, final ExtLogRecord record) {
+        for (FormatStep step : this.steps) {
+            step.render(builder, record);
+        }
+    }
+
+    static FormatStep[] compile(final String pattern) {
+        final List<FormatStep> steps = new ArrayList<FormatStep>();
+        final Matcher matcher = PATTERN.matcher(pattern);
+        TimeZone timeZone = TimeZone.getDefault();
+        // Start of the pending run of conversions that are delegated to the pattern formatter's parser
+        int start = 0;
+        while (matcher.find()) {
+            final char conversion = (matcher.group(5) != null) ? matcher.group(5).charAt(0) : 0;
+            if ((conversion == 'd') || (conversion == 'z')) {
+                if (start < matcher.start()) {
+                    Collections.addAll(steps, FormatStringParser.getSteps(pattern.substring(start, matcher.start())));
+                }
+                start = matcher.end();
+                if (conversion == 'z') {
+                    timeZone = TimeZone.getTimeZone(matcher.group(6));
+                } else {
+                    final boolean leftJustify = (matcher.group(2) != null);
+                    final int minimumWidth = (matcher.group(3) != null) ? Integer.parseInt(matcher.group(3)) : 0;
+                    final int maximumWidth = (matcher.group(4) != null) ? Integer.parseInt(matcher.group(4)) : Integer.MAX_VALUE;
+                    steps.add(new CachedDateFormatStep(timeZone, matcher.group(6), leftJustify, minimumWidth, maximumWidth));
+                }
+            }
+        }
+        if (start < pattern.length()) {
+            Collections.addAll(steps, FormatStringParser.getSteps(pattern.substring(start)));
+        }
+        return steps.toArray(new FormatStep[steps.size()]);
+    }
+}
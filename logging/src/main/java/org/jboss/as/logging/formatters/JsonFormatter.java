@@ -0,0 +1,169 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.formatters;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.TimeZone;
+
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * Formatter that renders each record as a single line JSON object.
+ */
+public class JsonFormatter extends BufferedFormatter {
+
+    static final String TIMESTAMP_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private static final Throwable[] NO_THROWABLES = new Throwable[0];
+    // Throwable.getSuppressed() is only available from Java 7
+    private static final Method GET_SUPPRESSED;
+
+    static {
+        Method method;
+        try {
+            method = Throwable.class.getMethod("getSuppressed");
+        } catch (NoSuchMethodException e) {
+            method = null;
+        }
+        GET_SUPPRESSED = method;
+    }
+
+    private final CachedDateFormatStep timestamp = new CachedDateFormatStep(TimeZone.getDefault(), TIMESTAMP_FORMAT, false, 0, Integer.MAX_VALUE);
+
+    @Override
+    public void render(final StringBuilder builder, final ExtLogRecord record) {
+        builder.append("{\"timestamp\":\"");
+        this.timestamp.render(builder, record);
+        builder.append("\",\"sequence\":").append(record.getSequenceNumber());
+        appendField(builder, "loggerClassName", record.getLoggerClassName());
+        appendField(builder, "loggerName", record.getLoggerName());
+        appendField(builder, "level", record.getLevel().getName());
+        appendField(builder, "message", record.getFormattedMessage());
+        appendField(builder, "threadName", record.getThreadName());
+        builder.append(",\"threadId\":").append(record.getThreadID());
+        final String ndc = record.getNdc();
+        if ((ndc != null) && (ndc.length() > 0)) {
+            appendField(builder, "ndc", ndc);
+        }
+        final Throwable exception = record.getThrown();
+        if (exception != null) {
+            builder.append(",\"exception\":{");
+            appendException(builder, exception, Collections.newSetFromMap(new IdentityHashMap<Throwable, Boolean>()));
+            builder.append('}');
+        }
+        builder.append('}').append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends the fields of the specified exception, and recursively those of its suppressed exceptions and cause.
+     * An exception that was already appended is only identified, rather than appended again, so that a cycle of causes
+     * cannot recurse forever.
+     */
+    private static void appendException(final StringBuilder builder, final Throwable exception, final Set<Throwable> visited) {
+        builder.append("\"type\":");
+        appendString(builder, exception.getClass().getName());
+        appendField(builder, "message", exception.getMessage());
+        if (!visited.add(exception)) {
+            builder.append(",\"circularReference\":true");
+            return;
+        }
+        builder.append(",\"frames\":[");
+        final StackTraceElement[] frames = exception.getStackTrace();
+        for (int i = 0; i < frames.length; ++i) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            appendString(builder, frames[i].toString());
+        }
+        builder.append(']');
+        final Throwable[] suppressed = getSuppressed(exception);
+        if (suppressed.length > 0) {
+            builder.append(",\"suppressed\":[");
+            for (int i = 0; i < suppressed.length; ++i) {
+                builder.append((i > 0) ? ",{" : "{");
+                appendException(builder, suppressed[i], visited);
+                builder.append('}');
+            }
+            builder.append(']');
+        }
+        final Throwable cause = exception.getCause();
+        if (cause != null) {
+            builder.append(",\"cause\":{");
+            appendException(builder, cause, visited);
+            builder.append('}');
+        }
+    }
+
+    private static Throwable[] getSuppressed(final Throwable exception) {
+        if (GET_SUPPRESSED == null) return NO_THROWABLES;
+        try {
+            return (Throwable[]) GET_SUPPRESSED.invoke(exception);
+        } catch (Exception e) {
+            return NO_THROWABLES;
+        }
+    }
+
+    private static void appendField(final StringBuilder builder, final String name, final String value) {
+        if (value != null) {
+            builder.append(",\"").append(name).append("\":");
+            appendString(builder, value);
+        }
+    }
+
+    static void appendString(final StringBuilder builder, final String value) {
+        builder.append('"');
+        final int length = value.length();
+        for (int i = 0; i < length; ++i) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+}
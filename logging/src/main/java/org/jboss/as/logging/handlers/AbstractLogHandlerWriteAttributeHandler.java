@@ -26,6 +26,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_
 import static org.jboss.as.logging.CommonAttributes.ENCODING;
 import static org.jboss.as.logging.CommonAttributes.FILTER;
 import static org.jboss.as.logging.CommonAttributes.FORMATTER;
+import static org.jboss.as.logging.CommonAttributes.FORMATTER_TYPE;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
 import static org.jboss.as.logging.LoggingMessages.MESSAGES;
 
@@ -65,6 +66,7 @@ public abstract class AbstractLogHandlerWriteAttributeHandler<T extends Handler>
         this.attributes.put(LEVEL.getName(), LEVEL);
         this.attributes.put(FILTER.getName(), FILTER);
         this.attributes.put(FORMATTER.getName(), FORMATTER);
+        this.attributes.put(FORMATTER_TYPE.getName(), FORMATTER_TYPE);
         this.attributes.put(ENCODING.getName(), ENCODING);
         this.attributes.put(FILTER.getName(), FILTER);
         for (AttributeDefinition attr : attributes) {
@@ -89,8 +91,8 @@ public abstract class AbstractLogHandlerWriteAttributeHandler<T extends Handler>
             handler.setLevel(ModelParser.parseLevel(resolvedValue));
         } else if (FILTER.getName().equals(attributeName)) {
             handler.setFilter(ModelParser.parseFilter(context, resolvedValue));
-        } else if (FORMATTER.getName().equals(attributeName)) {
-            FormatterSpec.fromModelNode(context, resolvedValue).apply(handler);
+        } else if (FORMATTER.getName().equals(attributeName) || FORMATTER_TYPE.getName().equals(attributeName)) {
+            formatterSpec(context, attributeName, resolvedValue).apply(handler);
         } else if (ENCODING.getName().equals(attributeName)) {
             try {
                 handler.setEncoding(resolvedValue.asString());
@@ -110,8 +112,8 @@ public abstract class AbstractLogHandlerWriteAttributeHandler<T extends Handler>
                 handler.setLevel(ModelParser.parseLevel(valueToRestore));
             } else if (FILTER.getName().equals(attributeName)) {
                 handler.setFilter(ModelParser.parseFilter(context, valueToRestore));
-            } else if (FORMATTER.getName().equals(attributeName)) {
-                FormatterSpec.fromModelNode(context, valueToRestore).apply(handler);
+            } else if (FORMATTER.getName().equals(attributeName) || FORMATTER_TYPE.getName().equals(attributeName)) {
+                formatterSpec(context, attributeName, valueToRestore).apply(handler);
             } else if (ENCODING.getName().equals(attributeName)) {
                 try {
                     handler.setEncoding(valueToRestore.asString());
@@ -123,6 +125,15 @@ public abstract class AbstractLogHandlerWriteAttributeHandler<T extends Handler>
         }
     }
 
+    /**
+     * Creates the formatter described by the handler model, with the specified formatter attribute set to the specified value.
+     */
+    private static FormatterSpec formatterSpec(final OperationContext context, final String attributeName, final ModelNode value) throws OperationFailedException {
+        final ModelNode model = context.readResource(PathAddress.EMPTY_ADDRESS).getModel().clone();
+        model.get(attributeName).set(value);
+        return FormatterSpec.fromModelNode(context, model);
+    }
+
     /**
      * Applies additional runtime attributes for the handler.
      *
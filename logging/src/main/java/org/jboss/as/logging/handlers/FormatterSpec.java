@@ -23,12 +23,16 @@
 package org.jboss.as.logging.handlers;
 
 import static org.jboss.as.logging.CommonAttributes.FORMATTER;
+import static org.jboss.as.logging.CommonAttributes.FORMATTER_TYPE;
 
 import java.io.Serializable;
 import java.util.logging.Handler;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.logging.formatters.CompiledPatternFormatter;
+import org.jboss.as.logging.formatters.FormatterType;
+import org.jboss.as.logging.formatters.JsonFormatter;
 import org.jboss.dmr.ModelNode;
 import org.jboss.logmanager.formatters.PatternFormatter;
 
@@ -43,7 +47,15 @@ public abstract class FormatterSpec implements Serializable {
     public abstract void apply(Handler handler);
 
     public static FormatterSpec fromModelNode(final OperationContext context, final ModelNode node) throws OperationFailedException {
-        return new PatternFormatterSpec(FORMATTER.resolveModelAttribute(context, node).asString());
+        final String pattern = FORMATTER.resolveModelAttribute(context, node).asString();
+        switch (FormatterType.valueOf(FORMATTER_TYPE.resolveModelAttribute(context, node).asString())) {
+            case COMPILED_PATTERN:
+                return new CompiledPatternFormatterSpec(pattern);
+            case JSON:
+                return new JsonFormatterSpec();
+            default:
+                return new PatternFormatterSpec(pattern);
+        }
     }
 
 
@@ -62,4 +74,30 @@ public abstract class FormatterSpec implements Serializable {
             handler.setFormatter(new PatternFormatter(pattern));
         }
     }
+
+    private static final class CompiledPatternFormatterSpec extends FormatterSpec {
+
+        private static final long serialVersionUID = 7169431245366526431L;
+
+        private final String pattern;
+
+        public CompiledPatternFormatterSpec(final String pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        public void apply(final Handler handler) {
+            handler.setFormatter(new CompiledPatternFormatter(pattern));
+        }
+    }
+
+    private static final class JsonFormatterSpec extends FormatterSpec {
+
+        private static final long serialVersionUID = -3180914617829045211L;
+
+        @Override
+        public void apply(final Handler handler) {
+            handler.setFormatter(new JsonFormatter());
+        }
+    }
 }
@@ -26,6 +26,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_
 import static org.jboss.as.logging.CommonAttributes.ENCODING;
 import static org.jboss.as.logging.CommonAttributes.FILTER;
 import static org.jboss.as.logging.CommonAttributes.FORMATTER;
+import static org.jboss.as.logging.CommonAttributes.FORMATTER_TYPE;
 import static org.jboss.as.logging.CommonAttributes.LEVEL;
 import static org.jboss.as.logging.LoggingLogger.ROOT_LOGGER;
 import static org.jboss.as.logging.LoggingMessages.MESSAGES;
@@ -70,6 +71,7 @@ public abstract class HandlerUpdateProperties<T extends Handler> implements Oper
         this.attributeDefinitions = new ArrayList<AttributeDefinition>();
         this.attributeDefinitions.add(ENCODING);
         this.attributeDefinitions.add(FORMATTER);
+        this.attributeDefinitions.add(FORMATTER_TYPE);
         this.attributeDefinitions.add(LEVEL);
         this.attributeDefinitions.add(FILTER);
         Collections.addAll(this.attributeDefinitions, attributeDefinitions);
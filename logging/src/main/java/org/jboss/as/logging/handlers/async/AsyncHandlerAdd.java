@@ -22,6 +22,7 @@
 
 package org.jboss.as.logging.handlers.async;
 
+import static org.jboss.as.logging.CommonAttributes.IMPLEMENTATION;
 import static org.jboss.as.logging.CommonAttributes.OVERFLOW_ACTION;
 import static org.jboss.as.logging.CommonAttributes.QUEUE_LENGTH;
 import static org.jboss.as.logging.CommonAttributes.SUBHANDLERS;
@@ -49,7 +50,7 @@ public class AsyncHandlerAdd extends HandlerAddProperties<AsyncHandlerService> {
     public static final AsyncHandlerAdd INSTANCE = new AsyncHandlerAdd();
 
     private AsyncHandlerAdd() {
-        super(Arrays.asList(SUBHANDLERS, QUEUE_LENGTH, OVERFLOW_ACTION));
+        super(Arrays.asList(SUBHANDLERS, QUEUE_LENGTH, OVERFLOW_ACTION, IMPLEMENTATION));
     }
 
     @Override
@@ -65,6 +66,7 @@ public class AsyncHandlerAdd extends HandlerAddProperties<AsyncHandlerService> {
         }
         service.addHandlers(list);
         service.setQueueLength(QUEUE_LENGTH.resolveModelAttribute(context, model).asInt());
+        service.setImplementation(Implementation.valueOf(IMPLEMENTATION.resolveModelAttribute(context, model).asString()));
         final ModelNode overflowAction = OVERFLOW_ACTION.resolveModelAttribute(context, model);
         if (overflowAction.isDefined()) {
             service.setOverflowAction(ModelParser.parseOverflowAction(overflowAction));
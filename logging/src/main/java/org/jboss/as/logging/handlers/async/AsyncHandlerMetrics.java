@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.handlers.async;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import java.util.logging.Handler;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.logging.util.LogServices;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Runtime metrics of an async handler.
+ * Metrics are only available for the {@link Implementation#RING_BUFFER ring buffer} implementation, and are undefined
+ * otherwise.
+ */
+public class AsyncHandlerMetrics implements OperationStepHandler {
+
+    public static final AsyncHandlerMetrics INSTANCE = new AsyncHandlerMetrics();
+
+    public static final SimpleAttributeDefinition QUEUE_DEPTH = SimpleAttributeDefinitionBuilder.create("queue-depth", ModelType.LONG, true).
+            setStorageRuntime().
+            build();
+
+    public static final SimpleAttributeDefinition DROPPED_RECORDS = SimpleAttributeDefinitionBuilder.create("dropped-records", ModelType.LONG, true).
+            setStorageRuntime().
+            build();
+
+    public static final SimpleAttributeDefinition BATCH_COUNT = SimpleAttributeDefinitionBuilder.create("batch-count", ModelType.LONG, true).
+            setStorageRuntime().
+            build();
+
+    public static final SimpleAttributeDefinition AVERAGE_BATCH_SIZE = SimpleAttributeDefinitionBuilder.create("average-batch-size", ModelType.DOUBLE, true).
+            setStorageRuntime().
+            build();
+
+    public static final SimpleAttributeDefinition[] METRICS = {
+            QUEUE_DEPTH,
+            DROPPED_RECORDS,
+            BATCH_COUNT,
+            AVERAGE_BATCH_SIZE
+    };
+
+    private AsyncHandlerMetrics() {
+    }
+
+    @Override
+    public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+        if (context.isNormalServer()) {
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+                    final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+                    final String name = address.getLastElement().getValue();
+                    final String attributeName = operation.require(NAME).asString();
+                    final ServiceController<?> controller = context.getServiceRegistry(false).getService(LogServices.handlerName(name));
+                    final Handler handler = (controller != null) ? (Handler) controller.getValue() : null;
+                    if (handler instanceof RingBufferAsyncHandler) {
+                        final RingBufferAsyncHandler ringBuffer = (RingBufferAsyncHandler) handler;
+                        final ModelNode result = context.getResult();
+                        if (QUEUE_DEPTH.getName().equals(attributeName)) {
+                            result.set(ringBuffer.getQueueDepth());
+                        } else if (DROPPED_RECORDS.getName().equals(attributeName)) {
+                            result.set(ringBuffer.getDroppedRecords());
+                        } else if (BATCH_COUNT.getName().equals(attributeName)) {
+                            result.set(ringBuffer.getBatchCount());
+                        } else if (AVERAGE_BATCH_SIZE.getName().equals(attributeName)) {
+                            result.set(ringBuffer.getAverageBatchSize());
+                        }
+                    }
+                    context.completeStep();
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+        context.completeStep();
+    }
+}
@@ -31,6 +31,7 @@ import java.util.logging.Level;
 
 import org.jboss.as.logging.handlers.FormatterSpec;
 import org.jboss.as.logging.handlers.HandlerService;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.handlers.AsyncHandler;
 import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
 import org.jboss.msc.service.StartContext;
@@ -49,7 +50,9 @@ public final class AsyncHandlerService implements HandlerService {
 
     private int queueLength;
 
-    private AsyncHandler value;
+    private Implementation implementation = Implementation.QUEUE;
+
+    private ExtHandler value;
 
     private Level level;
     private Filter filter;
@@ -58,10 +61,10 @@ public final class AsyncHandlerService implements HandlerService {
     private boolean autoflush;
 
     public synchronized void start(final StartContext context) throws StartException {
-        final AsyncHandler handler = new AsyncHandler(queueLength);
+        final ExtHandler handler = (implementation == Implementation.RING_BUFFER) ? new RingBufferAsyncHandler(queueLength) : new AsyncHandler(queueLength);
         value = handler;
         formatterSpec.apply(handler);
-        handler.setOverflowAction(overflowAction);
+        setOverflowAction(handler, overflowAction);
         handler.setAutoFlush(autoflush);
         if (filter != null) handler.setFilter(filter);
         try {
@@ -78,7 +81,7 @@ public final class AsyncHandlerService implements HandlerService {
     }
 
     public synchronized void stop(final StopContext context) {
-        final AsyncHandler handler = value;
+        final ExtHandler handler = value;
         handler.close();
         handler.setLevel(Level.OFF);
         handler.clearHandlers();
@@ -91,9 +94,9 @@ public final class AsyncHandlerService implements HandlerService {
 
     public synchronized void setOverflowAction(final OverflowAction overflowAction) {
         this.overflowAction = overflowAction;
-        final AsyncHandler handler = value;
+        final ExtHandler handler = value;
         if (handler != null) {
-            handler.setOverflowAction(overflowAction);
+            setOverflowAction(handler, overflowAction);
         }
     }
 
@@ -101,9 +104,13 @@ public final class AsyncHandlerService implements HandlerService {
         this.queueLength = queueLength;
     }
 
+    public synchronized void setImplementation(final Implementation implementation) {
+        this.implementation = implementation;
+    }
+
     public synchronized void setLevel(final Level level) {
         this.level = level;
-        final AsyncHandler handler = value;
+        final ExtHandler handler = value;
         if (handler != null) {
             handler.setLevel(level);
         }
@@ -112,7 +119,7 @@ public final class AsyncHandlerService implements HandlerService {
     @Override
     public synchronized void setEncoding(final String encoding) throws UnsupportedEncodingException {
         this.encoding = encoding;
-        final AsyncHandler handler = value;
+        final ExtHandler handler = value;
         if (handler != null) {
             handler.setEncoding(encoding);
         }
@@ -121,7 +128,7 @@ public final class AsyncHandlerService implements HandlerService {
     @Override
     public synchronized void setFormatterSpec(final FormatterSpec formatterSpec) {
         this.formatterSpec = formatterSpec;
-        final AsyncHandler handler = value;
+        final ExtHandler handler = value;
         if (handler != null) {
             formatterSpec.apply(handler);
         }
@@ -130,7 +137,7 @@ public final class AsyncHandlerService implements HandlerService {
     @Override
     public synchronized void setFilter(final Filter filter) {
         this.filter = filter;
-        final AsyncHandler handler = value;
+        final ExtHandler handler = value;
         if (handler != null) {
             handler.setFilter(filter);
         }
@@ -138,7 +145,7 @@ public final class AsyncHandlerService implements HandlerService {
 
     public synchronized void addHandlers(final List<InjectedValue<Handler>> list) {
         subhandlers.addAll(list);
-        final AsyncHandler handler = value;
+        final ExtHandler handler = value;
         if (handler != null) {
             for (InjectedValue<Handler> injectedHandler : list) {
                 handler.addHandler(injectedHandler.getValue());
@@ -148,7 +155,7 @@ public final class AsyncHandlerService implements HandlerService {
 
     public synchronized void addHandler(final InjectedValue<Handler> injectedHandler) {
         subhandlers.add(injectedHandler);
-        final AsyncHandler handler = value;
+        final ExtHandler handler = value;
         if (handler != null) {
             handler.addHandler(injectedHandler.getValue());
         }
@@ -163,10 +170,24 @@ public final class AsyncHandlerService implements HandlerService {
 
             subhandlers.remove(valueToRemove);
 
-            final AsyncHandler handler = value;
+            final ExtHandler handler = value;
             if (handler != null) {
                 handler.removeHandler(valueToRemove.getValue());
             }
         }
     }
+
+    /**
+     * Sets the overflow action of an async handler, regardless of its implementation.
+     *
+     * @param handler        the async handler
+     * @param overflowAction the overflow action
+     */
+    public static void setOverflowAction(final Handler handler, final OverflowAction overflowAction) {
+        if (handler instanceof RingBufferAsyncHandler) {
+            ((RingBufferAsyncHandler) handler).setOverflowAction(overflowAction);
+        } else {
+            ((AsyncHandler) handler).setOverflowAction(overflowAction);
+        }
+    }
 }
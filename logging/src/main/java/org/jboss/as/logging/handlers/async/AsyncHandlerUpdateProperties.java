@@ -22,6 +22,7 @@
 
 package org.jboss.as.logging.handlers.async;
 
+import static org.jboss.as.logging.CommonAttributes.IMPLEMENTATION;
 import static org.jboss.as.logging.CommonAttributes.OVERFLOW_ACTION;
 import static org.jboss.as.logging.CommonAttributes.QUEUE_LENGTH;
 import static org.jboss.as.logging.CommonAttributes.SUBHANDLERS;
@@ -31,7 +32,8 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.logging.handlers.HandlerUpdateProperties;
 import org.jboss.as.logging.util.ModelParser;
 import org.jboss.dmr.ModelNode;
-import org.jboss.logmanager.handlers.AsyncHandler;
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
 
 import java.util.Locale;
 
@@ -41,21 +43,21 @@ import java.util.Locale;
  * @author John Bailey
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
-public class AsyncHandlerUpdateProperties extends HandlerUpdateProperties<AsyncHandler> {
+public class AsyncHandlerUpdateProperties extends HandlerUpdateProperties<ExtHandler> {
     public static final AsyncHandlerUpdateProperties INSTANCE = new AsyncHandlerUpdateProperties();
 
     public static final String OPERATION_NAME = HandlerUpdateProperties.OPERATION_NAME;
 
     private AsyncHandlerUpdateProperties() {
-        super(OVERFLOW_ACTION, SUBHANDLERS, QUEUE_LENGTH);
+        super(OVERFLOW_ACTION, SUBHANDLERS, QUEUE_LENGTH, IMPLEMENTATION);
     }
 
     @Override
-    protected boolean applyUpdateToRuntime(OperationContext context, final String handlerName, final ModelNode model, final ModelNode originalModel, final AsyncHandler handler) throws OperationFailedException {
+    protected boolean applyUpdateToRuntime(OperationContext context, final String handlerName, final ModelNode model, final ModelNode originalModel, final ExtHandler handler) throws OperationFailedException {
         boolean requireRestart = false;
         final ModelNode overflowAction = OVERFLOW_ACTION.resolveModelAttribute(context, model);
         if (overflowAction.isDefined()) {
-            handler.setOverflowAction(ModelParser.parseOverflowAction(overflowAction));
+            AsyncHandlerService.setOverflowAction(handler, ModelParser.parseOverflowAction(overflowAction));
         }
 
         final ModelNode queueLength = QUEUE_LENGTH.resolveModelAttribute(context, model);
@@ -63,6 +65,11 @@ public class AsyncHandlerUpdateProperties extends HandlerUpdateProperties<AsyncH
             requireRestart = true;
         }
 
+        final ModelNode implementation = IMPLEMENTATION.resolveModelAttribute(context, model);
+        if (implementation.isDefined()) {
+            requireRestart = true;
+        }
+
         // Only if not restart required
         final ModelNode subhandlers = SUBHANDLERS.resolveModelAttribute(context, model);
         if (subhandlers.isDefined()) {
@@ -75,10 +82,10 @@ public class AsyncHandlerUpdateProperties extends HandlerUpdateProperties<AsyncH
     }
 
     @Override
-    protected void revertUpdateToRuntime(final OperationContext context, final String handlerName, final ModelNode model, final ModelNode originalModel, final AsyncHandler handler) throws OperationFailedException {
+    protected void revertUpdateToRuntime(final OperationContext context, final String handlerName, final ModelNode model, final ModelNode originalModel, final ExtHandler handler) throws OperationFailedException {
         final ModelNode overflowAction = OVERFLOW_ACTION.resolveModelAttribute(context, originalModel);
         if (overflowAction.isDefined()) {
-            handler.setOverflowAction(AsyncHandler.OverflowAction.valueOf(overflowAction.asString().toUpperCase(Locale.US)));
+            AsyncHandlerService.setOverflowAction(handler, OverflowAction.valueOf(overflowAction.asString().toUpperCase(Locale.US)));
         }
     }
 }
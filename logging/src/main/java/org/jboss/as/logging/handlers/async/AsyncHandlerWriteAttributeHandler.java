@@ -22,6 +22,7 @@
 
 package org.jboss.as.logging.handlers.async;
 
+import static org.jboss.as.logging.CommonAttributes.IMPLEMENTATION;
 import static org.jboss.as.logging.CommonAttributes.OVERFLOW_ACTION;
 import static org.jboss.as.logging.CommonAttributes.QUEUE_LENGTH;
 import static org.jboss.as.logging.CommonAttributes.SUBHANDLERS;
@@ -31,40 +32,40 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.logging.util.ModelParser;
 import org.jboss.as.logging.handlers.AbstractLogHandlerWriteAttributeHandler;
 import org.jboss.dmr.ModelNode;
-import org.jboss.logmanager.handlers.AsyncHandler;
+import org.jboss.logmanager.ExtHandler;
 
 /**
  * Date: 12.10.2011
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
-public class AsyncHandlerWriteAttributeHandler extends AbstractLogHandlerWriteAttributeHandler<AsyncHandler> {
+public class AsyncHandlerWriteAttributeHandler extends AbstractLogHandlerWriteAttributeHandler<ExtHandler> {
 
     public static final AsyncHandlerWriteAttributeHandler INSTANCE = new AsyncHandlerWriteAttributeHandler();
 
     private AsyncHandlerWriteAttributeHandler() {
-        super(OVERFLOW_ACTION, SUBHANDLERS, QUEUE_LENGTH);
+        super(OVERFLOW_ACTION, SUBHANDLERS, QUEUE_LENGTH, IMPLEMENTATION);
     }
 
     @Override
-    protected boolean doApplyUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode resolvedValue, final ModelNode currentValue, final String handlerName, final AsyncHandler handler) throws OperationFailedException {
+    protected boolean doApplyUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode resolvedValue, final ModelNode currentValue, final String handlerName, final ExtHandler handler) throws OperationFailedException {
         if (OVERFLOW_ACTION.getName().equals(attributeName)) {
-            handler.setOverflowAction(ModelParser.parseOverflowAction(resolvedValue));
+            AsyncHandlerService.setOverflowAction(handler, ModelParser.parseOverflowAction(resolvedValue));
         } else if (SUBHANDLERS.getName().equals(attributeName)) {
             // Remove the subhandlers
             AsyncHandlerUnassignSubhandler.removeHandlers(SUBHANDLERS, currentValue, context, handlerName);
             // Add the new handlers
             AsyncHandlerAssignSubhandler.addHandlers(SUBHANDLERS, resolvedValue, context, handlerName);
-        } else if (QUEUE_LENGTH.getName().equals(attributeName)) {
+        } else if (QUEUE_LENGTH.getName().equals(attributeName) || IMPLEMENTATION.getName().equals(attributeName)) {
             return true;
         }
         return false;
     }
 
     @Override
-    protected void doRevertUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode valueToRestore, final ModelNode valueToRevert, final String handlerName, final AsyncHandler handler) throws OperationFailedException {
+    protected void doRevertUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode valueToRestore, final ModelNode valueToRevert, final String handlerName, final ExtHandler handler) throws OperationFailedException {
         if (OVERFLOW_ACTION.getName().equals(attributeName)) {
-            handler.setOverflowAction(ModelParser.parseOverflowAction(valueToRestore));
+            AsyncHandlerService.setOverflowAction(handler, ModelParser.parseOverflowAction(valueToRestore));
         } else if (SUBHANDLERS.getName().equals(attributeName)) {
             // Remove the subhandlers
             AsyncHandlerUnassignSubhandler.removeHandlers(SUBHANDLERS, valueToRevert, context, handlerName);
@@ -0,0 +1,303 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.handlers.async;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * Asynchronous handler backed by a preallocated, lock-free ring buffer, supporting multiple producers and a single consumer.
+ * The consumer thread drains records in batches, publishing each batch to every sub-handler in turn and flushing each
+ * sub-handler once per batch, rather than once per record.
+ * Sub-handlers should therefore not auto-flush, otherwise they will still flush on every record.
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long CONSUMER_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    // Set on the claimed sequence by close(), so that no further slots can be claimed
+    private static final long SEALED = Long.MIN_VALUE;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong batchedRecords = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread thread;
+    private volatile long consumed = 0;
+    private volatile boolean parked = false;
+    private volatile boolean closed = false;
+    private volatile OverflowAction overflowAction = OverflowAction.BLOCK;
+
+    /**
+     * Creates a new handler.
+     * @param capacity the minimum number of records that can be queued, rounded up to the next power of 2
+     */
+    public RingBufferAsyncHandler(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(Integer.toString(capacity));
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; ++i) {
+            this.slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.thread = new Thread(new Consumer(Math.min(size, MAX_BATCH_SIZE)), "ring-buffer-async-handler");
+        this.thread.setDaemon(true);
+    }
+
+    public OverflowAction getOverflowAction() {
+        return this.overflowAction;
+    }
+
+    public void setOverflowAction(OverflowAction overflowAction) {
+        checkAccess();
+        this.overflowAction = overflowAction;
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        if (this.closed) {
+            this.dropped.incrementAndGet();
+            return;
+        }
+        if (this.started.compareAndSet(false, true)) {
+            this.thread.start();
+        }
+        // The record will be formatted by another thread, so capture its thread-dependent state now
+        record.copyAll();
+
+        long sequence;
+        do {
+            sequence = this.claimed.get();
+            if (sequence < 0) {
+                // Sealed by close()
+                this.dropped.incrementAndGet();
+                return;
+            }
+            while (sequence - this.consumed >= this.slots.length) {
+                if ((this.overflowAction == OverflowAction.DISCARD) || this.closed || Thread.currentThread().isInterrupted()) {
+                    this.dropped.incrementAndGet();
+                    return;
+                }
+                // Make sure the consumer is draining, then back off until a slot is released
+                LockSupport.unpark(this.thread);
+                LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+                sequence = this.claimed.get();
+                if (sequence < 0) {
+                    this.dropped.incrementAndGet();
+                    return;
+                }
+            }
+        } while (!this.claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = this.slots[(int) sequence & this.mask];
+        slot.record = record;
+        // Publish the record to the consumer
+        slot.sequence = sequence;
+
+        if (this.parked) {
+            LockSupport.unpark(this.thread);
+        }
+    }
+
+    /**
+     * Flushes the sub-handlers.
+     * Records still queued are not flushed, since they are only ever published by the consumer thread.
+     */
+    @Override
+    public void flush() {
+        for (Handler handler : this.handlers) {
+            handler.flush();
+        }
+    }
+
+    /**
+     * Stops accepting records, and waits for the consumer thread to publish the records already queued.
+     * Records whose slot was claimed before the handler was closed are still published, even if the producer had not
+     * yet written them to the slot.
+     * The sub-handlers are not closed.
+     */
+    @Override
+    public void close() throws SecurityException {
+        checkAccess();
+        this.closed = true;
+        // Seal the claimed sequence, so that the consumer knows the last record it has to wait for
+        long sequence = this.claimed.get();
+        while ((sequence >= 0) && !this.claimed.compareAndSet(sequence, sequence | SEALED)) {
+            sequence = this.claimed.get();
+        }
+        if (this.started.get() && (Thread.currentThread() != this.thread)) {
+            LockSupport.unpark(this.thread);
+            try {
+                this.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return this.slots.length;
+    }
+
+    /**
+     * Returns the number of records that were queued, but not yet published to the sub-handlers.
+     */
+    public long getQueueDepth() {
+        return Math.max(0, (this.claimed.get() & ~SEALED) - this.consumed);
+    }
+
+    /**
+     * Returns the number of records discarded because the queue was full, or because the handler was closed.
+     */
+    public long getDroppedRecords() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Returns the number of batches published to the sub-handlers.
+     */
+    public long getBatchCount() {
+        return this.batches.get();
+    }
+
+    /**
+     * Returns the average number of records per batch.
+     */
+    public double getAverageBatchSize() {
+        long batches = this.batches.get();
+        return (batches > 0) ? (double) this.batchedRecords.get() / batches : 0;
+    }
+
+    /**
+     * Drains published records, in order, into the specified batch.
+     * @return the number of drained records
+     */
+    int drain(ExtLogRecord[] batch) {
+        long sequence = this.consumed;
+        int count = 0;
+        while (count < batch.length) {
+            Slot slot = this.slots[(int) sequence & this.mask];
+            if (slot.sequence != sequence) break;
+            batch[count++] = slot.record;
+            slot.record = null;
+            sequence += 1;
+        }
+        if (count > 0) {
+            // Release the drained slots to the producers
+            this.consumed = sequence;
+        }
+        return count;
+    }
+
+    /**
+     * Indicates whether the handler was closed, and every record whose slot was claimed before then was drained.
+     */
+    boolean isTerminated() {
+        long sequence = this.claimed.get();
+        return (sequence < 0) && (this.consumed == (sequence & ~SEALED));
+    }
+
+    boolean isEmpty() {
+        long sequence = this.consumed;
+        return this.slots[(int) sequence & this.mask].sequence != sequence;
+    }
+
+    private class Consumer implements Runnable {
+        private final ExtLogRecord[] batch;
+
+        Consumer(int batchSize) {
+            this.batch = new ExtLogRecord[batchSize];
+        }
+
+        @Override
+        public void run() {
+            RingBufferAsyncHandler handler = RingBufferAsyncHandler.this;
+            while (true) {
+                int count = handler.drain(this.batch);
+                if (count > 0) {
+                    this.publish(count);
+                } else if (handler.isTerminated()) {
+                    return;
+                } else if (handler.closed) {
+                    // A producer claimed a slot before the handler was sealed, but has not written its record yet
+                    Thread.yield();
+                } else {
+                    handler.parked = true;
+                    try {
+                        // Re-check after announcing that we are parked, so that a concurrent publish cannot be missed
+                        if (handler.isEmpty() && !handler.closed) {
+                            LockSupport.parkNanos(handler, CONSUMER_PARK_NANOS);
+                        }
+                    } finally {
+                        handler.parked = false;
+                    }
+                }
+            }
+        }
+
+        private void publish(int count) {
+            RingBufferAsyncHandler handler = RingBufferAsyncHandler.this;
+            for (Handler subhandler : handler.handlers) {
+                for (int i = 0; i < count; ++i) {
+                    try {
+                        subhandler.publish(this.batch[i]);
+                    } catch (Exception e) {
+                        handler.reportError("Failed to publish log record", e, ErrorManager.WRITE_FAILURE);
+                    }
+                }
+                try {
+                    subhandler.flush();
+                } catch (Exception e) {
+                    handler.reportError("Failed to flush handler", e, ErrorManager.FLUSH_FAILURE);
+                }
+            }
+            for (int i = 0; i < count; ++i) {
+                this.batch[i] = null;
+            }
+            handler.batchedRecords.addAndGet(count);
+            handler.batches.incrementAndGet();
+        }
+    }
+
+    static class Slot {
+        volatile long sequence = -1;
+        ExtLogRecord record;
+    }
+}
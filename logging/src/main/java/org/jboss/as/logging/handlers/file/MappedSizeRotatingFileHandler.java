@@ -0,0 +1,559 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.handlers.file;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.as.logging.formatters.BufferedFormatter;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.SizeRotatingFileHandler;
+
+/**
+ * Size rotating file handler that writes formatted records into a memory-mapped segment, pre-allocated to the rotate
+ * size, instead of through a stream.
+ * The next segment file is created ahead of time by a background thread, so rotation on the publishing thread only
+ * unmaps the full segment, renames two files and maps the next one. Shifting the backups and compressing the most recent
+ * backup are left to the background thread.
+ * A segment is always unmapped before its file is truncated or renamed, since some platforms refuse to do either while
+ * a mapping exists.
+ * Until a segment is closed, its file contains trailing zero bytes up to the rotate size; these are trimmed when the
+ * segment is rotated or the handler is closed, or when appending to a file left behind by an unclean shutdown.
+ */
+public class MappedSizeRotatingFileHandler extends SizeRotatingFileHandler {
+
+    static final String NEXT_SUFFIX = ".next";
+    static final String ROTATED_SUFFIX = ".rotated";
+    static final String COMPRESSED_SUFFIX = ".gz";
+
+    private static final long DEFAULT_ROTATE_SIZE = 0xa0000L;
+    private static final long SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "mapped-file-handler-rotation");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private File file;
+    private boolean append;
+    private long rotateSize = DEFAULT_ROTATE_SIZE;
+    private int maxBackupIndex = 1;
+    private volatile Charset charset = Charset.defaultCharset();
+    private Segment segment;
+    private Future<File> next;
+
+    @Override
+    public void setFile(final File file) throws FileNotFoundException {
+        synchronized (outputLock) {
+            this.closeSegment();
+            this.discardNext();
+            this.file = file;
+            if (file != null) {
+                try {
+                    this.segment = Segment.create(file, this.getSegmentCapacity(), this.append);
+                } catch (IOException e) {
+                    final FileNotFoundException exception = new FileNotFoundException(file.getPath());
+                    exception.initCause(e);
+                    throw exception;
+                }
+                this.writeHead(this.segment);
+                this.next = this.prepareNext();
+            }
+        }
+    }
+
+    @Override
+    public File getFile() {
+        synchronized (outputLock) {
+            return this.file;
+        }
+    }
+
+    @Override
+    public void setAppend(final boolean append) {
+        synchronized (outputLock) {
+            this.append = append;
+        }
+        super.setAppend(append);
+    }
+
+    @Override
+    public void setRotateSize(final long rotateSize) {
+        synchronized (outputLock) {
+            if (this.rotateSize != rotateSize) {
+                this.rotateSize = rotateSize;
+                // The prepared segment was allocated for the previous size
+                if (this.file != null) {
+                    this.discardNext();
+                    this.next = this.prepareNext();
+                }
+            }
+        }
+        super.setRotateSize(rotateSize);
+    }
+
+    @Override
+    public void setMaxBackupIndex(final int maxBackupIndex) {
+        synchronized (outputLock) {
+            this.maxBackupIndex = maxBackupIndex;
+        }
+        super.setMaxBackupIndex(maxBackupIndex);
+    }
+
+    @Override
+    public void setEncoding(final String encoding) throws SecurityException, UnsupportedEncodingException {
+        final Charset charset;
+        try {
+            charset = (encoding != null) ? Charset.forName(encoding) : Charset.defaultCharset();
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedEncodingException(encoding);
+        }
+        super.setEncoding(encoding);
+        this.charset = charset;
+    }
+
+    @Override
+    protected void doPublish(final ExtLogRecord record) {
+        final Formatter formatter = this.getFormatter();
+        final ByteBuffer bytes;
+        try {
+            if (formatter instanceof BufferedFormatter) {
+                // Encode straight from the formatter's buffer, without an intermediate string
+                bytes = ((BufferedFormatter) formatter).formatBytes(record, this.charset);
+            } else {
+                bytes = ByteBuffer.wrap(formatter.format(record).getBytes(this.charset));
+            }
+        } catch (Exception e) {
+            this.reportError("Formatting error", e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        if (!bytes.hasRemaining()) return;
+        synchronized (outputLock) {
+            this.write(bytes);
+        }
+    }
+
+    /**
+     * Forces the mapped pages of the current segment to be written back to the file.
+     */
+    @Override
+    public void flush() {
+        synchronized (outputLock) {
+            if (this.segment != null) {
+                this.segment.force();
+            }
+        }
+    }
+
+    /**
+     * Closes the current segment, and waits for pending rotations to complete.
+     */
+    @Override
+    public void close() throws SecurityException {
+        checkAccess();
+        synchronized (outputLock) {
+            this.closeSegment();
+            this.discardNext();
+            this.file = null;
+        }
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        super.close();
+    }
+
+    private void write(final ByteBuffer bytes) {
+        Segment segment = this.segment;
+        if (segment == null) return;
+        try {
+            if (!segment.write(bytes)) {
+                segment = this.rotate();
+                if ((segment != null) && !segment.write(bytes)) {
+                    // Larger than an entire segment, so bypass the mapping
+                    segment.writeOversized(bytes);
+                }
+            }
+        } catch (IOException e) {
+            this.reportError("Error writing log message", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * Closes the full segment, moves the prepared segment file into place and maps it.
+     * Shifting the backups is left to the background thread.
+     * @return the new segment, or null if it could not be created
+     */
+    private Segment rotate() {
+        final File next;
+        try {
+            next = this.next.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            this.reportError("Unable to rotate log file", e, ErrorManager.OPEN_FAILURE);
+            // Try again on the next rotation
+            this.next = this.prepareNext();
+            return null;
+        }
+        // The previous rotation ran before the prepared segment was created, so the rotated file name is free
+        final File rotated = new File(this.file.getPath() + ROTATED_SUFFIX);
+        this.closeSegment();
+        rename(this.file, rotated);
+        rename(next, this.file);
+        try {
+            this.segment = Segment.open(this.file, this.getSegmentCapacity());
+        } catch (IOException e) {
+            this.reportError("Unable to rotate log file", e, ErrorManager.OPEN_FAILURE);
+        }
+        this.executor.submit(new Rotation(rotated, this.file, this.maxBackupIndex));
+        this.next = this.prepareNext();
+        if (this.segment != null) {
+            this.writeHead(this.segment);
+        }
+        return this.segment;
+    }
+
+    private Future<File> prepareNext() {
+        final File file = new File(this.file.getPath() + NEXT_SUFFIX);
+        final int capacity = this.getSegmentCapacity();
+        return this.executor.submit(new Callable<File>() {
+            @Override
+            public File call() throws IOException {
+                Segment.allocate(file, capacity);
+                return file;
+            }
+        });
+    }
+
+    private void discardNext() {
+        final Future<File> next = this.next;
+        if (next == null) return;
+        this.next = null;
+        final File file = new File(this.file.getPath() + NEXT_SUFFIX);
+        this.executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                file.delete();
+            }
+        });
+    }
+
+    private void closeSegment() {
+        final Segment segment = this.segment;
+        if (segment == null) return;
+        this.segment = null;
+        this.writeTail(segment);
+        try {
+            segment.close();
+        } catch (IOException e) {
+            this.reportError("Error closing log file", e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    private void writeHead(final Segment segment) {
+        final Formatter formatter = this.getFormatter();
+        if ((formatter != null) && (segment.getSize() == 0)) {
+            this.writeBoundary(segment, formatter.getHead(this));
+        }
+    }
+
+    private void writeTail(final Segment segment) {
+        final Formatter formatter = this.getFormatter();
+        if (formatter != null) {
+            this.writeBoundary(segment, formatter.getTail(this));
+        }
+    }
+
+    private void writeBoundary(final Segment segment, final String text) {
+        if ((text == null) || (text.length() == 0)) return;
+        final ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(this.charset));
+        try {
+            if (!segment.write(bytes)) {
+                segment.writeOversized(bytes);
+            }
+        } catch (IOException e) {
+            this.reportError("Error writing log message", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    private int getSegmentCapacity() {
+        return (int) Math.min(Math.max(this.rotateSize, 1), Integer.MAX_VALUE);
+    }
+
+    /**
+     * A log file, mapped up to its capacity.
+     * The buffer must not be accessed once the segment is closed, since it is unmapped by then.
+     */
+    static class Segment {
+        private final RandomAccessFile file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private long size;
+        private boolean closed;
+
+        private Segment(final RandomAccessFile file, final long size, final int capacity) throws IOException {
+            this.file = file;
+            this.channel = file.getChannel();
+            // Mapping beyond the end of the file extends it
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(capacity, size));
+            this.buffer.position((int) size);
+            this.size = size;
+        }
+
+        static Segment create(final File path, final int capacity, final boolean append) throws IOException {
+            final File parent = path.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            final RandomAccessFile file = new RandomAccessFile(path, "rw");
+            try {
+                final long size = append ? contentLength(file.getChannel()) : 0;
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException(path.getPath());
+                }
+                file.setLength(size);
+                return new Segment(file, size, capacity);
+            } catch (IOException e) {
+                file.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Maps a file previously created by {@link #allocate(File, int)}, as an empty segment.
+         */
+        static Segment open(final File path, final int capacity) throws IOException {
+            final RandomAccessFile file = new RandomAccessFile(path, "rw");
+            try {
+                return new Segment(file, 0, capacity);
+            } catch (IOException e) {
+                file.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Creates an empty file, extended to the specified capacity, which is mapped later by {@link #open(File, int)}.
+         */
+        static void allocate(final File path, final int capacity) throws IOException {
+            final RandomAccessFile file = new RandomAccessFile(path, "rw");
+            try {
+                file.setLength(0);
+                file.setLength(capacity);
+            } finally {
+                file.close();
+            }
+        }
+
+        /**
+         * Returns the length of the file, excluding the trailing zero bytes left behind by a segment that was never closed.
+         */
+        static long contentLength(final FileChannel channel) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.allocate(8192);
+            long end = channel.size();
+            while (end > 0) {
+                final long start = Math.max(0, end - buffer.capacity());
+                buffer.clear();
+                buffer.limit((int) (end - start));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, start + buffer.position()) < 0) break;
+                }
+                for (int i = buffer.position() - 1; i >= 0; --i) {
+                    if (buffer.get(i) != 0) {
+                        return start + i + 1;
+                    }
+                }
+                end = start;
+            }
+            return 0;
+        }
+
+        long getSize() {
+            return this.size;
+        }
+
+        /**
+         * Writes the specified bytes to the mapped buffer.
+         * @return true, if the bytes were written, false if the segment is full.
+         */
+        boolean write(final ByteBuffer bytes) {
+            final int length = bytes.remaining();
+            if (length > this.buffer.remaining()) return false;
+            this.buffer.put(bytes);
+            this.size += length;
+            return true;
+        }
+
+        /**
+         * Writes the specified bytes through the channel, and marks this segment as full.
+         */
+        void writeOversized(final ByteBuffer bytes) throws IOException {
+            while (bytes.hasRemaining()) {
+                this.size += this.channel.write(bytes, this.size);
+            }
+            this.buffer.position(this.buffer.limit());
+        }
+
+        /**
+         * Writes the mapped pages back to the file.
+         */
+        void force() {
+            if (!this.closed) {
+                this.buffer.force();
+            }
+        }
+
+        /**
+         * Unmaps the buffer, then truncates the file to its content, and closes it.
+         */
+        void close() throws IOException {
+            if (this.closed) return;
+            this.closed = true;
+            unmap(this.buffer);
+            try {
+                this.channel.truncate(this.size);
+            } finally {
+                this.file.close();
+            }
+        }
+    }
+
+    /**
+     * Releases the mapping of the specified buffer now, rather than when the buffer is garbage collected.
+     * The JDK offers no public API for this, so the buffer's cleaner is invoked reflectively. If that fails, the mapping
+     * is left to the garbage collector.
+     */
+    static void unmap(final MappedByteBuffer buffer) {
+        try {
+            final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            final Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (Exception e) {
+            // Not a HotSpot direct buffer
+        }
+    }
+
+    /**
+     * Shifts the existing backups, then renames the closed full segment into place as the most recent backup.
+     * The most recent backup is compressed last, since the rotation is complete by then.
+     */
+    class Rotation implements Runnable {
+        private final File rotated;
+        private final File file;
+        private final int maxBackupIndex;
+
+        Rotation(final File rotated, final File file, final int maxBackupIndex) {
+            this.rotated = rotated;
+            this.file = file;
+            this.maxBackupIndex = maxBackupIndex;
+        }
+
+        @Override
+        public void run() {
+            this.backup(this.maxBackupIndex).delete();
+            this.compressedBackup(this.maxBackupIndex).delete();
+            for (int i = this.maxBackupIndex - 1; i >= 1; --i) {
+                rename(this.backup(i), this.backup(i + 1));
+                rename(this.compressedBackup(i), this.compressedBackup(i + 1));
+            }
+            final File backup = this.backup(1);
+            rename(this.rotated, backup);
+            try {
+                compress(backup, this.compressedBackup(1));
+                backup.delete();
+            } catch (IOException e) {
+                // Keep the uncompressed backup
+                this.compressedBackup(1).delete();
+                MappedSizeRotatingFileHandler.this.reportError("Error compressing log file", e, ErrorManager.GENERIC_FAILURE);
+            }
+        }
+
+        private File backup(final int index) {
+            return new File(this.file.getPath() + "." + index);
+        }
+
+        private File compressedBackup(final int index) {
+            return new File(this.file.getPath() + "." + index + COMPRESSED_SUFFIX);
+        }
+    }
+
+    static void rename(final File source, final File target) {
+        if (source.exists() && !source.renameTo(target)) {
+            // Some platforms will not rename over an existing file
+            target.delete();
+            source.renameTo(target);
+        }
+    }
+
+    static void compress(final File source, final File target) throws IOException {
+        final InputStream input = new FileInputStream(source);
+        try {
+            final OutputStream output = new GZIPOutputStream(new FileOutputStream(target));
+            try {
+                final byte[] buffer = new byte[8192];
+                int read = input.read(buffer);
+                while (read >= 0) {
+                    output.write(buffer, 0, read);
+                    read = input.read(buffer);
+                }
+            } finally {
+                output.close();
+            }
+        } finally {
+            input.close();
+        }
+    }
+}
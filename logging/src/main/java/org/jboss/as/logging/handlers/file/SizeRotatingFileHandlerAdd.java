@@ -25,6 +25,7 @@ package org.jboss.as.logging.handlers.file;
 import static org.jboss.as.logging.CommonAttributes.APPEND;
 import static org.jboss.as.logging.CommonAttributes.FILE;
 import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_INDEX;
+import static org.jboss.as.logging.CommonAttributes.MEMORY_MAPPED;
 import static org.jboss.as.logging.CommonAttributes.ROTATE_SIZE;
 
 import java.util.logging.Handler;
@@ -45,7 +46,7 @@ public class SizeRotatingFileHandlerAdd extends FlushingHandlerAddProperties<Siz
     public static final SizeRotatingFileHandlerAdd INSTANCE = new SizeRotatingFileHandlerAdd();
 
     private SizeRotatingFileHandlerAdd() {
-        super(APPEND, FILE, MAX_BACKUP_INDEX, ROTATE_SIZE);
+        super(APPEND, FILE, MAX_BACKUP_INDEX, ROTATE_SIZE, MEMORY_MAPPED);
     }
 
     @Override
@@ -73,5 +74,6 @@ public class SizeRotatingFileHandlerAdd extends FlushingHandlerAddProperties<Siz
         if (rotateSizeNode.isDefined()) {
             service.setRotateSize(ModelParser.parseSize(rotateSizeNode));
         }
+        service.setMemoryMapped(MEMORY_MAPPED.resolveModelAttribute(context, model).asBoolean());
     }
 }
@@ -60,10 +60,12 @@ public class SizeRotatingFileHandlerService extends AbstractFileHandlerService {
 
     private long rotateSize;
 
+    private boolean memoryMapped;
+
     private SizeRotatingFileHandler value;
 
     public synchronized void start(final StartContext context) throws StartException {
-        final SizeRotatingFileHandler handler = new SizeRotatingFileHandler();
+        final SizeRotatingFileHandler handler = memoryMapped ? new MappedSizeRotatingFileHandler() : new SizeRotatingFileHandler();
         value = handler;
         if (filter != null) handler.setFilter(filter);
         formatterSpec.apply(handler);
@@ -75,13 +77,14 @@ public class SizeRotatingFileHandlerService extends AbstractFileHandlerService {
             throw new StartException(e);
         }
         handler.setAppend(append);
+        // Set before the file, so that a memory-mapped handler allocates its segments with the right size
+        handler.setMaxBackupIndex(maxBackupIndex);
+        handler.setRotateSize(rotateSize);
         try {
             handler.setFileName(fileName.getValue());
         } catch (FileNotFoundException e) {
             throw new StartException(e);
         }
-        handler.setMaxBackupIndex(maxBackupIndex);
-        handler.setRotateSize(rotateSize);
     }
 
     public synchronized void stop(final StopContext context) {
@@ -171,6 +174,14 @@ public class SizeRotatingFileHandlerService extends AbstractFileHandlerService {
         if (handler != null) handler.setRotateSize(rotateSize);
     }
 
+    public synchronized boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
+    public synchronized void setMemoryMapped(final boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+    }
+
     @Override
     public synchronized void setFile(final String path) throws FileNotFoundException {
         fileName.setValue(Values.immediateValue(path));
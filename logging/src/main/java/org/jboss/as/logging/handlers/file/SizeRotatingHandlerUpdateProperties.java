@@ -26,6 +26,7 @@ import static org.jboss.as.logging.CommonAttributes.APPEND;
 import static org.jboss.as.logging.CommonAttributes.AUTOFLUSH;
 import static org.jboss.as.logging.CommonAttributes.FILE;
 import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_INDEX;
+import static org.jboss.as.logging.CommonAttributes.MEMORY_MAPPED;
 import static org.jboss.as.logging.CommonAttributes.ROTATE_SIZE;
 
 import org.jboss.as.controller.OperationContext;
@@ -44,7 +45,7 @@ public class SizeRotatingHandlerUpdateProperties extends HandlerUpdateProperties
     public static final SizeRotatingHandlerUpdateProperties INSTANCE = new SizeRotatingHandlerUpdateProperties();
 
     private SizeRotatingHandlerUpdateProperties() {
-        super(APPEND, AUTOFLUSH, FILE, MAX_BACKUP_INDEX, ROTATE_SIZE);
+        super(APPEND, AUTOFLUSH, FILE, MAX_BACKUP_INDEX, ROTATE_SIZE, MEMORY_MAPPED);
     }
 
     @Override
@@ -72,6 +73,11 @@ public class SizeRotatingHandlerUpdateProperties extends HandlerUpdateProperties
         if (rotateSizeNode.isDefined()) {
             handler.setRotateSize(ModelParser.parseSize(rotateSizeNode));
         }
+
+        final ModelNode memoryMapped = MEMORY_MAPPED.resolveModelAttribute(context, model);
+        if (memoryMapped.asBoolean() != MEMORY_MAPPED.resolveModelAttribute(context, originalModel).asBoolean()) {
+            requiresRestart = true;
+        }
         return requiresRestart;
     }
 
@@ -23,6 +23,7 @@
 package org.jboss.as.logging.handlers.file;
 
 import static org.jboss.as.logging.CommonAttributes.MAX_BACKUP_INDEX;
+import static org.jboss.as.logging.CommonAttributes.MEMORY_MAPPED;
 import static org.jboss.as.logging.CommonAttributes.ROTATE_SIZE;
 
 import org.jboss.as.controller.OperationContext;
@@ -40,7 +41,7 @@ public class SizeRotatingHandlerWriteAttributeHandler extends AbstractFileHandle
     public static final SizeRotatingHandlerWriteAttributeHandler INSTANCE = new SizeRotatingHandlerWriteAttributeHandler();
 
     private SizeRotatingHandlerWriteAttributeHandler() {
-        super(MAX_BACKUP_INDEX, ROTATE_SIZE);
+        super(MAX_BACKUP_INDEX, ROTATE_SIZE, MEMORY_MAPPED);
     }
 
     @Override
@@ -52,6 +53,8 @@ public class SizeRotatingHandlerWriteAttributeHandler extends AbstractFileHandle
         } else if (ROTATE_SIZE.getName().equals(attributeName)) {
             handler.setRotateSize(ModelParser.parseSize(resolvedValue));
             result = false;
+        } else if (MEMORY_MAPPED.getName().equals(attributeName)) {
+            result = true;
         }
         return result;
     }
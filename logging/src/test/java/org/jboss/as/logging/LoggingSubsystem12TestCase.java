@@ -0,0 +1,74 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.logging;
+
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.junit.Test;
+
+/**
+ * Tests the compiled pattern and JSON formatters, the ring buffer async handler implementation and the memory mapped
+ * size rotating file handler of the 1.2 schema.
+ */
+public class LoggingSubsystem12TestCase extends AbstractSubsystemBaseTest {
+
+    public LoggingSubsystem12TestCase() {
+        super(LoggingExtension.SUBSYSTEM_NAME, new LoggingExtension());
+    }
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("/logging-1.2.xml");
+    }
+
+    @Override
+    protected String getSubsystemXml(String configId) throws IOException {
+        return readResource(configId);
+    }
+
+    @Override
+    protected AdditionalInitialization createAdditionalInitialization() {
+        return AdditionalInitialization.MANAGEMENT;
+    }
+
+    @Override
+    protected void compareXml(String configId, String original, String marshalled) throws Exception {
+        super.compareXml(configId, original, marshalled, true);
+    }
+
+    @Test
+    public void testNewElementsRequireCurrentNamespace() throws Exception {
+        String subsystemXml = getSubsystemXml().replace("urn:jboss:domain:logging:1.2", "urn:jboss:domain:logging:1.1");
+        try {
+            super.parse(subsystemXml);
+            fail("The 1.2 formatters, async handler implementation and memory mapped attribute should not be accepted in the 1.1 namespace");
+        } catch (XMLStreamException e) {
+            // Expected
+        }
+    }
+}
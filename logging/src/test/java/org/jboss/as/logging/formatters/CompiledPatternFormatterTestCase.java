@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.formatters;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompiledPatternFormatterTestCase {
+
+    private static final String[] PATTERNS = {
+        "%d{HH:mm:ss,SSS} %-5p [%c] (%t) %s%E%n",
+        "%d %p %c %m%n",
+        "%z{UTC}%d{yyyy-MM-dd'T'HH:mm:ss.SSS} %c{1} %m%n",
+        "[%30d] [%-30d] [%.5d] [%-10.20c] %m",
+        "no conversions at all",
+        "%d{HH:mm}%d{ss}%n",
+    };
+
+    @Test
+    public void testSameOutputAsPatternFormatter() {
+        ExtLogRecord record = record("message with a parameter", new IllegalStateException("failure"));
+        for (String pattern : PATTERNS) {
+            Assert.assertEquals(pattern, new PatternFormatter(pattern).format(record), new CompiledPatternFormatter(pattern).format(record));
+        }
+    }
+
+    @Test
+    public void testCachedTimestamp() {
+        CompiledPatternFormatter formatter = new CompiledPatternFormatter("%z{UTC}%d{HH:mm:ss,SSS}");
+        ExtLogRecord record = record("message", null);
+        record.setMillis(1000);
+        Assert.assertEquals("00:00:01,000", formatter.format(record));
+        Assert.assertEquals("00:00:01,000", formatter.format(record));
+        record.setMillis(1001);
+        Assert.assertEquals("00:00:01,001", formatter.format(record));
+    }
+
+    @Test
+    public void testFormatBytes() {
+        CompiledPatternFormatter formatter = new CompiledPatternFormatter("%s%n");
+        ExtLogRecord record = record("grüße €", null);
+        Charset charset = Charset.forName("UTF-8");
+        ByteBuffer buffer = formatter.formatBytes(record, charset);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        Assert.assertArrayEquals(formatter.format(record).getBytes(charset), bytes);
+    }
+
+    private static ExtLogRecord record(String message, Throwable exception) {
+        ExtLogRecord record = new ExtLogRecord(Level.INFO, message, CompiledPatternFormatterTestCase.class.getName());
+        record.setLoggerName("org.jboss.as.logging.test");
+        record.setThrown(exception);
+        return record;
+    }
+}
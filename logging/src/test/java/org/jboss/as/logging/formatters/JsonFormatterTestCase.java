@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.formatters;
+
+import java.lang.reflect.Method;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class JsonFormatterTestCase {
+
+    @Test
+    public void testFormat() {
+        ExtLogRecord record = new ExtLogRecord(Level.WARNING, "a \"quoted\"\tmessage\n", JsonFormatterTestCase.class.getName());
+        record.setLoggerName("org.jboss.as.logging.test");
+        String result = new JsonFormatter().format(record);
+
+        Assert.assertTrue(result, result.startsWith("{\"timestamp\":\""));
+        Assert.assertTrue(result, result.endsWith("}" + System.getProperty("line.separator")));
+        Assert.assertTrue(result, result.contains(",\"loggerName\":\"org.jboss.as.logging.test\","));
+        Assert.assertTrue(result, result.contains(",\"level\":\"WARNING\","));
+        Assert.assertTrue(result, result.contains(",\"message\":\"a \\\"quoted\\\"\\tmessage\\n\","));
+        Assert.assertFalse(result, result.contains("\"exception\""));
+    }
+
+    @Test
+    public void testException() {
+        ExtLogRecord record = new ExtLogRecord(Level.SEVERE, "failed", JsonFormatterTestCase.class.getName());
+        record.setThrown(new IllegalStateException("outer", new IllegalArgumentException("inner")));
+        String result = new JsonFormatter().format(record);
+
+        Assert.assertTrue(result, result.contains(",\"exception\":{\"type\":\"java.lang.IllegalStateException\",\"message\":\"outer\",\"frames\":[\""));
+        Assert.assertTrue(result, result.contains(",\"cause\":{\"type\":\"java.lang.IllegalArgumentException\",\"message\":\"inner\","));
+    }
+
+    @Test
+    public void testCircularCause() {
+        Exception outer = new IllegalStateException("outer");
+        Exception inner = new IllegalArgumentException("inner", outer);
+        outer.initCause(inner);
+        ExtLogRecord record = new ExtLogRecord(Level.SEVERE, "failed", JsonFormatterTestCase.class.getName());
+        record.setThrown(outer);
+        String result = new JsonFormatter().format(record);
+
+        Assert.assertTrue(result, result.contains(",\"cause\":{\"type\":\"java.lang.IllegalArgumentException\",\"message\":\"inner\",\"frames\":["));
+        Assert.assertTrue(result, result.contains(",\"cause\":{\"type\":\"java.lang.IllegalStateException\",\"message\":\"outer\",\"circularReference\":true}}}"));
+    }
+
+    @Test
+    public void testSuppressed() throws Exception {
+        Method addSuppressed;
+        try {
+            addSuppressed = Throwable.class.getMethod("addSuppressed", Throwable.class);
+        } catch (NoSuchMethodException e) {
+            addSuppressed = null;
+        }
+        Assume.assumeNotNull(addSuppressed);
+        Exception exception = new IllegalStateException("outer");
+        addSuppressed.invoke(exception, new IllegalArgumentException("first"));
+        addSuppressed.invoke(exception, new UnsupportedOperationException("second"));
+        ExtLogRecord record = new ExtLogRecord(Level.SEVERE, "failed", JsonFormatterTestCase.class.getName());
+        record.setThrown(exception);
+        String result = new JsonFormatter().format(record);
+
+        Assert.assertTrue(result, result.contains(",\"suppressed\":[{\"type\":\"java.lang.IllegalArgumentException\",\"message\":\"first\",\"frames\":["));
+        Assert.assertTrue(result, result.contains("]},{\"type\":\"java.lang.UnsupportedOperationException\",\"message\":\"second\",\"frames\":["));
+    }
+
+    @Test
+    public void testControlCharacters() {
+        StringBuilder builder = new StringBuilder();
+        JsonFormatter.appendString(builder, "\u0001\\");
+        Assert.assertEquals("\"\\u0001\\\\\"", builder.toString());
+    }
+}
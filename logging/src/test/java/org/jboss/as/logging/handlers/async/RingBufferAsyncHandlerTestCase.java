@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.handlers.async;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RingBufferAsyncHandlerTestCase {
+
+    @Test
+    public void testCapacity() {
+        Assert.assertEquals(8, new RingBufferAsyncHandler(5).getCapacity());
+        Assert.assertEquals(16, new RingBufferAsyncHandler(16).getCapacity());
+    }
+
+    @Test
+    public void testPublishInOrder() throws Exception {
+        final int threads = 4;
+        final int records = 1000;
+        final RecordingHandler recorder = new RecordingHandler();
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(64);
+        handler.addHandler(recorder);
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; ++i) {
+            final String name = "producer-" + i;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < records; ++j) {
+                        handler.publish(record(name, j));
+                    }
+                    latch.countDown();
+                }
+            });
+            thread.start();
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        handler.close();
+
+        Assert.assertEquals(threads * records, recorder.records.size());
+        Assert.assertEquals(0, handler.getDroppedRecords());
+        Assert.assertEquals(0, handler.getQueueDepth());
+        Assert.assertTrue(handler.getBatchCount() > 0);
+        Assert.assertEquals(handler.getBatchCount(), recorder.flushes);
+        // Records from the same producer are published in order
+        int[] next = new int[threads];
+        for (LogRecord record : recorder.records) {
+            int producer = Integer.parseInt(record.getLoggerName().substring("producer-".length()));
+            Assert.assertEquals(next[producer]++, ((Integer) record.getParameters()[0]).intValue());
+        }
+    }
+
+    @Test
+    public void testDiscard() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingHandler recorder = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4);
+        handler.setOverflowAction(OverflowAction.DISCARD);
+        handler.addHandler(recorder);
+
+        // Wait until the consumer is stuck on the first record, then fill the buffer
+        handler.publish(record("test", 0));
+        Assert.assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i <= 6; ++i) {
+            handler.publish(record("test", i));
+        }
+        Assert.assertEquals(4, handler.getQueueDepth());
+        Assert.assertEquals(2, handler.getDroppedRecords());
+
+        release.countDown();
+        handler.close();
+        Assert.assertEquals(5, recorder.records.size());
+        Assert.assertEquals(0, handler.getQueueDepth());
+    }
+
+    @Test
+    public void testCloseWhilePublishing() throws Exception {
+        final int threads = 4;
+        final int records = 20000;
+        final RecordingHandler recorder = new RecordingHandler();
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(16);
+        handler.addHandler(recorder);
+        final CountDownLatch started = new CountDownLatch(threads);
+        final CountDownLatch finished = new CountDownLatch(threads);
+        for (int i = 0; i < threads; ++i) {
+            final String name = "producer-" + i;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    started.countDown();
+                    for (int j = 0; j < records; ++j) {
+                        handler.publish(record(name, j));
+                    }
+                    finished.countDown();
+                }
+            });
+            thread.start();
+        }
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        handler.close();
+        final int published = recorder.records.size();
+        Assert.assertTrue(finished.await(30, TimeUnit.SECONDS));
+
+        // Nothing is published after close() returns, and every record was either published or counted as dropped
+        Assert.assertEquals(published, recorder.records.size());
+        Assert.assertEquals(threads * records, published + handler.getDroppedRecords());
+        Assert.assertEquals(0, handler.getQueueDepth());
+    }
+
+    static ExtLogRecord record(String logger, int index) {
+        ExtLogRecord record = new ExtLogRecord(Level.INFO, "record {0}", ExtLogRecord.FormatStyle.MESSAGE_FORMAT, RingBufferAsyncHandlerTestCase.class.getName());
+        record.setLoggerName(logger);
+        record.setParameters(new Object[] { index });
+        return record;
+    }
+
+    static class RecordingHandler extends Handler {
+        final List<LogRecord> records = Collections.synchronizedList(new ArrayList<LogRecord>());
+        volatile int flushes = 0;
+
+        @Override
+        public void publish(LogRecord record) {
+            this.records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            this.flushes += 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.handlers.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.zip.GZIPInputStream;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappedSizeRotatingFileHandlerTestCase {
+
+    private File directory;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        this.directory = File.createTempFile("mapped", "");
+        this.directory.delete();
+        this.directory.mkdirs();
+        this.file = new File(this.directory, "server.log");
+    }
+
+    @After
+    public void tearDown() {
+        for (File file : this.directory.listFiles()) {
+            file.delete();
+        }
+        this.directory.delete();
+    }
+
+    @Test
+    public void testWriteAndClose() throws Exception {
+        MappedSizeRotatingFileHandler handler = createHandler(1024, 1);
+        handler.publish(record("first"));
+        handler.publish(record("second"));
+        // The mapped segment is pre-allocated
+        Assert.assertEquals(1024, this.file.length());
+        handler.close();
+
+        Assert.assertEquals("first\nsecond\n", read(this.file));
+        Assert.assertFalse(new File(this.file.getPath() + MappedSizeRotatingFileHandler.NEXT_SUFFIX).exists());
+    }
+
+    @Test
+    public void testRotation() throws Exception {
+        MappedSizeRotatingFileHandler handler = createHandler(20, 2);
+        // Each record is 10 bytes, so every other record rotates
+        for (int i = 0; i < 6; ++i) {
+            handler.publish(record("record-" + i + "."));
+        }
+        handler.close();
+
+        Assert.assertEquals("record-4.\nrecord-5.\n", read(this.file));
+        Assert.assertEquals("record-2.\nrecord-3.\n", decompress(new File(this.file.getPath() + ".1.gz")));
+        Assert.assertEquals("record-0.\nrecord-1.\n", decompress(new File(this.file.getPath() + ".2.gz")));
+        Assert.assertFalse(new File(this.file.getPath() + ".3.gz").exists());
+        Assert.assertFalse(new File(this.file.getPath() + ".1").exists());
+        Assert.assertFalse(new File(this.file.getPath() + MappedSizeRotatingFileHandler.ROTATED_SUFFIX).exists());
+    }
+
+    @Test
+    public void testFlushAfterClose() throws Exception {
+        MappedSizeRotatingFileHandler handler = createHandler(1024, 1);
+        handler.publish(record("first"));
+        handler.flush();
+        handler.close();
+        // The segment is unmapped by now, so flushing must not touch it
+        handler.flush();
+
+        Assert.assertEquals("first\n", read(this.file));
+    }
+
+    @Test
+    public void testOversizedRecord() throws Exception {
+        MappedSizeRotatingFileHandler handler = createHandler(8, 1);
+        handler.publish(record("a"));
+        handler.publish(record("much longer than a segment"));
+        handler.publish(record("b"));
+        handler.close();
+
+        Assert.assertEquals("b\n", read(this.file));
+        Assert.assertEquals("much longer than a segment\n", decompress(new File(this.file.getPath() + ".1.gz")));
+    }
+
+    @Test
+    public void testAppendTrimsUnclosedSegment() throws Exception {
+        // Simulate a segment left behind by an unclean shutdown
+        RandomAccessFile existing = new RandomAccessFile(this.file, "rw");
+        existing.write("old\n".getBytes("UTF-8"));
+        existing.setLength(64);
+        existing.close();
+
+        MappedSizeRotatingFileHandler handler = createHandler(1024, 1);
+        handler.publish(record("new"));
+        handler.close();
+
+        Assert.assertEquals("old\nnew\n", read(this.file));
+    }
+
+    private MappedSizeRotatingFileHandler createHandler(long rotateSize, int maxBackupIndex) throws Exception {
+        MappedSizeRotatingFileHandler handler = new MappedSizeRotatingFileHandler();
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + "\n";
+            }
+        });
+        handler.setEncoding("UTF-8");
+        handler.setAppend(true);
+        handler.setRotateSize(rotateSize);
+        handler.setMaxBackupIndex(maxBackupIndex);
+        handler.setFile(this.file);
+        return handler;
+    }
+
+    private static ExtLogRecord record(String message) {
+        return new ExtLogRecord(Level.INFO, message, MappedSizeRotatingFileHandlerTestCase.class.getName());
+    }
+
+    private static String read(File file) throws IOException {
+        return read(new FileInputStream(file));
+    }
+
+    private static String decompress(File file) throws IOException {
+        return read(new GZIPInputStream(new FileInputStream(file)));
+    }
+
+    private static String read(InputStream input) throws IOException {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[256];
+            int read = input.read(buffer);
+            while (read >= 0) {
+                output.write(buffer, 0, read);
+                read = input.read(buffer);
+            }
+            return output.toString("UTF-8");
+        } finally {
+            input.close();
+        }
+    }
+}
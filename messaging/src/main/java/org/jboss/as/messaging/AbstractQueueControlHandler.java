@@ -58,6 +58,7 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
 
     public static final String LIST_MESSAGES = "list-messages";
     public static final String LIST_MESSAGES_AS_JSON = "list-messages-as-json";
+    public static final String LIST_MESSAGES_PAGE = "list-messages-page";
     public static final String COUNT_MESSAGES = "count-messages";
     public static final String REMOVE_MESSAGE = "remove-message";
     public static final String REMOVE_MESSAGES = "remove-messages";
@@ -85,8 +86,16 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
     public static final String NEW_PRIORITY = "new-priority";
     public static final String OTHER_QUEUE_NAME = "other-queue-name";
     public static final String REJECT_DUPLICATES = "reject-duplicates";
+    public static final String PAGE_SIZE = "page-size";
+    public static final String CURSOR = QueueMessageBrowser.CURSOR;
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 10000;
+
+    protected final QueueMessageBrowser browser = new QueueMessageBrowser();
 
     private final ParametersValidator singleOptionalFilterValidator = new ParametersValidator();
+    private final ParametersValidator listMessagesPageValidator = new ParametersValidator();
     private final ParametersValidator singleMessageIdValidator = new ParametersValidator();
     private final ParametersValidator changeMessagePriorityValidator = new ParametersValidator();
     private final ParametersValidator changeMessagesPriorityValidator = new ParametersValidator();
@@ -102,6 +111,9 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
         final ParameterValidator priorityValidator = new IntRangeValidator(0, 9, false, false);
 
         singleOptionalFilterValidator.registerValidator(FILTER.getName(), filterValidator);
+        listMessagesPageValidator.registerValidator(FILTER.getName(), filterValidator);
+        listMessagesPageValidator.registerValidator(PAGE_SIZE, new IntRangeValidator(1, MAX_PAGE_SIZE, true, false));
+        listMessagesPageValidator.registerValidator(CURSOR, new ModelTypeValidator(ModelType.STRING, true, false));
         singleMessageIdValidator.registerValidator(MESSAGE_ID, messageIdValidator);
         changeMessagePriorityValidator.registerValidator(MESSAGE_ID, messageIdValidator);
         changeMessagePriorityValidator.registerValidator(NEW_PRIORITY, priorityValidator);
@@ -135,6 +147,13 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
             }
         }, readOnly);
 
+        registry.registerOperationHandler(LIST_MESSAGES_PAGE, this, new DescriptionProvider() {
+            @Override
+            public ModelNode getModelDescription(Locale locale) {
+                return MessagingDescriptions.getListMessagesPage(locale, forJMS);
+            }
+        }, readOnly);
+
         registry.registerOperationHandler(COUNT_MESSAGES, this, new DescriptionProvider() {
             @Override
             public ModelNode getModelDescription(Locale locale) {
@@ -297,6 +316,12 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
                 singleOptionalFilterValidator.validate(operation);
                 String filter = operation.hasDefined(FILTER.getName()) ? operation.get(FILTER.getName()).asString() : null;
                 context.getResult().set(control.listMessagesAsJSON(filter));
+            } else if (LIST_MESSAGES_PAGE.equals(operationName)) {
+                listMessagesPageValidator.validate(operation);
+                String filter = operation.hasDefined(FILTER.getName()) ? operation.get(FILTER.getName()).asString() : null;
+                int pageSize = operation.hasDefined(PAGE_SIZE) ? operation.get(PAGE_SIZE).asInt() : DEFAULT_PAGE_SIZE;
+                String cursor = operation.hasDefined(CURSOR) ? operation.get(CURSOR).asString() : null;
+                context.getResult().set(control.listMessagesPage(filter, pageSize, cursor));
             } else if (COUNT_MESSAGES.equals(operationName)) {
                 singleOptionalFilterValidator.validate(operation);
                 String filter = operation.hasDefined(FILTER.getName()) ? operation.get(FILTER.getName()).asString() : null;
@@ -429,6 +454,12 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
 
         String listMessagesAsJSON(String filter) throws Exception;
 
+        /**
+         * Returns a page of the messages matching the given filter.
+         * @see QueueMessageBrowser#browse(HornetQServer, String, String, int, String, boolean)
+         */
+        ModelNode listMessagesPage(String filter, int pageSize, String cursor) throws Exception;
+
         long countMessages(String filter) throws Exception;
 
         boolean removeMessage(ModelNode id) throws Exception;
@@ -26,6 +26,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ALLOWED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILDREN;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEFAULT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MIN;
@@ -245,6 +246,46 @@ public class MessagingDescriptions {
         return result;
     }
 
+    public static ModelNode getListMessagesPage(Locale locale, boolean forJMS) {
+        final ResourceBundle bundle = getResourceBundle(locale);
+
+        final ModelNode result = CommonDescriptions.getDescriptionOnlyOperation(bundle, AbstractQueueControlHandler.LIST_MESSAGES_PAGE, "queue");
+
+        final ModelNode reqProps = result.get(REQUEST_PROPERTIES);
+        populateFilterParam(bundle, reqProps.get(FILTER.getName()));
+        final ModelNode pageSize = reqProps.get(AbstractQueueControlHandler.PAGE_SIZE);
+        pageSize.get(DESCRIPTION).set(bundle.getString("queue.page-size"));
+        pageSize.get(TYPE).set(ModelType.INT);
+        pageSize.get(REQUIRED).set(false);
+        pageSize.get(NILLABLE).set(true);
+        pageSize.get(DEFAULT).set(AbstractQueueControlHandler.DEFAULT_PAGE_SIZE);
+        pageSize.get(MIN).set(1);
+        pageSize.get(MAX).set(AbstractQueueControlHandler.MAX_PAGE_SIZE);
+        final ModelNode cursor = reqProps.get(AbstractQueueControlHandler.CURSOR);
+        cursor.get(DESCRIPTION).set(bundle.getString("queue.cursor"));
+        cursor.get(TYPE).set(ModelType.STRING);
+        cursor.get(REQUIRED).set(false);
+        cursor.get(NILLABLE).set(true);
+
+        final ModelNode repProps = result.get(REPLY_PROPERTIES);
+        repProps.get(DESCRIPTION).set(bundle.getString("queue.list-messages-page.reply"));
+        repProps.get(TYPE).set(ModelType.OBJECT);
+        final ModelNode messages = repProps.get(VALUE_TYPE, QueueMessageBrowser.MESSAGE_LIST);
+        messages.get(DESCRIPTION).set(bundle.getString("queue.list-messages-page.reply.messages"));
+        messages.get(TYPE).set(ModelType.LIST);
+        if (forJMS) {
+            populateJMSMessageDescription(bundle, messages.get(VALUE_TYPE));
+        } else {
+            populateCoreMessageDescription(bundle, messages.get(VALUE_TYPE));
+        }
+        final ModelNode nextCursor = repProps.get(VALUE_TYPE, QueueMessageBrowser.CURSOR);
+        nextCursor.get(DESCRIPTION).set(bundle.getString("queue.list-messages-page.reply.cursor"));
+        nextCursor.get(TYPE).set(ModelType.STRING);
+        nextCursor.get(NILLABLE).set(true);
+
+        return result;
+    }
+
     private static void populateFilterParam(final ResourceBundle bundle, final ModelNode filter) {
         filter.get(DESCRIPTION).set(bundle.getString("queue.filter"));
         filter.get(TYPE).set(ModelType.STRING);
@@ -460,4 +460,24 @@ public interface MessagingMessages {
 
     @Message(id = 11669, value = "SecurityDomainContext has not been set")
     IllegalStateException securityDomainContextNotSet();
+
+    /**
+     * Creates an exception indicating the cursor passed to a paged message browsing operation is not valid.
+     *
+     * @param cursor the invalid cursor.
+     *
+     * @return an {@link OperationFailedException} for the error.
+     */
+    @Message(id = 11670, value = "Invalid message cursor %s")
+    OperationFailedException invalidMessageCursor(String cursor);
+
+    /**
+     * Creates an exception indicating no queue is bound under the given name.
+     *
+     * @param name the name of the queue.
+     *
+     * @return an {@link OperationFailedException} for the error.
+     */
+    @Message(id = 11671, value = "No queue is bound under name %s")
+    OperationFailedException queueNotBound(String name);
 }
@@ -108,7 +108,7 @@ public class QueueControlHandler extends AbstractQueueControlHandler<QueueContro
     }
 
     @Override
-    protected DelegatingQueueControl<QueueControl> getQueueControl(HornetQServer hqServer, String queueName) {
+    protected DelegatingQueueControl<QueueControl> getQueueControl(final HornetQServer hqServer, final String queueName) {
         final QueueControl control = QueueControl.class.cast(hqServer.getManagementService().getResource(ResourceNames.CORE_QUEUE + queueName));
         return new DelegatingQueueControl<QueueControl>() {
 
@@ -120,6 +120,11 @@ public class QueueControlHandler extends AbstractQueueControlHandler<QueueContro
                 return control.listMessagesAsJSON(filter);
             }
 
+            @Override
+            public ModelNode listMessagesPage(String filter, int pageSize, String cursor) throws Exception {
+                return browser.browse(hqServer, queueName, filter, pageSize, cursor, false);
+            }
+
             @Override
             public long countMessages(String filter) throws Exception {
                 return control.countMessages(filter);
@@ -0,0 +1,240 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.messaging;
+
+import static org.jboss.as.messaging.MessagingMessages.MESSAGES;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hornetq.api.core.SimpleString;
+import org.hornetq.core.filter.Filter;
+import org.hornetq.core.filter.impl.FilterImpl;
+import org.hornetq.core.postoffice.Binding;
+import org.hornetq.core.postoffice.QueueBinding;
+import org.hornetq.core.server.HornetQServer;
+import org.hornetq.core.server.MessageReference;
+import org.hornetq.core.server.Queue;
+import org.hornetq.core.server.ServerMessage;
+import org.hornetq.jms.client.HornetQMessage;
+import org.hornetq.utils.LinkedListIterator;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Browses the messages of a queue one page at a time.
+ * Unlike {@link org.hornetq.api.core.management.QueueControl#listMessagesAsJSON(String)}, only the messages of the
+ * requested page are converted, and the page is built directly as a {@link ModelNode} rather than as a JSON string.
+ * <p>
+ * The queue iterates its messages in descending priority, and in ascending message id within each priority.
+ * The cursor returned with a page is the priority and id of the last message of the page.
+ * The queue iterator is kept open for a limited time, and the request for the next page with that cursor resumes
+ * from it. If the iterator is no longer open, the next page walks the queue from its head and skips the messages up
+ * to the cursor, so its cost grows with its position in the queue.
+ * Messages that are redelivered, or whose priority changes, while the queue is being browsed may be skipped or repeated.
+ * </p>
+ */
+public final class QueueMessageBrowser {
+
+    public static final String MESSAGE_LIST = "messages";
+    public static final String CURSOR = "cursor";
+
+    static final int MAX_OPEN_CURSORS = 16;
+    static final long CURSOR_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+    private static final char CURSOR_SEPARATOR = ':';
+
+    // Queue iterators positioned at the next page of recently browsed queues, in access order
+    private final Map<OpenCursor, OpenCursor> openCursors = new LinkedHashMap<OpenCursor, OpenCursor>();
+
+    /**
+     * Returns a page of the messages of the specified core queue that match the specified filter.
+     * @param server a HornetQ server
+     * @param queueName the name of a core queue
+     * @param filter a core filter, or null to match all messages
+     * @param pageSize the maximum number of messages to return
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param forJMS whether messages should be described using JMS message properties
+     * @return an object containing the list of messages, and a cursor for the next page, if there are further messages
+     * @throws Exception if the filter or the cursor are not valid
+     */
+    public ModelNode browse(HornetQServer server, String queueName, String filter, int pageSize, String cursor, boolean forJMS) throws Exception {
+        Binding binding = server.getPostOffice().getBinding(new SimpleString(queueName));
+        if (!(binding instanceof QueueBinding)) {
+            throw MESSAGES.queueNotBound(queueName);
+        }
+        Queue queue = ((QueueBinding) binding).getQueue();
+        Filter messageFilter = FilterImpl.createFilter(filter);
+
+        int lastPriority = Integer.MAX_VALUE;
+        long lastMessageId = Long.MIN_VALUE;
+        if (cursor != null) {
+            int index = cursor.indexOf(CURSOR_SEPARATOR);
+            try {
+                lastPriority = Integer.parseInt(cursor.substring(0, index));
+                lastMessageId = Long.parseLong(cursor.substring(index + 1));
+            } catch (RuntimeException e) {
+                throw MESSAGES.invalidMessageCursor(cursor);
+            }
+        }
+
+        LinkedListIterator<MessageReference> references = null;
+        if (cursor != null) {
+            OpenCursor open = this.take(new OpenCursor(queue, filter, cursor, null));
+            if (open != null) {
+                references = open.references;
+            }
+        }
+        if (references == null) {
+            references = queue.iterator();
+        }
+
+        ModelNode result = new ModelNode();
+        ModelNode messages = result.get(MESSAGE_LIST).setEmptyList();
+        int count = 0;
+        ServerMessage last = null;
+        boolean open = false;
+        try {
+            while (references.hasNext()) {
+                ServerMessage message = references.next().getMessage();
+                int priority = message.getPriority();
+                // Skip messages up to and including the last message of the previous page
+                if ((priority > lastPriority) || ((priority == lastPriority) && (message.getMessageID() <= lastMessageId))) continue;
+                if ((messageFilter != null) && !messageFilter.match(message)) continue;
+                if (count == pageSize) {
+                    // There is at least one more matching message, which the next page starts with
+                    String nextCursor = String.valueOf(last.getPriority()) + CURSOR_SEPARATOR + last.getMessageID();
+                    result.get(CURSOR).set(nextCursor);
+                    references.repeat();
+                    this.keep(new OpenCursor(queue, filter, nextCursor, references));
+                    open = true;
+                    break;
+                }
+                Map<String, Object> properties = message.toMap();
+                messages.add(toModelNode(forJMS ? HornetQMessage.coreMaptoJMSMap(properties) : properties));
+                last = message;
+                count += 1;
+            }
+        } finally {
+            if (!open) {
+                references.close();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes and returns the open cursor matching the specified one, if any.
+     */
+    private OpenCursor take(OpenCursor cursor) {
+        synchronized (this.openCursors) {
+            this.expire();
+            return this.openCursors.remove(cursor);
+        }
+    }
+
+    /**
+     * Keeps the specified cursor open, closing the least recently opened cursor if too many are open.
+     */
+    private void keep(OpenCursor cursor) {
+        OpenCursor replaced;
+        synchronized (this.openCursors) {
+            this.expire();
+            replaced = this.openCursors.put(cursor, cursor);
+            if (this.openCursors.size() > MAX_OPEN_CURSORS) {
+                Iterator<OpenCursor> cursors = this.openCursors.values().iterator();
+                cursors.next().references.close();
+                cursors.remove();
+            }
+        }
+        if (replaced != null) {
+            replaced.references.close();
+        }
+    }
+
+    private void expire() {
+        long now = System.currentTimeMillis();
+        Iterator<OpenCursor> cursors = this.openCursors.values().iterator();
+        while (cursors.hasNext()) {
+            OpenCursor cursor = cursors.next();
+            if (now - cursor.opened < CURSOR_TIMEOUT) break;
+            cursor.references.close();
+            cursors.remove();
+        }
+    }
+
+    /**
+     * Iterator of a queue that is positioned at the page following the specified cursor.
+     */
+    private static class OpenCursor {
+        final Queue queue;
+        final String filter;
+        final String cursor;
+        final LinkedListIterator<MessageReference> references;
+        final long opened = System.currentTimeMillis();
+
+        OpenCursor(Queue queue, String filter, String cursor, LinkedListIterator<MessageReference> references) {
+            this.queue = queue;
+            this.filter = filter;
+            this.cursor = cursor;
+            this.references = references;
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * System.identityHashCode(this.queue) + this.cursor.hashCode()) * 31 + ((this.filter != null) ? this.filter.hashCode() : 0);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof OpenCursor)) return false;
+            OpenCursor open = (OpenCursor) object;
+            return (this.queue == open.queue) && this.cursor.equals(open.cursor) && ((this.filter != null) ? this.filter.equals(open.filter) : (open.filter == null));
+        }
+    }
+
+    private static ModelNode toModelNode(Map<String, Object> properties) {
+        ModelNode node = new ModelNode();
+        for (Map.Entry<String, Object> entry: properties.entrySet()) {
+            Object value = entry.getValue();
+            ModelNode property = node.get(entry.getKey());
+            if (value == null) {
+                continue;
+            } else if (value instanceof Boolean) {
+                property.set(((Boolean) value).booleanValue());
+            } else if ((value instanceof Long)) {
+                property.set(((Long) value).longValue());
+            } else if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+                property.set(((Number) value).intValue());
+            } else if ((value instanceof Double) || (value instanceof Float)) {
+                property.set(((Number) value).doubleValue());
+            } else if (value instanceof byte[]) {
+                property.set((byte[]) value);
+            } else {
+                property.set(value.toString());
+            }
+        }
+        return node;
+    }
+}
@@ -25,6 +25,7 @@ package org.jboss.as.messaging.jms;
 import org.hornetq.api.core.management.ResourceNames;
 import org.hornetq.api.jms.management.JMSQueueControl;
 import org.hornetq.core.server.HornetQServer;
+import org.hornetq.jms.client.SelectorTranslator;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
@@ -49,7 +50,7 @@ public class JMSQueueControlHandler extends AbstractQueueControlHandler<JMSQueue
         return true;
     }
 
-    protected AbstractQueueControlHandler.DelegatingQueueControl<JMSQueueControl> getQueueControl(HornetQServer hqServer, String queueName){
+    protected AbstractQueueControlHandler.DelegatingQueueControl<JMSQueueControl> getQueueControl(final HornetQServer hqServer, String queueName){
         final JMSQueueControl control = JMSQueueControl.class.cast(hqServer.getManagementService().getResource(ResourceNames.JMS_QUEUE + queueName));
         return new AbstractQueueControlHandler.DelegatingQueueControl<JMSQueueControl>() {
 
@@ -63,6 +64,12 @@ public class JMSQueueControlHandler extends AbstractQueueControlHandler<JMSQueue
                 return control.listMessagesAsJSON(filter);
             }
 
+            @Override
+            public ModelNode listMessagesPage(String filter, int pageSize, String cursor) throws Exception {
+                // The core queue of a JMS queue is bound under the address of the JMS queue
+                return browser.browse(hqServer, control.getAddress(), SelectorTranslator.convertToHornetQFilterString(filter), pageSize, cursor, true);
+            }
+
             @Override
             public long countMessages(String filter) throws Exception {
                 return control.countMessages(filter);
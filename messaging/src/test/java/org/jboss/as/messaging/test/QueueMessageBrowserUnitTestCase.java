@@ -0,0 +1,194 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.messaging.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hornetq.api.core.SimpleString;
+import org.hornetq.core.postoffice.QueueBinding;
+import org.hornetq.core.server.HornetQServer;
+import org.hornetq.core.server.MessageReference;
+import org.hornetq.core.server.Queue;
+import org.hornetq.core.server.ServerMessage;
+import org.hornetq.utils.LinkedListIterator;
+import org.jboss.as.messaging.QueueMessageBrowser;
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class QueueMessageBrowserUnitTestCase {
+    private static final String QUEUE_NAME = "queue";
+
+    private final HornetQServer server = mock(HornetQServer.class, Mockito.RETURNS_DEEP_STUBS);
+    private final Queue queue = mock(Queue.class);
+    private final List<MessageReference> references = new ArrayList<MessageReference>();
+    private final List<ListIterator> iterators = new ArrayList<ListIterator>();
+    private final QueueMessageBrowser browser = new QueueMessageBrowser();
+
+    @Before
+    public void init() {
+        QueueBinding binding = mock(QueueBinding.class);
+        when(binding.getQueue()).thenReturn(this.queue);
+        when(this.server.getPostOffice().getBinding(new SimpleString(QUEUE_NAME))).thenReturn(binding);
+        when(this.queue.iterator()).thenAnswer(new org.mockito.stubbing.Answer<LinkedListIterator<MessageReference>>() {
+            @Override
+            public LinkedListIterator<MessageReference> answer(org.mockito.invocation.InvocationOnMock invocation) {
+                ListIterator iterator = new ListIterator(QueueMessageBrowserUnitTestCase.this.references);
+                QueueMessageBrowserUnitTestCase.this.iterators.add(iterator);
+                return iterator;
+            }
+        });
+        for (int i = 0; i < 10; ++i) {
+            this.references.add(reference(4, i));
+        }
+    }
+
+    @Test
+    public void browse() throws Exception {
+        ModelNode page = this.browser.browse(this.server, QUEUE_NAME, null, 4, null, false);
+        assertMessages(page, 0, 4);
+        assertEquals("4:3", page.get(QueueMessageBrowser.CURSOR).asString());
+
+        page = this.browser.browse(this.server, QUEUE_NAME, null, 4, page.get(QueueMessageBrowser.CURSOR).asString(), false);
+        assertMessages(page, 4, 8);
+
+        page = this.browser.browse(this.server, QUEUE_NAME, null, 4, page.get(QueueMessageBrowser.CURSOR).asString(), false);
+        assertMessages(page, 8, 10);
+        assertFalse(page.hasDefined(QueueMessageBrowser.CURSOR));
+
+        // Subsequent pages resume from the iterator of the first page, instead of walking the queue from its head
+        assertEquals(1, this.iterators.size());
+        ListIterator iterator = this.iterators.get(0);
+        // Each message is read once, except the first message of each subsequent page, which was read ahead
+        assertEquals(12, iterator.nexts);
+        assertTrue(iterator.closed);
+    }
+
+    @Test
+    public void browseWithoutOpenCursor() throws Exception {
+        ModelNode page = this.browser.browse(this.server, QUEUE_NAME, null, 4, "4:3", false);
+        assertMessages(page, 4, 8);
+
+        // Another browser does not know the cursor, so walks the queue from its head
+        page = new QueueMessageBrowser().browse(this.server, QUEUE_NAME, null, 4, page.get(QueueMessageBrowser.CURSOR).asString(), false);
+        assertMessages(page, 8, 10);
+
+        assertEquals(2, this.iterators.size());
+        assertTrue(this.iterators.get(1).closed);
+    }
+
+    @Test
+    public void browseConsumedMessages() throws Exception {
+        ModelNode page = this.browser.browse(this.server, QUEUE_NAME, null, 4, null, false);
+        String cursor = page.get(QueueMessageBrowser.CURSOR).asString();
+
+        // Messages of the first page were consumed in the meantime
+        this.references.subList(0, 4).clear();
+        page = new QueueMessageBrowser().browse(this.server, QUEUE_NAME, null, 4, cursor, false);
+        assertMessages(page, 4, 8);
+    }
+
+    @Test
+    public void browseByPriority() throws Exception {
+        this.references.add(0, reference(9, 20));
+        this.references.add(1, reference(9, 21));
+
+        ModelNode page = this.browser.browse(this.server, QUEUE_NAME, null, 2, null, false);
+        assertEquals("9:21", page.get(QueueMessageBrowser.CURSOR).asString());
+        page = new QueueMessageBrowser().browse(this.server, QUEUE_NAME, null, 2, "9:21", false);
+        assertMessages(page, 0, 2);
+    }
+
+    @Test(expected = Exception.class)
+    public void invalidCursor() throws Exception {
+        this.browser.browse(this.server, QUEUE_NAME, null, 4, "invalid", false);
+    }
+
+    private static void assertMessages(ModelNode page, int first, int end) {
+        List<ModelNode> messages = page.get(QueueMessageBrowser.MESSAGE_LIST).asList();
+        assertEquals(end - first, messages.size());
+        for (int i = 0; i < messages.size(); ++i) {
+            assertEquals(first + i, messages.get(i).get("messageID").asLong());
+        }
+    }
+
+    private static MessageReference reference(int priority, long id) {
+        ServerMessage message = mock(ServerMessage.class);
+        when(message.getPriority()).thenReturn((byte) priority);
+        when(message.getMessageID()).thenReturn(id);
+        when(message.toMap()).thenReturn(Collections.<String, Object>singletonMap("messageID", id));
+        MessageReference reference = mock(MessageReference.class);
+        when(reference.getMessage()).thenReturn(message);
+        return reference;
+    }
+
+    static class ListIterator implements LinkedListIterator<MessageReference> {
+        private final List<MessageReference> list;
+        private int index = 0;
+        private boolean repeat = false;
+        int nexts = 0;
+        boolean closed = false;
+
+        ListIterator(List<MessageReference> list) {
+            this.list = list;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.repeat || (this.index < this.list.size());
+        }
+
+        @Override
+        public MessageReference next() {
+            this.nexts += 1;
+            if (this.repeat) {
+                this.repeat = false;
+                return this.list.get(this.index - 1);
+            }
+            return this.list.get(this.index++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void repeat() {
+            this.repeat = true;
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+}
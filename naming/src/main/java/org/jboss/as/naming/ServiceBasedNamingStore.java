@@ -28,7 +28,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.NavigableSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.naming.Binding;
 import javax.naming.CannotProceedException;
@@ -61,6 +64,22 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     private ConcurrentSkipListSet<ServiceName> boundServices = new ConcurrentSkipListSet<ServiceName>();
 
+    /**
+     * Values of bound services, by the name they were looked up with. An entry is evicted when its service is removed
+     * from the bound services.
+     */
+    private final ConcurrentMap<Name, ResolvedBinding> resolvedBindings = new ConcurrentHashMap<Name, ResolvedBinding>();
+
+    /**
+     * The name each cached service was last looked up with, so that its entry can be evicted without a scan.
+     */
+    private final ConcurrentMap<ServiceName, Name> resolvedNames = new ConcurrentHashMap<ServiceName, Name>();
+
+    /**
+     * Incremented on every removal, so that a lookup racing with a removal does not cache the value it resolved.
+     */
+    private final AtomicLong removals = new AtomicLong();
+
     public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase) {
         this.serviceRegistry = serviceRegistry;
         this.serviceNameBase = serviceNameBase;
@@ -70,8 +89,12 @@ public class ServiceBasedNamingStore implements NamingStore {
         if (name.isEmpty()) {
             return new NamingContext(EMPTY_NAME, this, null);
         }
+        final ResolvedBinding resolved = resolvedBindings.get(name);
+        if (resolved != null) {
+            return getInstance(resolved.value);
+        }
         final ServiceName lookupName = buildServiceName(name);
-        Object obj = lookup(name.toString(), lookupName);
+        Object obj = lookup(name, lookupName);
         if (obj == null) {
             final ServiceName lower = boundServices.lower(lookupName);
             if (lower != null && lower.isParentOf(lookupName)) {
@@ -115,19 +138,52 @@ public class ServiceBasedNamingStore implements NamingStore {
         return cpe;
     }
 
+    /**
+     * Looks up the value of the service the given name resolves to directly, remembering it for subsequent lookups of
+     * the same name as long as the service remains bound.
+     */
+    private Object lookup(final Name name, final ServiceName lookupName) throws NamingException {
+        final long removals = this.removals.get();
+        final Object object = getValue(name.toString(), lookupName);
+        if (object == null) {
+            return null;
+        }
+        if (boundServices.contains(lookupName)) {
+            final Name key = (Name) name.clone();
+            final ResolvedBinding binding = new ResolvedBinding(object);
+            resolvedBindings.put(key, binding);
+            final Name previous = resolvedNames.put(lookupName, key);
+            if ((previous != null) && !previous.equals(key)) {
+                resolvedBindings.remove(previous);
+            }
+            // the service may have been removed, and possibly rebound, since its value was read
+            if (this.removals.get() != removals) {
+                resolvedBindings.remove(key, binding);
+                resolvedNames.remove(lookupName, key);
+            }
+        }
+        return getInstance(object);
+    }
+
     private Object lookup(final String name, final ServiceName lookupName) throws NamingException {
+        final Object object = getValue(name, lookupName);
+        return (object != null) ? getInstance(object) : null;
+    }
+
+    private Object getValue(final String name, final ServiceName lookupName) throws NamingException {
         final ServiceController<?> controller = serviceRegistry.getService(lookupName);
-        final Object object;
         if (controller != null) {
             try {
-                object = controller.getValue();
+                return controller.getValue();
             } catch (IllegalStateException e) {
                 //occurs if the service is not actually up
                 throw new NameNotFoundException("Error looking up " + name + ", service " + lookupName + " is not started");
             }
-        } else {
-            return null;
         }
+        return null;
+    }
+
+    private static Object getInstance(final Object object) throws NamingException {
         if (object instanceof ManagedReferenceFactory) {
             try {
                 return ManagedReferenceFactory.class.cast(object).getReference().getInstance();
@@ -216,6 +272,9 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void close() throws NamingException {
         boundServices.clear();
+        removals.incrementAndGet();
+        resolvedBindings.clear();
+        resolvedNames.clear();
     }
 
     public void addNamingListener(Name target, int scope, NamingListener listener) {
@@ -234,6 +293,11 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void remove(final ServiceName serviceName) {
         boundServices.remove(serviceName);
+        removals.incrementAndGet();
+        final Name name = resolvedNames.remove(serviceName);
+        if (name != null) {
+            resolvedBindings.remove(name);
+        }
     }
 
     protected ServiceName buildServiceName(final Name name) {
@@ -285,4 +349,12 @@ public class ServiceBasedNamingStore implements NamingStore {
     protected ServiceRegistry getServiceRegistry() {
         return serviceRegistry;
     }
+
+    private static final class ResolvedBinding {
+        private final Object value;
+
+        ResolvedBinding(final Object value) {
+            this.value = value;
+        }
+    }
 }
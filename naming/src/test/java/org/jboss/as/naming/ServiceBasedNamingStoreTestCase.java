@@ -31,12 +31,15 @@ import javax.naming.CompositeName;
 import javax.naming.Context;
 import javax.naming.Name;
 import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
 import javax.naming.NameParser;
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
 
+import org.jboss.msc.service.AbstractServiceListener;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -98,6 +101,57 @@ public class ServiceBasedNamingStoreTestCase {
         assertEquals(value, obj);
     }
 
+    @Test
+    public void testLookupCachedBinding() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "cached");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+
+        assertEquals(value, store.lookup(new CompositeName("foo/cached")));
+        assertEquals(value, store.lookup(new CompositeName("foo/cached")));
+
+        // Rebinding evicts the previously resolved value
+        store.remove(bindingName);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ServiceController<?> controller = container.getRequiredService(bindingName);
+        controller.addListener(new AbstractServiceListener<Object>() {
+            public void transition(final ServiceController<?> controller, final ServiceController.Transition transition) {
+                if (transition.getAfter() == ServiceController.Substate.REMOVED) {
+                    latch.countDown();
+                }
+            }
+        });
+        controller.setMode(ServiceController.Mode.REMOVE);
+        latch.await();
+        try {
+            store.lookup(new CompositeName("foo/cached"));
+            fail("Should have thrown name not found");
+        } catch (NameNotFoundException expected) {
+        }
+
+        final Object newValue = new Object();
+        bindObject(bindingName, newValue);
+        assertEquals(newValue, store.lookup(new CompositeName("foo/cached")));
+    }
+
+    @Test
+    public void testLookupCachedBindingByEquivalentNames() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "equivalent");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+
+        // Both names resolve to the same service
+        assertEquals(value, store.lookup(new CompositeName("foo/equivalent")));
+        assertEquals(value, store.lookup(new CompositeName("foo//equivalent")));
+
+        unbindObject(bindingName);
+        final Object newValue = new Object();
+        bindObject(bindingName, newValue);
+
+        assertEquals(newValue, store.lookup(new CompositeName("foo/equivalent")));
+        assertEquals(newValue, store.lookup(new CompositeName("foo//equivalent")));
+    }
+
     @Test
     public void testLookupParentContext() throws Exception {
         final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
@@ -415,4 +469,19 @@ public class ServiceBasedNamingStoreTestCase {
         }).install();
         latch.await();
     }
+
+    private void unbindObject(final ServiceName serviceName) throws Exception {
+        store.remove(serviceName);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ServiceController<?> controller = container.getRequiredService(serviceName);
+        controller.addListener(new AbstractServiceListener<Object>() {
+            public void transition(final ServiceController<?> controller, final ServiceController.Transition transition) {
+                if (transition.getAfter() == ServiceController.Substate.REMOVED) {
+                    latch.countDown();
+                }
+            }
+        });
+        controller.setMode(ServiceController.Mode.REMOVE);
+        latch.await();
+    }
 }
@@ -43,6 +43,13 @@ public interface Constants {
     String AUTHENTICATION_MANAGER_CLASS_NAME = "authentication-manager-class-name";
     String AUTHORIZATION = "authorization";
     String AUTHORIZATION_MANAGER_CLASS_NAME = "authorization-manager-class-name";
+    String CACHE_CONCURRENCY_LEVEL = "cache-concurrency-level";
+    String CACHE_EVICTIONS = "cache-evictions";
+    String CACHE_HITS = "cache-hits";
+    String CACHE_IDLE_TIMEOUT = "cache-idle-timeout";
+    String CACHE_MAX_ENTRIES = "cache-max-entries";
+    String CACHE_MISSES = "cache-misses";
+    String CACHE_TTL = "cache-ttl";
     String CACHE_TYPE = "cache-type";
     String CIPHER_SUITES = "cipher-suites";
     String CLASSIC = "classic";
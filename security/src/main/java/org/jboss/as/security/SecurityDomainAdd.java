@@ -81,8 +81,10 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.ServiceVerificationHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.security.plugins.DefaultAuthenticationCacheFactory;
 import org.jboss.as.security.plugins.SecurityDomainContext;
 import org.jboss.as.security.service.JaasConfigurationService;
 import org.jboss.as.security.service.SecurityDomainService;
@@ -145,6 +147,10 @@ class SecurityDomainAdd extends AbstractAddStepHandler {
 
     protected void populateModel(ModelNode operation, ModelNode model) throws OperationFailedException {
         SecurityDomainResourceDefinition.CACHE_TYPE.validateAndSet(operation, model);
+        for (SimpleAttributeDefinition attribute : SecurityDomainResourceDefinition.CACHE_ATTRIBUTES) {
+            attribute.validateAndSet(operation, model);
+        }
+        validateCacheAttributes(model);
     }
 
     protected void performRuntime(OperationContext context, ModelNode operation, final ModelNode model, final ServiceVerificationHandler verificationHandler, final List<ServiceController<?>> newControllers) {
@@ -162,17 +168,18 @@ class SecurityDomainAdd extends AbstractAddStepHandler {
         }, OperationContext.Stage.RUNTIME);
     }
 
-    void launchServices(OperationContext context, String securityDomain, ModelNode model) {
+    void launchServices(OperationContext context, String securityDomain, ModelNode model) throws OperationFailedException {
         launchServices(context, securityDomain, model, null, null);
     }
 
-    public void launchServices(OperationContext context, String securityDomain, ModelNode model, ServiceVerificationHandler verificationHandler, List<ServiceController<?>> newControllers) {
+    public void launchServices(OperationContext context, String securityDomain, ModelNode model, ServiceVerificationHandler verificationHandler, List<ServiceController<?>> newControllers) throws OperationFailedException {
         final ApplicationPolicy applicationPolicy = createApplicationPolicy(securityDomain, model);
         final JSSESecurityDomain jsseSecurityDomain = createJSSESecurityDomain(context, securityDomain, model);
         final String cacheType = getAuthenticationCacheType(model);
+        final DefaultAuthenticationCacheFactory cacheFactory = createDefaultAuthenticationCacheFactory(context, model);
 
         final SecurityDomainService securityDomainService = new SecurityDomainService(securityDomain,
-                applicationPolicy, jsseSecurityDomain, cacheType);
+                applicationPolicy, jsseSecurityDomain, cacheType, cacheFactory);
         final ServiceTarget target = context.getServiceTarget();
         // some login modules may require the TransactionManager
         final Injector<TransactionManager> transactionManagerInjector = new Injector<TransactionManager>() {
@@ -645,4 +652,26 @@ class SecurityDomainAdd extends AbstractAddStepHandler {
 
         return type;
     }
+
+    /**
+     * Rejects authentication cache attributes unless the security domain uses the default cache,
+     * since they only configure the bounds of that cache.
+     */
+    static void validateCacheAttributes(ModelNode node) throws OperationFailedException {
+        String cacheType = getAuthenticationCacheType(node);
+        if ("default".equals(cacheType)) return;
+        for (SimpleAttributeDefinition attribute : SecurityDomainResourceDefinition.CACHE_ATTRIBUTES) {
+            if (node.hasDefined(attribute.getName())) {
+                throw SecurityMessages.MESSAGES.cacheAttributeNotSupported(attribute.getName(), String.valueOf(cacheType));
+            }
+        }
+    }
+
+    static DefaultAuthenticationCacheFactory createDefaultAuthenticationCacheFactory(OperationContext context, ModelNode node) throws OperationFailedException {
+        int maxEntries = SecurityDomainResourceDefinition.CACHE_MAX_ENTRIES.resolveModelAttribute(context, node).asInt();
+        int concurrencyLevel = SecurityDomainResourceDefinition.CACHE_CONCURRENCY_LEVEL.resolveModelAttribute(context, node).asInt();
+        long timeToLive = SecurityDomainResourceDefinition.CACHE_TTL.resolveModelAttribute(context, node).asLong();
+        long idleTimeout = SecurityDomainResourceDefinition.CACHE_IDLE_TIMEOUT.resolveModelAttribute(context, node).asLong();
+        return new DefaultAuthenticationCacheFactory(maxEntries, concurrencyLevel, timeToLive, idleTimeout);
+    }
 }
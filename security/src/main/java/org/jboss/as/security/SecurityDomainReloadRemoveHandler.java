@@ -22,6 +22,7 @@
 package org.jboss.as.security;
 
 import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.RestartParentResourceRemoveHandler;
 import org.jboss.as.controller.ServiceVerificationHandler;
@@ -38,7 +39,7 @@ public class SecurityDomainReloadRemoveHandler extends RestartParentResourceRemo
     }
 
     @Override
-    protected void recreateParentService(OperationContext context, PathAddress parentAddress, ModelNode parentModel, ServiceVerificationHandler verificationHandler) {
+    protected void recreateParentService(OperationContext context, PathAddress parentAddress, ModelNode parentModel, ServiceVerificationHandler verificationHandler) throws OperationFailedException {
         String domainName = parentAddress.getLastElement().getValue();
         SecurityDomainAdd.INSTANCE.launchServices(context, domainName, parentModel, verificationHandler, null);
     }
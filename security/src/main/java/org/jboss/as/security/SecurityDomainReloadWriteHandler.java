@@ -23,6 +23,8 @@ package org.jboss.as.security;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.RestartParentWriteAttributeHandler;
 import org.jboss.as.controller.ServiceVerificationHandler;
@@ -47,7 +49,20 @@ public class SecurityDomainReloadWriteHandler extends RestartParentWriteAttribut
     }
 
     @Override
-    protected void recreateParentService(OperationContext context, PathAddress parentAddress, ModelNode parentModel, ServiceVerificationHandler verificationHandler) {
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        // Validate the cache attributes against the updated model, once this step has written the attribute
+        context.addStep(new OperationStepHandler() {
+            @Override
+            public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                SecurityDomainAdd.validateCacheAttributes(context.readResource(PathAddress.EMPTY_ADDRESS).getModel());
+                context.completeStep();
+            }
+        }, OperationContext.Stage.MODEL);
+        super.execute(context, operation);
+    }
+
+    @Override
+    protected void recreateParentService(OperationContext context, PathAddress parentAddress, ModelNode parentModel, ServiceVerificationHandler verificationHandler) throws OperationFailedException {
         String domainName = parentAddress.getLastElement().getValue();
         SecurityDomainAdd.INSTANCE.launchServices(context, domainName, parentModel, verificationHandler, null);
     }
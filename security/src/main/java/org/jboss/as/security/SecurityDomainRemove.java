@@ -24,6 +24,7 @@ package org.jboss.as.security;
 
 import org.jboss.as.controller.AbstractRemoveStepHandler;
 import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REMOVE;
@@ -54,7 +55,7 @@ class SecurityDomainRemove extends AbstractRemoveStepHandler {
         context.removeService(SecurityDomainService.SERVICE_NAME.append(securityDomain));
     }
 
-    protected void recoverServices(OperationContext context, ModelNode operation, ModelNode model) {
+    protected void recoverServices(OperationContext context, ModelNode operation, ModelNode model) throws OperationFailedException {
         PathAddress address = PathAddress.pathAddress(operation.get(OP_ADDR));
         final String securityDomain = address.getLastElement().getValue();
         final String cacheType = SecurityDomainAdd.getAuthenticationCacheType(operation);
@@ -21,6 +21,7 @@
  */
 package org.jboss.as.security;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 
 import java.security.Principal;
@@ -35,9 +36,14 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry.Flag;
+import org.jboss.as.security.plugins.AuthenticationCache;
+import org.jboss.as.security.plugins.DefaultAuthenticationCacheFactory;
 import org.jboss.as.security.plugins.SecurityDomainContext;
 import org.jboss.as.security.service.SecurityDomainService;
 import org.jboss.dmr.ModelNode;
@@ -55,6 +61,47 @@ public class SecurityDomainResourceDefinition extends SimpleResourceDefinition {
     public static final SimpleAttributeDefinition CACHE_TYPE =
             new SimpleAttributeDefinitionBuilder(Constants.CACHE_TYPE, ModelType.STRING, true).build();
 
+    public static final SimpleAttributeDefinition CACHE_MAX_ENTRIES =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_MAX_ENTRIES, ModelType.INT, true)
+                    .setDefaultValue(new ModelNode(DefaultAuthenticationCacheFactory.DEFAULT_MAX_ENTRIES))
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setAllowExpression(true)
+                    .build();
+
+    public static final SimpleAttributeDefinition CACHE_CONCURRENCY_LEVEL =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_CONCURRENCY_LEVEL, ModelType.INT, true)
+                    .setDefaultValue(new ModelNode(DefaultAuthenticationCacheFactory.DEFAULT_CONCURRENCY_LEVEL))
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setAllowExpression(true)
+                    .build();
+
+    public static final SimpleAttributeDefinition CACHE_TTL =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_TTL, ModelType.LONG, true)
+                    .setDefaultValue(new ModelNode(0L))
+                    .setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setAllowExpression(true)
+                    .build();
+
+    public static final SimpleAttributeDefinition CACHE_IDLE_TIMEOUT =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_IDLE_TIMEOUT, ModelType.LONG, true)
+                    .setDefaultValue(new ModelNode(0L))
+                    .setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setAllowExpression(true)
+                    .build();
+
+    static final SimpleAttributeDefinition[] CACHE_ATTRIBUTES = { CACHE_MAX_ENTRIES, CACHE_CONCURRENCY_LEVEL, CACHE_TTL, CACHE_IDLE_TIMEOUT };
+
+    public static final SimpleAttributeDefinition CACHE_HITS =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_HITS, ModelType.LONG, true).setStorageRuntime().build();
+
+    public static final SimpleAttributeDefinition CACHE_MISSES =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_MISSES, ModelType.LONG, true).setStorageRuntime().build();
+
+    public static final SimpleAttributeDefinition CACHE_EVICTIONS =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_EVICTIONS, ModelType.LONG, true).setStorageRuntime().build();
+
     private final boolean registerRuntimeOnly;
 
     SecurityDomainResourceDefinition(boolean registerRuntimeOnly) {
@@ -65,6 +112,14 @@ public class SecurityDomainResourceDefinition extends SimpleResourceDefinition {
 
     public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
         resourceRegistration.registerReadWriteAttribute(CACHE_TYPE, null, new SecurityDomainReloadWriteHandler(CACHE_TYPE));
+        for (SimpleAttributeDefinition attribute : CACHE_ATTRIBUTES) {
+            resourceRegistration.registerReadWriteAttribute(attribute, null, new SecurityDomainReloadWriteHandler(attribute));
+        }
+        if (registerRuntimeOnly) {
+            resourceRegistration.registerMetric(CACHE_HITS, CacheMetricsHandler.INSTANCE);
+            resourceRegistration.registerMetric(CACHE_MISSES, CacheMetricsHandler.INSTANCE);
+            resourceRegistration.registerMetric(CACHE_EVICTIONS, CacheMetricsHandler.INSTANCE);
+        }
     }
 
     @Override
@@ -124,6 +179,32 @@ public class SecurityDomainResourceDefinition extends SimpleResourceDefinition {
         }
     }
 
+    static final class CacheMetricsHandler extends AbstractRuntimeOnlyHandler {
+        static final CacheMetricsHandler INSTANCE = new CacheMetricsHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+            final String securityDomain = address.getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
+
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(SecurityDomainService.SERVICE_NAME.append(securityDomain));
+            SecurityDomainContext sdc = (controller != null) ? (SecurityDomainContext) controller.getValue() : null;
+            AuthenticationCache cache = (sdc != null) ? sdc.getAuthenticationCache() : null;
+            if (cache != null) {
+                ModelNode result = context.getResult();
+                if (Constants.CACHE_HITS.equals(attributeName)) {
+                    result.set(cache.getHits());
+                } else if (Constants.CACHE_MISSES.equals(attributeName)) {
+                    result.set(cache.getMisses());
+                } else if (Constants.CACHE_EVICTIONS.equals(attributeName)) {
+                    result.set(cache.getEvictions());
+                }
+            }
+            context.completeStep();
+        }
+    }
+
     static final class FlushOperation extends AbstractRuntimeOnlyHandler {
         static final FlushOperation INSTANCE = new FlushOperation();
 
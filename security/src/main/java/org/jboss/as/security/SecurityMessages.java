@@ -30,6 +30,7 @@ import javax.security.auth.login.LoginException;
 import javax.xml.stream.Location;
 import javax.xml.stream.XMLStreamException;
 
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.server.services.security.VaultReaderException;
 import org.jboss.logging.Cause;
 import org.jboss.logging.Message;
@@ -245,4 +246,13 @@ public interface SecurityMessages {
      */
     @Message(id = 13323, value = "Invalid User")
     SecurityException invalidUserException();
-}
\ No newline at end of file
+
+    /**
+     * Create an {@link OperationFailedException} to indicate that an authentication cache attribute was set for a cache type that does not support it
+     * @param attribute the name of the attribute
+     * @param cacheType the cache type of the security domain
+     * @return {@link OperationFailedException}
+     */
+    @Message(id = 13324, value = "Attribute %s is only supported by the default authentication cache, not by cache type %s")
+    OperationFailedException cacheAttributeNotSupported(String attribute, String cacheType);
+}
@@ -43,6 +43,7 @@ import java.util.Set;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.persistence.SubsystemMarshallingContext;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
@@ -164,6 +165,9 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
                 writer.writeAttribute(Attribute.NAME.getLocalName(), policy.getName());
                 ModelNode policyDetails = policy.getValue();
                 SecurityDomainResourceDefinition.CACHE_TYPE.marshallAsAttribute(policyDetails, writer);
+                for (SimpleAttributeDefinition attribute : SecurityDomainResourceDefinition.CACHE_ATTRIBUTES) {
+                    attribute.marshallAsAttribute(policyDetails, writer);
+                }
                 writeSecurityDomainContent(writer, policyDetails);
                 writer.writeEndElement();
             }
@@ -193,6 +197,9 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
         Set<String> keys = policyDetails.keys();
         keys.remove(NAME);
         keys.remove(CACHE_TYPE);
+        for (SimpleAttributeDefinition attribute : SecurityDomainResourceDefinition.CACHE_ATTRIBUTES) {
+            keys.remove(attribute.getName());
+        }
 
         for (String key : keys) {
             Element element = Element.forName(key);
@@ -394,6 +401,7 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
         op.get(OP).set(ADD);
         ModelNode address = op.get(OP_ADDR);
 
+        Namespace schemaVer = Namespace.forUri(reader.getNamespaceURI());
         EnumSet<Attribute> required = EnumSet.of(Attribute.NAME);
         final int count = reader.getAttributeCount();
         for (int i = 0; i < count; i++) {
@@ -413,6 +421,30 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
                     SecurityDomainResourceDefinition.CACHE_TYPE.parseAndSetParameter(value, op, reader);
                     break;
                 }
+                case CACHE_MAX_ENTRIES: {
+                    if (schemaVer == Namespace.SECURITY_1_0 || schemaVer == Namespace.SECURITY_1_1)
+                        throw unexpectedAttribute(reader, i);
+                    SecurityDomainResourceDefinition.CACHE_MAX_ENTRIES.parseAndSetParameter(value, op, reader);
+                    break;
+                }
+                case CACHE_CONCURRENCY_LEVEL: {
+                    if (schemaVer == Namespace.SECURITY_1_0 || schemaVer == Namespace.SECURITY_1_1)
+                        throw unexpectedAttribute(reader, i);
+                    SecurityDomainResourceDefinition.CACHE_CONCURRENCY_LEVEL.parseAndSetParameter(value, op, reader);
+                    break;
+                }
+                case CACHE_TTL: {
+                    if (schemaVer == Namespace.SECURITY_1_0 || schemaVer == Namespace.SECURITY_1_1)
+                        throw unexpectedAttribute(reader, i);
+                    SecurityDomainResourceDefinition.CACHE_TTL.parseAndSetParameter(value, op, reader);
+                    break;
+                }
+                case CACHE_IDLE_TIMEOUT: {
+                    if (schemaVer == Namespace.SECURITY_1_0 || schemaVer == Namespace.SECURITY_1_1)
+                        throw unexpectedAttribute(reader, i);
+                    SecurityDomainResourceDefinition.CACHE_IDLE_TIMEOUT.parseAndSetParameter(value, op, reader);
+                    break;
+                }
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -0,0 +1,209 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.security.plugins;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.infinispan.util.concurrent.BoundedConcurrentHashMap;
+import org.jboss.security.authentication.JBossCachedAuthenticationManager.DomainInfo;
+
+/**
+ * Bounded authentication cache that additionally expires entries once they exceed a maximum lifespan or have not been
+ * accessed for a given idle time.
+ * Expired entries are removed, and therefore logged out, lazily on access.
+ * Hits, misses and evictions are counted so that they can be reported as security domain metrics.
+ */
+public class AuthenticationCache extends BoundedConcurrentHashMap<Principal, DomainInfo> {
+
+    private static final long serialVersionUID = -4163127583349402637L;
+
+    private final long timeToLive;
+    private final long idleTimeout;
+    private final Clock clock;
+    private final Listener listener;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a new authentication cache.
+     * @param maxEntries the maximum number of cached principals
+     * @param concurrencyLevel the estimated number of concurrently updating threads
+     * @param timeToLive the time after which an entry expires, in milliseconds, or a non-positive value for no expiration
+     * @param idleTimeout the time after which an entry that was not accessed expires, in milliseconds, or a non-positive value for no expiration
+     */
+    public AuthenticationCache(int maxEntries, int concurrencyLevel, long timeToLive, long idleTimeout) {
+        this(maxEntries, concurrencyLevel, timeToLive, idleTimeout, Clock.SYSTEM);
+    }
+
+    /**
+     * Creates a new authentication cache that reads the current time from the specified clock.
+     * @param maxEntries the maximum number of cached principals
+     * @param concurrencyLevel the estimated number of concurrently updating threads
+     * @param timeToLive the time after which an entry expires, in milliseconds, or a non-positive value for no expiration
+     * @param idleTimeout the time after which an entry that was not accessed expires, in milliseconds, or a non-positive value for no expiration
+     * @param clock the source of the current time
+     */
+    public AuthenticationCache(int maxEntries, int concurrencyLevel, long timeToLive, long idleTimeout, Clock clock) {
+        this(maxEntries, concurrencyLevel, timeToLive, idleTimeout, clock, new Listener());
+    }
+
+    private AuthenticationCache(int maxEntries, int concurrencyLevel, long timeToLive, long idleTimeout, Clock clock, Listener listener) {
+        super(maxEntries, concurrencyLevel, Eviction.LIRS, listener);
+        this.timeToLive = timeToLive;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+        this.listener = listener;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DomainInfo get(Object key) {
+        DomainInfo info = super.get(key);
+        if (info != null) {
+            long now = this.clock.currentTimeMillis();
+            Timestamps timestamps = this.listener.timestamps.get(key);
+            if ((timestamps != null) && timestamps.isExpired(now, this.timeToLive, this.idleTimeout)) {
+                if (super.remove(key, info)) {
+                    this.listener.timestamps.remove(key, timestamps);
+                    this.listener.evictions.incrementAndGet();
+                    info.logout();
+                }
+                info = null;
+            } else if (timestamps != null) {
+                timestamps.accessed = now;
+            }
+        }
+        if (info != null) {
+            this.hits.incrementAndGet();
+        } else {
+            this.misses.incrementAndGet();
+        }
+        return info;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DomainInfo put(Principal key, DomainInfo value) {
+        this.listener.timestamps.put(key, new Timestamps(this.clock.currentTimeMillis()));
+        return super.put(key, value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DomainInfo putIfAbsent(Principal key, DomainInfo value) {
+        DomainInfo existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            this.listener.timestamps.put(key, new Timestamps(this.clock.currentTimeMillis()));
+        }
+        return existing;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DomainInfo remove(Object key) {
+        DomainInfo removed = super.remove(key);
+        this.listener.timestamps.remove(key);
+        if (removed != null) {
+            removed.logout();
+        }
+        return removed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        for (DomainInfo domainInfo : values()) {
+            domainInfo.logout();
+        }
+        super.clear();
+        this.listener.timestamps.clear();
+    }
+
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Returns the number of entries removed because the cache was full or because they expired.
+     */
+    public long getEvictions() {
+        return this.listener.evictions.get();
+    }
+
+    /**
+     * Source of the current time used to expire entries.
+     */
+    public interface Clock {
+        Clock SYSTEM = new Clock() {
+            @Override
+            public long currentTimeMillis() {
+                return System.currentTimeMillis();
+            }
+        };
+
+        /**
+         * Returns the current time, in milliseconds.
+         */
+        long currentTimeMillis();
+    }
+
+    private static class Timestamps {
+        final long created;
+        volatile long accessed;
+
+        Timestamps(long now) {
+            this.created = now;
+            this.accessed = now;
+        }
+
+        boolean isExpired(long now, long timeToLive, long idleTimeout) {
+            return ((timeToLive > 0) && (now - this.created >= timeToLive)) || ((idleTimeout > 0) && (now - this.accessed >= idleTimeout));
+        }
+    }
+
+    /**
+     * Logs out evicted entries, and keeps the expiration timestamps consistent with the cache content.
+     * Created before the cache itself, since the eviction listener must be passed to the super constructor.
+     */
+    private static class Listener extends AuthenticationCacheEvictionListener {
+        final ConcurrentMap<Object, Timestamps> timestamps = new ConcurrentHashMap<Object, Timestamps>();
+        final AtomicLong evictions = new AtomicLong();
+
+        @Override
+        public void onEntryEviction(Map<Principal, DomainInfo> evicted) {
+            for (Principal principal : evicted.keySet()) {
+                this.timestamps.remove(principal);
+            }
+            this.evictions.addAndGet(evicted.size());
+            super.onEntryEviction(evicted);
+        }
+    }
+}
@@ -23,12 +23,8 @@
 package org.jboss.as.security.plugins;
 
 import java.security.Principal;
-import java.util.Collection;
 import java.util.concurrent.ConcurrentMap;
 
-import org.infinispan.util.concurrent.BoundedConcurrentHashMap;
-import org.infinispan.util.concurrent.BoundedConcurrentHashMap.Eviction;
-import org.jboss.security.authentication.JBossCachedAuthenticationManager;
 import org.jboss.security.authentication.JBossCachedAuthenticationManager.DomainInfo;
 
 /**
@@ -38,38 +34,40 @@ import org.jboss.security.authentication.JBossCachedAuthenticationManager.Domain
  */
 public class DefaultAuthenticationCacheFactory {
 
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final int maxEntries;
+    private final int concurrencyLevel;
+    private final long timeToLive;
+    private final long idleTimeout;
+
+    public DefaultAuthenticationCacheFactory() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_CONCURRENCY_LEVEL, 0, 0);
+    }
+
+    /**
+     * Creates a factory for caches with the specified bounds.
+     *
+     * @param maxEntries the maximum number of cached principals
+     * @param concurrencyLevel the estimated number of concurrently updating threads
+     * @param timeToLive the maximum lifespan of a cached entry, in milliseconds, or 0 for no limit
+     * @param idleTimeout the maximum idle time of a cached entry, in milliseconds, or 0 for no limit
+     */
+    public DefaultAuthenticationCacheFactory(int maxEntries, int concurrencyLevel, long timeToLive, long idleTimeout) {
+        this.maxEntries = maxEntries;
+        this.concurrencyLevel = concurrencyLevel;
+        this.timeToLive = timeToLive;
+        this.idleTimeout = idleTimeout;
+    }
+
     /**
      * Returns a default cache implementation
      *
      * @return cache implementation
      */
     public ConcurrentMap<Principal, DomainInfo> getCache() {
-        ConcurrentMap<Principal, DomainInfo> map = new BoundedConcurrentHashMap<Principal, JBossCachedAuthenticationManager.DomainInfo>(
-                1000, 16, Eviction.LIRS, new AuthenticationCacheEvictionListener()) {
-
-            private static final long serialVersionUID = 1459490003748298538L;
-
-            /** {@inheritDoc} */
-            @Override
-            public DomainInfo remove(Object key) {
-                DomainInfo removed = super.remove(key);
-                if (removed != null) {
-                    removed.logout();
-                }
-                return removed;
-            }
-
-            /** {@inheritDoc} */
-            @Override
-            public void clear() {
-                Collection<DomainInfo> values = values();
-                for (DomainInfo domainInfo : values) {
-                    domainInfo.logout();
-                }
-                super.clear();
-            }
-        };
-        return map;
+        return new AuthenticationCache(maxEntries, concurrencyLevel, timeToLive, idleTimeout);
     }
 
 }
@@ -59,6 +59,7 @@ public class SecurityDomainContext {
     MappingManager mappingMgr;
     IdentityTrustManager identityTrustMgr;
     JSSESecurityDomain jsseSecurityDomain;
+    AuthenticationCache authenticationCache;
 
     private static final String SUBJECT_CONTEXT_KEY = "javax.security.auth.Subject.container";
 
@@ -147,4 +148,15 @@ public class SecurityDomainContext {
     public void setJSSE(JSSESecurityDomain jsseSecurityDomain) {
         this.jsseSecurityDomain = jsseSecurityDomain;
     }
+
+    /**
+     * Returns the default authentication cache of this domain, or null if the domain does not use one.
+     */
+    public AuthenticationCache getAuthenticationCache() {
+        return authenticationCache;
+    }
+
+    public void setAuthenticationCache(AuthenticationCache authenticationCache) {
+        this.authenticationCache = authenticationCache;
+    }
 }
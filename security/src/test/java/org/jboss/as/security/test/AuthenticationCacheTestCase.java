@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.security.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.security.Principal;
+
+import org.jboss.as.security.plugins.AuthenticationCache;
+import org.jboss.security.SimplePrincipal;
+import org.jboss.security.authentication.JBossCachedAuthenticationManager.DomainInfo;
+import org.junit.Test;
+
+public class AuthenticationCacheTestCase {
+
+    @Test
+    public void testHitsAndMisses() {
+        AuthenticationCache cache = new AuthenticationCache(10, 1, 0, 0);
+        Principal principal = new SimplePrincipal("user");
+        assertNull(cache.get(principal));
+        cache.put(principal, new DomainInfo());
+        assertNotNull(cache.get(principal));
+        assertNotNull(cache.get(principal));
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    public void testTimeToLive() {
+        ManualClock clock = new ManualClock();
+        AuthenticationCache cache = new AuthenticationCache(10, 1, 50, 0, clock);
+        Principal principal = new SimplePrincipal("user");
+        cache.put(principal, new DomainInfo());
+        clock.advance(49);
+        assertNotNull(cache.get(principal));
+        clock.advance(1);
+        assertNull(cache.get(principal));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testIdleTimeout() {
+        ManualClock clock = new ManualClock();
+        AuthenticationCache cache = new AuthenticationCache(10, 1, 0, 200, clock);
+        Principal principal = new SimplePrincipal("user");
+        cache.put(principal, new DomainInfo());
+        for (int i = 0; i < 5; ++i) {
+            clock.advance(199);
+            assertNotNull(cache.get(principal));
+        }
+        clock.advance(200);
+        assertNull(cache.get(principal));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testMaxEntries() {
+        AuthenticationCache cache = new AuthenticationCache(8, 1, 0, 0);
+        for (int i = 0; i < 100; ++i) {
+            cache.put(new SimplePrincipal("user" + i), new DomainInfo());
+        }
+        assertEquals(100 - cache.size(), cache.getEvictions());
+    }
+
+    private static class ManualClock implements AuthenticationCache.Clock {
+        private long now;
+
+        @Override
+        public long currentTimeMillis() {
+            return this.now;
+        }
+
+        void advance(long millis) {
+            this.now += millis;
+        }
+    }
+}
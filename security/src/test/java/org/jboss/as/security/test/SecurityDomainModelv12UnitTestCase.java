@@ -0,0 +1,124 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.security.test;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.security.Constants;
+import org.jboss.as.security.SecurityExtension;
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+public class SecurityDomainModelv12UnitTestCase extends AbstractSubsystemBaseTest {
+
+    public SecurityDomainModelv12UnitTestCase() {
+        super(SecurityExtension.SUBSYSTEM_NAME, new SecurityExtension());
+    }
+
+    @Test
+    public void testParseAndMarshalModel() throws Exception {
+        //Parse the subsystem xml and install into the first controller
+        String subsystemXml = readResource("securitysubsystemv12.xml");
+
+        KernelServices servicesA = super.installInController(AdditionalInitialization.MANAGEMENT, subsystemXml);
+        //Get the model and the persisted xml from the first controller
+        ModelNode modelA = servicesA.readWholeModel();
+        String marshalled = servicesA.getPersistedSubsystemXml();
+        servicesA.shutdown();
+
+        //Install the persisted xml from the first controller into a second controller
+        KernelServices servicesB = super.installInController(AdditionalInitialization.MANAGEMENT, marshalled);
+        ModelNode modelB = servicesB.readWholeModel();
+
+        //Make sure the models from the two controllers are identical
+        super.compare(modelA, modelB);
+
+        ModelNode domain = modelB.get(SUBSYSTEM, SecurityExtension.SUBSYSTEM_NAME, Constants.SECURITY_DOMAIN, "DsRealm");
+        assertEquals(500, domain.get(Constants.CACHE_MAX_ENTRIES).asInt());
+        assertEquals(60000L, domain.get(Constants.CACHE_TTL).asLong());
+        assertEquals(30000L, domain.get(Constants.CACHE_IDLE_TIMEOUT).asLong());
+
+        assertRemoveSubsystemResources(servicesA);
+    }
+
+    @Test
+    public void testCacheAttributesRequireCurrentNamespace() throws Exception {
+        String subsystemXml = readResource("securitysubsystemv12.xml").replace("urn:jboss:domain:security:1.2", "urn:jboss:domain:security:1.1");
+        try {
+            super.parse(subsystemXml);
+            fail("Cache attributes should not be accepted in the 1.1 namespace");
+        } catch (XMLStreamException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testCacheAttributesRequireDefaultCacheType() throws Exception {
+        KernelServices services = super.installInController(AdditionalInitialization.MANAGEMENT, getSubsystemXml());
+
+        ModelNode address = new ModelNode();
+        address.add(SUBSYSTEM, SecurityExtension.SUBSYSTEM_NAME);
+        address.add(Constants.SECURITY_DOMAIN, "infinispan-domain");
+        ModelNode add = new ModelNode();
+        add.get(OP).set(ADD);
+        add.get(OP_ADDR).set(address);
+        add.get(Constants.CACHE_TYPE).set("infinispan");
+        add.get(Constants.CACHE_TTL).set(1000L);
+        assertEquals(FAILED, services.executeOperation(add).get(OUTCOME).asString());
+
+        address = new ModelNode();
+        address.add(SUBSYSTEM, SecurityExtension.SUBSYSTEM_NAME);
+        address.add(Constants.SECURITY_DOMAIN, "DsRealm");
+        ModelNode write = new ModelNode();
+        write.get(OP).set(WRITE_ATTRIBUTE_OPERATION);
+        write.get(OP_ADDR).set(address);
+        write.get(NAME).set(Constants.CACHE_TYPE);
+        write.get(VALUE).set("infinispan");
+        assertEquals(FAILED, services.executeOperation(write).get(OUTCOME).asString());
+
+        write.get(VALUE).set("default");
+        assertEquals(SUCCESS, services.executeOperation(write).get(OUTCOME).asString());
+    }
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("securitysubsystemv12.xml");
+    }
+}
@@ -22,6 +22,7 @@
 
 package org.jboss.as.server;
 
+import java.io.File;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
@@ -31,7 +32,9 @@ import org.jboss.as.controller.RunningModeControl;
 import org.jboss.as.controller.extension.ExtensionRegistry;
 import org.jboss.as.controller.parsing.Namespace;
 import org.jboss.as.server.parsing.StandaloneXml;
+import org.jboss.as.version.Version;
 import org.jboss.as.controller.persistence.BackupXmlConfigurationPersister;
+import org.jboss.as.controller.persistence.BootOperationCache;
 import org.jboss.as.controller.persistence.ExtensibleConfigurationPersister;
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleLoader;
@@ -166,6 +169,8 @@ public interface Bootstrap {
                             QName rootElement = new QName(Namespace.CURRENT.getUriString(), "server");
                             StandaloneXml parser = new StandaloneXml(Module.getBootModuleLoader(), executorService, extensionRegistry);
                             BackupXmlConfigurationPersister persister = new BackupXmlConfigurationPersister(serverEnvironment.getServerConfigurationFile(), rootElement, parser, parser);
+                            persister.setBootOperationCache(BootOperationCache.create(new File(serverEnvironment.getServerDataDir(), "boot-operations.cache"),
+                                    Version.AS_VERSION, "org.jboss.as.controller", "org.jboss.as.domain-management", "org.jboss.as.server", "org.jboss.dmr", "org.jboss.staxmapper"));
                             for (Namespace namespace : Namespace.values()) {
                                 if (!namespace.equals(Namespace.CURRENT)) {
                                     persister.registerAdditionalRootElement(new QName(namespace.getUriString(), "server"), parser);
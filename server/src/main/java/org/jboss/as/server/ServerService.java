@@ -98,6 +98,8 @@ import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.jboss.msc.service.ValueService;
+import org.jboss.msc.value.ImmediateValue;
 import org.jboss.msc.value.InjectedValue;
 import org.jboss.threads.JBossThreadFactory;
 
@@ -212,6 +214,12 @@ public final class ServerService extends AbstractControllerService {
             serviceTarget.addService(org.jboss.as.server.deployment.Services.JBOSS_DEPLOYMENT_EXTENSION_INDEX,
                     new ExtensionIndexService(newExtDirs)).setInitialMode(ServiceController.Mode.ON_DEMAND).install();
 
+            // Make the executor available for concurrent deployment processing
+            final ExecutorService executor = queuelessExecutor;
+            if (executor != null) {
+                serviceTarget.addService(Services.JBOSS_SERVER_EXECUTOR, new ValueService<ExecutorService>(new ImmediateValue<ExecutorService>(executor)))
+                        .install();
+            }
 
             // Activate module loader
             DeployerChainAddHandler.addDeploymentProcessor(Phase.STRUCTURE, Phase.STRUCTURE_SERVICE_MODULE_LOADER, new DeploymentUnitProcessor() {
@@ -60,4 +60,9 @@ public final class Services {
      * The service that caches system module jandex indexes
      */
     public static final ServiceName JBOSS_MODULE_INDEX_SERVICE = JBOSS_AS.append("module-index-service");
+
+    /**
+     * The service corresponding to the {@link java.util.concurrent.ExecutorService} of this server, if it has one.
+     */
+    public static final ServiceName JBOSS_SERVER_EXECUTOR = JBOSS_AS.append("server-executor");
 }
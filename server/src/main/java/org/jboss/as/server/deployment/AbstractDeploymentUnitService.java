@@ -68,6 +68,9 @@ public abstract class AbstractDeploymentUnitService implements Service<Deploymen
         target.addListener(ServiceListener.Inheritance.ALL, listener);
         deploymentUnit = createAndInitializeDeploymentUnit(context.getController().getServiceContainer());
         deploymentUnit.putAttachment(Attachments.STATUS_LISTENER, listener);
+        if (deploymentUnit.getParent() == null) {
+            deploymentUnit.putAttachment(Attachments.PROCESSOR_TIMINGS, new DeploymentProcessorTimings());
+        }
 
         final ServiceName serviceName = deploymentUnit.getServiceName().append(FIRST_PHASE_NAME);
         final Phase firstPhase = Phase.values()[0];
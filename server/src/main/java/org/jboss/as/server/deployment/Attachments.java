@@ -90,6 +90,11 @@ public final class Attachments {
      */
     public static final AttachmentKey<AbstractDeploymentUnitService.DeploymentServiceListener> STATUS_LISTENER = AttachmentKey.create(AbstractDeploymentUnitService.DeploymentServiceListener.class);
 
+    /**
+     * The time taken by each deployment processor, attached to the top level deployment unit.
+     */
+    public static final AttachmentKey<DeploymentProcessorTimings> PROCESSOR_TIMINGS = AttachmentKey.create(DeploymentProcessorTimings.class);
+
     /**
      * This should be added as a listener to all non child services
      */
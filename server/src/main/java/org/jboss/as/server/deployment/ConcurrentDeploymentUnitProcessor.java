@@ -0,0 +1,54 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment;
+
+import java.util.Set;
+
+/**
+ * A deployment processor which declares the attachments it reads and writes.  Within a phase, such a processor may
+ * be executed concurrently with other concurrent processors whose declared attachments do not conflict with its own,
+ * i.e. where neither writes an attachment the other reads or writes.  Adding to an attachment list counts as a write,
+ * except that any number of processors may concurrently add dependencies to {@link Attachments#NEXT_PHASE_DEPS}.
+ * <p>
+ * Processors which do not implement this interface are always executed on their own, after every preceding processor
+ * of the phase has completed and before any following processor starts.
+ * <p>
+ * Implementations must only share state with other processors through the declared attachments of the deployment
+ * unit or phase context, and their {@code deploy()} method may be called from any thread.
+ */
+public interface ConcurrentDeploymentUnitProcessor extends DeploymentUnitProcessor {
+
+    /**
+     * Get the keys of the attachments read by this processor.
+     *
+     * @return the attachment keys, never {@code null}
+     */
+    Set<AttachmentKey<?>> getReadAttachments();
+
+    /**
+     * Get the keys of the attachments written by this processor.
+     *
+     * @return the attachment keys, never {@code null}
+     */
+    Set<AttachmentKey<?>> getWrittenAttachments();
+}
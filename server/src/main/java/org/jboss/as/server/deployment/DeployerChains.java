@@ -22,8 +22,15 @@
 
 package org.jboss.as.server.deployment;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.jboss.msc.value.InjectedValue;
 
 /**
  * The deployer chains service value object.
@@ -31,13 +38,102 @@ import java.util.List;
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 final class DeployerChains {
+
+    /**
+     * Attachment lists which processors only append to, and whose order does not matter.  They are held by the phase
+     * context, whose methods are synchronized, so concurrent processors may all append to them.
+     */
+    private static final Set<AttachmentKey<?>> UNORDERED_LISTS = Collections.<AttachmentKey<?>>singleton(Attachments.NEXT_PHASE_DEPS);
+
     private final EnumMap<Phase, List<DeploymentUnitProcessor>> phases;
+    private final EnumMap<Phase, List<int[]>> groups;
+    private final InjectedValue<ExecutorService> executor = new InjectedValue<ExecutorService>();
 
     DeployerChains(final EnumMap<Phase, List<DeploymentUnitProcessor>> phases) {
         this.phases = phases;
+        groups = new EnumMap<Phase, List<int[]>>(Phase.class);
+        for (Phase phase : phases.keySet()) {
+            groups.put(phase, group(phases.get(phase)));
+        }
     }
 
     List<DeploymentUnitProcessor> getChain(Phase phase) {
         return phases.get(phase);
     }
+
+    /**
+     * Get the processors of a phase, as indexes into its chain, divided into groups which may each be executed
+     * concurrently.  The groups must be executed one after another, in order.
+     *
+     * @param phase the phase
+     * @return the groups
+     */
+    List<int[]> getGroups(Phase phase) {
+        return groups.get(phase);
+    }
+
+    /**
+     * Get the executor used to run concurrent processors.
+     *
+     * @return the executor, or {@code null} if processors should all be run by the phase service
+     */
+    ExecutorService getExecutor() {
+        return executor.getOptionalValue();
+    }
+
+    InjectedValue<ExecutorService> getExecutorInjector() {
+        return executor;
+    }
+
+    /**
+     * Assigns each processor to the group after that of the last preceding processor it conflicts with, so that
+     * conflicting processors keep their relative order while processors of the same group never conflict.
+     */
+    static List<int[]> group(final List<DeploymentUnitProcessor> chain) {
+        final int size = chain.size();
+        final int[] levels = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int level = 0;
+            for (int j = i - 1; j >= 0; j--) {
+                if (levels[j] >= level && conflicts(chain.get(i), chain.get(j))) {
+                    level = levels[j] + 1;
+                }
+            }
+            levels[i] = level;
+            count = Math.max(count, level + 1);
+        }
+        final List<int[]> groups = new ArrayList<int[]>(count);
+        for (int level = 0; level < count; level++) {
+            int members = 0;
+            for (int i = 0; i < size; i++) {
+                if (levels[i] == level) members++;
+            }
+            final int[] group = new int[members];
+            members = 0;
+            for (int i = 0; i < size; i++) {
+                if (levels[i] == level) group[members++] = i;
+            }
+            groups.add(group);
+        }
+        return Collections.unmodifiableList(groups);
+    }
+
+    private static boolean conflicts(final DeploymentUnitProcessor processor1, final DeploymentUnitProcessor processor2) {
+        if (!(processor1 instanceof ConcurrentDeploymentUnitProcessor) || !(processor2 instanceof ConcurrentDeploymentUnitProcessor)) {
+            return true;
+        }
+        final ConcurrentDeploymentUnitProcessor concurrent1 = (ConcurrentDeploymentUnitProcessor) processor1;
+        final ConcurrentDeploymentUnitProcessor concurrent2 = (ConcurrentDeploymentUnitProcessor) processor2;
+        return intersects(concurrent1.getWrittenAttachments(), concurrent2.getReadAttachments(), Collections.<AttachmentKey<?>>emptySet())
+                || intersects(concurrent1.getWrittenAttachments(), concurrent2.getWrittenAttachments(), UNORDERED_LISTS)
+                || intersects(concurrent1.getReadAttachments(), concurrent2.getWrittenAttachments(), Collections.<AttachmentKey<?>>emptySet());
+    }
+
+    private static boolean intersects(final Set<AttachmentKey<?>> keys1, final Set<AttachmentKey<?>> keys2, final Set<AttachmentKey<?>> ignored) {
+        final Set<AttachmentKey<?>> keys = new HashSet<AttachmentKey<?>>(keys1);
+        keys.retainAll(keys2);
+        keys.removeAll(ignored);
+        return !keys.isEmpty();
+    }
 }
@@ -24,7 +24,10 @@ package org.jboss.as.server.deployment;
 
 import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 import org.jboss.as.controller.ServiceVerificationHandler;
+import org.jboss.msc.service.ServiceBuilder.DependencyType;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.StartContext;
@@ -42,6 +45,7 @@ public class DeployerChainsService implements Service<DeployerChains> {
     public static void addService(final ServiceTarget serviceTarget, final EnumMap<Phase, List<DeploymentUnitProcessor>> phases, final ServiceVerificationHandler verificationHandler) {
         final DeployerChains deployerChains = new DeployerChains(phases);
         serviceTarget.addService(Services.JBOSS_DEPLOYMENT_CHAINS, new DeployerChainsService(deployerChains))
+            .addDependency(DependencyType.OPTIONAL, org.jboss.as.server.Services.JBOSS_SERVER_EXECUTOR, ExecutorService.class, deployerChains.getExecutorInjector())
             .addListener(verificationHandler)
             .install();
     }
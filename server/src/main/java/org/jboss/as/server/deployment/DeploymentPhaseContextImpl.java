@@ -73,7 +73,10 @@ final class DeploymentPhaseContextImpl extends SimpleAttachable implements Deplo
 
     @Override
     public <T> void addDependency(final ServiceName serviceName, final Class<T> type, final Injector<T> injector) {
-        nextPhaseBuilder.addDependency(serviceName, type, injector);
+        // Concurrent processors may add dependencies at the same time
+        synchronized (nextPhaseBuilder) {
+            nextPhaseBuilder.addDependency(serviceName, type, injector);
+        }
     }
 
     @Override
@@ -0,0 +1,127 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The time taken by each deployment processor to deploy a top level deployment and its sub-deployments.
+ * Only the last run of a processor is kept, so a phase which is restarted, e.g. because one of its dependencies was
+ * restarted, replaces its previous timings instead of adding to them.
+ * This class is thread safe.
+ */
+public final class DeploymentProcessorTimings {
+
+    private final Map<Key, Timing> timings = new LinkedHashMap<Key, Timing>();
+
+    void record(final DeploymentUnit deploymentUnit, final Phase phase, final DeploymentUnitProcessor processor, final long nanos) {
+        final Timing timing = new Timing(deploymentUnit.getName(), phase, processor.getClass().getName(), nanos);
+        final Key key = new Key(deploymentUnit.getName(), phase, processor);
+        synchronized (timings) {
+            timings.put(key, timing);
+        }
+    }
+
+    /**
+     * Get the recorded timings, slowest first.
+     *
+     * @return the timings
+     */
+    public List<Timing> getTimings() {
+        final List<Timing> result;
+        synchronized (timings) {
+            result = new ArrayList<Timing>(timings.values());
+        }
+        Collections.sort(result, new Comparator<Timing>() {
+            @Override
+            public int compare(final Timing timing1, final Timing timing2) {
+                return timing1.nanos < timing2.nanos ? 1 : timing1.nanos > timing2.nanos ? -1 : 0;
+            }
+        });
+        return result;
+    }
+
+    private static final class Key {
+        private final String deploymentName;
+        private final Phase phase;
+        private final DeploymentUnitProcessor processor;
+
+        Key(final String deploymentName, final Phase phase, final DeploymentUnitProcessor processor) {
+            this.deploymentName = deploymentName;
+            this.phase = phase;
+            this.processor = processor;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return deploymentName.equals(other.deploymentName) && phase == other.phase && processor == other.processor;
+        }
+
+        @Override
+        public int hashCode() {
+            return (deploymentName.hashCode() * 31 + phase.hashCode()) * 31 + System.identityHashCode(processor);
+        }
+    }
+
+    /**
+     * The time taken by a single processor to deploy a deployment unit.
+     */
+    public static final class Timing {
+        private final String deploymentName;
+        private final Phase phase;
+        private final String processorName;
+        private final long nanos;
+
+        Timing(final String deploymentName, final Phase phase, final String processorName, final long nanos) {
+            this.deploymentName = deploymentName;
+            this.phase = phase;
+            this.processorName = processorName;
+            this.nanos = nanos;
+        }
+
+        public String getDeploymentName() {
+            return deploymentName;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public String getProcessorName() {
+            return processorName;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROCESSOR_TIMINGS;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reports the time taken by each deployment processor to deploy a deployment, slowest first.
+ */
+public class DeploymentProcessorTimingsHandler implements OperationStepHandler {
+    public static final String ATTRIBUTE_NAME = PROCESSOR_TIMINGS;
+    public static final OperationStepHandler INSTANCE = new DeploymentProcessorTimingsHandler();
+    private static final String PHASE = "phase";
+    private static final String PROCESSOR = "processor";
+    private static final String TIME = "time";
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final PathAddress address = PathAddress.pathAddress(operation.get(OP_ADDR));
+        final PathElement element = address.getLastElement();
+        context.addStep(new OperationStepHandler() {
+                    @Override
+                    public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+                        final ModelNode result = context.getResult();
+                        final ServiceController<?> controller = context.getServiceRegistry(false).getService(Services.deploymentUnitName(element.getValue()));
+                        final DeploymentUnit deploymentUnit = controller != null ? (DeploymentUnit) controller.getValue() : null;
+                        final DeploymentProcessorTimings timings = deploymentUnit != null ? deploymentUnit.getAttachment(Attachments.PROCESSOR_TIMINGS) : null;
+                        if (timings != null) {
+                            result.setEmptyList();
+                            for (DeploymentProcessorTimings.Timing timing : timings.getTimings()) {
+                                final ModelNode entry = new ModelNode();
+                                entry.get(DEPLOYMENT).set(timing.getDeploymentName());
+                                entry.get(PHASE).set(timing.getPhase().name());
+                                entry.get(PROCESSOR).set(timing.getProcessorName());
+                                entry.get(TIME).set(TimeUnit.NANOSECONDS.toMicros(timing.getNanos()));
+                                result.add(entry);
+                            }
+                        }
+                        context.completeStep();
+                    }
+                }, OperationContext.Stage.RUNTIME);
+        context.completeStep();
+    }
+}
@@ -25,6 +25,10 @@ package org.jboss.as.server.deployment;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.jboss.as.server.ServerLogger;
 import org.jboss.msc.service.DelegatingServiceRegistry;
@@ -72,7 +76,6 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
         final DeployerChains chains = deployerChainsInjector.getValue();
         final DeploymentUnit deploymentUnit = this.deploymentUnit;
         final List<DeploymentUnitProcessor> list = chains.getChain(phase);
-        final ListIterator<DeploymentUnitProcessor> iterator = list.listIterator();
         final ServiceContainer container = context.getController().getServiceContainer();
         final ServiceTarget serviceTarget = context.getChildTarget().subTarget();
         final Phase nextPhase = phase.next();
@@ -107,16 +110,19 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
             }
         }
 
-        while (iterator.hasNext()) {
-            final DeploymentUnitProcessor processor = iterator.next();
-            try {
-                processor.deploy(processorContext);
-            } catch (Throwable e) {
-                while (iterator.hasPrevious()) {
-                    final DeploymentUnitProcessor prev = iterator.previous();
-                    safeUndeploy(deploymentUnit, phase, prev);
+        final ExecutorService executor = chains.getExecutor();
+        final DeploymentProcessorTimings timings = DeploymentUtils.getTopDeploymentUnit(deploymentUnit).getAttachment(Attachments.PROCESSOR_TIMINGS);
+        // Processors whose deploy was called, including a failed one, which may have to clean up partial work
+        final boolean[] called = new boolean[list.size()];
+        for (int[] group : chains.getGroups(phase)) {
+            final Throwable failure = deploy(processorContext, list, group, called, executor, timings);
+            if (failure != null) {
+                for (int i = called.length - 1; i >= 0; i--) {
+                    if (called[i]) {
+                        safeUndeploy(deploymentUnit, phase, list.get(i));
+                    }
                 }
-                throw new StartException(String.format("Failed to process phase %s of %s", phase, deploymentUnit), e);
+                throw new StartException(String.format("Failed to process phase %s of %s", phase, deploymentUnit), failure);
             }
         }
         if (nextPhase != null) {
@@ -162,6 +168,64 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
         }
     }
 
+    /**
+     * Deploys a group of processors, running all but the first on the executor if there is one.
+     *
+     * @return the failure of the first failed processor of the group, or {@code null} if they all succeeded
+     */
+    private static Throwable deploy(final DeploymentPhaseContext processorContext, final List<DeploymentUnitProcessor> list, final int[] group,
+                             final boolean[] called, final ExecutorService executor, final DeploymentProcessorTimings timings) {
+        final ProcessorTask[] tasks = new ProcessorTask[group.length];
+        for (int i = 0; i < group.length; i++) {
+            tasks[i] = new ProcessorTask(processorContext, list.get(group[i]), timings);
+        }
+        if (executor == null || tasks.length == 1) {
+            for (int i = 0; i < tasks.length; i++) {
+                called[group[i]] = true;
+                tasks[i].run();
+                if (tasks[i].failure != null) {
+                    return tasks[i].failure;
+                }
+            }
+            return null;
+        }
+        final List<Future<?>> futures = new ArrayList<Future<?>>(tasks.length - 1);
+        for (int i = 1; i < tasks.length; i++) {
+            try {
+                futures.add(executor.submit(tasks[i]));
+            } catch (RejectedExecutionException e) {
+                tasks[i].run();
+            }
+        }
+        tasks[0].run();
+        // Every task must complete, even if one failed, so that all of them can be undeployed
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    // Not thrown, since the task catches everything
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        Throwable failure = null;
+        for (int i = 0; i < tasks.length; i++) {
+            called[group[i]] = true;
+            if (failure == null) {
+                failure = tasks[i].failure;
+            }
+        }
+        return failure;
+    }
+
     private static void safeUndeploy(final DeploymentUnit deploymentUnit, final Phase phase, final DeploymentUnitProcessor prev) {
         try {
             prev.undeploy(deploymentUnit);
@@ -177,4 +241,31 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
     InjectedValue<DeployerChains> getDeployerChainsInjector() {
         return deployerChainsInjector;
     }
+
+    private static final class ProcessorTask implements Runnable {
+        private final DeploymentPhaseContext processorContext;
+        private final DeploymentUnitProcessor processor;
+        private final DeploymentProcessorTimings timings;
+        private Throwable failure;
+
+        ProcessorTask(final DeploymentPhaseContext processorContext, final DeploymentUnitProcessor processor, final DeploymentProcessorTimings timings) {
+            this.processorContext = processorContext;
+            this.processor = processor;
+            this.timings = timings;
+        }
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            try {
+                processor.deploy(processorContext);
+            } catch (Throwable e) {
+                failure = e;
+                return;
+            }
+            if (timings != null) {
+                timings.record(processorContext.getDeploymentUnit(), processorContext.getPhase(), processor, System.nanoTime() - start);
+            }
+        }
+    }
 }
@@ -27,15 +27,20 @@ import static java.util.jar.Attributes.Name.IMPLEMENTATION_VENDOR_ID;
 import static java.util.jar.Attributes.Name.IMPLEMENTATION_VERSION;
 import static java.util.jar.Attributes.Name.SPECIFICATION_VERSION;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 
 import org.jboss.as.server.ServerLogger;
+import org.jboss.as.server.deployment.AttachmentKey;
 import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.ConcurrentDeploymentUnitProcessor;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
-import org.jboss.as.server.deployment.DeploymentUnitProcessor;
 import org.jboss.as.server.deployment.Services;
 
 /**
@@ -43,7 +48,12 @@ import org.jboss.as.server.deployment.Services;
  *
  * @author Stuart Douglas
  */
-public final class ManifestExtensionNameProcessor implements DeploymentUnitProcessor {
+public final class ManifestExtensionNameProcessor implements ConcurrentDeploymentUnitProcessor {
+
+    private static final Set<AttachmentKey<?>> READ_ATTACHMENTS = Collections.unmodifiableSet(new HashSet<AttachmentKey<?>>(Arrays.<AttachmentKey<?>>asList(
+            Attachments.DEPLOYMENT_ROOT, Attachments.MANIFEST)));
+    private static final Set<AttachmentKey<?>> WRITTEN_ATTACHMENTS = Collections.unmodifiableSet(new HashSet<AttachmentKey<?>>(Arrays.<AttachmentKey<?>>asList(
+            Attachments.EXTENSION_INFORMATION, Attachments.NEXT_PHASE_DEPS)));
 
     /** {@inheritDoc} */
     public void deploy(final DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
@@ -84,4 +94,14 @@ public final class ManifestExtensionNameProcessor implements DeploymentUnitProce
     /** {@inheritDoc} */
     public void undeploy(final DeploymentUnit context) {
     }
+
+    /** {@inheritDoc} */
+    public Set<AttachmentKey<?>> getReadAttachments() {
+        return READ_ATTACHMENTS;
+    }
+
+    /** {@inheritDoc} */
+    public Set<AttachmentKey<?>> getWrittenAttachments() {
+        return WRITTEN_ATTACHMENTS;
+    }
 }
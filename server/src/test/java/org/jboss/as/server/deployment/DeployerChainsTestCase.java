@@ -0,0 +1,148 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.as.server.deployment.module.ManifestExtensionListProcessor;
+import org.jboss.as.server.deployment.module.ManifestExtensionNameProcessor;
+import org.junit.Test;
+
+/**
+ * Tests the grouping of deployment processors for concurrent execution.
+ */
+public class DeployerChainsTestCase {
+
+    private static final AttachmentKey<String> KEY1 = AttachmentKey.create(String.class);
+    private static final AttachmentKey<String> KEY2 = AttachmentKey.create(String.class);
+    private static final AttachmentKey<String> KEY3 = AttachmentKey.create(String.class);
+
+    @Test
+    public void testSequentialProcessors() {
+        final List<int[]> groups = DeployerChains.group(Arrays.<DeploymentUnitProcessor>asList(new SequentialProcessor(), new SequentialProcessor(), new SequentialProcessor()));
+        assertEquals(3, groups.size());
+        assertArrayEquals(new int[] { 0 }, groups.get(0));
+        assertArrayEquals(new int[] { 1 }, groups.get(1));
+        assertArrayEquals(new int[] { 2 }, groups.get(2));
+    }
+
+    @Test
+    public void testIndependentProcessors() {
+        final List<int[]> groups = DeployerChains.group(Arrays.<DeploymentUnitProcessor>asList(
+                new Processor(keys(KEY1), keys(KEY2)),
+                new Processor(keys(KEY1), keys(KEY3)),
+                new Processor(keys(KEY1), keys())));
+        assertEquals(1, groups.size());
+        assertArrayEquals(new int[] { 0, 1, 2 }, groups.get(0));
+    }
+
+    @Test
+    public void testConflictingProcessors() {
+        final List<int[]> groups = DeployerChains.group(Arrays.<DeploymentUnitProcessor>asList(
+                new Processor(keys(), keys(KEY1)),
+                new Processor(keys(KEY1), keys(KEY2)),
+                new Processor(keys(), keys(KEY3)),
+                new Processor(keys(KEY2), keys()),
+                new Processor(keys(), keys(KEY3))));
+        assertEquals(3, groups.size());
+        assertArrayEquals(new int[] { 0, 2 }, groups.get(0));
+        assertArrayEquals(new int[] { 1, 4 }, groups.get(1));
+        assertArrayEquals(new int[] { 3 }, groups.get(2));
+    }
+
+    @Test
+    public void testSequentialProcessorIsBarrier() {
+        final List<int[]> groups = DeployerChains.group(Arrays.<DeploymentUnitProcessor>asList(
+                new Processor(keys(), keys(KEY1)),
+                new Processor(keys(), keys(KEY2)),
+                new SequentialProcessor(),
+                new Processor(keys(), keys(KEY3))));
+        assertEquals(3, groups.size());
+        assertArrayEquals(new int[] { 0, 1 }, groups.get(0));
+        assertArrayEquals(new int[] { 2 }, groups.get(1));
+        assertArrayEquals(new int[] { 3 }, groups.get(2));
+    }
+
+    @Test
+    public void testUnorderedListWrites() {
+        final List<int[]> groups = DeployerChains.group(Arrays.<DeploymentUnitProcessor>asList(
+                new Processor(keys(), keys(KEY1, Attachments.NEXT_PHASE_DEPS)),
+                new Processor(keys(), keys(KEY2, Attachments.NEXT_PHASE_DEPS)),
+                new Processor(keys(Attachments.NEXT_PHASE_DEPS), keys())));
+        assertEquals(2, groups.size());
+        assertArrayEquals(new int[] { 0, 1 }, groups.get(0));
+        assertArrayEquals(new int[] { 2 }, groups.get(1));
+    }
+
+    @Test
+    public void testManifestExtensionProcessors() {
+        final List<int[]> groups = DeployerChains.group(Arrays.<DeploymentUnitProcessor>asList(
+                new SequentialProcessor(),
+                new ManifestExtensionListProcessor(),
+                new ManifestExtensionNameProcessor(),
+                new SequentialProcessor()));
+        assertEquals(3, groups.size());
+        assertArrayEquals(new int[] { 1, 2 }, groups.get(1));
+    }
+
+    private static Set<AttachmentKey<?>> keys(final AttachmentKey<?>... keys) {
+        return new HashSet<AttachmentKey<?>>(Arrays.asList(keys));
+    }
+
+    private static class SequentialProcessor implements DeploymentUnitProcessor {
+        @Override
+        public void deploy(final DeploymentPhaseContext phaseContext) {
+        }
+
+        @Override
+        public void undeploy(final DeploymentUnit context) {
+        }
+    }
+
+    private static class Processor extends SequentialProcessor implements ConcurrentDeploymentUnitProcessor {
+        private final Set<AttachmentKey<?>> read;
+        private final Set<AttachmentKey<?>> written;
+
+        Processor(final Set<AttachmentKey<?>> read, final Set<AttachmentKey<?>> written) {
+            this.read = Collections.unmodifiableSet(read);
+            this.written = Collections.unmodifiableSet(written);
+        }
+
+        @Override
+        public Set<AttachmentKey<?>> getReadAttachments() {
+            return read;
+        }
+
+        @Override
+        public Set<AttachmentKey<?>> getWrittenAttachments() {
+            return written;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.server.deployment;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the recording of deployment processor timings.
+ */
+public class DeploymentProcessorTimingsTestCase {
+
+    @Test
+    public void testRestartedPhaseReplacesTimings() {
+        final DeploymentUnit deploymentUnit = new DeploymentUnitImpl(null, "test.war", null);
+        final DeploymentUnitProcessor processor1 = new NoopProcessor();
+        final DeploymentUnitProcessor processor2 = new NoopProcessor();
+        final DeploymentProcessorTimings timings = new DeploymentProcessorTimings();
+        timings.record(deploymentUnit, Phase.PARSE, processor1, 10);
+        timings.record(deploymentUnit, Phase.PARSE, processor2, 20);
+        timings.record(deploymentUnit, Phase.INSTALL, processor1, 30);
+        // The PARSE phase is restarted
+        timings.record(deploymentUnit, Phase.PARSE, processor1, 5);
+        timings.record(deploymentUnit, Phase.PARSE, processor2, 40);
+
+        final List<DeploymentProcessorTimings.Timing> result = timings.getTimings();
+        assertEquals(3, result.size());
+        assertEquals(40, result.get(0).getNanos());
+        assertEquals(Phase.PARSE, result.get(0).getPhase());
+        assertEquals(30, result.get(1).getNanos());
+        assertEquals(Phase.INSTALL, result.get(1).getPhase());
+        assertEquals(5, result.get(2).getNanos());
+    }
+
+    @Test
+    public void testSubDeployments() {
+        final DeploymentUnit parent = new DeploymentUnitImpl(null, "test.ear", null);
+        final DeploymentUnit child = new DeploymentUnitImpl(parent, "test.war", null);
+        final DeploymentUnitProcessor processor = new NoopProcessor();
+        final DeploymentProcessorTimings timings = new DeploymentProcessorTimings();
+        timings.record(parent, Phase.PARSE, processor, 10);
+        timings.record(child, Phase.PARSE, processor, 20);
+        final List<DeploymentProcessorTimings.Timing> result = timings.getTimings();
+        assertEquals(2, result.size());
+        assertEquals("test.war", result.get(0).getDeploymentName());
+        assertEquals("test.ear", result.get(1).getDeploymentName());
+    }
+
+    private static class NoopProcessor implements DeploymentUnitProcessor {
+        @Override
+        public void deploy(final DeploymentPhaseContext phaseContext) {
+        }
+
+        @Override
+        public void undeploy(final DeploymentUnit context) {
+        }
+    }
+}
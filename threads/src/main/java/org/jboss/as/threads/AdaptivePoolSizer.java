@@ -0,0 +1,206 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import static org.jboss.as.threads.ThreadsLogger.ROOT_LOGGER;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.Date;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically resizes the core pool of a bounded queue thread pool, between a lower and an upper bound.
+ * <p>
+ * The number of threads the pool actually needs is estimated from the total execution time of the tasks that completed
+ * during the last interval, divided by the length of the interval.  That estimate is smoothed across intervals, and
+ * the core pool is sized to it plus some headroom.  The pool also grows if tasks spent a significant time queued,
+ * unless the system load shows that the CPUs are already saturated, in which case more threads would not help.  On
+ * platforms that do not report a system load average, such as Windows, the CPUs are never considered saturated and
+ * the pool grows on queue wait alone, still bounded by its max-threads.
+ * <p>
+ * To avoid oscillating, the core pool changes by at most a quarter of its size per interval, and only shrinks once
+ * several consecutive intervals asked for it.
+ */
+public class AdaptivePoolSizer {
+
+    static final long DEFAULT_INTERVAL = TimeUnit.SECONDS.toMillis(5);
+
+    private static final double SMOOTHING = 0.5;
+    private static final double HEADROOM = 1.25;
+    private static final int SHRINK_INTERVALS = 3;
+    private static final double SATURATED_LOAD = 0.9;
+    private static final long SIGNIFICANT_QUEUE_WAIT = TimeUnit.MILLISECONDS.toMicros(1);
+
+    private final ManagedQueueExecutorService executor;
+    private final OperatingSystemMXBean system = ManagementFactory.getOperatingSystemMXBean();
+    private volatile int minThreads;
+    private volatile int maxThreads;
+    private volatile long resizeCount = 0;
+    private volatile String lastDecision = null;
+    private ScheduledFuture<?> sampler;
+
+    // Sampling state, guarded by this
+    private long lastSample;
+    private long lastExecutionCount;
+    private long lastExecutionTime;
+    private long lastQueueWaitCount;
+    private long lastQueueWaitTime;
+    private double busyThreads = -1;
+    private int shrinkVotes = 0;
+
+    public AdaptivePoolSizer(ManagedQueueExecutorService executor, int minThreads, int maxThreads) {
+        this.executor = executor;
+        this.setBounds(minThreads, maxThreads);
+    }
+
+    /**
+     * Changes the bounds of the core pool size, and immediately applies them to the pool.
+     */
+    public synchronized void setBounds(int minThreads, int maxThreads) {
+        this.minThreads = Math.max(Math.min(minThreads, maxThreads), 1);
+        this.maxThreads = Math.max(maxThreads, this.minThreads);
+        int current = this.executor.getCoreThreads();
+        int bounded = Math.min(Math.max(current, this.minThreads), this.maxThreads);
+        if (bounded != current) {
+            this.executor.setCoreThreads(bounded);
+        }
+    }
+
+    /**
+     * Starts sampling the pool every interval, in milliseconds, on the given scheduler, which is shared by all pools.
+     */
+    public synchronized void start(ScheduledExecutorService scheduler, long interval) {
+        if (this.sampler != null) return;
+        this.mark(System.nanoTime());
+        this.sampler = scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    resize(System.nanoTime(), getSystemLoad());
+                } catch (RuntimeException e) {
+                    ROOT_LOGGER.debugf(e, "Failed to resize %s", executor);
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (this.sampler != null) {
+            this.sampler.cancel(false);
+            this.sampler = null;
+        }
+    }
+
+    /**
+     * Returns the number of times the core pool was resized.
+     */
+    public long getResizeCount() {
+        return this.resizeCount;
+    }
+
+    /**
+     * Returns a description of the last resize, including the measurements it was based on, or null if the pool was
+     * never resized.
+     */
+    public String getLastDecision() {
+        return this.lastDecision;
+    }
+
+    /**
+     * Returns the system load average per processor, or a negative value if it is not available on this platform.
+     */
+    double getSystemLoad() {
+        double load = this.system.getSystemLoadAverage();
+        return (load < 0) ? load : load / this.system.getAvailableProcessors();
+    }
+
+    synchronized void mark(long now) {
+        TaskLatencyStatistics statistics = this.executor.getTaskLatencyStatistics();
+        this.lastSample = now;
+        this.lastExecutionCount = statistics.getExecutionTime().getCount();
+        this.lastExecutionTime = statistics.getExecutionTime().getTotal();
+        this.lastQueueWaitCount = statistics.getQueueWaitTime().getCount();
+        this.lastQueueWaitTime = statistics.getQueueWaitTime().getTotal();
+    }
+
+    /**
+     * Samples the pool statistics since the previous sample, and resizes the core pool accordingly.
+     * @param now the current time, in nanoseconds
+     * @param load the system load average per processor, or a negative value if unknown
+     */
+    synchronized void resize(long now, double load) {
+        TaskLatencyStatistics statistics = this.executor.getTaskLatencyStatistics();
+        long elapsed = TimeUnit.NANOSECONDS.toMicros(now - this.lastSample);
+        long executionCount = statistics.getExecutionTime().getCount() - this.lastExecutionCount;
+        long executionTime = statistics.getExecutionTime().getTotal() - this.lastExecutionTime;
+        long queueWaitCount = statistics.getQueueWaitTime().getCount() - this.lastQueueWaitCount;
+        long queueWaitTime = statistics.getQueueWaitTime().getTotal() - this.lastQueueWaitTime;
+        this.mark(now);
+        if (elapsed <= 0) return;
+
+        // Little's law: the average number of busy threads is the total time spent executing per unit of time
+        double busy = (double) executionTime / elapsed;
+        this.busyThreads = (this.busyThreads < 0) ? busy : (SMOOTHING * busy) + ((1 - SMOOTHING) * this.busyThreads);
+        long meanExecutionTime = (executionCount > 0) ? executionTime / executionCount : 0;
+        long meanQueueWaitTime = (queueWaitCount > 0) ? queueWaitTime / queueWaitCount : 0;
+        // getSystemLoadAverage() is negative where the platform does not provide it, in which case saturation is unknown
+        boolean loadKnown = load >= 0;
+        boolean saturated = loadKnown && load >= SATURATED_LOAD;
+
+        int current = this.executor.getCoreThreads();
+        int target = (int) Math.ceil(this.busyThreads * HEADROOM);
+        if ((meanQueueWaitTime >= Math.max(SIGNIFICANT_QUEUE_WAIT, meanExecutionTime / 10)) && !saturated) {
+            target = Math.max(target, current + 1);
+        }
+        if (saturated) {
+            target = Math.min(target, current);
+        }
+        target = Math.min(Math.max(target, this.minThreads), this.maxThreads);
+
+        int step = Math.max(current / 4, 1);
+        int size = current;
+        if (target > current) {
+            this.shrinkVotes = 0;
+            size = Math.min(target, current + step);
+        } else if (target < current) {
+            this.shrinkVotes += 1;
+            if (this.shrinkVotes >= SHRINK_INTERVALS) {
+                this.shrinkVotes = 0;
+                size = Math.max(target, current - step);
+            }
+        } else {
+            this.shrinkVotes = 0;
+        }
+
+        if (size != current) {
+            this.executor.setCoreThreads(size);
+            this.resizeCount += 1;
+            this.lastDecision = String.format("%tF %<tT: core-threads %d -> %d (busy threads %.2f, mean queue wait %d us, mean execution time %d us, load %s)",
+                    new Date(), current, size, this.busyThreads, meanQueueWaitTime, meanExecutionTime, loadKnown ? String.format("%.2f", load) : "unknown");
+            ROOT_LOGGER.debugf("Resized %s: %s", this.executor, this.lastDecision);
+        }
+    }
+}
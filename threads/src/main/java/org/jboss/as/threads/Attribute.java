@@ -31,6 +31,7 @@ import java.util.Map;
 public enum Attribute {
     UNKNOWN(null),
     /* Threads 1.0 attributes, in alpha order */
+    ADAPTIVE_SIZING(CommonAttributes.ADAPTIVE_SIZING),
     ALLOW_CORE_TIMEOUT(CommonAttributes.ALLOW_CORE_TIMEOUT),
     BLOCKING(CommonAttributes.BLOCKING),
     CORE_THREADS(CommonAttributes.CORE_THREADS),
@@ -41,6 +42,7 @@ public enum Attribute {
     PER_CPU(CommonAttributes.PER_CPU),
     PRIORITY(CommonAttributes.PRIORITY),
     QUEUE_LENGTH(CommonAttributes.QUEUE_LENGTH),
+    SLOW_TASK_THRESHOLD(CommonAttributes.SLOW_TASK_THRESHOLD),
     THREAD_NAME_PATTERN(CommonAttributes.THREAD_NAME_PATTERN),
     TIME(CommonAttributes.TIME),
     UNIT(CommonAttributes.UNIT),
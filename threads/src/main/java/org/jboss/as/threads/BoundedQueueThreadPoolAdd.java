@@ -49,13 +49,15 @@ public class BoundedQueueThreadPoolAdd extends AbstractAddStepHandler {
     static final AttributeDefinition[] BLOCKING_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.KEEPALIVE_TIME,
         PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.THREAD_FACTORY,
         PoolAttributeDefinitions.CORE_THREADS, PoolAttributeDefinitions.QUEUE_LENGTH,
-        PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT};
+        PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT, PoolAttributeDefinitions.SLOW_TASK_THRESHOLD,
+        PoolAttributeDefinitions.ADAPTIVE_SIZING};
 
     static final AttributeDefinition[] NON_BLOCKING_ATTRIBUTES = new AttributeDefinition[BLOCKING_ATTRIBUTES.length + 1] ;
 
     static final AttributeDefinition[] RW_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.KEEPALIVE_TIME,
         PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.CORE_THREADS, PoolAttributeDefinitions.QUEUE_LENGTH,
-        PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT};
+        PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT, PoolAttributeDefinitions.SLOW_TASK_THRESHOLD,
+        PoolAttributeDefinitions.ADAPTIVE_SIZING};
 
     static {
         System.arraycopy(BLOCKING_ATTRIBUTES, 0, NON_BLOCKING_ATTRIBUTES, 0, BLOCKING_ATTRIBUTES.length);
@@ -100,11 +102,17 @@ public class BoundedQueueThreadPoolAdd extends AbstractAddStepHandler {
                 blocking,
                 params.getKeepAliveTime(),
                 params.isAllowCoreTimeout());
+        service.setSlowTaskThreshold(params.getSlowTaskThreshold());
+        service.setAdaptiveSizing(params.isAdaptiveSizing());
 
+        // Only adaptively sized pools need the pool sizing scheduler; toggling adaptive sizing requires a reload
+        if (params.isAdaptiveSizing()) {
+            PoolSizingSchedulerService.install(context);
+        }
         ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), serviceNameBase,
                 params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
                 params.getHandoffExecutor(), handoffExecutorResolver, blocking ?  null : service.getHandoffExecutorInjector(),
-                context.getServiceTarget(), newControllers, verificationHandler);
+                params.isAdaptiveSizing() ? service.getPoolSizingSchedulerInjector() : null, context.getServiceTarget(), newControllers, verificationHandler);
     }
 
     boolean isBlocking() {
@@ -40,7 +40,8 @@ import org.jboss.msc.service.ServiceName;
 public class BoundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHandler {
 
     public static final List<AttributeDefinition> METRICS =
-            Arrays.asList(PoolAttributeDefinitions.CURRENT_THREAD_COUNT, PoolAttributeDefinitions.LARGEST_THREAD_COUNT, PoolAttributeDefinitions.REJECTED_COUNT);
+            Arrays.asList(PoolAttributeDefinitions.CURRENT_THREAD_COUNT, PoolAttributeDefinitions.LARGEST_THREAD_COUNT, PoolAttributeDefinitions.REJECTED_COUNT,
+                    PoolAttributeDefinitions.CURRENT_CORE_THREADS, PoolAttributeDefinitions.RESIZE_COUNT, PoolAttributeDefinitions.LAST_RESIZE_DECISION);
 
     public BoundedQueueThreadPoolMetricsHandler(final ServiceName serviceNameBase) {
         super(METRICS, serviceNameBase);
@@ -56,6 +57,15 @@ public class BoundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHandl
             context.getResult().set(bounded.getLargestThreadCount());
         } else if (attributeName.equals(CommonAttributes.REJECTED_COUNT)) {
             context.getResult().set(bounded.getRejectedCount());
+        } else if (attributeName.equals(CommonAttributes.CURRENT_CORE_THREADS)) {
+            context.getResult().set(bounded.getCurrentCoreThreads());
+        } else if (attributeName.equals(CommonAttributes.RESIZE_COUNT)) {
+            context.getResult().set(bounded.getResizeCount());
+        } else if (attributeName.equals(CommonAttributes.LAST_RESIZE_DECISION)) {
+            final String decision = bounded.getLastResizeDecision();
+            if (decision != null) {
+                context.getResult().set(decision);
+            }
         } else {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsMessages.MESSAGES.unsupportedBoundedQueueThreadPoolMetric(attributeName);
@@ -32,6 +32,7 @@ import org.jboss.threads.EventListener;
 import org.jboss.threads.QueueExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -43,8 +44,12 @@ import java.util.concurrent.TimeUnit;
 public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecutorService> {
     private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
     private final InjectedValue<Executor> handoffExecutorValue = new InjectedValue<Executor>();
+    private final InjectedValue<ScheduledExecutorService> poolSizingSchedulerValue = new InjectedValue<ScheduledExecutorService>();
 
     private ManagedQueueExecutorService executor;
+    private AdaptivePoolSizer sizer;
+    private long slowTaskThreshold;
+    private boolean adaptiveSizing;
 
     private int coreThreads;
     private int maxThreads;
@@ -68,10 +73,15 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         QueueExecutor queueExecutor = new QueueExecutor(coreThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, queueLength, threadFactoryValue.getValue(), blocking, handoffExecutorValue.getOptionalValue());
         queueExecutor.setAllowCoreThreadTimeout(allowCoreTimeout);
         executor = new ManagedQueueExecutorService(queueExecutor);
+        executor.setSlowTaskThreshold(slowTaskThreshold);
+        if (adaptiveSizing) {
+            startSizer();
+        }
     }
 
     public synchronized void stop(final StopContext context) {
         final ManagedQueueExecutorService executor = getValue();
+        stopSizer();
         context.asynchronous();
         executor.internalShutdown();
         executor.addShutdownListener(new EventListener<StopContext>() {
@@ -82,6 +92,14 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         this.executor = null;
     }
 
+    public synchronized void setSlowTaskThreshold(long slowTaskThreshold) {
+        this.slowTaskThreshold = slowTaskThreshold;
+        final ManagedQueueExecutorService executor = this.executor;
+        if(executor != null) {
+            executor.setSlowTaskThreshold(slowTaskThreshold);
+        }
+    }
+
     public synchronized ManagedQueueExecutorService getValue() throws IllegalStateException {
         final ManagedQueueExecutorService value = this.executor;
         if (value == null) {
@@ -98,11 +116,20 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         return handoffExecutorValue;
     }
 
+    public Injector<ScheduledExecutorService> getPoolSizingSchedulerInjector() {
+        return poolSizingSchedulerValue;
+    }
+
     public synchronized void setCoreThreads(int coreThreads) {
         this.coreThreads = coreThreads;
         final ManagedQueueExecutorService executor = this.executor;
         if(executor != null) {
-            executor.setCoreThreads(coreThreads);
+            if (sizer != null) {
+                // The configured core size is only the lower bound of the adaptive core size
+                sizer.setBounds(coreThreads, maxThreads);
+            } else {
+                executor.setCoreThreads(coreThreads);
+            }
         }
     }
 
@@ -111,6 +138,29 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         final ManagedQueueExecutorService executor = this.executor;
         if(executor != null) {
             executor.setMaxThreads(maxThreads);
+            if (sizer != null) {
+                sizer.setBounds(coreThreads, maxThreads);
+            }
+        }
+    }
+
+    /**
+     * Sets whether the core size is adapted to the load once the pool is started.  The pool sizing scheduler must be
+     * injected if it is enabled.
+     */
+    public synchronized void setAdaptiveSizing(boolean adaptiveSizing) {
+        this.adaptiveSizing = adaptiveSizing;
+    }
+
+    private void startSizer() {
+        sizer = new AdaptivePoolSizer(executor, coreThreads, maxThreads);
+        sizer.start(poolSizingSchedulerValue.getValue(), AdaptivePoolSizer.DEFAULT_INTERVAL);
+    }
+
+    private void stopSizer() {
+        if (sizer != null) {
+            sizer.stop();
+            sizer = null;
         }
     }
 
@@ -130,12 +180,12 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         }
     }
 
-    public int getCurrentThreadCount() {
+    public synchronized int getCurrentThreadCount() {
         final ManagedQueueExecutorService executor = getValue();
         return executor.getCurrentThreadCount();
     }
 
-    public int getLargestThreadCount() {
+    public synchronized int getLargestThreadCount() {
         final ManagedQueueExecutorService executor = getValue();
         return executor.getLargestThreadCount();
     }
@@ -144,8 +194,21 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         return keepAlive == null ? TimeSpec.DEFAULT_KEEPALIVE.getUnit() : keepAlive.getUnit();
     }
 
-    public int getRejectedCount() {
+    public synchronized int getRejectedCount() {
         final ManagedQueueExecutorService executor = getValue();
         return executor.getRejectedCount();
     }
+
+    public synchronized int getCurrentCoreThreads() {
+        final ManagedQueueExecutorService executor = getValue();
+        return executor.getCoreThreads();
+    }
+
+    public synchronized long getResizeCount() {
+        return sizer != null ? sizer.getResizeCount() : 0;
+    }
+
+    public synchronized String getLastResizeDecision() {
+        return sizer != null ? sizer.getLastDecision() : null;
+    }
 }
@@ -62,7 +62,9 @@ public class BoundedQueueThreadPoolWriteAttributeHandler extends ThreadsWriteAtt
             pool.setMaxThreads(PoolAttributeDefinitions.MAX_THREADS.resolveModelAttribute(context, model).asInt());
         } else if(PoolAttributeDefinitions.CORE_THREADS.getName().equals(attributeName)) {
             pool.setCoreThreads(PoolAttributeDefinitions.CORE_THREADS.resolveModelAttribute(context, model).asInt());
-        } else if(PoolAttributeDefinitions.QUEUE_LENGTH.getName().equals(attributeName)) {
+        } else if(PoolAttributeDefinitions.QUEUE_LENGTH.getName().equals(attributeName)
+                || PoolAttributeDefinitions.ADAPTIVE_SIZING.getName().equals(attributeName)) {
+            // Adaptive sizing decides whether the pool depends on the pool sizing scheduler, so it only applies on restart
             if (forRollback) {
                 context.revertReloadRequired();
             } else {
@@ -70,6 +72,8 @@ public class BoundedQueueThreadPoolWriteAttributeHandler extends ThreadsWriteAtt
             }
         } else if (PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT.getName().equals(attributeName)) {
             pool.setAllowCoreTimeout(PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT.resolveModelAttribute(context, model).asBoolean());
+        } else if (PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.getName().equals(attributeName)) {
+            pool.setSlowTaskThreshold(getSlowTaskThreshold(context, model));
         } else if (!forRollback) {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsMessages.MESSAGES.unsupportedBoundedQueueThreadPoolAttribute(attributeName);
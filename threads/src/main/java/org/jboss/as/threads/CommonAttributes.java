@@ -26,6 +26,7 @@ package org.jboss.as.threads;
  */
 public class CommonAttributes {
     public static final String ACTIVE_COUNT = "active-count";
+    public static final String ADAPTIVE_SIZING = "adaptive-sizing";
     public static final String ALLOW_CORE_TIMEOUT = "allow-core-timeout";
     public static final String BLOCKING = "blocking";
     public static final String BLOCKING_BOUNDED_QUEUE_THREAD_POOL = "blocking-bounded-queue-thread-pool";
@@ -34,21 +35,36 @@ public class CommonAttributes {
     public static final String COMPLETED_TASK_COUNT = "completed-task-count";
     public static final String CORE_THREADS = "core-threads";
     public static final String COUNT = "count";
+    public static final String CURRENT_CORE_THREADS = "current-core-threads";
     public static final String CURRENT_THREAD_COUNT = "current-thread-count";
+    public static final String EXECUTION_TIME_P50 = "execution-time-p50";
+    public static final String EXECUTION_TIME_P90 = "execution-time-p90";
+    public static final String EXECUTION_TIME_P99 = "execution-time-p99";
     public static final String PER_CPU = "per-cpu";
     public static final String HANDOFF_EXECUTOR = "handoff-executor";
     public static final String LARGEST_THREAD_COUNT = "largest-thread-count";
     public static final String NAME = "name";
     public static final String GROUP_NAME = "group-name";
     public static final String KEEPALIVE_TIME = "keepalive-time";
+    public static final String LAST_RESIZE_DECISION = "last-resize-decision";
+    public static final String MAX_EXECUTION_TIME = "max-execution-time";
+    public static final String MAX_QUEUE_WAIT_TIME = "max-queue-wait-time";
     public static final String MAX_THREADS = "max-threads";
     public static final String PRIORITY = "priority";
     public static final String PROPERTIES = "properties";
     public static final String PROPERTY = "property";
     public static final String QUEUELESS_THREAD_POOL = "queueless-thread-pool";
     public static final String QUEUE_LENGTH = "queue-length";
+    public static final String QUEUE_SIZE = "queue-size";
+    public static final String QUEUE_WAIT_TIME_P50 = "queue-wait-time-p50";
+    public static final String QUEUE_WAIT_TIME_P90 = "queue-wait-time-p90";
+    public static final String QUEUE_WAIT_TIME_P99 = "queue-wait-time-p99";
     public static final String REJECTED_COUNT = "rejected-count";
+    public static final String SLOW_TASK_COUNT = "slow-task-count";
+    public static final String SLOW_TASK_THRESHOLD = "slow-task-threshold";
+    public static final String RESIZE_COUNT = "resize-count";
     public static final String SCHEDULED_THREAD_POOL = "scheduled-thread-pool";
+    public static final String STEAL_COUNT = "steal-count";
     public static final String TASK_COUNT = "task-count";
     public static final String THREADS = "threads";
     public static final String TIME = "time";
@@ -57,4 +73,5 @@ public class CommonAttributes {
     public static final String UNBOUNDED_QUEUE_THREAD_POOL = "unbounded-queue-thread-pool";
     public static final String UNIT = "unit";
     public static final String VALUE = "value";
+    public static final String WORK_STEALING_THREAD_POOL = "work-stealing-thread-pool";
 }
@@ -0,0 +1,124 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of non-negative values, with a fixed relative precision over the whole range of long values.
+ * Values are counted in log-linear buckets, in the manner of an HDR histogram: every power of two is divided into
+ * {@value #SUB_BUCKET_COUNT} / 2 equally sized buckets, so that a recorded value is resolved within about 6%.
+ * Recording a value never allocates and only updates a few atomic counters.
+ */
+public class LatencyHistogram implements Serializable {
+
+    private static final long serialVersionUID = -4386914263125834075L;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT + SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the specified value. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        this.counts.incrementAndGet(index(v));
+        this.count.incrementAndGet();
+        long current = this.max.get();
+        while ((v > current) && !this.max.compareAndSet(current, v)) {
+            current = this.max.get();
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Returns the largest recorded value, or 0 if no values were recorded.
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Returns the value below which the specified percentage of the recorded values fall.
+     * The result is the highest value equivalent to the bucket of the percentile, but never exceeds the largest recorded value.
+     * @param percentile a percentage between 0 and 100
+     * @return a value, or 0 if no values were recorded
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            snapshot[i] = this.counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            cumulative += snapshot[i];
+            if (cumulative >= target) {
+                return Math.min(highestEquivalentValue(i), this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    /**
+     * Discards all recorded values.
+     */
+    public void clear() {
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            this.counts.set(i, 0);
+        }
+        this.count.set(0);
+        this.max.set(0);
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+        // Shift the value so that it falls within the upper half of the sub-buckets
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+        int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        long lowest = (long) (index - shift * SUB_BUCKET_HALF_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -24,10 +24,13 @@ package org.jboss.as.threads;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -40,13 +43,14 @@ import org.jboss.threads.JBossExecutors;
  */
 public abstract class ManagedExecutorService implements ExecutorService {
 
+    private final TaskLatencyStatistics statistics = new TaskLatencyStatistics();
     private final ExecutorService executor;
 
     public ManagedExecutorService(ExecutorService executor) {
         if(executor == null) {
             throw ThreadsMessages.MESSAGES.nullExecutor();
         }
-        this.executor = protectExecutor(executor);
+        this.executor = new TimedExecutorService(protectExecutor(executor));
     }
 
     protected ExecutorService protectExecutor(ExecutorService executor) {
@@ -55,6 +59,36 @@ public abstract class ManagedExecutorService implements ExecutorService {
 
     abstract void internalShutdown();
 
+    public TaskLatencyStatistics getTaskLatencyStatistics() {
+        return this.statistics;
+    }
+
+    void setSlowTaskThreshold(long slowTaskThreshold) {
+        this.statistics.setSlowTaskThreshold(slowTaskThreshold);
+    }
+
+    /**
+     * Wraps a task submitted directly to the underlying executor, so that its latencies are recorded.
+     */
+    Runnable timed(Runnable task) {
+        return this.statistics.wrap(task);
+    }
+
+    /**
+     * Creates the future of a submitted callable.
+     * Subclasses may return futures that cooperate with their executor while a caller waits for them.
+     */
+    <T> RunnableFuture<T> newFuture(Callable<T> task) {
+        return new FutureTask<T>(task);
+    }
+
+    /**
+     * Creates the future of a submitted runnable.
+     */
+    <T> RunnableFuture<T> newFuture(Runnable task, T result) {
+        return new FutureTask<T>(task, result);
+    }
+
     /**
      * {@inheritDoc}
      * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
@@ -172,4 +206,57 @@ public abstract class ManagedExecutorService implements ExecutorService {
     public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
         return this.executor.invokeAny(tasks, timeout, unit);
     }
+
+    /**
+     * Records the latencies of every task, however it was submitted.
+     * Submitted callables and runnables are turned into futures by {@link AbstractExecutorService}, and then executed
+     * via {@link #execute(Runnable)}.
+     */
+    private class TimedExecutorService extends AbstractExecutorService {
+        private final ExecutorService executor;
+
+        TimedExecutorService(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            this.executor.execute(statistics.wrap(command));
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Callable<T> task) {
+            return newFuture(task);
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Runnable task, T result) {
+            return newFuture(task, result);
+        }
+
+        @Override
+        public void shutdown() {
+            this.executor.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return statistics.unwrap(this.executor.shutdownNow());
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return this.executor.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return this.executor.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return this.executor.awaitTermination(timeout, unit);
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.BlockingExecutor;
+import org.jboss.threads.EventListener;
+
+/**
+ * Managed view of a {@link WorkStealingExecutor}.
+ * It implements {@link BlockingExecutor}, so that it can also back consumers that require one, such as the JCA work
+ * manager. Futures of submitted tasks let a waiting worker execute other queued tasks.
+ */
+public class ManagedWorkStealingExecutorService extends ManagedExecutorService implements BlockingExecutor {
+
+    private final WorkStealingExecutor executor;
+
+    public ManagedWorkStealingExecutorService(WorkStealingExecutor executor) {
+        super(executor);
+        this.executor = executor;
+    }
+
+    @Override
+    void internalShutdown() {
+        executor.shutdown();
+    }
+
+    public int getMaxThreads() {
+        return executor.getMaxThreads();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getCompletedTaskCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    public int getCurrentThreadCount() {
+        return executor.getCurrentThreadCount();
+    }
+
+    public int getLargestThreadCount() {
+        return executor.getLargestThreadCount();
+    }
+
+    public int getRejectedCount() {
+        return executor.getRejectedCount();
+    }
+
+    public long getTaskCount() {
+        return executor.getTaskCount();
+    }
+
+    public long getStealCount() {
+        return executor.getStealCount();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueueSize();
+    }
+
+    <A> void addShutdownListener(final EventListener<A> shutdownListener, final A attachment) {
+        executor.addShutdownListener(shutdownListener, attachment);
+    }
+
+    @Override
+    <T> RunnableFuture<T> newFuture(Callable<T> task) {
+        return executor.newTaskFor(task);
+    }
+
+    @Override
+    <T> RunnableFuture<T> newFuture(Runnable task, T result) {
+        return executor.newTaskFor(task, result);
+    }
+
+    @Override
+    public void executeBlocking(Runnable task) throws RejectedExecutionException, InterruptedException {
+        executor.executeBlocking(timed(task));
+    }
+
+    @Override
+    public void executeBlocking(Runnable task, long timeout, TimeUnit unit) throws RejectedExecutionException, InterruptedException {
+        executor.executeBlocking(timed(task), timeout, unit);
+    }
+
+    @Override
+    public void executeNonBlocking(Runnable task) throws RejectedExecutionException {
+        executor.executeNonBlocking(timed(task));
+    }
+}
@@ -36,12 +36,13 @@ public enum Namespace {
 
     THREADS_1_0("urn:jboss:domain:threads:1.0"),
     THREADS_1_1("urn:jboss:domain:threads:1.1"),
+    THREADS_1_2("urn:jboss:domain:threads:1.2"),
     ;
 
     /**
      * The current namespace version.
      */
-    public static final Namespace CURRENT = THREADS_1_1;
+    public static final Namespace CURRENT = THREADS_1_2;
 
     private final String name;
 
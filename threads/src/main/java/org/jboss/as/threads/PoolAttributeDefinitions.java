@@ -27,6 +27,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -60,6 +61,9 @@ public interface PoolAttributeDefinitions {
     SimpleAttributeDefinition ALLOW_CORE_TIMEOUT = new SimpleAttributeDefinitionBuilder(CommonAttributes.ALLOW_CORE_TIMEOUT, ModelType.BOOLEAN, true)
             .setDefaultValue(new ModelNode().set(false)).build();
 
+    SimpleAttributeDefinition ADAPTIVE_SIZING = new SimpleAttributeDefinitionBuilder(CommonAttributes.ADAPTIVE_SIZING, ModelType.BOOLEAN, true)
+            .setDefaultValue(new ModelNode().set(false)).setAllowExpression(true).setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES).build();
+
     SimpleAttributeDefinition GROUP_NAME = new SimpleAttributeDefinition(CommonAttributes.GROUP_NAME, ModelType.STRING, true);
 
     SimpleAttributeDefinition THREAD_NAME_PATTERN = new SimpleAttributeDefinition(CommonAttributes.THREAD_NAME_PATTERN, ModelType.STRING, true);
@@ -67,6 +71,10 @@ public interface PoolAttributeDefinitions {
     SimpleAttributeDefinition PRIORITY = new SimpleAttributeDefinition(CommonAttributes.PRIORITY, CommonAttributes.PRIORITY, new ModelNode().set(-1),
             ModelType.INT, true, true, MeasurementUnit.NONE, new IntRangeValidator(-1, 10, true, true));
 
+    SimpleAttributeDefinition SLOW_TASK_THRESHOLD = new SimpleAttributeDefinitionBuilder(CommonAttributes.SLOW_TASK_THRESHOLD, ModelType.LONG, true)
+            .setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true)).setAllowExpression(true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS).build();
+
     // Metrics
 
     AttributeDefinition CURRENT_THREAD_COUNT = new SimpleAttributeDefinition(CommonAttributes.CURRENT_THREAD_COUNT, ModelType.INT, false);
@@ -75,4 +83,32 @@ public interface PoolAttributeDefinitions {
     AttributeDefinition ACTIVE_COUNT = new SimpleAttributeDefinition(CommonAttributes.ACTIVE_COUNT, ModelType.INT, false);
     AttributeDefinition COMPLETED_TASK_COUNT = new SimpleAttributeDefinition(CommonAttributes.COMPLETED_TASK_COUNT, ModelType.INT, false);
     AttributeDefinition TASK_COUNT = new SimpleAttributeDefinition(CommonAttributes.TASK_COUNT, ModelType.INT, false);
+    AttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinition(CommonAttributes.QUEUE_SIZE, ModelType.INT, false);
+    AttributeDefinition STEAL_COUNT = new SimpleAttributeDefinition(CommonAttributes.STEAL_COUNT, ModelType.LONG, false);
+    AttributeDefinition CURRENT_CORE_THREADS = new SimpleAttributeDefinition(CommonAttributes.CURRENT_CORE_THREADS, ModelType.INT, false);
+    AttributeDefinition RESIZE_COUNT = new SimpleAttributeDefinition(CommonAttributes.RESIZE_COUNT, ModelType.LONG, false);
+    AttributeDefinition LAST_RESIZE_DECISION = new SimpleAttributeDefinition(CommonAttributes.LAST_RESIZE_DECISION, ModelType.STRING, true);
+
+    // Task latency metrics, common to all thread pools
+    AttributeDefinition QUEUE_WAIT_TIME_P50 = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_WAIT_TIME_P50, ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition QUEUE_WAIT_TIME_P90 = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_WAIT_TIME_P90, ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition QUEUE_WAIT_TIME_P99 = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_WAIT_TIME_P99, ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition MAX_QUEUE_WAIT_TIME = new SimpleAttributeDefinitionBuilder(CommonAttributes.MAX_QUEUE_WAIT_TIME, ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition EXECUTION_TIME_P50 = new SimpleAttributeDefinitionBuilder(CommonAttributes.EXECUTION_TIME_P50, ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition EXECUTION_TIME_P90 = new SimpleAttributeDefinitionBuilder(CommonAttributes.EXECUTION_TIME_P90, ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition EXECUTION_TIME_P99 = new SimpleAttributeDefinitionBuilder(CommonAttributes.EXECUTION_TIME_P99, ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition MAX_EXECUTION_TIME = new SimpleAttributeDefinitionBuilder(CommonAttributes.MAX_EXECUTION_TIME, ModelType.LONG, false)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition SLOW_TASK_COUNT = new SimpleAttributeDefinition(CommonAttributes.SLOW_TASK_COUNT, ModelType.LONG, false);
+
+    AttributeDefinition[] TASK_LATENCY_METRICS = new AttributeDefinition[] {QUEUE_WAIT_TIME_P50, QUEUE_WAIT_TIME_P90,
+        QUEUE_WAIT_TIME_P99, MAX_QUEUE_WAIT_TIME, EXECUTION_TIME_P50, EXECUTION_TIME_P90, EXECUTION_TIME_P99,
+        MAX_EXECUTION_TIME, SLOW_TASK_COUNT};
 }
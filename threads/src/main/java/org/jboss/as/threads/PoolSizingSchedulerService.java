@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import java.security.AccessController;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.msc.service.DuplicateServiceException;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.threads.JBossThreadFactory;
+
+/**
+ * Service providing the single scheduler thread on which the {@link AdaptivePoolSizer}s of all the adaptively sized
+ * thread pools take their periodic samples.  It is installed on demand, so the thread only runs while at least one
+ * pool depends on it.
+ */
+public class PoolSizingSchedulerService implements Service<ScheduledExecutorService> {
+
+    private ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Installs the scheduler service, unless it is already installed.  Thread pools may be added concurrently by
+     * different subsystems, so losing the race to install it is not an error.
+     */
+    static void install(final OperationContext context) {
+        if (context.getServiceRegistry(false).getService(ThreadsServices.POOL_SIZING_SCHEDULER) != null) {
+            return;
+        }
+        try {
+            context.getServiceTarget().addService(ThreadsServices.POOL_SIZING_SCHEDULER, new PoolSizingSchedulerService())
+                    .setInitialMode(ServiceController.Mode.ON_DEMAND)
+                    .install();
+        } catch (DuplicateServiceException e) {
+            // Installed by another thread pool in the meantime
+        }
+    }
+
+    public synchronized void start(final StartContext context) throws StartException {
+        final ThreadGroup group = new ThreadGroup("pool-sizing");
+        final JBossThreadFactory threadFactory = new JBossThreadFactory(group, Boolean.TRUE, null, "%G - %t", null, null, AccessController.getContext());
+        scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+        // Cancelled samplers would otherwise stay queued until their next run
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    public synchronized void stop(final StopContext context) {
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    public synchronized ScheduledExecutorService getValue() throws IllegalStateException {
+        final ScheduledExecutorService value = scheduler;
+        if (value == null) {
+            throw ThreadsMessages.MESSAGES.poolSizingSchedulerUninitialized();
+        }
+        return value;
+    }
+}
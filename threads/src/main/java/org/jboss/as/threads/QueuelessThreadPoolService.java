@@ -46,6 +46,7 @@ public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecu
     private final InjectedValue<Executor> handoffExecutorValue = new InjectedValue<Executor>();
 
     private ManagedQueuelessExecutorService executor;
+    private long slowTaskThreshold;
 
     private int maxThreads;
     private boolean blocking;
@@ -64,6 +65,7 @@ public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecu
         queuelessExecutor.setMaxThreads(maxThreads);
         queuelessExecutor.setBlocking(blocking);
         executor = new ManagedQueuelessExecutorService(queuelessExecutor);
+        executor.setSlowTaskThreshold(slowTaskThreshold);
     }
 
     public synchronized void stop(final StopContext context) {
@@ -78,6 +80,14 @@ public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecu
         this.executor = null;
     }
 
+    public synchronized void setSlowTaskThreshold(long slowTaskThreshold) {
+        this.slowTaskThreshold = slowTaskThreshold;
+        final ManagedQueuelessExecutorService executor = this.executor;
+        if(executor != null) {
+            executor.setSlowTaskThreshold(slowTaskThreshold);
+        }
+    }
+
     public synchronized ManagedQueuelessExecutorService getValue() throws IllegalStateException {
         final ManagedQueuelessExecutorService value = this.executor;
         if (value == null) {
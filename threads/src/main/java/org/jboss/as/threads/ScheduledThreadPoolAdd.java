@@ -46,9 +46,9 @@ import org.jboss.msc.service.ServiceName;
 public class ScheduledThreadPoolAdd extends AbstractAddStepHandler {
 
     static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.KEEPALIVE_TIME,
-        PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.THREAD_FACTORY};
+        PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.THREAD_FACTORY, PoolAttributeDefinitions.SLOW_TASK_THRESHOLD};
 
-    static final AttributeDefinition[] RW_ATTRIBUTES = new AttributeDefinition[]{};
+    static final AttributeDefinition[] RW_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.SLOW_TASK_THRESHOLD};
 
     private final ThreadFactoryResolver threadFactoryResolver;
     private final ServiceName serviceNameBase;
@@ -77,6 +77,7 @@ public class ScheduledThreadPoolAdd extends AbstractAddStepHandler {
         final BaseThreadPoolParameters params = ThreadPoolManagementUtils.parseScheduledThreadPoolParameters(context, operation, model);
 
         final ScheduledThreadPoolService service = new ScheduledThreadPoolService(params.getMaxThreads(), params.getKeepAliveTime());
+        service.setSlowTaskThreshold(params.getSlowTaskThreshold());
 
         ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), serviceNameBase,
                 params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
@@ -42,6 +42,7 @@ public final class ScheduledThreadPoolService implements Service<ManagedSchedule
     private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
 
     private ManagedScheduledExecutorService executor;
+    private long slowTaskThreshold;
     private StopContext context;
 
     private final int maxThreads;
@@ -58,6 +59,7 @@ public final class ScheduledThreadPoolService implements Service<ManagedSchedule
         if(keepAlive != null)
             scheduledExecutor.setKeepAliveTime(keepAlive.getDuration(), keepAlive.getUnit());
         executor = new ManagedScheduledExecutorService(scheduledExecutor);
+        executor.setSlowTaskThreshold(slowTaskThreshold);
     }
 
     public synchronized void stop(final StopContext context) {
@@ -68,6 +70,14 @@ public final class ScheduledThreadPoolService implements Service<ManagedSchedule
         this.executor = null;
     }
 
+    public synchronized void setSlowTaskThreshold(long slowTaskThreshold) {
+        this.slowTaskThreshold = slowTaskThreshold;
+        final ManagedScheduledExecutorService executor = this.executor;
+        if(executor != null) {
+            executor.setSlowTaskThreshold(slowTaskThreshold);
+        }
+    }
+
     public synchronized ManagedScheduledExecutorService getValue() throws IllegalStateException {
         final ManagedScheduledExecutorService value = this.executor;
         if (value == null) {
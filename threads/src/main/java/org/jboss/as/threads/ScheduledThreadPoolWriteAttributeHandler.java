@@ -47,9 +47,14 @@ public class ScheduledThreadPoolWriteAttributeHandler extends ThreadsWriteAttrib
     }
 
     @Override
-    protected void applyOperation(final OperationContext context, ModelNode operation, String attributeName,
-                                  ServiceController<?> service, boolean forRollback) {
-        if (!forRollback) {
+    protected void applyOperation(final OperationContext context, ModelNode model, String attributeName,
+                                  ServiceController<?> service, boolean forRollback) throws OperationFailedException {
+
+        final ScheduledThreadPoolService pool =  (ScheduledThreadPoolService) service.getService();
+
+        if (PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.getName().equals(attributeName)) {
+            pool.setSlowTaskThreshold(getSlowTaskThreshold(context, model));
+        } else if (!forRollback) {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsMessages.MESSAGES.unsupportedScheduledThreadPoolAttribute(attributeName);
         }
@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Histogram of task latencies, with a microsecond resolution.
+ * Latencies are counted in a {@link LatencyHistogram}, so a percentile is resolved within about 6%, while recording
+ * only costs a few atomic increments.
+ */
+public class TaskLatencyHistogram {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final AtomicLong total = new AtomicLong();
+
+    /**
+     * Records a latency.
+     * @param nanos the latency, in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0);
+        this.histogram.record(micros);
+        this.total.addAndGet(micros);
+    }
+
+    public long getCount() {
+        return this.histogram.getCount();
+    }
+
+    /**
+     * Returns the sum of all recorded latencies, in microseconds.
+     */
+    public long getTotal() {
+        return this.total.get();
+    }
+
+    /**
+     * Returns the mean latency, in microseconds.
+     */
+    public long getMean() {
+        long count = this.histogram.getCount();
+        return (count > 0) ? this.total.get() / count : 0;
+    }
+
+    /**
+     * Returns the largest recorded latency, in microseconds.
+     */
+    public long getMax() {
+        return this.histogram.getMax();
+    }
+
+    /**
+     * Returns an upper bound of the specified percentile of the recorded latencies, in microseconds.
+     * @param percentile a percentile between 0 and 100
+     * @return the upper bound of the bucket containing the percentile, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        return this.histogram.getPercentile(percentile);
+    }
+}
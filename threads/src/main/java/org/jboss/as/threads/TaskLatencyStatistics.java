@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import static org.jboss.as.threads.ThreadsLogger.ROOT_LOGGER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long the tasks of a thread pool wait in its queue, and how long they run.
+ * Tasks running longer than the slow task threshold are logged and counted.
+ */
+public class TaskLatencyStatistics {
+
+    private final TaskLatencyHistogram queueWaitTime = new TaskLatencyHistogram();
+    private final TaskLatencyHistogram executionTime = new TaskLatencyHistogram();
+    private final AtomicLong slowTaskCount = new AtomicLong();
+    private volatile long slowTaskThreshold = 0;
+
+    /**
+     * Returns a task that records its latencies before and after running the specified task.
+     */
+    public Runnable wrap(Runnable task) {
+        return new TimedTask(task, System.nanoTime());
+    }
+
+    /**
+     * Replaces the tasks returned by {@link #wrap(Runnable)} in the specified list by the tasks they wrap.
+     */
+    public List<Runnable> unwrap(List<Runnable> tasks) {
+        List<Runnable> result = new ArrayList<Runnable>(tasks.size());
+        for (Runnable task : tasks) {
+            result.add((task instanceof TimedTask) ? ((TimedTask) task).task : task);
+        }
+        return result;
+    }
+
+    public TaskLatencyHistogram getQueueWaitTime() {
+        return this.queueWaitTime;
+    }
+
+    public TaskLatencyHistogram getExecutionTime() {
+        return this.executionTime;
+    }
+
+    public long getSlowTaskCount() {
+        return this.slowTaskCount.get();
+    }
+
+    /**
+     * Returns the slow task threshold, in milliseconds.
+     */
+    public long getSlowTaskThreshold() {
+        return TimeUnit.NANOSECONDS.toMillis(this.slowTaskThreshold);
+    }
+
+    /**
+     * Sets the execution time above which a task is considered slow.
+     * @param threshold a threshold in milliseconds, or a non-positive value to disable slow task detection
+     */
+    public void setSlowTaskThreshold(long threshold) {
+        this.slowTaskThreshold = (threshold > 0) ? TimeUnit.MILLISECONDS.toNanos(threshold) : 0;
+    }
+
+    void recordExecution(Runnable task, long nanos) {
+        this.executionTime.record(nanos);
+        long threshold = this.slowTaskThreshold;
+        if ((threshold > 0) && (nanos > threshold)) {
+            this.slowTaskCount.incrementAndGet();
+            ROOT_LOGGER.slowTask(task, TimeUnit.NANOSECONDS.toMillis(nanos), TimeUnit.NANOSECONDS.toMillis(threshold));
+        }
+    }
+
+    private class TimedTask implements Runnable {
+        private final Runnable task;
+        private final long submitted;
+
+        TimedTask(Runnable task, long submitted) {
+            this.task = task;
+            this.submitted = submitted;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            queueWaitTime.record(start - this.submitted);
+            try {
+                this.task.run();
+            } finally {
+                recordExecution(this.task, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.task.toString();
+        }
+    }
+}
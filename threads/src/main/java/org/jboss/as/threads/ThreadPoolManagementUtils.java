@@ -28,6 +28,7 @@ import static org.jboss.as.threads.CommonAttributes.UNIT;
 
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -78,6 +79,25 @@ class ThreadPoolManagementUtils {
                                              final ServiceTarget target,
                                              final List<ServiceController<?>> newControllers,
                                              final ServiceListener<Object>... newServiceListeners) {
+        installThreadPoolService(threadPoolService, threadPoolName, serviceNameBase,
+                threadFactoryName, threadFactoryResolver, threadFactoryInjector,
+                handoffExecutorName, handoffExecutorResolver, handoffExecutorInjector,
+                null, target, newControllers, newServiceListeners);
+    }
+
+    static <T> void installThreadPoolService(final Service<T> threadPoolService,
+                                             final String threadPoolName,
+                                             final ServiceName serviceNameBase,
+                                             final String threadFactoryName,
+                                             final ThreadFactoryResolver threadFactoryResolver,
+                                             final Injector<ThreadFactory> threadFactoryInjector,
+                                             final String handoffExecutorName,
+                                             final HandoffExecutorResolver handoffExecutorResolver,
+                                             final Injector<Executor> handoffExecutorInjector,
+                                             final Injector<ScheduledExecutorService> poolSizingSchedulerInjector,
+                                             final ServiceTarget target,
+                                             final List<ServiceController<?>> newControllers,
+                                             final ServiceListener<Object>... newServiceListeners) {
 
         final ServiceName threadPoolServiceName = serviceNameBase.append(threadPoolName);
 
@@ -95,6 +115,10 @@ class ThreadPoolManagementUtils {
             }
         }
 
+        if (poolSizingSchedulerInjector != null) {
+            serviceBuilder.addDependency(ThreadsServices.POOL_SIZING_SCHEDULER, ScheduledExecutorService.class, poolSizingSchedulerInjector);
+        }
+
         if (newServiceListeners != null  && newServiceListeners.length > 0) {
             serviceBuilder.addListener(newServiceListeners);
         }
@@ -138,6 +162,14 @@ class ThreadPoolManagementUtils {
         return parseBaseThreadPoolOperationParameters(context, operation, model, params);
     }
 
+    static WorkStealingThreadPoolParameters parseWorkStealingThreadPoolParameters(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
+        ThreadPoolParametersImpl params = new ThreadPoolParametersImpl();
+        parseBaseThreadPoolOperationParameters(context, operation, model, params);
+
+        params.queueLength = PoolAttributeDefinitions.QUEUE_LENGTH.resolveModelAttribute(context, model).asInt();
+        return params;
+    }
+
     static BaseThreadPoolParameters parseScheduledThreadPoolParameters(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
         ThreadPoolParametersImpl params = new ThreadPoolParametersImpl();
         return parseBaseThreadPoolOperationParameters(context, operation, model, params);
@@ -160,6 +192,7 @@ class ThreadPoolManagementUtils {
         parseBaseThreadPoolOperationParameters(context, operation, model, params);
 
         params.allowCoreTimeout = PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT.resolveModelAttribute(context, model).asBoolean();
+        params.adaptiveSizing = PoolAttributeDefinitions.ADAPTIVE_SIZING.resolveModelAttribute(context, model).asBoolean();
         if (!blocking) {
             ModelNode handoffEx = PoolAttributeDefinitions.HANDOFF_EXECUTOR.resolveModelAttribute(context, model);
             params.handoffExecutor = handoffEx.isDefined() ? handoffEx.asString() : null;
@@ -181,6 +214,8 @@ class ThreadPoolManagementUtils {
         ModelNode tfNode = PoolAttributeDefinitions.THREAD_FACTORY.resolveModelAttribute(context, model);
         params.threadFactory = tfNode.isDefined() ? tfNode.asString() : null;
         params.maxThreads = PoolAttributeDefinitions.MAX_THREADS.resolveModelAttribute(context, model).asInt();
+        ModelNode slowTaskThreshold = PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.resolveModelAttribute(context, model);
+        params.slowTaskThreshold = slowTaskThreshold.isDefined() ? slowTaskThreshold.asLong() : 0;
 
         if (model.hasDefined(KEEPALIVE_TIME)) {
             ModelNode keepaliveTime = model.get(KEEPALIVE_TIME);
@@ -206,6 +241,8 @@ class ThreadPoolManagementUtils {
         int getMaxThreads();
 
         TimeSpec getKeepAliveTime();
+
+        long getSlowTaskThreshold();
     }
 
     interface QueuelessThreadPoolParameters extends BaseThreadPoolParameters {
@@ -215,18 +252,25 @@ class ThreadPoolManagementUtils {
 
     interface BoundedThreadPoolParameters extends QueuelessThreadPoolParameters {
         boolean isAllowCoreTimeout();
+        boolean isAdaptiveSizing();
         int getCoreThreads();
         int getQueueLength();
     }
 
-    private static class ThreadPoolParametersImpl implements QueuelessThreadPoolParameters, BoundedThreadPoolParameters {
+    interface WorkStealingThreadPoolParameters extends BaseThreadPoolParameters {
+        int getQueueLength();
+    }
+
+    private static class ThreadPoolParametersImpl implements QueuelessThreadPoolParameters, BoundedThreadPoolParameters, WorkStealingThreadPoolParameters {
         ModelNode address;
         String name;
         String threadFactory;
         int maxThreads;
         TimeSpec keepAliveTime;
+        long slowTaskThreshold;
         String handoffExecutor;
         boolean allowCoreTimeout;
+        boolean adaptiveSizing;
         int coreThreads;
         int queueLength;
 
@@ -255,6 +299,11 @@ class ThreadPoolManagementUtils {
             return keepAliveTime;
         }
 
+        @Override
+        public long getSlowTaskThreshold() {
+            return slowTaskThreshold;
+        }
+
         @Override
         public String getHandoffExecutor() {
             return handoffExecutor;
@@ -265,6 +314,11 @@ class ThreadPoolManagementUtils {
             return allowCoreTimeout;
         }
 
+        @Override
+        public boolean isAdaptiveSizing() {
+            return adaptiveSizing;
+        }
+
         @Override
         public int getCoreThreads() {
             return coreThreads;
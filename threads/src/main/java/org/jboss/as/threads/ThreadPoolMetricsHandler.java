@@ -23,7 +23,10 @@ package org.jboss.as.threads;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
@@ -43,6 +46,14 @@ import org.jboss.msc.service.ServiceName;
  */
 public abstract class ThreadPoolMetricsHandler extends AbstractRuntimeOnlyHandler {
 
+    private static final Set<String> TASK_LATENCY_METRIC_NAMES = new HashSet<String>();
+
+    static {
+        for (AttributeDefinition metric : PoolAttributeDefinitions.TASK_LATENCY_METRICS) {
+            TASK_LATENCY_METRIC_NAMES.add(metric.getName());
+        }
+    }
+
     private final List<AttributeDefinition> metrics;
     private final ServiceName serviceNameBase;
 
@@ -55,6 +66,9 @@ public abstract class ThreadPoolMetricsHandler extends AbstractRuntimeOnlyHandle
         for (AttributeDefinition metric : metrics) {
             registration.registerMetric(metric, this);
         }
+        for (AttributeDefinition metric : Arrays.asList(PoolAttributeDefinitions.TASK_LATENCY_METRICS)) {
+            registration.registerMetric(metric, this);
+        }
     }
 
     @Override
@@ -65,11 +79,38 @@ public abstract class ThreadPoolMetricsHandler extends AbstractRuntimeOnlyHandle
         ServiceController<?> serviceController = getService(context, operation);
         final Service<?> service = serviceController.getService();
 
-        setResult(context, attributeName, service);
+        if (TASK_LATENCY_METRIC_NAMES.contains(attributeName)) {
+            setTaskLatencyResult(context, attributeName, ((ManagedExecutorService) service.getValue()).getTaskLatencyStatistics());
+        } else {
+            setResult(context, attributeName, service);
+        }
 
         context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
     }
 
+    private static void setTaskLatencyResult(OperationContext context, String attributeName, TaskLatencyStatistics statistics) {
+        final ModelNode result = context.getResult();
+        if (attributeName.equals(CommonAttributes.QUEUE_WAIT_TIME_P50)) {
+            result.set(statistics.getQueueWaitTime().getPercentile(50));
+        } else if (attributeName.equals(CommonAttributes.QUEUE_WAIT_TIME_P90)) {
+            result.set(statistics.getQueueWaitTime().getPercentile(90));
+        } else if (attributeName.equals(CommonAttributes.QUEUE_WAIT_TIME_P99)) {
+            result.set(statistics.getQueueWaitTime().getPercentile(99));
+        } else if (attributeName.equals(CommonAttributes.MAX_QUEUE_WAIT_TIME)) {
+            result.set(statistics.getQueueWaitTime().getMax());
+        } else if (attributeName.equals(CommonAttributes.EXECUTION_TIME_P50)) {
+            result.set(statistics.getExecutionTime().getPercentile(50));
+        } else if (attributeName.equals(CommonAttributes.EXECUTION_TIME_P90)) {
+            result.set(statistics.getExecutionTime().getPercentile(90));
+        } else if (attributeName.equals(CommonAttributes.EXECUTION_TIME_P99)) {
+            result.set(statistics.getExecutionTime().getPercentile(99));
+        } else if (attributeName.equals(CommonAttributes.MAX_EXECUTION_TIME)) {
+            result.set(statistics.getExecutionTime().getMax());
+        } else {
+            result.set(statistics.getSlowTaskCount());
+        }
+    }
+
     protected abstract void setResult(OperationContext context, String attributeName, Service<?> service) throws OperationFailedException;
 
     protected ServiceController<?> getService(final OperationContext context, final ModelNode operation)
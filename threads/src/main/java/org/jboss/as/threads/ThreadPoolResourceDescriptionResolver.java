@@ -28,6 +28,7 @@ import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.Set;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.StandardResourceDescriptionResolver;
 
@@ -48,7 +49,13 @@ class ThreadPoolResourceDescriptionResolver extends StandardResourceDescriptionR
                 PoolAttributeDefinitions.MAX_THREADS.getName(), PoolAttributeDefinitions.QUEUE_LENGTH.getName(),
                 PoolAttributeDefinitions.THREAD_FACTORY.getName(), PoolAttributeDefinitions.ACTIVE_COUNT.getName(),
                 PoolAttributeDefinitions.COMPLETED_TASK_COUNT.getName(), PoolAttributeDefinitions.CURRENT_THREAD_COUNT.getName(),
-                PoolAttributeDefinitions.LARGEST_THREAD_COUNT.getName(), PoolAttributeDefinitions.TASK_COUNT.getName()));
+                PoolAttributeDefinitions.LARGEST_THREAD_COUNT.getName(), PoolAttributeDefinitions.TASK_COUNT.getName(),
+                PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.getName(), PoolAttributeDefinitions.ADAPTIVE_SIZING.getName(),
+                PoolAttributeDefinitions.CURRENT_CORE_THREADS.getName(), PoolAttributeDefinitions.RESIZE_COUNT.getName(),
+                PoolAttributeDefinitions.LAST_RESIZE_DECISION.getName()));
+        for (AttributeDefinition metric : PoolAttributeDefinitions.TASK_LATENCY_METRICS) {
+            COMMON_ATTRIBUTE_NAMES.add(metric.getName());
+        }
 
         // note we don't include REJECTED_COUNT as it has a different definition in different resources
     }
@@ -61,6 +61,8 @@ class ThreadSubsystemResourceDefinition extends SimpleResourceDefinition {
 
         resourceRegistration.registerSubModel(UnboundedQueueThreadPoolResourceDefinition.create(registerRuntimeOnly));
 
+        resourceRegistration.registerSubModel(WorkStealingThreadPoolResourceDefinition.create(registerRuntimeOnly));
+
         resourceRegistration.registerSubModel(ScheduledThreadPoolResourceDefinition.create(registerRuntimeOnly));
     }
 }
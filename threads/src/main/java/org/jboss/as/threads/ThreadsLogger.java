@@ -51,4 +51,8 @@ interface ThreadsLogger extends BasicLogger {
                     "to derive a new value of [%d] for '%s'.")
     void perCpuNotSupported(Attribute perCpuAttr, BigDecimal count, Attribute countAttr, BigDecimal perCpu, Attribute perCpuAgain,
                             int processors, int fullCount, Attribute countAttrAgain);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 12401, value = "Task %s took %d ms to execute, exceeding the slow task threshold of %d ms")
+    void slowTask(Runnable task, long elapsed, long threshold);
 }
@@ -142,4 +142,19 @@ interface ThreadsMessages {
 
     @Message(id = 12479, value = "unit is null")
     IllegalArgumentException nullUnit();
+
+    @Message(id = 12480, value = "Unsupported attribute '%s'")
+    IllegalStateException unsupportedWorkStealingThreadPoolMetric(String attributeName);
+
+    @Message(id = 12481, value = "Unsupported attribute '%s'")
+    IllegalStateException unsupportedWorkStealingThreadPoolAttribute(String attributeName);
+
+    @Message(id = 12482, value = "The executor service hasn't been initialized.")
+    IllegalStateException workStealingThreadPoolExecutorUninitialized();
+
+    @Message(id = 12483, value = "Service '%s' not found.")
+    OperationFailedException workStealingThreadPoolServiceNotFound(ServiceName serviceName);
+
+    @Message(id = 12484, value = "The pool sizing scheduler hasn't been initialized.")
+    IllegalStateException poolSizingSchedulerUninitialized();
 }
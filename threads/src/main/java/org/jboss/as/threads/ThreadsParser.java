@@ -45,6 +45,7 @@ import static org.jboss.as.threads.CommonAttributes.THREAD_FACTORY;
 import static org.jboss.as.threads.CommonAttributes.TIME;
 import static org.jboss.as.threads.CommonAttributes.UNBOUNDED_QUEUE_THREAD_POOL;
 import static org.jboss.as.threads.CommonAttributes.UNIT;
+import static org.jboss.as.threads.CommonAttributes.WORK_STEALING_THREAD_POOL;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
@@ -179,6 +180,10 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
                     parseUnboundedQueueThreadPool(reader, readerNS, threadsNamespace, subsystemAddress, list, UNBOUNDED_QUEUE_THREAD_POOL, null);
                     break;
                 }
+                case WORK_STEALING_THREAD_POOL: {
+                    parseWorkStealingThreadPool(reader, readerNS, threadsNamespace, subsystemAddress, list, WORK_STEALING_THREAD_POOL, null);
+                    break;
+                }
                 default: {
                     throw unexpectedElement(reader);
                 }
@@ -404,10 +409,20 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
                     name = value;
                     break;
                 }
+                case ADAPTIVE_SIZING: {
+                    requireThreadsNamespace(reader, i, threadsNamespace);
+                    PoolAttributeDefinitions.ADAPTIVE_SIZING.parseAndSetParameter(value, op, reader);
+                    break;
+                }
                 case ALLOW_CORE_TIMEOUT: {
                     PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT.parseAndSetParameter(value, op, reader);
                     break;
                 }
+                case SLOW_TASK_THRESHOLD: {
+                    requireThreadsNamespace(reader, i, threadsNamespace);
+                    PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.parseAndSetParameter(value, op, reader);
+                    break;
+                }
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -489,6 +504,11 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
                     name = value;
                     break;
                 }
+                case SLOW_TASK_THRESHOLD: {
+                    requireThreadsNamespace(reader, i, threadsNamespace);
+                    PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.parseAndSetParameter(value, op, reader);
+                    break;
+                }
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -538,6 +558,81 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
         return name;
     }
 
+    public String parseWorkStealingThreadPool(final XMLExtendedStreamReader reader, String expectedNs, Namespace threadsNamespace, final ModelNode parentAddress,
+                                              final List<ModelNode> list, final String childType, final String providedName) throws XMLStreamException {
+        if (threadsNamespace.compareTo(Namespace.THREADS_1_2) < 0) {
+            throw unexpectedElement(reader);
+        }
+        final ModelNode op = new ModelNode();
+        list.add(op);
+        op.get(OP).set(ADD);
+
+        String name = null;
+        int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            switch (attribute) {
+                case NAME: {
+                    name = value;
+                    break;
+                }
+                case SLOW_TASK_THRESHOLD: {
+                    requireThreadsNamespace(reader, i, threadsNamespace);
+                    PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.parseAndSetParameter(value, op, reader);
+                    break;
+                }
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        if (providedName != null) {
+            name = providedName;
+        } else if (name == null) {
+            throw missingRequired(reader, Collections.singleton(Attribute.NAME));
+        }
+
+        final ModelNode address = parentAddress.clone();
+        address.add(childType, name);
+        address.protect();
+        op.get(OP_ADDR).set(address);
+
+        Set<Element> required = EnumSet.of(Element.MAX_THREADS, Element.QUEUE_LENGTH);
+        while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
+            Element element = nextElement(reader, expectedNs);
+            required.remove(element);
+            switch (element) {
+                case MAX_THREADS: {
+                    String scaledCount = parseCount(reader, threadsNamespace);
+                    PoolAttributeDefinitions.MAX_THREADS.parseAndSetParameter(scaledCount, op, reader);
+                    break;
+                }
+                case QUEUE_LENGTH: {
+                    String scaledCount = parseCount(reader, threadsNamespace);
+                    PoolAttributeDefinitions.QUEUE_LENGTH.parseAndSetParameter(scaledCount, op, reader);
+                    break;
+                }
+                case THREAD_FACTORY: {
+                    String ref = readStringAttributeElement(reader, Attribute.NAME.getLocalName());
+                    PoolAttributeDefinitions.THREAD_FACTORY.parseAndSetParameter(ref, op, reader);
+                    break;
+                }
+                case PROPERTIES: {
+                    parseProperties(reader, threadsNamespace);
+                    break;
+                }
+                default: {
+                    throw unexpectedElement(reader);
+                }
+            }
+        }
+        if (!required.isEmpty()) {
+            throw missingRequiredElement(reader, required);
+        }
+        return name;
+    }
+
     public String parseScheduledThreadPool(final XMLExtendedStreamReader reader, String expectedNs, Namespace threadsNamespace, final ModelNode parentAddress,
                                            final List<ModelNode> list, final String childType, final String providedName) throws XMLStreamException {
         final ModelNode op = new ModelNode();
@@ -555,6 +650,11 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
                     name = value;
                     break;
                 }
+                case SLOW_TASK_THRESHOLD: {
+                    requireThreadsNamespace(reader, i, threadsNamespace);
+                    PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.parseAndSetParameter(value, op, reader);
+                    break;
+                }
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -737,6 +837,11 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
                     name = value;
                     break;
                 }
+                case SLOW_TASK_THRESHOLD: {
+                    requireThreadsNamespace(reader, i, threadsNamespace);
+                    PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.parseAndSetParameter(value, op, reader);
+                    break;
+                }
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -790,10 +895,17 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
         return name;
     }
 
+    private static void requireThreadsNamespace(final XMLExtendedStreamReader reader, final int index, final Namespace threadsNamespace) throws XMLStreamException {
+        if (threadsNamespace.compareTo(Namespace.THREADS_1_2) < 0) {
+            throw unexpectedAttribute(reader, index);
+        }
+    }
+
     private String parseCount(final XMLExtendedStreamReader reader, Namespace expectedNS) throws XMLStreamException {
         switch (expectedNS) {
             case THREADS_1_0:
             case THREADS_1_1: // still allow the legacy config even though it violates the schema
+            case THREADS_1_2:
                 return parseScaledCount(reader);
             default:
                 return readStringAttributeElement(reader, Attribute.COUNT.getLocalName());
@@ -1031,6 +1143,14 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
                 }
             }
         }
+        if (node.hasDefined(WORK_STEALING_THREAD_POOL)) {
+            for (String name : node.get(WORK_STEALING_THREAD_POOL).keys()) {
+                final ModelNode child = node.get(WORK_STEALING_THREAD_POOL, name);
+                if (child.isDefined()) {
+                    writeWorkStealingThreadPool(writer, child);
+                }
+            }
+        }
     }
 
     public void writeThreadFactory(final XMLExtendedStreamWriter writer, final ModelNode node) throws XMLStreamException {
@@ -1079,6 +1199,8 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
         }
 
         PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT.marshallAsAttribute(node, writer);
+        PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.marshallAsAttribute(node, writer);
+        PoolAttributeDefinitions.ADAPTIVE_SIZING.marshallAsAttribute(node, writer);
 
         writeCountElement(PoolAttributeDefinitions.CORE_THREADS, node, writer);
         writeCountElement(PoolAttributeDefinitions.QUEUE_LENGTH, node, writer);
@@ -1124,6 +1246,8 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
             writeAttribute(writer, Attribute.NAME, node.get(NAME));
         }
 
+        PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.marshallAsAttribute(node, writer);
+
         writeCountElement(PoolAttributeDefinitions.MAX_THREADS, node, writer);
 
         writeTime(writer, node, Element.KEEPALIVE_TIME);
@@ -1147,6 +1271,8 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
             writeAttribute(writer, Attribute.NAME, node.get(NAME));
         }
 
+        PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.marshallAsAttribute(node, writer);
+
         writeCountElement(PoolAttributeDefinitions.MAX_THREADS, node, writer);
         writeTime(writer, node, Element.KEEPALIVE_TIME);
         writeRef(writer, node, Element.THREAD_FACTORY, THREAD_FACTORY);
@@ -1166,6 +1292,8 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
             writeAttribute(writer, Attribute.NAME, node.get(NAME));
         }
 
+        PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.marshallAsAttribute(node, writer);
+
         writeCountElement(PoolAttributeDefinitions.MAX_THREADS, node, writer);
         writeTime(writer, node, Element.KEEPALIVE_TIME);
         writeRef(writer, node, Element.THREAD_FACTORY, THREAD_FACTORY);
@@ -1173,6 +1301,27 @@ public final class ThreadsParser implements XMLStreamConstants, XMLElementReader
         writer.writeEndElement();
     }
 
+    public void writeWorkStealingThreadPool(final XMLExtendedStreamWriter writer, final ModelNode node) throws XMLStreamException {
+        writeWorkStealingThreadPool(writer, node, Element.WORK_STEALING_THREAD_POOL.getLocalName(), true);
+    }
+
+    public void writeWorkStealingThreadPool(final XMLExtendedStreamWriter writer, final ModelNode node, final String elementName, final boolean includeName)
+            throws XMLStreamException {
+        writer.writeStartElement(elementName);
+
+        if (includeName && node.hasDefined(NAME)) {
+            writeAttribute(writer, Attribute.NAME, node.get(NAME));
+        }
+
+        PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.marshallAsAttribute(node, writer);
+
+        writeCountElement(PoolAttributeDefinitions.MAX_THREADS, node, writer);
+        writeCountElement(PoolAttributeDefinitions.QUEUE_LENGTH, node, writer);
+        writeRef(writer, node, Element.THREAD_FACTORY, THREAD_FACTORY);
+
+        writer.writeEndElement();
+    }
+
     private void writeRef(final XMLExtendedStreamWriter writer, final ModelNode node, Element element, String name)
             throws XMLStreamException {
         if (node.hasDefined(name)) {
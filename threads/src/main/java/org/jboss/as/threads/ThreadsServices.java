@@ -37,6 +37,7 @@ public final class ThreadsServices {
     public static final ServiceName THREAD = ServiceName.JBOSS.append("thread");
     public static final ServiceName FACTORY = THREAD.append("factory");
     public static final ServiceName EXECUTOR = THREAD.append("executor");
+    public static final ServiceName POOL_SIZING_SCHEDULER = THREAD.append("pool-sizing-scheduler");
 
     /**
      * Standard implementation of {@link HandoffExecutorResolver} -- a {@link HandoffExecutorResolver.SimpleResolver} with a base service name
@@ -139,4 +139,9 @@ public abstract class ThreadsWriteAttributeOperationHandler extends AbstractWrit
         }
         return new TimeSpec(unit, value.get(TIME).asLong());
     }
+
+    static long getSlowTaskThreshold(OperationContext context, ModelNode model) throws OperationFailedException {
+        ModelNode value = PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.resolveModelAttribute(context, model);
+        return value.isDefined() ? value.asLong() : 0;
+    }
 }
@@ -47,10 +47,10 @@ import org.jboss.msc.service.ServiceName;
 public class UnboundedQueueThreadPoolAdd extends AbstractAddStepHandler {
 
     static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.KEEPALIVE_TIME,
-        PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.THREAD_FACTORY};
+        PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.THREAD_FACTORY, PoolAttributeDefinitions.SLOW_TASK_THRESHOLD};
 
     static final AttributeDefinition[] RW_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.KEEPALIVE_TIME,
-        PoolAttributeDefinitions.MAX_THREADS};
+        PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.SLOW_TASK_THRESHOLD};
 
     private final ThreadFactoryResolver threadFactoryResolver;
     private final ServiceName serviceNameBase;
@@ -78,6 +78,7 @@ public class UnboundedQueueThreadPoolAdd extends AbstractAddStepHandler {
         final BaseThreadPoolParameters params = ThreadPoolManagementUtils.parseUnboundedQueueThreadPoolParameters(context, operation, model);
 
         final UnboundedQueueThreadPoolService service = new UnboundedQueueThreadPoolService(params.getMaxThreads(), params.getKeepAliveTime());
+        service.setSlowTaskThreshold(params.getSlowTaskThreshold());
 
         ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), serviceNameBase,
                 params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
@@ -44,6 +44,7 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
     private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
 
     private ManagedJBossThreadPoolExecutorService executor;
+    private long slowTaskThreshold;
 
     private int maxThreads;
     private TimeSpec keepAlive;
@@ -58,6 +59,7 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
         long keepAliveTime = keepAliveSpec == null ? Long.MAX_VALUE : keepAliveSpec.getUnit().toNanos(keepAliveSpec.getDuration());
         final JBossThreadPoolExecutor jbossExecutor = new JBossThreadPoolExecutor(maxThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>(), threadFactoryValue.getValue());
         executor = new ManagedJBossThreadPoolExecutorService(jbossExecutor);
+        executor.setSlowTaskThreshold(slowTaskThreshold);
     }
 
     public synchronized void stop(final StopContext context) {
@@ -72,6 +74,14 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
         this.executor = null;
     }
 
+    public synchronized void setSlowTaskThreshold(long slowTaskThreshold) {
+        this.slowTaskThreshold = slowTaskThreshold;
+        final ManagedJBossThreadPoolExecutorService executor = this.executor;
+        if(executor != null) {
+            executor.setSlowTaskThreshold(slowTaskThreshold);
+        }
+    }
+
     public synchronized ManagedJBossThreadPoolExecutorService getValue() throws IllegalStateException {
         final ManagedJBossThreadPoolExecutorService value = this.executor;
         if (value == null) {
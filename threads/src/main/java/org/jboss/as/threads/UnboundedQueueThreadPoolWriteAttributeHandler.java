@@ -60,6 +60,8 @@ public class UnboundedQueueThreadPoolWriteAttributeHandler extends ThreadsWriteA
             pool.setKeepAlive(spec);
         } else if(PoolAttributeDefinitions.MAX_THREADS.getName().equals(attributeName)) {
             pool.setMaxThreads(PoolAttributeDefinitions.MAX_THREADS.resolveModelAttribute(context, model).asInt());
+        } else if (PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.getName().equals(attributeName)) {
+            pool.setSlowTaskThreshold(getSlowTaskThreshold(context, model));
         } else if (!forRollback) {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsMessages.MESSAGES.unsupportedUnboundedQueueThreadPoolAttribute(attributeName);
@@ -0,0 +1,535 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.threads.BlockingExecutor;
+import org.jboss.threads.EventListener;
+import org.jboss.threads.ExecutionTimedOutException;
+import org.jboss.threads.StoppedExecutorException;
+
+/**
+ * Executor whose worker threads each own a task deque, rather than sharing a single queue.
+ * Tasks submitted from a worker thread are pushed onto that worker's deque, and are executed by it in last in, first out
+ * order. Tasks submitted from other threads are distributed round robin across the deques of the started workers.
+ * A worker that runs out of tasks steals the oldest task from the deque of another worker before going idle.
+ * Workers are started on demand, up to the configured parallelism, and run until the executor is shut down.
+ * <p>
+ * Each deque holds at most the configured queue length. When every deque is full, {@link #execute(Runnable)} and
+ * {@link #executeNonBlocking(Runnable)} reject the task, and {@link #executeBlocking(Runnable)} waits for space. A worker
+ * whose own deque is full runs the task itself instead, since waiting for its own deque to drain would never end.
+ * <p>
+ * A worker that waits for the result of a task submitted to this executor keeps executing queued tasks while it waits,
+ * so that joining a subtask cannot deadlock the pool, even with a single worker.
+ */
+public class WorkStealingExecutor extends AbstractExecutorService implements BlockingExecutor {
+
+    private static final int RUNNING = 0;
+    private static final int SHUTDOWN = 1;
+    private static final int STOP = 2;
+    private static final int TERMINATED = 3;
+
+    private static final ThreadLocal<Worker> CURRENT_WORKER = new ThreadLocal<Worker>();
+    // The longest a blocked submitter waits on one deque before checking the others and the state again
+    private static final long BLOCKING_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ThreadFactory threadFactory;
+    private final Worker[] workers;
+    private final ConcurrentLinkedQueue<Worker> idleWorkers = new ConcurrentLinkedQueue<Worker>();
+    private final AtomicInteger state = new AtomicInteger(RUNNING);
+    private final AtomicInteger nextWorker = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger rejectedCount = new AtomicInteger();
+    private final AtomicLong taskCount = new AtomicLong();
+    private final AtomicLong completedTaskCount = new AtomicLong();
+    private final AtomicLong stealCount = new AtomicLong();
+    private final CountDownLatch terminationLatch = new CountDownLatch(1);
+    private final List<Runnable> terminationTasks = new ArrayList<Runnable>();
+
+    // Guarded by this
+    private int startedCount = 0;
+    private int currentThreadCount = 0;
+
+    /**
+     * Creates a new executor.
+     *
+     * @param parallelism the maximum number of worker threads
+     * @param queueLength the maximum number of tasks waiting in the deque of each worker
+     * @param threadFactory the factory of the worker threads
+     */
+    public WorkStealingExecutor(final int parallelism, final int queueLength, final ThreadFactory threadFactory) {
+        if (threadFactory == null) {
+            throw new IllegalArgumentException("threadFactory is null");
+        }
+        this.threadFactory = threadFactory;
+        this.workers = new Worker[Math.max(parallelism, 1)];
+        for (int i = 0; i < this.workers.length; ++i) {
+            this.workers[i] = new Worker(i, Math.max(queueLength, 1));
+        }
+    }
+
+    /**
+     * Executes the specified task, or rejects it if every deque is full.
+     */
+    @Override
+    public void execute(final Runnable task) {
+        this.executeNonBlocking(task);
+    }
+
+    @Override
+    public void executeNonBlocking(final Runnable task) throws RejectedExecutionException {
+        this.checkSubmission(task);
+        if (this.executeFromWorker(task)) return;
+        final Worker target = this.offer(task);
+        if (target == null) {
+            throw this.reject();
+        }
+        this.submitted(task, target);
+    }
+
+    @Override
+    public void executeBlocking(final Runnable task) throws RejectedExecutionException, InterruptedException {
+        this.executeBlocking(task, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void executeBlocking(final Runnable task, final long timeout, final TimeUnit unit) throws RejectedExecutionException, InterruptedException {
+        this.checkSubmission(task);
+        if (this.executeFromWorker(task)) return;
+        this.submitted(task, this.offerBlocking(task, unit.toNanos(timeout)));
+    }
+
+    private void checkSubmission(final Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        if (this.state.get() != RUNNING) {
+            throw this.reject();
+        }
+    }
+
+    /**
+     * Pushes a task submitted by one of this executor's workers onto its own deque, or runs it right away if the deque
+     * is full, since waiting for the worker's own deque to drain would never end.
+     * @return false, if the current thread is not one of this executor's workers
+     */
+    private boolean executeFromWorker(final Runnable task) {
+        final Worker current = CURRENT_WORKER.get();
+        if ((current == null) || (current.getExecutor() != this)) return false;
+        if (current.deque.offerFirst(task)) {
+            this.submitted(task, current);
+        } else {
+            this.taskCount.incrementAndGet();
+            current.runTask(task, true);
+        }
+        return true;
+    }
+
+    private void submitted(final Runnable task, final Worker target) {
+        this.taskCount.incrementAndGet();
+        this.signalWork();
+        // Don't strand the task if the executor was shut down concurrently
+        if ((this.state.get() != RUNNING) && target.deque.removeFirstOccurrence(task)) {
+            this.taskCount.decrementAndGet();
+            throw this.reject();
+        }
+    }
+
+    /**
+     * Adds a task from a thread other than a worker to the deque of the next started worker, or to any deque with space.
+     * @return the worker whose deque received the task, or null if every deque is full
+     */
+    private Worker offer(final Runnable task) {
+        final int started = Math.max(this.getStartedCount(), 1);
+        final int first = (this.nextWorker.getAndIncrement() & Integer.MAX_VALUE) % started;
+        if (this.workers[first].deque.offerLast(task)) {
+            return this.workers[first];
+        }
+        // Deques of workers that were not started yet are drained by stealing
+        for (int i = 1; i < this.workers.length; ++i) {
+            final Worker worker = this.workers[(first + i) % this.workers.length];
+            if (worker.deque.offerLast(task)) {
+                return worker;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a task from a thread other than a worker to a deque, waiting up to the specified timeout for space.
+     * @return the worker whose deque received the task
+     */
+    private Worker offerBlocking(final Runnable task, final long timeout) throws RejectedExecutionException, InterruptedException {
+        final long start = System.nanoTime();
+        while (true) {
+            final Worker worker = this.offer(task);
+            if (worker != null) {
+                return worker;
+            }
+            if (this.state.get() != RUNNING) {
+                this.rejectedCount.incrementAndGet();
+                throw new StoppedExecutorException();
+            }
+            final long remaining = timeout - (System.nanoTime() - start);
+            if (remaining <= 0) {
+                this.rejectedCount.incrementAndGet();
+                throw new ExecutionTimedOutException();
+            }
+            // Wait for space in the deque of the next worker, then retry them all
+            final Worker next = this.workers[(this.nextWorker.getAndIncrement() & Integer.MAX_VALUE) % this.workers.length];
+            if (next.deque.offerLast(task, Math.min(remaining, BLOCKING_POLL_NANOS), TimeUnit.NANOSECONDS)) {
+                return next;
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.state.compareAndSet(RUNNING, SHUTDOWN);
+        this.wakeAll();
+        this.tryTerminate();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        int current = this.state.get();
+        while ((current < STOP) && !this.state.compareAndSet(current, STOP)) {
+            current = this.state.get();
+        }
+        final List<Runnable> pending = new ArrayList<Runnable>();
+        for (Worker worker : this.workers) {
+            worker.deque.drainTo(pending);
+            final Thread thread = worker.thread;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+        this.wakeAll();
+        this.tryTerminate();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.state.get() != RUNNING;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.state.get() == TERMINATED;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return this.terminationLatch.await(timeout, unit);
+    }
+
+    /**
+     * Registers a listener to be notified once the executor has terminated.
+     * The listener is notified immediately if the executor has already terminated.
+     */
+    public <A> void addShutdownListener(final EventListener<A> listener, final A attachment) {
+        final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                listener.handleEvent(attachment);
+            }
+        };
+        synchronized (this) {
+            if (this.state.get() != TERMINATED) {
+                this.terminationTasks.add(task);
+                return;
+            }
+        }
+        task.run();
+    }
+
+    public int getMaxThreads() {
+        return this.workers.length;
+    }
+
+    public int getActiveCount() {
+        return this.activeCount.get();
+    }
+
+    public long getCompletedTaskCount() {
+        return this.completedTaskCount.get();
+    }
+
+    public synchronized int getCurrentThreadCount() {
+        return this.currentThreadCount;
+    }
+
+    public int getLargestThreadCount() {
+        return this.getStartedCount();
+    }
+
+    public int getRejectedCount() {
+        return this.rejectedCount.get();
+    }
+
+    public long getTaskCount() {
+        return this.taskCount.get();
+    }
+
+    /**
+     * Returns the number of tasks executed by a worker other than the one whose deque they were placed on.
+     */
+    public long getStealCount() {
+        return this.stealCount.get();
+    }
+
+    /**
+     * Returns the approximate number of tasks waiting in the deques of all workers.
+     */
+    public int getQueueSize() {
+        int size = 0;
+        for (Worker worker : this.workers) {
+            size += worker.deque.size();
+        }
+        return size;
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(final Callable<T> task) {
+        return new JoinableTask<T>(task);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(final Runnable task, final T result) {
+        return new JoinableTask<T>(task, result);
+    }
+
+    /**
+     * Executes queued tasks on the current thread until the specified future completes or the timeout elapses, if the
+     * current thread is one of this executor's workers. Returns as soon as there is nothing left to execute.
+     */
+    void helpUntilDone(final Future<?> future, final long timeout) {
+        final Worker current = CURRENT_WORKER.get();
+        if ((current == null) || (current.getExecutor() != this)) return;
+        final long start = System.nanoTime();
+        while (!future.isDone() && (System.nanoTime() - start < timeout)) {
+            final Runnable task = current.poll();
+            if (task == null) return;
+            current.runTask(task, true);
+        }
+    }
+
+    private RejectedExecutionException reject() {
+        this.rejectedCount.incrementAndGet();
+        return new RejectedExecutionException();
+    }
+
+    private synchronized int getStartedCount() {
+        return this.startedCount;
+    }
+
+    /**
+     * Wakes an idle worker to run or steal the new task, or starts another worker if none are idle.
+     */
+    private void signalWork() {
+        final Worker idle = this.idleWorkers.poll();
+        if (idle != null) {
+            LockSupport.unpark(idle.thread);
+            return;
+        }
+        synchronized (this) {
+            if ((this.startedCount < this.workers.length) && (this.state.get() == RUNNING)) {
+                final Worker worker = this.workers[this.startedCount];
+                final Thread thread = this.threadFactory.newThread(worker);
+                if (thread == null) return;
+                worker.thread = thread;
+                this.startedCount += 1;
+                this.currentThreadCount += 1;
+                thread.start();
+            }
+        }
+    }
+
+    private void wakeAll() {
+        for (Worker worker : this.workers) {
+            final Thread thread = worker.thread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    private void workerExited() {
+        synchronized (this) {
+            this.currentThreadCount -= 1;
+        }
+        this.tryTerminate();
+    }
+
+    private void tryTerminate() {
+        final List<Runnable> tasks;
+        synchronized (this) {
+            final int current = this.state.get();
+            if ((current == RUNNING) || (current == TERMINATED) || (this.currentThreadCount > 0)) return;
+            this.state.set(TERMINATED);
+            tasks = new ArrayList<Runnable>(this.terminationTasks);
+            this.terminationTasks.clear();
+        }
+        try {
+            for (Runnable task : tasks) {
+                task.run();
+            }
+        } finally {
+            // Only release awaitTermination() once every listener was notified
+            this.terminationLatch.countDown();
+        }
+    }
+
+    /**
+     * Future of a task submitted to this executor, which helps execute queued tasks while a worker waits for it.
+     */
+    class JoinableTask<T> extends FutureTask<T> {
+
+        JoinableTask(final Callable<T> task) {
+            super(task);
+        }
+
+        JoinableTask(final Runnable task, final T result) {
+            super(task, result);
+        }
+
+        @Override
+        public T get() throws InterruptedException, ExecutionException {
+            helpUntilDone(this, Long.MAX_VALUE);
+            return super.get();
+        }
+
+        @Override
+        public T get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            final long start = System.nanoTime();
+            final long nanos = unit.toNanos(timeout);
+            helpUntilDone(this, nanos);
+            return super.get(Math.max(nanos - (System.nanoTime() - start), 0), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private class Worker implements Runnable {
+        private final int index;
+        final LinkedBlockingDeque<Runnable> deque;
+        volatile Thread thread;
+
+        Worker(final int index, final int queueLength) {
+            this.index = index;
+            this.deque = new LinkedBlockingDeque<Runnable>(queueLength);
+        }
+
+        WorkStealingExecutor getExecutor() {
+            return WorkStealingExecutor.this;
+        }
+
+        @Override
+        public void run() {
+            CURRENT_WORKER.set(this);
+            try {
+                while (state.get() < STOP) {
+                    Runnable task = this.poll();
+                    if (task == null) {
+                        // Register as idle before checking once more, so that a concurrent submission either sees us or we see it
+                        idleWorkers.offer(this);
+                        task = this.poll();
+                        if (task == null) {
+                            if (state.get() != RUNNING) {
+                                idleWorkers.remove(this);
+                                break;
+                            }
+                            LockSupport.park(this);
+                        }
+                        idleWorkers.remove(this);
+                    }
+                    if (task != null) {
+                        this.runTask(task, false);
+                    }
+                }
+            } finally {
+                CURRENT_WORKER.remove();
+                workerExited();
+            }
+        }
+
+        Runnable poll() {
+            final Runnable task = this.deque.pollFirst();
+            return (task != null) ? task : this.steal();
+        }
+
+        private Runnable steal() {
+            for (int i = 1; i < workers.length; ++i) {
+                final Runnable task = workers[(this.index + i) % workers.length].deque.pollLast();
+                if (task != null) {
+                    stealCount.incrementAndGet();
+                    return task;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Runs the specified task.
+         * @param nested true, if the task runs on behalf of another task of this worker, which is waiting for a
+         *               result or for space in the deque
+         */
+        void runTask(final Runnable task, final boolean nested) {
+            if (!nested) {
+                activeCount.incrementAndGet();
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            } finally {
+                completedTaskCount.incrementAndGet();
+                if (!nested) {
+                    activeCount.decrementAndGet();
+                    // Don't let an interrupt leak into the next task, or make the worker spin instead of parking
+                    if (state.get() < STOP) {
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import java.util.List;
+
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ServiceVerificationHandler;
+import org.jboss.as.threads.ThreadPoolManagementUtils.WorkStealingThreadPoolParameters;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Adds a work stealing thread pool.
+ */
+public class WorkStealingThreadPoolAdd extends AbstractAddStepHandler {
+
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.MAX_THREADS,
+        PoolAttributeDefinitions.QUEUE_LENGTH, PoolAttributeDefinitions.THREAD_FACTORY, PoolAttributeDefinitions.SLOW_TASK_THRESHOLD};
+
+    // The number of workers and the queue length are fixed when the pool is started
+    static final AttributeDefinition[] RW_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.SLOW_TASK_THRESHOLD};
+
+    private final ThreadFactoryResolver threadFactoryResolver;
+    private final ServiceName serviceNameBase;
+
+    public WorkStealingThreadPoolAdd(ThreadFactoryResolver threadFactoryResolver, ServiceName serviceNameBase) {
+        this.threadFactoryResolver = threadFactoryResolver;
+        this.serviceNameBase = serviceNameBase;
+    }
+
+    @Override
+    protected void populateModel(final ModelNode operation, final ModelNode model) throws OperationFailedException {
+        final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+        final String name = address.getLastElement().getValue();
+        model.get(NAME).set(name);
+
+        for(final AttributeDefinition attribute : ATTRIBUTES) {
+            attribute.validateAndSet(operation, model);
+        }
+    }
+
+    @Override
+    protected void performRuntime(final OperationContext context, final ModelNode operation, final ModelNode model,
+            final ServiceVerificationHandler verificationHandler, final List<ServiceController<?>> newControllers) throws OperationFailedException {
+
+        final WorkStealingThreadPoolParameters params = ThreadPoolManagementUtils.parseWorkStealingThreadPoolParameters(context, operation, model);
+
+        final WorkStealingThreadPoolService service = new WorkStealingThreadPoolService(params.getMaxThreads(), params.getQueueLength());
+        service.setSlowTaskThreshold(params.getSlowTaskThreshold());
+
+        ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), serviceNameBase,
+                params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
+                context.getServiceTarget(), newControllers, verificationHandler);
+    }
+
+    ServiceName getServiceNameBase() {
+        return serviceNameBase;
+    }
+
+    ThreadFactoryResolver getThreadFactoryResolver() {
+        return threadFactoryResolver;
+    }
+}
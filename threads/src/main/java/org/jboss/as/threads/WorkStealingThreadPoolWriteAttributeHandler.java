@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Handles attribute writes for a work stealing thread pool.
+ * None of its attributes can be applied to a running pool, so every write requires a restart.
+ */
+public class WorkStealingThreadPoolWriteAttributeHandler extends ThreadsWriteAttributeOperationHandler {
+
+    private final ServiceName serviceNameBase;
+
+    public WorkStealingThreadPoolWriteAttributeHandler(ServiceName serviceNameBase) {
+        super(WorkStealingThreadPoolAdd.ATTRIBUTES, WorkStealingThreadPoolAdd.RW_ATTRIBUTES);
+        this.serviceNameBase = serviceNameBase;
+    }
+
+    @Override
+    protected void applyOperation(final OperationContext context, ModelNode model, String attributeName,
+                                  ServiceController<?> service, boolean forRollback) throws OperationFailedException {
+
+        final WorkStealingThreadPoolService pool =  (WorkStealingThreadPoolService) service.getService();
+
+        if (PoolAttributeDefinitions.SLOW_TASK_THRESHOLD.getName().equals(attributeName)) {
+            pool.setSlowTaskThreshold(getSlowTaskThreshold(context, model));
+        } else if (!forRollback) {
+            // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
+            throw ThreadsMessages.MESSAGES.unsupportedWorkStealingThreadPoolAttribute(attributeName);
+        }
+    }
+
+    @Override
+    protected ServiceController<?> getService(final OperationContext context, final ModelNode model) throws OperationFailedException {
+        final String name = Util.getNameFromAddress(model.require(OP_ADDR));
+        final ServiceName serviceName = serviceNameBase.append(name);
+        ServiceController<?> controller = context.getServiceRegistry(true).getService(serviceName);
+        if(controller == null) {
+            throw ThreadsMessages.MESSAGES.workStealingThreadPoolServiceNotFound(serviceName);
+        }
+        return controller;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.QueueExecutor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdaptivePoolSizerTestCase {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private ManagedQueueExecutorService executor;
+    private AdaptivePoolSizer sizer;
+    private long now = 0;
+
+    @Before
+    public void setUp() {
+        this.executor = new ManagedQueueExecutorService(new QueueExecutor(2, 8, Long.MAX_VALUE, TimeUnit.NANOSECONDS, 10, Executors.defaultThreadFactory(), false, null));
+        this.sizer = new AdaptivePoolSizer(this.executor, 2, 8);
+        this.sizer.mark(this.now);
+    }
+
+    @After
+    public void tearDown() {
+        this.executor.internalShutdown();
+    }
+
+    @Test
+    public void testGrowsWithDamping() {
+        // 4 threads worth of work per interval, with tasks kept waiting in the queue
+        this.interval(40, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(20), 0.1);
+        Assert.assertEquals(3, this.executor.getCoreThreads());
+        Assert.assertEquals(1, this.sizer.getResizeCount());
+        Assert.assertNotNull(this.sizer.getLastDecision());
+        this.interval(40, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(20), 0.1);
+        Assert.assertEquals(4, this.executor.getCoreThreads());
+        this.interval(40, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(20), 0.1);
+        this.interval(40, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(20), 0.1);
+        this.interval(40, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(20), 0.1);
+        // Never above max-threads
+        for (int i = 0; i < 10; ++i) {
+            this.interval(200, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(20), 0.1);
+        }
+        Assert.assertEquals(8, this.executor.getCoreThreads());
+    }
+
+    @Test
+    public void testDoesNotGrowWhenSaturated() {
+        for (int i = 0; i < 5; ++i) {
+            this.interval(40, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(20), 1.5);
+        }
+        Assert.assertEquals(2, this.executor.getCoreThreads());
+        Assert.assertEquals(0, this.sizer.getResizeCount());
+        Assert.assertNull(this.sizer.getLastDecision());
+    }
+
+    @Test
+    public void testGrowsWhenLoadUnknown() {
+        // The system load average is negative on platforms that do not provide it
+        this.interval(40, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(20), -1);
+        Assert.assertEquals(3, this.executor.getCoreThreads());
+        Assert.assertTrue(this.sizer.getLastDecision(), this.sizer.getLastDecision().contains("load unknown"));
+        for (int i = 0; i < 10; ++i) {
+            this.interval(200, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(20), -1);
+        }
+        Assert.assertEquals(8, this.executor.getCoreThreads());
+    }
+
+    @Test
+    public void testSamplesOnSharedScheduler() throws Exception {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        try {
+            AdaptivePoolSizer other = new AdaptivePoolSizer(this.executor, 2, 8);
+            this.sizer.start(scheduler, 60000);
+            other.start(scheduler, 60000);
+            Assert.assertEquals(2, scheduler.getQueue().size());
+            this.sizer.stop();
+            other.stop();
+            scheduler.purge();
+            Assert.assertEquals(0, scheduler.getQueue().size());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testShrinksAfterSeveralIdleIntervals() {
+        this.sizer.setBounds(2, 8);
+        this.executor.setCoreThreads(8);
+        this.interval(0, 0, 0, 0.1);
+        this.interval(0, 0, 0, 0.1);
+        Assert.assertEquals(8, this.executor.getCoreThreads());
+        this.interval(0, 0, 0, 0.1);
+        Assert.assertEquals(6, this.executor.getCoreThreads());
+        for (int i = 0; i < 20; ++i) {
+            this.interval(0, 0, 0, 0.1);
+        }
+        // Never below core-threads
+        Assert.assertEquals(2, this.executor.getCoreThreads());
+    }
+
+    @Test
+    public void testBounds() {
+        this.sizer.setBounds(4, 6);
+        Assert.assertEquals(4, this.executor.getCoreThreads());
+        this.sizer.setBounds(1, 3);
+        Assert.assertEquals(3, this.executor.getCoreThreads());
+    }
+
+    private void interval(int tasks, long executionTime, long queueWaitTime, double load) {
+        TaskLatencyStatistics statistics = this.executor.getTaskLatencyStatistics();
+        for (int i = 0; i < tasks; ++i) {
+            statistics.getQueueWaitTime().record(queueWaitTime);
+            statistics.getExecutionTime().record(executionTime);
+        }
+        this.now += INTERVAL;
+        this.sizer.resize(this.now, load);
+    }
+}
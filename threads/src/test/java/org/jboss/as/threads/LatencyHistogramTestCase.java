@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTestCase {
+
+    @Test
+    public void testBuckets() {
+        // Bucket indexes must be contiguous and increasing, and each value must fall within its bucket
+        long[] values = { 0, 1, 31, 32, 33, 63, 64, 1000, 123456789L, Long.MAX_VALUE / 3, Long.MAX_VALUE };
+        for (long value : values) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(value <= LatencyHistogram.highestEquivalentValue(index));
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.highestEquivalentValue(index - 1));
+            }
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestEquivalentValue(LatencyHistogram.index(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+        for (int i = 1; i <= 1000; ++i) {
+            histogram.record(i);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        assertWithinPrecision(500, histogram.getPercentile(50));
+        assertWithinPrecision(900, histogram.getPercentile(90));
+        assertWithinPrecision(990, histogram.getPercentile(99));
+        assertEquals(1000, histogram.getPercentile(100));
+
+        histogram.clear();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual + " < " + expected, actual >= expected);
+        assertTrue(actual + " > " + expected, actual <= expected + expected * 2 / LatencyHistogram.SUB_BUCKET_COUNT);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TaskLatencyStatisticsTestCase {
+
+    @Test
+    public void testHistogram() {
+        TaskLatencyHistogram histogram = new TaskLatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentile(50));
+        Assert.assertEquals(0, histogram.getMax());
+
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i * 10));
+        }
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(1000, histogram.getMax());
+        Assert.assertEquals(505, histogram.getMean());
+
+        assertWithinPrecision(500, histogram.getPercentile(50));
+        assertWithinPrecision(900, histogram.getPercentile(90));
+        Assert.assertEquals(1000, histogram.getPercentile(100));
+        Assert.assertTrue(histogram.getPercentile(50) <= histogram.getPercentile(90));
+        Assert.assertTrue(histogram.getPercentile(90) <= histogram.getPercentile(99));
+    }
+
+    @Test
+    public void testHistogramExtremes() {
+        TaskLatencyHistogram histogram = new TaskLatencyHistogram();
+        histogram.record(-1);
+        histogram.record(0);
+        histogram.record(Long.MAX_VALUE);
+        Assert.assertEquals(3, histogram.getCount());
+        Assert.assertEquals(0, histogram.getPercentile(50));
+        Assert.assertEquals(TimeUnit.NANOSECONDS.toMicros(Long.MAX_VALUE), histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        TaskLatencyStatistics statistics = new TaskLatencyStatistics();
+        statistics.setSlowTaskThreshold(20);
+        Assert.assertEquals(20, statistics.getSlowTaskThreshold());
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        Runnable fast = statistics.wrap(new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        });
+        Runnable slow = statistics.wrap(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        Thread.sleep(10);
+        fast.run();
+        slow.run();
+
+        Assert.assertEquals(0, latch.getCount());
+        Assert.assertEquals(2, statistics.getQueueWaitTime().getCount());
+        Assert.assertTrue(statistics.getQueueWaitTime().getMax() >= TimeUnit.MILLISECONDS.toMicros(10));
+        Assert.assertEquals(2, statistics.getExecutionTime().getCount());
+        Assert.assertTrue(statistics.getExecutionTime().getMax() >= TimeUnit.MILLISECONDS.toMicros(50));
+        Assert.assertEquals(1, statistics.getSlowTaskCount());
+
+        statistics.setSlowTaskThreshold(0);
+        slow.run();
+        Assert.assertEquals(1, statistics.getSlowTaskCount());
+    }
+
+    @Test
+    public void testManagedExecutorService() throws Exception {
+        WorkStealingExecutor executor = new WorkStealingExecutor(2, 16, Executors.defaultThreadFactory());
+        ManagedWorkStealingExecutorService managed = new ManagedWorkStealingExecutorService(executor);
+        managed.submit(new Runnable() {
+            @Override
+            public void run() {
+            }
+        }).get(10, TimeUnit.SECONDS);
+        managed.execute(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+        managed.internalShutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(2, managed.getTaskLatencyStatistics().getExecutionTime().getCount());
+    }
+
+    @Test
+    public void testUnwrap() throws Exception {
+        TaskLatencyStatistics statistics = new TaskLatencyStatistics();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Runnable queued = new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.execute(statistics.wrap(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }));
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        executor.execute(statistics.wrap(queued));
+        // The pending tasks of the executor are the wrappers, which must not leak to the callers of shutdownNow()
+        List<Runnable> pending = statistics.unwrap(executor.shutdownNow());
+        Assert.assertEquals(Collections.singletonList(queued), pending);
+        release.countDown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        Assert.assertTrue(actual + " < " + expected, actual >= expected);
+        Assert.assertTrue(actual + " > " + expected, actual <= expected + expected * 2 / LatencyHistogram.SUB_BUCKET_COUNT);
+    }
+}
@@ -67,6 +67,8 @@ import static org.jboss.as.threads.CommonAttributes.QUEUELESS_THREAD_POOL;
 import static org.jboss.as.threads.CommonAttributes.QUEUE_LENGTH;
 import static org.jboss.as.threads.CommonAttributes.SCHEDULED_THREAD_POOL;
 import static org.jboss.as.threads.CommonAttributes.THREADS;
+import static org.jboss.as.threads.CommonAttributes.ADAPTIVE_SIZING;
+import static org.jboss.as.threads.CommonAttributes.SLOW_TASK_THRESHOLD;
 import static org.jboss.as.threads.CommonAttributes.THREAD_FACTORY;
 import static org.jboss.as.threads.CommonAttributes.THREAD_NAME_PATTERN;
 import static org.jboss.as.threads.CommonAttributes.TIME;
@@ -511,6 +513,107 @@ public class ThreadsSubsystemTestCase {
         assertEquals("test-poolB", threadFactory.require("test-poolB").require("name").asString());
     }
 
+    @Test
+    public void testSlowTaskThreshold() throws Exception {
+        List<ModelNode> updates = createSubSystem(
+                "<unbounded-queue-thread-pool name=\"unbounded\" slow-task-threshold=\"500\">" +
+                "   <max-threads count=\"10\"/>" +
+                "</unbounded-queue-thread-pool>" +
+                "<bounded-queue-thread-pool name=\"bounded\" allow-core-timeout=\"true\" slow-task-threshold=\"1000\">" +
+                "   <max-threads count=\"10\"/>" +
+                "   <queue-length count=\"10\"/>" +
+                "</bounded-queue-thread-pool>");
+
+        executeForResult(updates.get(0));
+        executeForResult(updates.get(1));
+        executeForResult(updates.get(2));
+
+        ModelNode subsystem = model.require("profile").require("test").require("subsystem").require("threads");
+        assertEquals(500L, subsystem.require("unbounded-queue-thread-pool").require("unbounded").require(SLOW_TASK_THRESHOLD).asLong());
+        assertEquals(1000L, subsystem.require("bounded-queue-thread-pool").require("bounded").require(SLOW_TASK_THRESHOLD).asLong());
+    }
+
+    @Test
+    public void testAdaptiveBoundedQueueThreadPool() throws Exception {
+        List<ModelNode> updates = createSubSystem(
+                "<bounded-queue-thread-pool name=\"test-pool\" adaptive-sizing=\"true\">" +
+                "   <core-threads count=\"2\"/>" +
+                "   <max-threads count=\"10\"/>" +
+                "   <queue-length count=\"10\"/>" +
+                "</bounded-queue-thread-pool>");
+
+        executeForResult(updates.get(0));
+        executeForResult(updates.get(1));
+
+        ModelNode subsystem = model.require("profile").require("test").require("subsystem").require("threads");
+        ModelNode threadPool = subsystem.require("bounded-queue-thread-pool").require("test-pool");
+        assertTrue(threadPool.require(ADAPTIVE_SIZING).asBoolean());
+        assertEquals(2, threadPool.require(CORE_THREADS).asInt());
+    }
+
+    @Test
+    public void testNewPoolConfigRequiresThreads12() throws Exception {
+        try {
+            createSubSystem("<unbounded-queue-thread-pool name=\"test-pool\" slow-task-threshold=\"500\"><max-threads count=\"1\"/></unbounded-queue-thread-pool>",
+                    Namespace.THREADS_1_1);
+            fail("Expected failure for slow-task-threshold in the 1.1 namespace");
+        } catch (XMLStreamException e) {
+        }
+        try {
+            createSubSystem("<bounded-queue-thread-pool name=\"test-pool\" adaptive-sizing=\"true\"><max-threads count=\"1\"/><queue-length count=\"1\"/></bounded-queue-thread-pool>",
+                    Namespace.THREADS_1_1);
+            fail("Expected failure for adaptive-sizing in the 1.1 namespace");
+        } catch (XMLStreamException e) {
+        }
+        try {
+            createSubSystem("<work-stealing-thread-pool name=\"test-pool\"><max-threads count=\"1\"/><queue-length count=\"1\"/></work-stealing-thread-pool>",
+                    Namespace.THREADS_1_1);
+            fail("Expected failure for work-stealing-thread-pool in the 1.1 namespace");
+        } catch (XMLStreamException e) {
+        }
+    }
+
+    @Test
+    public void testSimpleWorkStealingThreadPool() throws Exception {
+        List<ModelNode> updates = createSubSystem("<work-stealing-thread-pool name=\"test-pool\"><max-threads count=\"4\"/><queue-length count=\"16\"/></work-stealing-thread-pool>");
+        assertEquals(2, updates.size());
+        for (ModelNode update : updates) {
+            try {
+                executeForResult(update);
+            } catch (OperationFailedException e) {
+                throw new RuntimeException(e.getFailureDescription().toString());
+            }
+        }
+
+        ModelNode subsystem = model.require("profile").require("test").require("subsystem").require("threads");
+        ModelNode threadPool = subsystem.require("work-stealing-thread-pool");
+        assertEquals(1, threadPool.keys().size());
+        assertEquals("test-pool", threadPool.require("test-pool").require("name").asString());
+        assertEquals(4, threadPool.require("test-pool").require(MAX_THREADS).asInt());
+        assertEquals(16, threadPool.require("test-pool").require(QUEUE_LENGTH).asInt());
+    }
+
+    @Test
+    public void testFullWorkStealingThreadPool() throws Exception {
+        List<ModelNode> updates = createSubSystem(
+                "<thread-factory name=\"test-factory\"/>" +
+                "<work-stealing-thread-pool name=\"test-pool\">" +
+                "   <max-threads count=\"100\"/>" +
+                "   <queue-length count=\"1000\"/>" +
+                "   <thread-factory name=\"test-factory\"/>" +
+                "</work-stealing-thread-pool>");
+
+        executeForResult(updates.get(0));
+        executeForResult(updates.get(1));
+        executeForResult(updates.get(2));
+
+        ModelNode subsystem = model.require("profile").require("test").require("subsystem").require("threads");
+        ModelNode threadPool = subsystem.require("work-stealing-thread-pool");
+        assertEquals(1, threadPool.keys().size());
+        assertEquals(100, threadPool.require("test-pool").require(MAX_THREADS).asInt());
+        assertEquals("test-factory", threadPool.require("test-pool").require(THREAD_FACTORY).asString());
+    }
+
     @Test
     public void testSimpleScheduledThreadPool() throws Exception {
         List<ModelNode> updates = createSubSystem("<scheduled-thread-pool name=\"test-pool\"><max-threads count=\"1\"/></scheduled-thread-pool>");
@@ -0,0 +1,258 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.threads.EventListener;
+import org.jboss.threads.ExecutionTimedOutException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WorkStealingExecutorTestCase {
+
+    @Test
+    public void testExecute() throws Exception {
+        WorkStealingExecutor executor = new WorkStealingExecutor(4, 1000, Executors.defaultThreadFactory());
+        final int tasks = 1000;
+        final CountDownLatch latch = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; ++i) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    latch.countDown();
+                }
+            });
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(executor.getLargestThreadCount() <= 4);
+        Assert.assertEquals(tasks, executor.getTaskCount());
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(tasks, executor.getCompletedTaskCount());
+        Assert.assertEquals(0, executor.getCurrentThreadCount());
+    }
+
+    @Test
+    public void testStealing() throws Exception {
+        final WorkStealingExecutor executor = new WorkStealingExecutor(4, 100, Executors.defaultThreadFactory());
+        final int tasks = 100;
+        final CountDownLatch latch = new CountDownLatch(tasks);
+        final CountDownLatch release = new CountDownLatch(1);
+        // A single task forks every subtask onto its own deque, and blocks, so the other workers must steal them
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < tasks; ++i) {
+                    executor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            latch.countDown();
+                        }
+                    });
+                }
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(tasks, executor.getStealCount());
+        release.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+        WorkStealingExecutor executor = new WorkStealingExecutor(2, 16, Executors.defaultThreadFactory());
+        final AtomicInteger notified = new AtomicInteger();
+        executor.addShutdownListener(new EventListener<AtomicInteger>() {
+            @Override
+            public void handleEvent(AtomicInteger attachment) {
+                attachment.incrementAndGet();
+            }
+        }, notified);
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        List<Runnable> pending = executor.shutdownNow();
+        Assert.assertTrue(pending.isEmpty());
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(1, notified.get());
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                }
+            });
+            Assert.fail();
+        } catch (RejectedExecutionException e) {
+            Assert.assertEquals(1, executor.getRejectedCount());
+        }
+    }
+
+    @Test
+    public void testJoinWithSingleThread() throws Exception {
+        final WorkStealingExecutor executor = new WorkStealingExecutor(1, 16, Executors.defaultThreadFactory());
+        // The only worker waits for a subtask that is queued behind it, so it has to run the subtask itself
+        Future<Integer> outer = executor.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                Future<Integer> inner = executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        return 21;
+                    }
+                });
+                return inner.get() * 2;
+            }
+        });
+        Assert.assertEquals(Integer.valueOf(42), outer.get(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testBoundedQueue() throws Exception {
+        final WorkStealingExecutor executor = new WorkStealingExecutor(1, 1, Executors.defaultThreadFactory());
+        final CountDownLatch release = new CountDownLatch(1);
+        occupy(executor, release);
+        executor.execute(new NoopTask());
+        try {
+            executor.execute(new NoopTask());
+            Assert.fail();
+        } catch (RejectedExecutionException e) {
+            Assert.assertEquals(1, executor.getRejectedCount());
+        }
+        release.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(2, executor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testExecuteBlocking() throws Exception {
+        final WorkStealingExecutor executor = new WorkStealingExecutor(1, 1, Executors.defaultThreadFactory());
+        final CountDownLatch release = new CountDownLatch(1);
+        occupy(executor, release);
+        executor.execute(new NoopTask());
+        try {
+            executor.executeBlocking(new NoopTask(), 50, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (ExecutionTimedOutException e) {
+            Assert.assertEquals(1, executor.getRejectedCount());
+        }
+        // Once the worker is released the queued task drains, and a blocked submitter gets its slot
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                release.countDown();
+            }
+        }).start();
+        final CountDownLatch done = new CountDownLatch(1);
+        executor.executeBlocking(new Runnable() {
+            @Override
+            public void run() {
+                done.countDown();
+            }
+        });
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRunInlineWhenOwnQueueFull() throws Exception {
+        final WorkStealingExecutor executor = new WorkStealingExecutor(1, 1, Executors.defaultThreadFactory());
+        final AtomicBoolean ranInline = new AtomicBoolean();
+        final CountDownLatch done = new CountDownLatch(1);
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final AtomicBoolean second = new AtomicBoolean();
+                executor.execute(new NoopTask());
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        second.set(true);
+                    }
+                });
+                ranInline.set(second.get());
+                done.countDown();
+            }
+        });
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(ranInline.get());
+        Assert.assertEquals(0, executor.getRejectedCount());
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static void occupy(final WorkStealingExecutor executor, final CountDownLatch release) throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+    }
+
+    private static class NoopTask implements Runnable {
+        @Override
+        public void run() {
+        }
+    }
+}
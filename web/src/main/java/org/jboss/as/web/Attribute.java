@@ -31,11 +31,16 @@ import java.util.Map;
 enum Attribute {
     UNKNOWN(null),
 
+    ASYNC(Constants.ASYNC),
     CA_CERTIFICATE_FILE(Constants.CA_CERTIFICATE_FILE),
     CA_CERTIFICATE_PASSWORD(Constants.CA_CERTIFICATE_PASSWORD),
     CA_REVOCATION_URL(Constants.CA_REVOCATION_URL),
     CACHE_CONTAINER(Constants.CACHE_CONTAINER),
+    CACHE_MAX_ENTRY_SIZE(Constants.CACHE_MAX_ENTRY_SIZE),
+    CACHE_MAX_SIZE(Constants.CACHE_MAX_SIZE),
     CACHE_NAME(Constants.CACHE_NAME),
+    CACHE_TTL(Constants.CACHE_TTL),
+    CACHE_VALIDATION_INTERVAL(Constants.CACHE_VALIDATION_INTERVAL),
     CERTIFICATE_FILE(Constants.CERTIFICATE_FILE),
     CERTIFICATE_KEY_FILE(Constants.CERTIFICATE_KEY_FILE),
     CHECK_INTERVAL(Constants.CHECK_INTERVAL),
@@ -77,6 +82,7 @@ enum Attribute {
     PROTOCOL(Constants.PROTOCOL),
     PROXY_NAME(Constants.PROXY_NAME),
     PROXY_PORT(Constants.PROXY_PORT),
+    QUEUE_LENGTH(Constants.QUEUE_LENGTH),
     READ_ONLY(Constants.READ_ONLY),
     REAUTHENTICATE(Constants.REAUTHENTICATE),
     REDIRECT_PORT(Constants.REDIRECT_PORT),
@@ -29,11 +29,16 @@ public interface Constants {
 
     String ACCESS_LOG = "access-log";
     String ALIAS = "alias";
+    String ASYNC = "async";
     String CA_CERTIFICATE_FILE = "ca-certificate-file";
     String CA_CERTIFICATE_PASSWORD = "ca-certificate-password";
     String CA_REVOCATION_URL = "ca-revocation-url";
     String CACHE_CONTAINER = "cache-container";
+    String CACHE_MAX_ENTRY_SIZE = "cache-max-entry-size";
+    String CACHE_MAX_SIZE = "cache-max-size";
     String CACHE_NAME = "cache-name";
+    String CACHE_TTL = "cache-ttl";
+    String CACHE_VALIDATION_INTERVAL = "cache-validation-interval";
     String CERTIFICATE_FILE = "certificate-file";
     String CERTIFICATE_KEY_FILE = "certificate-key-file";
     String CHECK_INTERVAL = "check-interval";
@@ -82,6 +87,7 @@ public interface Constants {
     String PROTOCOL = "protocol";
     String PROXY_NAME = "proxy-name";
     String PROXY_PORT = "proxy-port";
+    String QUEUE_LENGTH = "queue-length";
     String REAUTHENTICATE = "reauthenticate";
     String READ_ONLY = "read-only";
     String RECOMPILE_ON_FAIL = "recompile-on-fail";
@@ -127,6 +133,20 @@ public interface Constants {
     String MAX_TIME = "maxTime";
     String REQUEST_COUNT = "requestCount";
 
+    /* Access log stats attributes */
+    String QUEUED_ENTRIES = "queued-entries";
+    String DROPPED_ENTRIES = "dropped-entries";
+    String WRITTEN_ENTRIES = "written-entries";
+
+    /* Static resource cache stats attributes */
+    String CACHE_HITS = "cache-hits";
+    String CACHE_MISSES = "cache-misses";
+    String CACHE_HIT_RATIO = "cache-hit-ratio";
+    String CACHE_MEMORY_USED = "cache-memory-used";
+
+    /* Rewrite stats attributes */
+    String MATCH_COUNT = "match-count";
+
     String LOAD_TIME ="load-time";
     String MIN_TIME = "min-time";
 
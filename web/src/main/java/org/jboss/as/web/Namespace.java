@@ -33,12 +33,13 @@ enum Namespace {
     UNKNOWN(null),
 
     WEB_1_0("urn:jboss:domain:web:1.0"),
-    WEB_1_1("urn:jboss:domain:web:1.1");
+    WEB_1_1("urn:jboss:domain:web:1.1"),
+    WEB_1_2("urn:jboss:domain:web:1.2");
 
     /**
      * The current namespace version.
      */
-    public static final Namespace CURRENT = WEB_1_1;
+    public static final Namespace CURRENT = WEB_1_2;
 
     private final String name;
 
@@ -21,6 +21,7 @@
  */
 package org.jboss.as.web;
 
+import org.jboss.as.web.resources.CachingDefaultServlet;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
 import org.jboss.metadata.javaee.spec.ParamValueMetaData;
@@ -120,8 +121,11 @@ class SharedWebMetaDataBuilder {
         final ServletMetaData servlet = new ServletMetaData();
         servlet.setName("default");
         servlet.setLoadOnStartup("" + 1);
+        final boolean cached = resourcesConfig.get(CACHE_MAX_SIZE).asInt(0) > 0;
         if (resourcesConfig.require(WEBDAV).asBoolean()) {
             servlet.setServletClass("org.apache.catalina.servlets.WebdavServlet");
+        } else if (cached) {
+            servlet.setServletClass(CachingDefaultServlet.class.getName());
         } else {
             servlet.setServletClass("org.apache.catalina.servlets.DefaultServlet");
         }
@@ -138,6 +142,12 @@ class SharedWebMetaDataBuilder {
             initParams.add(createParameter("secret", resourcesConfig.get(SECRET).asString()));
         }
         initParams.add(createParameter("max-depth", resourcesConfig.require(MAX_DEPTH).asString()));
+        if (cached) {
+            initParams.add(createParameter(CachingDefaultServlet.CACHE_MAX_SIZE, resourcesConfig.require(CACHE_MAX_SIZE).asString()));
+            initParams.add(createParameter(CachingDefaultServlet.CACHE_MAX_ENTRY_SIZE, resourcesConfig.require(CACHE_MAX_ENTRY_SIZE).asString()));
+            initParams.add(createParameter(CachingDefaultServlet.CACHE_TTL, resourcesConfig.require(CACHE_TTL).asString()));
+            initParams.add(createParameter(CachingDefaultServlet.CACHE_VALIDATION_INTERVAL, resourcesConfig.require(CACHE_VALIDATION_INTERVAL).asString()));
+        }
 
         servlet.setInitParam(initParams);
         metadata.getServlets().add(servlet);
@@ -54,5 +54,6 @@ class WebAccessLogAdd extends AbstractAddStepHandler {
         for (SimpleAttributeDefinition def : ACCESS_LOG_ATTRIBUTES) {
             def.validateAndSet(operation, model);
         }
+        WebAccessLogDefinition.validate(model);
     }
 }
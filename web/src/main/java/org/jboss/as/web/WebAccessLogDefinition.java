@@ -1,10 +1,17 @@
 package org.jboss.as.web;
 
+import static org.jboss.as.web.WebMessages.MESSAGES;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.alias.AbstractAliasedResourceDefinition;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -54,13 +61,31 @@ public class WebAccessLogDefinition extends AbstractAliasedResourceDefinition {
                     .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
                     .setDefaultValue(new ModelNode(true))
                     .build();
+
+    protected static final SimpleAttributeDefinition ASYNC =
+            new SimpleAttributeDefinitionBuilder(Constants.ASYNC, ModelType.BOOLEAN, true)
+                    .setXmlName(Constants.ASYNC)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setDefaultValue(new ModelNode(false))
+                    .build();
+
+    protected static final SimpleAttributeDefinition QUEUE_LENGTH =
+            new SimpleAttributeDefinitionBuilder(Constants.QUEUE_LENGTH, ModelType.INT, true)
+                    .setXmlName(Constants.QUEUE_LENGTH)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setDefaultValue(new ModelNode(8192))
+                    .setValidator(new IntRangeValidator(1, true))
+                    .build();
+
     protected static final SimpleAttributeDefinition[] ACCESS_LOG_ATTRIBUTES = {
             // IMPORTANT -- keep these in xsd order as this order controls marshalling
             PATTERN,
             RESOLVE_HOSTS,
             EXTENDED,
             PREFIX,
-            ROTATE
+            ROTATE,
+            ASYNC,
+            QUEUE_LENGTH
     };
 
 
@@ -74,7 +99,10 @@ public class WebAccessLogDefinition extends AbstractAliasedResourceDefinition {
     @Override
     public void registerAttributes(ManagementResourceRegistration accesslog) {
         for (SimpleAttributeDefinition def : ACCESS_LOG_ATTRIBUTES) {
-            accesslog.registerReadWriteAttribute(def, null, new ReloadRequiredWriteAttributeHandler(def));
+            accesslog.registerReadWriteAttribute(def, null, new WriteAttributeHandler(def));
+        }
+        for (SimpleAttributeDefinition def : WebAccessLogMetrics.ATTRIBUTES) {
+            accesslog.registerMetric(def, WebAccessLogMetrics.INSTANCE);
         }
     }
 
@@ -84,4 +112,34 @@ public class WebAccessLogDefinition extends AbstractAliasedResourceDefinition {
             resourceRegistration.registerReadWriteAttribute(def, aliasHandler, aliasHandler);
         }
     }
+
+    /**
+     * The asynchronous access log only supports the standard pattern codes.
+     */
+    static void validate(ModelNode model) throws OperationFailedException {
+        if (model.hasDefined(Constants.ASYNC) && model.get(Constants.ASYNC).asBoolean()
+                && model.hasDefined(Constants.EXTENDED) && model.get(Constants.EXTENDED).asBoolean()) {
+            throw new OperationFailedException(new ModelNode().set(MESSAGES.asyncExtendedAccessLogNotSupported()));
+        }
+    }
+
+    static class WriteAttributeHandler extends ReloadRequiredWriteAttributeHandler {
+
+        WriteAttributeHandler(SimpleAttributeDefinition definition) {
+            super(definition);
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            // Validate the resulting model, once the attribute was written
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    validate(context.readResource(PathAddress.EMPTY_ADDRESS).getModel());
+                    context.completeStep();
+                }
+            }, OperationContext.Stage.MODEL);
+            super.execute(context, operation);
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.web.WebMessages.MESSAGES;
+
+import org.apache.catalina.Valve;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.web.accesslog.AsyncAccessLogValve;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Runtime metrics of an asynchronous access log.
+ */
+class WebAccessLogMetrics implements OperationStepHandler {
+
+    static WebAccessLogMetrics INSTANCE = new WebAccessLogMetrics();
+
+    protected static final SimpleAttributeDefinition QUEUED_ENTRIES =
+            new SimpleAttributeDefinitionBuilder(Constants.QUEUED_ENTRIES, ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    protected static final SimpleAttributeDefinition DROPPED_ENTRIES =
+            new SimpleAttributeDefinitionBuilder(Constants.DROPPED_ENTRIES, ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    protected static final SimpleAttributeDefinition WRITTEN_ENTRIES =
+            new SimpleAttributeDefinitionBuilder(Constants.WRITTEN_ENTRIES, ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    static final SimpleAttributeDefinition[] ATTRIBUTES = {
+            QUEUED_ENTRIES,
+            DROPPED_ENTRIES,
+            WRITTEN_ENTRIES
+    };
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (context.isNormalServer()) {
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+                    final String host = address.getElement(address.size() - 2).getValue();
+                    final String attributeName = operation.require(NAME).asString();
+
+                    final ServiceController<?> controller = context.getServiceRegistry(false)
+                            .getService(WebSubsystemServices.JBOSS_WEB_HOST.append(host));
+                    final AsyncAccessLogValve log = (controller != null) ? findAccessLog((VirtualHost) controller.getValue()) : null;
+                    if (log != null) {
+                        final ModelNode result = context.getResult();
+                        if (Constants.QUEUED_ENTRIES.equals(attributeName)) {
+                            result.set(log.getQueuedEntries());
+                        } else if (Constants.DROPPED_ENTRIES.equals(attributeName)) {
+                            result.set(log.getDroppedEntries());
+                        } else if (Constants.WRITTEN_ENTRIES.equals(attributeName)) {
+                            result.set(log.getWrittenEntries());
+                        }
+                    } else {
+                        context.getResult().set(MESSAGES.noMetricsAvailable());
+                    }
+                    context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+                }
+            }, OperationContext.Stage.RUNTIME);
+        } else {
+            context.getResult().set(MESSAGES.noMetricsAvailable());
+        }
+        context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+    }
+
+    private static AsyncAccessLogValve findAccessLog(VirtualHost host) {
+        for (Valve valve : host.getHost().getPipeline().getValves()) {
+            if (valve instanceof AsyncAccessLogValve) {
+                return (AsyncAccessLogValve) valve;
+            }
+        }
+        return null;
+    }
+}
@@ -163,4 +163,12 @@ public interface WebLogger extends BasicLogger {
     @Message(id = 18223, value = "Snapshot mode set to 'interval' but snapshotInterval is < 1 or was not specified, using 'instant'")
     void invalidSnapshotInterval();
 
+    @LogMessage(level = ERROR)
+    @Message(id = 18224, value = "Failed to open access log file %s")
+    void accessLogOpenFailed(String file, @Cause Throwable cause);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 18225, value = "Failed to write access log entries")
+    void accessLogWriteFailed(@Cause Throwable cause);
+
 }
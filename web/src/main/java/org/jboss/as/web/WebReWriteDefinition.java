@@ -51,5 +51,8 @@ public class WebReWriteDefinition extends SimpleResourceDefinition {
         rewrite.registerReadWriteAttribute(PATTERN, null, new ReloadRequiredWriteAttributeHandler(PATTERN));
         rewrite.registerReadWriteAttribute(SUBSTITUTION, null, new ReloadRequiredWriteAttributeHandler(SUBSTITUTION));
         rewrite.registerReadWriteAttribute(FLAGS, null, new ReloadRequiredWriteAttributeHandler(FLAGS));
+        for (final SimpleAttributeDefinition def : WebReWriteMetrics.ATTRIBUTES) {
+            rewrite.registerMetric(def, WebReWriteMetrics.INSTANCE);
+        }
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.web.WebMessages.MESSAGES;
+
+import org.apache.catalina.Valve;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.web.rewrite.CompiledRewriteRules;
+import org.jboss.as.web.rewrite.CompiledRewriteValve;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Runtime metrics of the compiled rewrite rules of a virtual server.
+ */
+class WebReWriteMetrics implements OperationStepHandler {
+
+    static WebReWriteMetrics INSTANCE = new WebReWriteMetrics();
+
+    protected static final SimpleAttributeDefinition CACHE_HITS =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_HITS, ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    protected static final SimpleAttributeDefinition CACHE_MISSES =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_MISSES, ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    protected static final SimpleAttributeDefinition MATCH_COUNT =
+            new SimpleAttributeDefinitionBuilder(Constants.MATCH_COUNT, ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    static final SimpleAttributeDefinition[] ATTRIBUTES = {
+            CACHE_HITS,
+            CACHE_MISSES,
+            MATCH_COUNT
+    };
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (context.isNormalServer()) {
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+                    final String host = address.getElement(address.size() - 2).getValue();
+                    final String rule = address.getLastElement().getValue();
+                    final String attributeName = operation.require(NAME).asString();
+
+                    final ServiceController<?> controller = context.getServiceRegistry(false)
+                            .getService(WebSubsystemServices.JBOSS_WEB_HOST.append(host));
+                    final CompiledRewriteRules rules = (controller != null) ? findRules((VirtualHost) controller.getValue()) : null;
+                    final long matches = (rules != null) ? rules.getMatches(rule) : -1;
+                    if ((rules == null) || (Constants.MATCH_COUNT.equals(attributeName) && (matches < 0))) {
+                        context.getResult().set(MESSAGES.noMetricsAvailable());
+                    } else {
+                        final ModelNode result = context.getResult();
+                        if (Constants.CACHE_HITS.equals(attributeName)) {
+                            result.set(rules.getCacheHits());
+                        } else if (Constants.CACHE_MISSES.equals(attributeName)) {
+                            result.set(rules.getCacheMisses());
+                        } else if (Constants.MATCH_COUNT.equals(attributeName)) {
+                            result.set(matches);
+                        }
+                    }
+                    context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+                }
+            }, OperationContext.Stage.RUNTIME);
+        } else {
+            context.getResult().set(MESSAGES.noMetricsAvailable());
+        }
+        context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+    }
+
+    private static CompiledRewriteRules findRules(VirtualHost host) {
+        for (Valve valve : host.getHost().getPipeline().getValves()) {
+            if (valve instanceof CompiledRewriteValve) {
+                return ((CompiledRewriteValve) valve).getRules();
+            }
+        }
+        return null;
+    }
+}
@@ -6,6 +6,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.ModelTypeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
@@ -77,6 +78,35 @@ public class WebStaticResources extends SimpleResourceDefinition {
                     .setValidator(new ModelTypeValidator(ModelType.BOOLEAN))
                     .setDefaultValue(new ModelNode(false))
                     .build();
+
+    protected static final SimpleAttributeDefinition CACHE_MAX_SIZE =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_MAX_SIZE, ModelType.INT, true)
+                    .setXmlName(Constants.CACHE_MAX_SIZE)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setValidator(new IntRangeValidator(0, true))
+                    .setDefaultValue(new ModelNode(0))
+                    .build();
+    protected static final SimpleAttributeDefinition CACHE_MAX_ENTRY_SIZE =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_MAX_ENTRY_SIZE, ModelType.INT, true)
+                    .setXmlName(Constants.CACHE_MAX_ENTRY_SIZE)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setValidator(new IntRangeValidator(1, true))
+                    .setDefaultValue(new ModelNode(512))
+                    .build();
+    protected static final SimpleAttributeDefinition CACHE_TTL =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_TTL, ModelType.LONG, true)
+                    .setXmlName(Constants.CACHE_TTL)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setValidator(new LongRangeValidator(0, true))
+                    .setDefaultValue(new ModelNode(0L))
+                    .build();
+    protected static final SimpleAttributeDefinition CACHE_VALIDATION_INTERVAL =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_VALIDATION_INTERVAL, ModelType.LONG, true)
+                    .setXmlName(Constants.CACHE_VALIDATION_INTERVAL)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setValidator(new LongRangeValidator(0, true))
+                    .setDefaultValue(new ModelNode(5000L))
+                    .build();
     protected static final SimpleAttributeDefinition[] STATIC_ATTRIBUTES = {
             // IMPORTANT -- keep these in xsd order as this order controls marshalling
             LISTINGS,
@@ -86,7 +116,11 @@ public class WebStaticResources extends SimpleResourceDefinition {
             WEBDAV,
             SECRET,
             MAX_DEPTH,
-            DISABLED
+            DISABLED,
+            CACHE_MAX_SIZE,
+            CACHE_MAX_ENTRY_SIZE,
+            CACHE_TTL,
+            CACHE_VALIDATION_INTERVAL
     };
 
     private WebStaticResources() {
@@ -101,6 +135,9 @@ public class WebStaticResources extends SimpleResourceDefinition {
         for (SimpleAttributeDefinition def : STATIC_ATTRIBUTES) {
             resources.registerReadWriteAttribute(def, null, new ReloadRequiredWriteAttributeHandler(def));
         }
+        for (SimpleAttributeDefinition def : WebStaticResourcesMetrics.ATTRIBUTES) {
+            resources.registerMetric(def, WebStaticResourcesMetrics.INSTANCE);
+        }
 
     }
 }
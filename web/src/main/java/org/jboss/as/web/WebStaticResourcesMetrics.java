@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.web.WebMessages.MESSAGES;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.web.resources.StaticContentCache;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Runtime metrics of the static content caches of all deployed web applications.
+ */
+class WebStaticResourcesMetrics implements OperationStepHandler {
+
+    static WebStaticResourcesMetrics INSTANCE = new WebStaticResourcesMetrics();
+
+    protected static final SimpleAttributeDefinition CACHE_HITS =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_HITS, ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    protected static final SimpleAttributeDefinition CACHE_MISSES =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_MISSES, ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    protected static final SimpleAttributeDefinition CACHE_HIT_RATIO =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_HIT_RATIO, ModelType.DOUBLE, true)
+                    .setStorageRuntime()
+                    .build();
+
+    protected static final SimpleAttributeDefinition CACHE_MEMORY_USED =
+            new SimpleAttributeDefinitionBuilder(Constants.CACHE_MEMORY_USED, ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    static final SimpleAttributeDefinition[] ATTRIBUTES = {
+            CACHE_HITS,
+            CACHE_MISSES,
+            CACHE_HIT_RATIO,
+            CACHE_MEMORY_USED
+    };
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (context.isNormalServer()) {
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final String attributeName = operation.require(NAME).asString();
+
+                    long hits = 0;
+                    long misses = 0;
+                    long memory = 0;
+                    for (StaticContentCache cache : StaticContentCache.getCaches()) {
+                        hits += cache.getHits();
+                        misses += cache.getMisses();
+                        memory += cache.getMemoryUsed();
+                    }
+                    final ModelNode result = context.getResult();
+                    if (Constants.CACHE_HITS.equals(attributeName)) {
+                        result.set(hits);
+                    } else if (Constants.CACHE_MISSES.equals(attributeName)) {
+                        result.set(misses);
+                    } else if (Constants.CACHE_HIT_RATIO.equals(attributeName)) {
+                        result.set((hits + misses > 0) ? (double) hits / (hits + misses) : 0d);
+                    } else if (Constants.CACHE_MEMORY_USED.equals(attributeName)) {
+                        result.set(memory);
+                    }
+                    context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+                }
+            }, OperationContext.Stage.RUNTIME);
+        } else {
+            context.getResult().set(MESSAGES.noMetricsAvailable());
+        }
+        context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+    }
+}
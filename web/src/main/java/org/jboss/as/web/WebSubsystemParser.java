@@ -313,7 +313,8 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             switch (Namespace.forUri(reader.getNamespaceURI())) {
                 case WEB_1_0:
-                case WEB_1_1: {
+                case WEB_1_1:
+                case WEB_1_2: {
                     final Element element = Element.forName(reader.getLocalName());
                     switch (element) {
                         case CONTAINER_CONFIG: {
@@ -504,6 +505,22 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
                 case DISABLED:
                     WebStaticResources.DISABLED.parseAndSetParameter(value, resources, reader);
                     break;
+                case CACHE_MAX_SIZE:
+                    requireNamespace(reader, i, Namespace.WEB_1_2);
+                    WebStaticResources.CACHE_MAX_SIZE.parseAndSetParameter(value, resources, reader);
+                    break;
+                case CACHE_MAX_ENTRY_SIZE:
+                    requireNamespace(reader, i, Namespace.WEB_1_2);
+                    WebStaticResources.CACHE_MAX_ENTRY_SIZE.parseAndSetParameter(value, resources, reader);
+                    break;
+                case CACHE_TTL:
+                    requireNamespace(reader, i, Namespace.WEB_1_2);
+                    WebStaticResources.CACHE_TTL.parseAndSetParameter(value, resources, reader);
+                    break;
+                case CACHE_VALIDATION_INTERVAL:
+                    requireNamespace(reader, i, Namespace.WEB_1_2);
+                    WebStaticResources.CACHE_VALIDATION_INTERVAL.parseAndSetParameter(value, resources, reader);
+                    break;
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -563,7 +580,8 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
                     }
                     break;
                 }
-                case WEB_1_1: {
+                case WEB_1_1:
+                case WEB_1_2: {
                     final Element element = Element.forName(reader.getLocalName());
                     switch (element) {
                         case ALIAS:
@@ -645,7 +663,8 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             switch (Namespace.forUri(reader.getNamespaceURI())) {
                 case WEB_1_0:
-                case WEB_1_1: {
+                case WEB_1_1:
+                case WEB_1_2: {
                     final Element element = Element.forName(reader.getLocalName());
                     switch (element) {
                         case CONDITION:
@@ -717,6 +736,14 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
                 case ROTATE:
                     log.get(ROTATE).set(value);
                     break;
+                case ASYNC:
+                    requireNamespace(reader, i, Namespace.WEB_1_2);
+                    log.get(ASYNC).set(value);
+                    break;
+                case QUEUE_LENGTH:
+                    requireNamespace(reader, i, Namespace.WEB_1_2);
+                    log.get(QUEUE_LENGTH).set(value);
+                    break;
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -725,7 +752,8 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             switch (Namespace.forUri(reader.getNamespaceURI())) {
                 case WEB_1_0:
-                case WEB_1_1: {
+                case WEB_1_1:
+                case WEB_1_2: {
                     final Element element = Element.forName(reader.getLocalName());
                     switch (element) {
                         case DIRECTORY:
@@ -831,7 +859,8 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             switch (Namespace.forUri(reader.getNamespaceURI())) {
                 case WEB_1_0:
-                case WEB_1_1: {
+                case WEB_1_1:
+                case WEB_1_2: {
                     final Element element = Element.forName(reader.getLocalName());
                     switch (element) {
                         case SSL:
@@ -920,6 +949,13 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         list.add(ssl);
     }
 
+    // Rejects an attribute that was introduced by a later version of the schema than the one of the current element
+    private static void requireNamespace(XMLExtendedStreamReader reader, int index, Namespace since) throws XMLStreamException {
+        if (Namespace.forUri(reader.getNamespaceURI()).compareTo(since) < 0) {
+            throw unexpectedAttribute(reader, index);
+        }
+    }
+
     //todo,  attribute.marshallAsAttribute should return boolean
     private boolean writeAttribute(XMLExtendedStreamWriter writer, SimpleAttributeDefinition attribute, ModelNode node, boolean startWriten, String origin) throws XMLStreamException {
 
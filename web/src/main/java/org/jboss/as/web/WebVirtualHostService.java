@@ -22,6 +22,9 @@
 
 package org.jboss.as.web;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.catalina.Container;
 import org.apache.catalina.Valve;
 import org.apache.catalina.authenticator.SingleSignOn;
@@ -29,8 +32,12 @@ import org.apache.catalina.core.StandardHost;
 import org.apache.catalina.valves.AccessLogValve;
 import org.apache.catalina.valves.ExtendedAccessLogValve;
 import org.jboss.as.clustering.web.sso.SSOClusterManager;
+import org.jboss.as.web.accesslog.AsyncAccessLogValve;
+import org.jboss.as.web.rewrite.CompiledRewriteRules;
+import org.jboss.as.web.rewrite.CompiledRewriteValve;
 import org.jboss.as.web.sso.ClusteredSingleSignOn;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -78,7 +85,15 @@ public class WebVirtualHostService implements Service<VirtualHost> {
             host.addValve(createAccessLogValve(host, accessLogPathInjector.getValue(), accessLog));
         }
         if(rewrite != null) {
-            host.addValve(createRewriteValve(host, rewrite));
+            final List<ModelNode> rules = rewrite.asList();
+            final CompiledRewriteRules compiled = createCompiledRewriteRules(rules);
+            if (compiled != null) {
+                host.addValve(new CompiledRewriteValve(compiled));
+            }
+            final int compiledRules = (compiled != null) ? compiled.size() : 0;
+            if (compiledRules < rules.size()) {
+                host.addValve(createRewriteValve(host, rules.subList(compiledRules, rules.size())));
+            }
         }
         if(sso != null) {
             host.addValve(createSsoValve(host, sso));
@@ -150,6 +165,9 @@ public class WebVirtualHostService implements Service<VirtualHost> {
     }
 
     static Valve createAccessLogValve(final Container container, final String logDirectory, final ModelNode element) {
+        if (element.hasDefined(Constants.ASYNC) && element.get(Constants.ASYNC).asBoolean()) {
+            return createAsyncAccessLogValve(logDirectory, element);
+        }
         boolean extended = false;
         if (element.hasDefined(Constants.EXTENDED)) {
             extended = element.get(Constants.EXTENDED).asBoolean();
@@ -172,11 +190,42 @@ public class WebVirtualHostService implements Service<VirtualHost> {
         return log;
     }
 
-    static Valve createRewriteValve(final Container container, final ModelNode element) throws StartException {
+    static Valve createAsyncAccessLogValve(final String logDirectory, final ModelNode element) {
+        final AsyncAccessLogValve log = new AsyncAccessLogValve();
+        log.setDirectory(logDirectory);
+        if (element.hasDefined(Constants.RESOLVE_HOSTS)) log.setResolveHosts(element.get(Constants.RESOLVE_HOSTS).asBoolean());
+        if (element.hasDefined(Constants.ROTATE)) log.setRotatable(element.get(Constants.ROTATE).asBoolean());
+        if (element.hasDefined(Constants.PATTERN)) log.setPattern(element.get(Constants.PATTERN).asString());
+        if (element.hasDefined(Constants.PREFIX)) log.setPrefix(element.get(Constants.PREFIX).asString());
+        if (element.hasDefined(Constants.QUEUE_LENGTH)) log.setQueueLength(element.get(Constants.QUEUE_LENGTH).asInt());
+        return log;
+    }
+
+    /**
+     * Compiles the leading rules that {@link CompiledRewriteRules} supports.
+     * Evaluation stops at the first compiled rule that matches, so the remaining rules can be safely left to a
+     * subsequent {@link RewriteValve}.
+     */
+    static CompiledRewriteRules createCompiledRewriteRules(final List<ModelNode> elements) {
+        final List<CompiledRewriteRules.Rule> rules = new ArrayList<CompiledRewriteRules.Rule>();
+        for (final ModelNode rewriteElement : elements) {
+            final Property property = rewriteElement.asProperty();
+            final ModelNode rewrite = property.getValue();
+            if (rewrite.hasDefined(Constants.CONDITION)) break;
+            final String flags = rewrite.hasDefined(Constants.FLAGS) ? rewrite.get(Constants.FLAGS).asString() : null;
+            final CompiledRewriteRules.Rule rule = CompiledRewriteRules.Rule.create(property.getName(),
+                    rewrite.get(Constants.PATTERN).asString(), rewrite.get(Constants.SUBSTITUTION).asString(), flags);
+            if (rule == null) break;
+            rules.add(rule);
+        }
+        return rules.isEmpty() ? null : new CompiledRewriteRules(rules);
+    }
+
+    static Valve createRewriteValve(final Container container, final List<ModelNode> elements) throws StartException {
         final RewriteValve rewriteValve = new RewriteValve();
         rewriteValve.setContainer(container);
         StringBuffer configuration = new StringBuffer();
-        for (final ModelNode rewriteElement : element.asList()) {
+        for (final ModelNode rewriteElement : elements) {
             final ModelNode rewrite = rewriteElement.asProperty().getValue();
             if (rewrite.has(Constants.CONDITION)) {
                 for (final ModelNode conditionElement : rewrite.get(Constants.CONDITION).asList()) {
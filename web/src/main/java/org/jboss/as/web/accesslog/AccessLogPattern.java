@@ -0,0 +1,371 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.accesslog;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+/**
+ * Access log pattern, parsed once into a sequence of elements that append directly to a caller supplied buffer.
+ * Supports the same pattern codes as the standard JBossWeb access log valve, including the "common" and "combined"
+ * aliases.
+ */
+public class AccessLogPattern {
+
+    public static final String COMMON = "common";
+    public static final String COMBINED = "combined";
+
+    private static final String COMMON_PATTERN = "%h %l %u %t \"%r\" %s %b";
+    private static final String COMBINED_PATTERN = COMMON_PATTERN + " \"%{Referer}i\" \"%{User-Agent}i\"";
+
+    private final Element[] elements;
+
+    private AccessLogPattern(List<Element> elements) {
+        this.elements = elements.toArray(new Element[elements.size()]);
+    }
+
+    /**
+     * Compiles the specified pattern.
+     * @param pattern a pattern, or one of the {@link #COMMON} or {@link #COMBINED} aliases
+     * @param resolveHosts indicates whether %h should resolve the remote host name
+     * @return a compiled pattern
+     */
+    public static AccessLogPattern compile(String pattern, boolean resolveHosts) {
+        String value = pattern.trim();
+        if (value.equals(COMMON)) {
+            value = COMMON_PATTERN;
+        } else if (value.equals(COMBINED)) {
+            value = COMBINED_PATTERN;
+        }
+        List<Element> elements = new ArrayList<Element>();
+        StringBuilder literal = new StringBuilder();
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i++);
+            if ((c != '%') || (i == length)) {
+                literal.append(c);
+                continue;
+            }
+            char code = value.charAt(i++);
+            if (code == '{') {
+                int end = value.indexOf('}', i);
+                if ((end < 0) || (end + 1 == length)) {
+                    literal.append('%').append(value, i - 1, length);
+                    break;
+                }
+                String name = value.substring(i, end);
+                i = end + 1;
+                Element element = createElement(name, value.charAt(i++));
+                if (element == null) {
+                    literal.append('%').append('{').append(name).append('}').append(value.charAt(i - 1));
+                } else {
+                    flush(literal, elements);
+                    elements.add(element);
+                }
+            } else {
+                Element element = createElement(code, resolveHosts);
+                if (element == null) {
+                    literal.append('%').append(code);
+                } else {
+                    flush(literal, elements);
+                    elements.add(element);
+                }
+            }
+        }
+        flush(literal, elements);
+        return new AccessLogPattern(elements);
+    }
+
+    /**
+     * Appends an entry for the specified request to the specified buffer.
+     * @param builder the target buffer
+     * @param request the request
+     * @param response the response
+     * @param time the time at which the request completed, in milliseconds
+     * @param elapsed the request processing time, in milliseconds
+     * @param bytes the number of bytes sent in the response body
+     */
+    public void format(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+        for (Element element: this.elements) {
+            element.append(builder, request, response, time, elapsed, bytes);
+        }
+    }
+
+    private static void flush(StringBuilder literal, List<Element> elements) {
+        if (literal.length() > 0) {
+            elements.add(new LiteralElement(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    private static Element createElement(char code, final boolean resolveHosts) {
+        switch (code) {
+            case 'a': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    appendValue(builder, request.getRemoteAddr());
+                }
+            };
+            case 'A': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    appendValue(builder, request.getLocalAddr());
+                }
+            };
+            case 'b': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    if (bytes <= 0) {
+                        builder.append('-');
+                    } else {
+                        builder.append(bytes);
+                    }
+                }
+            };
+            case 'B': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    builder.append(Math.max(bytes, 0));
+                }
+            };
+            case 'h': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    appendValue(builder, resolveHosts ? request.getRemoteHost() : request.getRemoteAddr());
+                }
+            };
+            case 'H': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    appendValue(builder, request.getProtocol());
+                }
+            };
+            case 'l': return new LiteralElement("-");
+            case 'm': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    appendValue(builder, request.getMethod());
+                }
+            };
+            case 'p': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    builder.append(request.getServerPort());
+                }
+            };
+            case 'q': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    String query = request.getQueryString();
+                    if (query != null) {
+                        builder.append('?').append(query);
+                    }
+                }
+            };
+            case 'r': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    builder.append(request.getMethod()).append(' ').append(request.getRequestURI());
+                    String query = request.getQueryString();
+                    if (query != null) {
+                        builder.append('?').append(query);
+                    }
+                    builder.append(' ').append(request.getProtocol());
+                }
+            };
+            case 's': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    builder.append(response.getStatus());
+                }
+            };
+            case 'S': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    HttpSession session = request.getSession(false);
+                    appendValue(builder, (session != null) ? session.getId() : null);
+                }
+            };
+            case 't': return new DateElement();
+            case 'u': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    appendValue(builder, request.getRemoteUser());
+                }
+            };
+            case 'U': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    appendValue(builder, request.getRequestURI());
+                }
+            };
+            case 'v': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    appendValue(builder, request.getServerName());
+                }
+            };
+            case 'D': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    builder.append(elapsed);
+                }
+            };
+            case 'T': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    long millis = elapsed % 1000;
+                    builder.append(elapsed / 1000).append('.');
+                    if (millis < 100) builder.append('0');
+                    if (millis < 10) builder.append('0');
+                    builder.append(millis);
+                }
+            };
+            case 'I': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    builder.append(Thread.currentThread().getName());
+                }
+            };
+            default: return null;
+        }
+    }
+
+    private static Element createElement(final String name, char code) {
+        switch (code) {
+            case 'i': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    appendValue(builder, request.getHeader(name));
+                }
+            };
+            case 'o': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    appendValue(builder, response.getHeader(name));
+                }
+            };
+            case 'c': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    String value = null;
+                    Cookie[] cookies = request.getCookies();
+                    if (cookies != null) {
+                        for (Cookie cookie: cookies) {
+                            if (name.equals(cookie.getName())) {
+                                value = cookie.getValue();
+                                break;
+                            }
+                        }
+                    }
+                    appendValue(builder, value);
+                }
+            };
+            case 'r': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    Object value = request.getAttribute(name);
+                    appendValue(builder, (value != null) ? value.toString() : null);
+                }
+            };
+            case 's': return new Element() {
+                @Override
+                public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+                    HttpSession session = request.getSession(false);
+                    Object value = (session != null) ? session.getAttribute(name) : null;
+                    appendValue(builder, (value != null) ? value.toString() : null);
+                }
+            };
+            default: return null;
+        }
+    }
+
+    static void appendValue(StringBuilder builder, String value) {
+        if ((value == null) || value.isEmpty()) {
+            builder.append('-');
+        } else {
+            builder.append(value);
+        }
+    }
+
+    interface Element {
+        void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes);
+    }
+
+    static class LiteralElement implements Element {
+        private final String value;
+
+        LiteralElement(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+            builder.append(this.value);
+        }
+    }
+
+    /**
+     * Formats the request time in common log format.
+     * The formatted value is cached per thread and only recomputed when the second changes.
+     */
+    static class DateElement implements Element {
+        private static final ThreadLocal<DateCache> CACHE = new ThreadLocal<DateCache>() {
+            @Override
+            protected DateCache initialValue() {
+                return new DateCache();
+            }
+        };
+
+        @Override
+        public void append(StringBuilder builder, HttpServletRequest request, HttpServletResponse response, long time, long elapsed, long bytes) {
+            builder.append(CACHE.get().format(time));
+        }
+    }
+
+    static class DateCache {
+        private final SimpleDateFormat format = new SimpleDateFormat("'['dd/MMM/yyyy:HH:mm:ss Z']'", Locale.US);
+        private final Date date = new Date();
+        private long second = Long.MIN_VALUE;
+        private String value;
+
+        String format(long time) {
+            long second = time / 1000;
+            if (second != this.second) {
+                this.date.setTime(time);
+                this.value = this.format.format(this.date);
+                this.second = second;
+            }
+            return this.value;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.accesslog;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded, lock-free ring buffer of encoded access log entries, supporting multiple producers and a single consumer.
+ * Each slot owns a preallocated byte array into which entries are UTF-8 encoded by the producing thread.
+ * If the consumer falls behind, new entries are dropped rather than blocking the request thread.
+ */
+public class AccessLogRingBuffer {
+
+    private static final int INITIAL_SLOT_SIZE = 256;
+
+    /**
+     * Receives the encoded entries drained from the buffer.
+     */
+    public interface Sink {
+        void write(byte[] bytes, int offset, int length) throws IOException;
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long consumed = 0;
+    private volatile Thread consumer;
+
+    /**
+     * Creates a new ring buffer.
+     * @param capacity the minimum number of entries that can be queued, rounded up to the next power of 2
+     */
+    public AccessLogRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(Integer.toString(capacity));
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; ++i) {
+            this.slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Encodes and enqueues the specified entry.
+     * @param entry an access log entry
+     * @return true, if the entry was queued, false if the buffer was full and the entry was dropped.
+     */
+    public boolean offer(CharSequence entry) {
+        long sequence;
+        do {
+            sequence = this.claimed.get();
+            if (sequence - this.consumed >= this.slots.length) {
+                this.dropped.incrementAndGet();
+                return false;
+            }
+        } while (!this.claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = this.slots[(int) sequence & this.mask];
+        slot.encode(entry);
+        // Publish the entry to the consumer
+        slot.sequence = sequence;
+
+        Thread consumer = this.consumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    /**
+     * Drains published entries, in order, to the specified sink.
+     * Must only be called by the consumer thread.
+     * @param sink the target of the drained entries
+     * @param max the maximum number of entries to drain
+     * @return the number of drained entries
+     * @throws IOException if the sink failed to write an entry
+     */
+    public int drain(Sink sink, int max) throws IOException {
+        long sequence = this.consumed;
+        int count = 0;
+        while (count < max) {
+            Slot slot = this.slots[(int) sequence & this.mask];
+            if (slot.sequence != sequence) break;
+            try {
+                sink.write(slot.bytes, 0, slot.length);
+            } finally {
+                // Release the slot even if the write failed, otherwise the buffer would stay full
+                sequence += 1;
+                count += 1;
+                this.consumed = sequence;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Waits for an entry to be published, or for the specified timeout to elapse.
+     * Must only be called by the consumer thread.
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     */
+    public void await(long timeout, TimeUnit unit) {
+        this.consumer = Thread.currentThread();
+        try {
+            if (this.isEmpty()) {
+                LockSupport.parkNanos(this, unit.toNanos(timeout));
+            }
+        } finally {
+            this.consumer = null;
+        }
+    }
+
+    public boolean isEmpty() {
+        long sequence = this.consumed;
+        return this.slots[(int) sequence & this.mask].sequence != sequence;
+    }
+
+    public int getCapacity() {
+        return this.slots.length;
+    }
+
+    /**
+     * Returns the number of entries that were claimed, but not yet drained.
+     */
+    public long getQueued() {
+        return Math.max(0, this.claimed.get() - this.consumed);
+    }
+
+    public long getDropped() {
+        return this.dropped.get();
+    }
+
+    static class Slot {
+        volatile long sequence = -1;
+        byte[] bytes = new byte[INITIAL_SLOT_SIZE];
+        int length;
+
+        void encode(CharSequence value) {
+            int chars = value.length();
+            // Worst case is 3 bytes per char, since surrogate pairs encode to 4 bytes
+            this.ensureCapacity(chars * 3);
+            byte[] bytes = this.bytes;
+            int length = 0;
+            for (int i = 0; i < chars; ++i) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    bytes[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[length++] = (byte) (0xC0 | (c >> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && (i + 1 < chars) && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if ((c >= Character.MIN_SURROGATE) && (c <= Character.MAX_SURROGATE)) {
+                    bytes[length++] = (byte) '?';
+                } else {
+                    bytes[length++] = (byte) (0xE0 | (c >> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            this.length = length;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (this.bytes.length < capacity) {
+                this.bytes = new byte[Math.max(capacity, this.bytes.length << 1)];
+            }
+        }
+    }
+}
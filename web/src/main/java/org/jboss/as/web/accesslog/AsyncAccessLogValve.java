@@ -0,0 +1,361 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.accesslog;
+
+import static org.jboss.as.web.WebLogger.ROOT_LOGGER;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.servlet.ServletException;
+
+import org.apache.catalina.Lifecycle;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.LifecycleListener;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.util.LifecycleSupport;
+import org.apache.catalina.valves.ValveBase;
+
+/**
+ * Access log valve that never performs I/O on the request thread.
+ * Entries are formatted into a per-thread buffer and handed off to a dedicated writer thread via a lock-free ring buffer.
+ * The writer thread drains entries in batches, and is solely responsible for rotating the log file.
+ * If the writer cannot keep up, entries are dropped instead of blocking requests.
+ */
+public class AsyncAccessLogValve extends ValveBase implements Lifecycle {
+
+    private static final String info = "AsyncAccessLogValve/1.0";
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private static final int BATCH_SIZE = 512;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
+    protected LifecycleSupport support = new LifecycleSupport(this);
+
+    private volatile String directory = "logs";
+    private volatile String prefix = "access_log.";
+    private volatile String suffix = "";
+    private volatile String pattern = AccessLogPattern.COMMON;
+    private volatile boolean resolveHosts = false;
+    private volatile boolean rotatable = true;
+    private volatile int queueLength = 8192;
+
+    private volatile AccessLogPattern compiledPattern;
+    private volatile AccessLogRingBuffer buffer;
+    private volatile Writer writer;
+
+    /**
+     * Get information about this Valve.
+     */
+    @Override
+    public String getInfo() {
+        return info;
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        long start = System.currentTimeMillis();
+
+        getNext().invoke(request, response);
+
+        AccessLogRingBuffer buffer = this.buffer;
+        AccessLogPattern pattern = this.compiledPattern;
+        if ((buffer != null) && (pattern != null)) {
+            long time = System.currentTimeMillis();
+            StringBuilder builder = BUILDER.get();
+            builder.setLength(0);
+            pattern.format(builder, request, response, time, time - start, response.getContentCountLong());
+            builder.append(LINE_SEPARATOR);
+            buffer.offer(builder);
+        }
+    }
+
+    public String getDirectory() {
+        return this.directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public String getPrefix() {
+        return this.prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public String getSuffix() {
+        return this.suffix;
+    }
+
+    public void setSuffix(String suffix) {
+        this.suffix = suffix;
+    }
+
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    public boolean isResolveHosts() {
+        return this.resolveHosts;
+    }
+
+    public void setResolveHosts(boolean resolveHosts) {
+        this.resolveHosts = resolveHosts;
+    }
+
+    public boolean isRotatable() {
+        return this.rotatable;
+    }
+
+    public void setRotatable(boolean rotatable) {
+        this.rotatable = rotatable;
+    }
+
+    public int getQueueLength() {
+        return this.queueLength;
+    }
+
+    public void setQueueLength(int queueLength) {
+        this.queueLength = queueLength;
+    }
+
+    /**
+     * Returns the number of entries waiting to be written.
+     */
+    public long getQueuedEntries() {
+        AccessLogRingBuffer buffer = this.buffer;
+        return (buffer != null) ? buffer.getQueued() : 0;
+    }
+
+    /**
+     * Returns the number of entries discarded because the queue was full.
+     */
+    public long getDroppedEntries() {
+        AccessLogRingBuffer buffer = this.buffer;
+        return (buffer != null) ? buffer.getDropped() : 0;
+    }
+
+    /**
+     * Returns the number of entries written to the log file.
+     */
+    public long getWrittenEntries() {
+        Writer writer = this.writer;
+        return (writer != null) ? writer.written.get() : 0;
+    }
+
+    // Lifecycle Interface
+    @Override
+    public void addLifecycleListener(LifecycleListener listener) {
+        support.addLifecycleListener(listener);
+    }
+
+    @Override
+    public void removeLifecycleListener(LifecycleListener listener) {
+        support.removeLifecycleListener(listener);
+    }
+
+    @Override
+    public LifecycleListener[] findLifecycleListeners() {
+        return support.findLifecycleListeners();
+    }
+
+    @Override
+    public synchronized void start() throws LifecycleException {
+        if (this.writer != null) return;
+        support.fireLifecycleEvent(START_EVENT, this);
+
+        this.compiledPattern = AccessLogPattern.compile(this.pattern, this.resolveHosts);
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(this.queueLength);
+        Writer writer = new Writer(buffer, new File(this.directory), this.prefix, this.suffix, this.rotatable);
+        Thread thread = new Thread(writer, "access-log-writer" + ((container != null) ? "-" + container.getName() : ""));
+        thread.setDaemon(true);
+        writer.thread = thread;
+        this.buffer = buffer;
+        this.writer = writer;
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() throws LifecycleException {
+        Writer writer = this.writer;
+        if (writer == null) return;
+        support.fireLifecycleEvent(STOP_EVENT, this);
+
+        // Stop accepting new entries, then let the writer drain what was already queued
+        this.buffer = null;
+        writer.running = false;
+        // Don't interrupt, since that would close the file channel mid-write
+        LockSupport.unpark(writer.thread);
+        try {
+            writer.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.writer = null;
+    }
+
+    /**
+     * Drains the ring buffer into the current log file, rotating it at midnight if necessary.
+     */
+    static class Writer implements Runnable, AccessLogRingBuffer.Sink {
+        private final AccessLogRingBuffer buffer;
+        private final File directory;
+        private final String prefix;
+        private final String suffix;
+        private final boolean rotatable;
+        private final ByteBuffer batch = ByteBuffer.allocate(BUFFER_SIZE);
+        private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        final AtomicLong written = new AtomicLong();
+        volatile boolean running = true;
+        volatile Thread thread;
+
+        private FileChannel channel;
+        private long nextRotation = Long.MIN_VALUE;
+
+        Writer(AccessLogRingBuffer buffer, File directory, String prefix, String suffix, boolean rotatable) {
+            this.buffer = buffer;
+            this.directory = directory;
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.rotatable = rotatable;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (this.running || !this.buffer.isEmpty()) {
+                    this.rotate(System.currentTimeMillis());
+                    int count = 0;
+                    try {
+                        count = this.buffer.drain(this, BATCH_SIZE);
+                        this.flush();
+                    } catch (IOException e) {
+                        ROOT_LOGGER.accessLogWriteFailed(e);
+                        this.batch.clear();
+                    }
+                    if (this.channel != null) {
+                        this.written.addAndGet(count);
+                    }
+                    if ((count == 0) && this.running) {
+                        this.buffer.await(1, TimeUnit.SECONDS);
+                    }
+                }
+            } finally {
+                this.close();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length > this.batch.remaining()) {
+                this.flush();
+                if (length > this.batch.capacity()) {
+                    this.write(ByteBuffer.wrap(bytes, offset, length));
+                    return;
+                }
+            }
+            this.batch.put(bytes, offset, length);
+        }
+
+        private void flush() throws IOException {
+            if (this.batch.position() > 0) {
+                this.batch.flip();
+                try {
+                    this.write(this.batch);
+                } finally {
+                    this.batch.clear();
+                }
+            }
+        }
+
+        private void write(ByteBuffer buffer) throws IOException {
+            FileChannel channel = this.channel;
+            if (channel == null) return;
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        private void rotate(long time) {
+            if (time < this.nextRotation) return;
+            String name = this.prefix + (this.rotatable ? this.dateFormat.format(new Date(time)) : "") + this.suffix;
+            this.close();
+            this.nextRotation = this.rotatable ? nextMidnight(time) : Long.MAX_VALUE;
+            File file = new File(this.directory, name);
+            try {
+                this.directory.mkdirs();
+                this.channel = new FileOutputStream(file, true).getChannel();
+            } catch (IOException e) {
+                ROOT_LOGGER.accessLogOpenFailed(file.getPath(), e);
+                // Retry on the next pass, rather than on every batch
+                this.nextRotation = time + TimeUnit.SECONDS.toMillis(10);
+            }
+        }
+
+        private void close() {
+            FileChannel channel = this.channel;
+            if (channel != null) {
+                this.channel = null;
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    ROOT_LOGGER.accessLogWriteFailed(e);
+                }
+            }
+        }
+
+        private static long nextMidnight(long time) {
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTimeInMillis(time);
+            calendar.set(Calendar.HOUR_OF_DAY, 0);
+            calendar.set(Calendar.MINUTE, 0);
+            calendar.set(Calendar.SECOND, 0);
+            calendar.set(Calendar.MILLISECOND, 0);
+            calendar.add(Calendar.DAY_OF_MONTH, 1);
+            return calendar.getTimeInMillis();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.naming.NamingException;
+import javax.naming.directory.Attributes;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.catalina.servlets.DefaultServlet;
+import org.apache.naming.resources.Resource;
+import org.apache.naming.resources.ResourceAttributes;
+
+/**
+ * Default servlet that serves small static resources from a {@link StaticContentCache}, including their precomputed
+ * entity tags and gzipped variants.
+ * Range requests, includes, directories and resources too large to cache are handled by the {@link DefaultServlet},
+ * which serves large files using sendfile where the connector supports it.
+ */
+public class CachingDefaultServlet extends DefaultServlet {
+
+    private static final long serialVersionUID = -2468193750812741085L;
+
+    public static final String CACHE_MAX_SIZE = "cache-max-size";
+    public static final String CACHE_MAX_ENTRY_SIZE = "cache-max-entry-size";
+    public static final String CACHE_TTL = "cache-ttl";
+    public static final String CACHE_VALIDATION_INTERVAL = "cache-validation-interval";
+
+    private static final String INCLUDE_REQUEST_URI = "javax.servlet.include.request_uri";
+
+    private transient volatile StaticContentCache cache;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        long maxSize = this.getLongParameter(CACHE_MAX_SIZE, 0) * 1024;
+        if (maxSize > 0) {
+            long maxEntrySize = this.getLongParameter(CACHE_MAX_ENTRY_SIZE, 512) * 1024;
+            long timeToLive = this.getLongParameter(CACHE_TTL, 0);
+            long validationInterval = this.getLongParameter(CACHE_VALIDATION_INTERVAL, 5000);
+            StaticContentCache cache = new StaticContentCache(maxSize, maxEntrySize, timeToLive, validationInterval);
+            cache.register();
+            this.cache = cache;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        StaticContentCache cache = this.cache;
+        if (cache != null) {
+            this.cache = null;
+            cache.unregister();
+            cache.clear();
+        }
+        super.destroy();
+    }
+
+    @Override
+    protected void serveResource(HttpServletRequest request, HttpServletResponse response, boolean content) throws IOException, ServletException {
+        StaticContentCache cache = this.cache;
+        if ((cache == null) || (request.getHeader("Range") != null) || (request.getAttribute(INCLUDE_REQUEST_URI) != null)) {
+            super.serveResource(request, response, content);
+            return;
+        }
+        String path = this.getRelativePath(request);
+        long now = System.currentTimeMillis();
+        StaticContentCache.Entry entry = cache.get(path, now);
+        if ((entry != null) && cache.requiresValidation(entry, now)) {
+            if (this.getLastModified(path) == entry.getLastModified()) {
+                entry.validated(now);
+            } else {
+                cache.remove(path);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            entry = this.load(cache, path, now);
+        }
+        if (entry == null) {
+            super.serveResource(request, response, content);
+            return;
+        }
+
+        byte[] body = entry.getContent();
+        String etag = entry.getETag();
+        boolean gzip = false;
+        if (entry.getGzippedContent() != null) {
+            response.setHeader("Vary", "Accept-Encoding");
+            if (acceptsGzip(request)) {
+                body = entry.getGzippedContent();
+                etag = entry.getGzippedETag();
+                gzip = true;
+            }
+        }
+        long lastModified = entry.getLastModified();
+        response.setHeader("ETag", etag);
+        if (lastModified > 0) {
+            response.setDateHeader("Last-Modified", lastModified);
+        }
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        if (entry.getContentType() != null) {
+            response.setContentType(entry.getContentType());
+        }
+        if (gzip) {
+            response.setHeader("Content-Encoding", "gzip");
+        }
+        response.setContentLength(body.length);
+        if (content) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private StaticContentCache.Entry load(StaticContentCache cache, String path, long now) throws IOException {
+        try {
+            Attributes attributes = this.resources.getAttributes(path);
+            if (!(attributes instanceof ResourceAttributes)) return null;
+            ResourceAttributes resourceAttributes = (ResourceAttributes) attributes;
+            if (resourceAttributes.isCollection() || !cache.isCacheable(resourceAttributes.getContentLength())) return null;
+            Object object = this.resources.lookup(path);
+            if (!(object instanceof Resource)) return null;
+            InputStream input = ((Resource) object).streamContent();
+            ByteArrayOutputStream output = new ByteArrayOutputStream((int) resourceAttributes.getContentLength());
+            try {
+                byte[] buffer = new byte[4096];
+                int read = input.read(buffer);
+                while (read >= 0) {
+                    output.write(buffer, 0, read);
+                    read = input.read(buffer);
+                }
+            } finally {
+                input.close();
+            }
+            return cache.put(path, output.toByteArray(), this.getServletContext().getMimeType(path), resourceAttributes.getLastModified(), now);
+        } catch (NamingException e) {
+            // Resource does not exist, let the default servlet report it
+            return null;
+        }
+    }
+
+    private long getLastModified(String path) {
+        try {
+            Attributes attributes = this.resources.getAttributes(path);
+            return (attributes instanceof ResourceAttributes) ? ((ResourceAttributes) attributes).getLastModified() : -1;
+        } catch (NamingException e) {
+            return -1;
+        }
+    }
+
+    private long getLongParameter(String name, long defaultValue) {
+        String value = this.getServletConfig().getInitParameter(name);
+        return (value != null) ? Long.parseLong(value.trim()) : defaultValue;
+    }
+
+    static boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String tag: ifNoneMatch.split(",")) {
+                String value = tag.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals("*") || value.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (lastModified > 0) {
+            try {
+                long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+                // HTTP dates have a granularity of seconds
+                return (ifModifiedSince >= 0) && (lastModified / 1000 <= ifModifiedSince / 1000);
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) return false;
+        for (String encoding: acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; ++i) {
+                    String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            return Float.parseFloat(parameter.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
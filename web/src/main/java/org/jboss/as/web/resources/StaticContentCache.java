@@ -0,0 +1,309 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Size bounded, least recently used cache of static resource content.
+ * Each entry holds the resource content together with a precomputed entity tag and, for compressible content types,
+ * a pre-gzipped variant.
+ * Entries expire after a fixed time to live, and must be revalidated against the underlying resource once the validation
+ * interval has elapsed.
+ * All live caches are tracked, so that statistics can be reported across deployments.
+ */
+public class StaticContentCache {
+
+    private static final int MIN_GZIP_SIZE = 256;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final Set<StaticContentCache> CACHES = new CopyOnWriteArraySet<StaticContentCache>();
+
+    private final long maxSize;
+    private final long maxEntrySize;
+    private final long timeToLive;
+    private final long validationInterval;
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long size = 0;
+
+    /**
+     * Creates a new cache.
+     * @param maxSize the maximum total size of cached content, in bytes
+     * @param maxEntrySize the maximum size of a single cached resource, in bytes
+     * @param timeToLive the time after which an entry is evicted, in milliseconds, or a non-positive value for no expiration
+     * @param validationInterval the time after which an entry must be revalidated, in milliseconds
+     */
+    public StaticContentCache(long maxSize, long maxEntrySize, long timeToLive, long validationInterval) {
+        this.maxSize = maxSize;
+        this.maxEntrySize = Math.min(maxEntrySize, maxSize);
+        this.timeToLive = timeToLive;
+        this.validationInterval = validationInterval;
+    }
+
+    /**
+     * Indicates whether a resource of the specified size is eligible for caching.
+     */
+    public boolean isCacheable(long length) {
+        return (length >= 0) && (length <= this.maxEntrySize);
+    }
+
+    /**
+     * Returns the cached entry for the specified path, if one exists and has not expired.
+     * @param path a resource path
+     * @param now the current time, in milliseconds
+     * @return a cache entry, or null if there was no usable entry
+     */
+    public Entry get(String path, long now) {
+        Entry entry;
+        synchronized (this.entries) {
+            entry = this.entries.get(path);
+            if ((entry != null) && (this.timeToLive > 0) && (now - entry.created >= this.timeToLive)) {
+                this.remove(path, entry);
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            this.hits.incrementAndGet();
+        } else {
+            this.misses.incrementAndGet();
+        }
+        return entry;
+    }
+
+    /**
+     * Creates and caches an entry for the specified resource content.
+     * @param path a resource path
+     * @param content the resource content
+     * @param contentType the content type of the resource, or null if unknown
+     * @param lastModified the last modified time of the resource
+     * @param now the current time, in milliseconds
+     * @return the new entry, or null if the content is too large to cache
+     */
+    public Entry put(String path, byte[] content, String contentType, long lastModified, long now) {
+        if (!this.isCacheable(content.length)) return null;
+        byte[] gzipped = isCompressible(contentType, content.length) ? gzip(content) : null;
+        Entry entry = new Entry(content, gzipped, etag(content), contentType, lastModified, now);
+        synchronized (this.entries) {
+            Entry existing = this.entries.put(path, entry);
+            if (existing != null) {
+                this.size -= existing.getSize();
+            }
+            this.size += entry.getSize();
+            Iterator<Entry> values = this.entries.values().iterator();
+            while ((this.size > this.maxSize) && values.hasNext()) {
+                Entry eldest = values.next();
+                values.remove();
+                this.size -= eldest.getSize();
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Removes the cached entry for the specified path.
+     */
+    public void remove(String path) {
+        synchronized (this.entries) {
+            Entry entry = this.entries.remove(path);
+            if (entry != null) {
+                this.size -= entry.getSize();
+            }
+        }
+    }
+
+    private void remove(String path, Entry entry) {
+        this.entries.remove(path);
+        this.size -= entry.getSize();
+    }
+
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+            this.size = 0;
+        }
+    }
+
+    /**
+     * Indicates whether the specified entry must be revalidated against the underlying resource.
+     */
+    public boolean requiresValidation(Entry entry, long now) {
+        return now - entry.validated >= this.validationInterval;
+    }
+
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    public long getMemoryUsed() {
+        synchronized (this.entries) {
+            return this.size;
+        }
+    }
+
+    public int getEntryCount() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Makes this cache visible to {@link #getCaches()}.
+     */
+    public void register() {
+        CACHES.add(this);
+    }
+
+    public void unregister() {
+        CACHES.remove(this);
+    }
+
+    /**
+     * Returns all registered caches.
+     */
+    public static Set<StaticContentCache> getCaches() {
+        return CACHES;
+    }
+
+    static boolean isCompressible(String contentType, int length) {
+        if ((contentType == null) || (length < MIN_GZIP_SIZE)) return false;
+        return contentType.startsWith("text/") || contentType.startsWith("application/javascript")
+                || contentType.startsWith("application/json") || contentType.startsWith("application/xml")
+                || contentType.startsWith("application/xhtml+xml") || contentType.startsWith("image/svg+xml");
+    }
+
+    static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 2);
+        try {
+            GZIPOutputStream gzip = new GZIPOutputStream(output);
+            gzip.write(content);
+            gzip.close();
+        } catch (IOException e) {
+            // Cannot happen for an in-memory stream
+            return null;
+        }
+        byte[] gzipped = output.toByteArray();
+        // Only keep the compressed variant if it is actually smaller
+        return (gzipped.length < content.length) ? gzipped : null;
+    }
+
+    static String etag(byte[] content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] hash = digest.digest(content);
+        StringBuilder builder = new StringBuilder(hash.length * 2 + 2).append('"');
+        for (byte b: hash) {
+            builder.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+        return builder.append('"').toString();
+    }
+
+    // The compressed variant is a different representation, so it must not share the strong entity tag of the identity body
+    static String gzipETag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * Cached content of a static resource.
+     */
+    public static class Entry {
+        private final byte[] content;
+        private final byte[] gzipped;
+        private final String etag;
+        private final String gzippedETag;
+        private final String contentType;
+        private final long lastModified;
+        final long created;
+        volatile long validated;
+
+        Entry(byte[] content, byte[] gzipped, String etag, String contentType, long lastModified, long now) {
+            this.content = content;
+            this.gzipped = gzipped;
+            this.etag = etag;
+            this.gzippedETag = (gzipped != null) ? gzipETag(etag) : null;
+            this.contentType = contentType;
+            this.lastModified = lastModified;
+            this.created = now;
+            this.validated = now;
+        }
+
+        public byte[] getContent() {
+            return this.content;
+        }
+
+        /**
+         * Returns the gzipped content, or null if the content is not worth compressing.
+         */
+        public byte[] getGzippedContent() {
+            return this.gzipped;
+        }
+
+        public String getETag() {
+            return this.etag;
+        }
+
+        /**
+         * Returns the entity tag of the gzipped content, or null if the content is not worth compressing.
+         */
+        public String getGzippedETag() {
+            return this.gzippedETag;
+        }
+
+        public String getContentType() {
+            return this.contentType;
+        }
+
+        public long getLastModified() {
+            return this.lastModified;
+        }
+
+        /**
+         * Records that the underlying resource was found to be unchanged.
+         */
+        public void validated(long now) {
+            this.validated = now;
+        }
+
+        long getSize() {
+            return this.content.length + ((this.gzipped != null) ? this.gzipped.length : 0);
+        }
+    }
+}
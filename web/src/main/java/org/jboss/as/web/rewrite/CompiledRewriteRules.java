@@ -0,0 +1,428 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.rewrite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An ordered set of terminal rewrite rules (i.e. rules that redirect, or respond with 403 or 410, and stop processing),
+ * indexed such that only a handful of regular expressions need to be evaluated per request.
+ * Rules whose pattern is an anchored literal are found via a hash lookup, rules whose pattern starts with an anchored
+ * literal prefix are found via a trie, and all other rules are always considered.
+ * Since the outcome of these rules depends only on the request URI, match results are cached per URI.
+ * The first matching rule, in declaration order, always wins - exactly as if the rules were evaluated sequentially.
+ */
+public class CompiledRewriteRules {
+
+    public static final int DEFAULT_CACHE_SIZE = 10000;
+
+    private static final Match NO_MATCH = new Match(null, null);
+    private static final String REGEX_META = "\\.[]{}()*+?^$|";
+
+    private final Rule[] rules;
+    private final Map<String, Integer> exact = new HashMap<String, Integer>();
+    private final Node prefixes = new Node();
+    private final int[] generic;
+    private final ConcurrentMap<String, Match> cache = new ConcurrentHashMap<String, Match>();
+    private final int cacheSize;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CompiledRewriteRules(List<Rule> rules) {
+        this(rules, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Compiles the specified rules.
+     * @param rules the rules, in evaluation order
+     * @param cacheSize the maximum number of cached match results
+     */
+    public CompiledRewriteRules(List<Rule> rules, int cacheSize) {
+        this.rules = rules.toArray(new Rule[rules.size()]);
+        this.cacheSize = cacheSize;
+        List<Integer> generic = new ArrayList<Integer>();
+        for (int i = 0; i < this.rules.length; ++i) {
+            Rule rule = this.rules[i];
+            if (rule.literal == null) {
+                generic.add(i);
+            } else if (rule.exact) {
+                if (!this.exact.containsKey(rule.literal)) {
+                    this.exact.put(rule.literal, i);
+                }
+            } else {
+                this.prefixes.add(rule.literal, 0, i);
+            }
+        }
+        this.generic = new int[generic.size()];
+        for (int i = 0; i < this.generic.length; ++i) {
+            this.generic[i] = generic.get(i);
+        }
+    }
+
+    /**
+     * Finds the first rule matching the specified URI.
+     * @param uri a decoded request URI
+     * @return the match, or null if no rule matched
+     */
+    public Match match(String uri) {
+        Match match = this.cache.get(uri);
+        if (match != null) {
+            this.hits.incrementAndGet();
+        } else {
+            this.misses.incrementAndGet();
+            match = this.evaluate(uri);
+            if (this.cache.size() >= this.cacheSize) {
+                // Crude, but keeps the cache bounded without per-request bookkeeping
+                this.cache.clear();
+            }
+            this.cache.put(uri, match);
+        }
+        if (match.rule == null) return null;
+        match.rule.matches.incrementAndGet();
+        return match;
+    }
+
+    private Match evaluate(String uri) {
+        int[] candidates = this.candidates(uri);
+        for (int index: candidates) {
+            Rule rule = this.rules[index];
+            Matcher matcher = rule.pattern.matcher(uri);
+            if (matcher.matches()) {
+                return new Match(rule, rule.substitute(matcher));
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Returns the indexes of the rules that could match the specified URI, in ascending order.
+     */
+    private int[] candidates(String uri) {
+        Integer exact = this.exact.get(uri);
+        int limit = (exact != null) ? exact : this.rules.length;
+        int[] candidates = new int[this.generic.length + 1];
+        int count = 0;
+        for (int index: this.generic) {
+            if (index >= limit) break;
+            candidates[count++] = index;
+        }
+        Node node = this.prefixes;
+        for (int i = 0; (node != null) && (i <= uri.length()); ++i) {
+            for (int index: node.rules) {
+                if (index < limit) {
+                    if (count == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, count * 2);
+                    }
+                    candidates[count++] = index;
+                }
+            }
+            node = (i < uri.length()) ? node.children.get(uri.charAt(i)) : null;
+        }
+        if (exact != null) {
+            if (count == candidates.length) {
+                candidates = Arrays.copyOf(candidates, count + 1);
+            }
+            candidates[count++] = exact;
+        }
+        int[] result = Arrays.copyOf(candidates, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    public int size() {
+        return this.rules.length;
+    }
+
+    public long getCacheHits() {
+        return this.hits.get();
+    }
+
+    public long getCacheMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Returns the number of requests matched by the rule with the specified name, or -1 if there is no such rule.
+     */
+    public long getMatches(String name) {
+        for (Rule rule: this.rules) {
+            if (rule.name.equals(name)) {
+                return rule.matches.get();
+            }
+        }
+        return -1;
+    }
+
+    static class Node {
+        final Map<Character, Node> children = new HashMap<Character, Node>();
+        int[] rules = new int[0];
+
+        void add(String literal, int position, int rule) {
+            if (position == literal.length()) {
+                this.rules = Arrays.copyOf(this.rules, this.rules.length + 1);
+                this.rules[this.rules.length - 1] = rule;
+                return;
+            }
+            char c = literal.charAt(position);
+            Node child = this.children.get(c);
+            if (child == null) {
+                child = new Node();
+                this.children.put(c, child);
+            }
+            child.add(literal, position + 1, rule);
+        }
+    }
+
+    /**
+     * Result of a successful match.
+     */
+    public static class Match {
+        private final Rule rule;
+        private final String substitution;
+
+        Match(Rule rule, String substitution) {
+            this.rule = rule;
+            this.substitution = substitution;
+        }
+
+        public Rule getRule() {
+            return this.rule;
+        }
+
+        /**
+         * Returns the substituted URL.
+         */
+        public String getSubstitution() {
+            return this.substitution;
+        }
+    }
+
+    /**
+     * A terminal rewrite rule.
+     */
+    public static class Rule {
+        private final String name;
+        private final Pattern pattern;
+        private final Object[] substitution;
+        private final int redirect;
+        private final int status;
+        private final boolean qsAppend;
+        // Anchored literal the URI must start with, or be equal to if exact, if any
+        final String literal;
+        final boolean exact;
+        final AtomicLong matches = new AtomicLong();
+
+        private Rule(String name, Pattern pattern, Object[] substitution, int redirect, int status, boolean qsAppend, String literal, boolean exact) {
+            this.name = name;
+            this.pattern = pattern;
+            this.substitution = substitution;
+            this.redirect = redirect;
+            this.status = status;
+            this.qsAppend = qsAppend;
+            this.literal = literal;
+            this.exact = exact;
+        }
+
+        /**
+         * Creates a rule, if it can be compiled.
+         * Only rules without conditions that terminate processing are supported, i.e. redirects (R flag) that are also
+         * last (L flag), or forbidden (F) and gone (G) rules.
+         * Substitutions may only reference rule back-references ($N).
+         * @param name the rule name
+         * @param pattern the rule pattern
+         * @param substitution the rule substitution
+         * @param flags the rule flags, or null if there are none
+         * @return a rule, or null if the rule is not supported
+         */
+        public static Rule create(String name, String pattern, String substitution, String flags) {
+            if (pattern.startsWith("!")) return null;
+            boolean last = false;
+            boolean noCase = false;
+            boolean qsAppend = false;
+            int redirect = 0;
+            int status = 0;
+            if (flags != null) {
+                for (String token: flags.split(",")) {
+                    String flag = token.trim();
+                    if (flag.equals("L") || flag.equals("last")) {
+                        last = true;
+                    } else if (flag.equals("R") || flag.equals("redirect")) {
+                        redirect = 302;
+                    } else if (flag.startsWith("R=") || flag.startsWith("redirect=")) {
+                        try {
+                            redirect = Integer.parseInt(flag.substring(flag.indexOf('=') + 1));
+                        } catch (NumberFormatException e) {
+                            return null;
+                        }
+                    } else if (flag.equals("F") || flag.equals("forbidden")) {
+                        status = 403;
+                    } else if (flag.equals("G") || flag.equals("gone")) {
+                        status = 410;
+                    } else if (flag.equals("NC") || flag.equals("nocase")) {
+                        noCase = true;
+                    } else if (flag.equals("QSA") || flag.equals("qsappend")) {
+                        qsAppend = true;
+                    } else if (flag.length() > 0) {
+                        return null;
+                    }
+                }
+            }
+            if (status == 0) {
+                // A redirect without L continues evaluating the remaining rules against the substituted URL
+                if ((redirect == 0) || !last) return null;
+            }
+            Object[] elements = parseSubstitution(substitution);
+            if ((elements == null) && (status == 0)) return null;
+            Pattern compiled;
+            try {
+                compiled = Pattern.compile(pattern, noCase ? Pattern.CASE_INSENSITIVE : 0);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            String literal = null;
+            boolean exact = false;
+            if (!noCase && pattern.startsWith("^") && (pattern.indexOf('|') < 0)) {
+                StringBuilder builder = new StringBuilder();
+                int end = parseLiteral(pattern, 1, builder);
+                if (builder.length() > 0) {
+                    literal = builder.toString();
+                    exact = (end == pattern.length() - 1) && (pattern.charAt(end) == '$');
+                }
+            }
+            return new Rule(name, compiled, elements, redirect, status, qsAppend, literal, exact);
+        }
+
+        /**
+         * Parses the literal at the start of the specified regular expression.
+         * @return the position of the first character that is not part of the literal
+         */
+        private static int parseLiteral(String pattern, int start, StringBuilder literal) {
+            int i = start;
+            while (i < pattern.length()) {
+                char c = pattern.charAt(i);
+                if (c == '\\') {
+                    char next = (i + 1 < pattern.length()) ? pattern.charAt(i + 1) : 0;
+                    if ((REGEX_META.indexOf(next) >= 0) || (next == '/') || (next == '-')) {
+                        literal.append(next);
+                        i += 2;
+                        continue;
+                    }
+                    // Character class or other escape sequence
+                    return i;
+                }
+                if ((c == '*') || (c == '+') || (c == '?') || (c == '{')) {
+                    // Quantifier applies to the preceding character, which is therefore not part of the literal
+                    if (literal.length() > 0) {
+                        literal.setLength(literal.length() - 1);
+                    }
+                    return i;
+                }
+                if (REGEX_META.indexOf(c) >= 0) {
+                    return i;
+                }
+                literal.append(c);
+                i += 1;
+            }
+            return i;
+        }
+
+        /**
+         * Parses the substitution into literal strings and back-reference group numbers.
+         * @return the parsed elements, or null if the substitution references unsupported variables
+         */
+        private static Object[] parseSubstitution(String substitution) {
+            if ((substitution == null) || substitution.equals("-") || (substitution.indexOf('%') >= 0)) return null;
+            List<Object> elements = new ArrayList<Object>();
+            StringBuilder literal = new StringBuilder();
+            for (int i = 0; i < substitution.length(); ++i) {
+                char c = substitution.charAt(i);
+                if (c == '$') {
+                    if ((i + 1 < substitution.length()) && Character.isDigit(substitution.charAt(i + 1))) {
+                        if (literal.length() > 0) {
+                            elements.add(literal.toString());
+                            literal.setLength(0);
+                        }
+                        elements.add(Character.digit(substitution.charAt(++i), 10));
+                    } else {
+                        // Rewrite maps are not supported
+                        return null;
+                    }
+                } else {
+                    literal.append(c);
+                }
+            }
+            if (literal.length() > 0) {
+                elements.add(literal.toString());
+            }
+            return elements.toArray();
+        }
+
+        String substitute(Matcher matcher) {
+            if (this.substitution == null) return null;
+            StringBuilder builder = new StringBuilder();
+            for (Object element: this.substitution) {
+                if (element instanceof Integer) {
+                    int group = (Integer) element;
+                    String value = (group <= matcher.groupCount()) ? matcher.group(group) : null;
+                    if (value != null) {
+                        builder.append(value);
+                    }
+                } else {
+                    builder.append((String) element);
+                }
+            }
+            return builder.toString();
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Returns the redirect status code, or 0 if this rule does not redirect.
+         */
+        public int getRedirect() {
+            return this.redirect;
+        }
+
+        /**
+         * Returns the error status code (403 or 410), or 0 if this rule does not send an error.
+         */
+        public int getStatus() {
+            return this.status;
+        }
+
+        public boolean isQsAppend() {
+            return this.qsAppend;
+        }
+    }
+}
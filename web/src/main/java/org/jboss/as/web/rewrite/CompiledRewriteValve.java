@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.rewrite;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+
+/**
+ * Valve that applies a set of {@link CompiledRewriteRules}.
+ * Requests not matched by any rule proceed down the pipeline, typically to a JBossWeb rewrite valve containing the
+ * remaining rules that could not be compiled.
+ */
+public class CompiledRewriteValve extends ValveBase {
+
+    private static final String info = "CompiledRewriteValve/1.0";
+
+    private final CompiledRewriteRules rules;
+
+    public CompiledRewriteValve(CompiledRewriteRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Get information about this Valve.
+     */
+    @Override
+    public String getInfo() {
+        return info;
+    }
+
+    public CompiledRewriteRules getRules() {
+        return this.rules;
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        String uri = request.getDecodedRequestURI();
+        CompiledRewriteRules.Match match = (uri != null) ? this.rules.match(uri) : null;
+        if (match == null) {
+            getNext().invoke(request, response);
+            return;
+        }
+        CompiledRewriteRules.Rule rule = match.getRule();
+        if (rule.getStatus() != 0) {
+            response.sendError(rule.getStatus());
+            return;
+        }
+        // Same query string handling as the JBossWeb rewrite valve
+        StringBuilder url = new StringBuilder(match.getSubstitution());
+        String queryString = request.getQueryString();
+        if ((queryString != null) && (queryString.length() > 0)) {
+            int index = url.indexOf("?");
+            if (index != -1) {
+                if (rule.isQsAppend()) {
+                    url.append('&').append(queryString);
+                } else if (index == url.length() - 1) {
+                    // A trailing ? only serves to discard the original query string
+                    url.deleteCharAt(index);
+                }
+            } else {
+                url.append('?').append(queryString);
+            }
+        }
+        response.sendRedirect(url.toString());
+        response.setStatus(rule.getRedirect());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.accesslog;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the compiled access log pattern.
+ */
+public class AccessLogPatternTestCase {
+
+    private final HttpServletRequest request = mock(HttpServletRequest.class);
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+
+    @Before
+    public void init() {
+        when(this.request.getRemoteAddr()).thenReturn("10.0.0.1");
+        when(this.request.getRemoteHost()).thenReturn("client.example.com");
+        when(this.request.getMethod()).thenReturn("GET");
+        when(this.request.getRequestURI()).thenReturn("/app/index.html");
+        when(this.request.getQueryString()).thenReturn("a=b");
+        when(this.request.getProtocol()).thenReturn("HTTP/1.1");
+        when(this.request.getHeader("User-Agent")).thenReturn("test");
+        when(this.request.getCookies()).thenReturn(new Cookie[] { new Cookie("JSESSIONID", "abc") });
+        when(this.response.getStatus()).thenReturn(200);
+    }
+
+    @Test
+    public void common() {
+        String entry = this.format(AccessLogPattern.compile("common", false), 1234);
+        // Skip the timestamp, which depends on the default time zone
+        assertEquals("10.0.0.1 - - [", entry.substring(0, 14));
+        assertEquals("] \"GET /app/index.html?a=b HTTP/1.1\" 200 1234", entry.substring(entry.indexOf(']')));
+    }
+
+    @Test
+    public void resolveHosts() {
+        assertEquals("client.example.com", this.format(AccessLogPattern.compile("%h", true), 0));
+        assertEquals("10.0.0.1", this.format(AccessLogPattern.compile("%h", false), 0));
+    }
+
+    @Test
+    public void bytes() {
+        assertEquals("- 0", this.format(AccessLogPattern.compile("%b %B", false), 0));
+        assertEquals("42 42", this.format(AccessLogPattern.compile("%b %B", false), 42));
+    }
+
+    @Test
+    public void named() {
+        AccessLogPattern pattern = AccessLogPattern.compile("%{User-Agent}i %{Referer}i %{JSESSIONID}c", false);
+        assertEquals("test - abc", this.format(pattern, 0));
+    }
+
+    @Test
+    public void elapsed() {
+        StringBuilder builder = new StringBuilder();
+        AccessLogPattern.compile("%D %T", false).format(builder, this.request, this.response, 0, 1025, 0);
+        assertEquals("1025 1.025", builder.toString());
+    }
+
+    @Test
+    public void unknown() {
+        assertEquals("%z %{x}z 100%", this.format(AccessLogPattern.compile("%z %{x}z 100%", false), 0));
+    }
+
+    private String format(AccessLogPattern pattern, long bytes) {
+        StringBuilder builder = new StringBuilder();
+        pattern.format(builder, this.request, this.response, System.currentTimeMillis(), 0, bytes);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.accesslog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+/**
+ * Tests of the access log ring buffer.
+ */
+public class AccessLogRingBufferTestCase {
+
+    @Test
+    public void offerDrain() throws Exception {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(3);
+        assertEquals(4, buffer.getCapacity());
+        assertTrue(buffer.isEmpty());
+
+        assertTrue(buffer.offer("a\n"));
+        assertTrue(buffer.offer("\u00e9\u20ac\ud83d\ude00\n"));
+        assertEquals(2, buffer.getQueued());
+
+        Sink sink = new Sink();
+        assertEquals(2, buffer.drain(sink, 10));
+        assertEquals("a\n\u00e9\u20ac\ud83d\ude00\n", sink.toString());
+        assertEquals(0, buffer.getQueued());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void drop() throws Exception {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(2);
+        assertTrue(buffer.offer("1"));
+        assertTrue(buffer.offer("2"));
+        assertFalse(buffer.offer("3"));
+        assertEquals(1, buffer.getDropped());
+
+        Sink sink = new Sink();
+        assertEquals(1, buffer.drain(sink, 1));
+        assertTrue(buffer.offer("4"));
+        assertEquals(2, buffer.drain(sink, 10));
+        assertEquals("124", sink.toString());
+    }
+
+    @Test
+    public void largeEntry() throws Exception {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(1);
+        StringBuilder entry = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            entry.append(i % 10);
+        }
+        assertTrue(buffer.offer(entry));
+        Sink sink = new Sink();
+        buffer.drain(sink, 1);
+        assertEquals(entry.toString(), sink.toString());
+    }
+
+    @Test
+    public void concurrentProducers() throws Exception {
+        final int producers = 4;
+        final int entries = 10000;
+        final AccessLogRingBuffer buffer = new AccessLogRingBuffer(256);
+        final CountDownLatch latch = new CountDownLatch(producers);
+        for (int i = 0; i < producers; ++i) {
+            new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < entries; ++j) {
+                        buffer.offer("x");
+                    }
+                    latch.countDown();
+                }
+            }.start();
+        }
+        Sink sink = new Sink();
+        long drained = 0;
+        while ((latch.getCount() > 0) || !buffer.isEmpty()) {
+            drained += buffer.drain(sink, 100);
+        }
+        assertEquals(producers * entries, drained + buffer.getDropped());
+        assertEquals(drained, sink.toString().length());
+    }
+
+    static class Sink implements AccessLogRingBuffer.Sink {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            this.output.write(bytes, offset, length);
+        }
+
+        @Override
+        public String toString() {
+            try {
+                return this.output.toString("UTF-8");
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
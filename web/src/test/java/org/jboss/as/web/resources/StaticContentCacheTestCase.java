@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.resources;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+/**
+ * Tests of the static content cache.
+ */
+public class StaticContentCacheTestCase {
+
+    @Test
+    public void getPut() {
+        StaticContentCache cache = new StaticContentCache(1024, 512, 0, 1000);
+        assertNull(cache.get("/a.png", 0));
+        byte[] content = new byte[100];
+        StaticContentCache.Entry entry = cache.put("/a.png", content, "image/png", 10, 0);
+        assertNotNull(entry);
+        assertNull(entry.getGzippedContent());
+        assertNull(entry.getGzippedETag());
+        assertEquals(StaticContentCache.etag(content), entry.getETag());
+        assertSame(entry, cache.get("/a.png", 500));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(100, cache.getMemoryUsed());
+
+        assertFalse(cache.requiresValidation(entry, 999));
+        assertTrue(cache.requiresValidation(entry, 1000));
+        entry.validated(1000);
+        assertFalse(cache.requiresValidation(entry, 1999));
+
+        cache.remove("/a.png");
+        assertEquals(0, cache.getMemoryUsed());
+        assertNull(cache.get("/a.png", 0));
+    }
+
+    @Test
+    public void tooLarge() {
+        StaticContentCache cache = new StaticContentCache(1024, 512, 0, 1000);
+        assertFalse(cache.isCacheable(513));
+        assertNull(cache.put("/large", new byte[513], null, 0, 0));
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        StaticContentCache cache = new StaticContentCache(300, 300, 0, 1000);
+        cache.put("/a", new byte[100], null, 0, 0);
+        cache.put("/b", new byte[100], null, 0, 0);
+        cache.put("/c", new byte[100], null, 0, 0);
+        // Touch a, so that b becomes the eldest
+        assertNotNull(cache.get("/a", 0));
+        cache.put("/d", new byte[100], null, 0, 0);
+        assertNull(cache.get("/b", 0));
+        assertNotNull(cache.get("/a", 0));
+        assertNotNull(cache.get("/c", 0));
+        assertNotNull(cache.get("/d", 0));
+        assertEquals(300, cache.getMemoryUsed());
+    }
+
+    @Test
+    public void expire() {
+        StaticContentCache cache = new StaticContentCache(1024, 512, 1000, 1000);
+        cache.put("/a", new byte[10], null, 0, 0);
+        assertNotNull(cache.get("/a", 999));
+        assertNull(cache.get("/a", 1000));
+        assertEquals(0, cache.getMemoryUsed());
+    }
+
+    @Test
+    public void gzip() throws Exception {
+        StaticContentCache cache = new StaticContentCache(64 * 1024, 16 * 1024, 0, 1000);
+        byte[] content = new byte[4096];
+        Arrays.fill(content, (byte) 'a');
+        StaticContentCache.Entry entry = cache.put("/a.css", content, "text/css", 0, 0);
+        byte[] gzipped = entry.getGzippedContent();
+        assertNotNull(gzipped);
+        assertTrue(gzipped.length < content.length);
+        assertEquals(content.length + gzipped.length, cache.getMemoryUsed());
+        assertEquals(StaticContentCache.etag(content), entry.getETag());
+        assertFalse(entry.getETag().equals(entry.getGzippedETag()));
+        assertTrue(entry.getGzippedETag().startsWith("\""));
+        assertTrue(entry.getGzippedETag().endsWith("-gzip\""));
+
+        GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+            output.write(buffer, 0, read);
+        }
+        assertArrayEquals(content, output.toByteArray());
+
+        // Small or binary content is not compressed
+        assertNull(cache.put("/b.css", new byte[10], "text/css", 0, 0).getGzippedContent());
+        assertNull(cache.put("/b.png", content, "image/png", 0, 0).getGzippedContent());
+    }
+
+    @Test
+    public void register() {
+        StaticContentCache cache = new StaticContentCache(1024, 512, 0, 1000);
+        cache.register();
+        assertTrue(StaticContentCache.getCaches().contains(cache));
+        cache.unregister();
+        assertFalse(StaticContentCache.getCaches().contains(cache));
+    }
+}
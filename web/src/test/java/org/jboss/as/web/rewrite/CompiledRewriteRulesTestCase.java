@@ -0,0 +1,179 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.rewrite;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Tests of the compiled rewrite rules.
+ */
+public class CompiledRewriteRulesTestCase {
+
+    @Test
+    public void create() {
+        CompiledRewriteRules.Rule exact = CompiledRewriteRules.Rule.create("exact", "^/old/page\\.html$", "/new/page.html", "R=301,L");
+        assertNotNull(exact);
+        assertEquals("/old/page.html", exact.literal);
+        assertTrue(exact.exact);
+        assertEquals(301, exact.getRedirect());
+
+        CompiledRewriteRules.Rule prefix = CompiledRewriteRules.Rule.create("prefix", "^/old/(.*)", "/new/$1", "R,L");
+        assertEquals("/old/", prefix.literal);
+        assertFalse(prefix.exact);
+        assertEquals(302, prefix.getRedirect());
+
+        // Quantifier applies to the last literal character
+        assertEquals("/ol", CompiledRewriteRules.Rule.create("q", "^/old?/(.*)", "/x", "R,L").literal);
+
+        CompiledRewriteRules.Rule generic = CompiledRewriteRules.Rule.create("generic", ".*\\.php", "-", "F");
+        assertNull(generic.literal);
+        assertEquals(403, generic.getStatus());
+        assertNull(CompiledRewriteRules.Rule.create("nocase", "^/old/(.*)", "/new/$1", "R,L,NC").literal);
+        assertNull(CompiledRewriteRules.Rule.create("alternation", "^/a|/b", "/c", "R,L").literal);
+
+        // Unsupported rules
+        assertNull(CompiledRewriteRules.Rule.create("internal", "^/a", "/b", "L"));
+        assertNull(CompiledRewriteRules.Rule.create("not-last", "^/a", "/b", "R"));
+        assertNull(CompiledRewriteRules.Rule.create("variable", "^/a", "http://%{HTTP_HOST}/b", "R,L"));
+        assertNull(CompiledRewriteRules.Rule.create("map", "^/a", "${map:x}", "R,L"));
+        assertNull(CompiledRewriteRules.Rule.create("negated", "!^/a", "/b", "R,L"));
+        assertNull(CompiledRewriteRules.Rule.create("chain", "^/a", "/b", "R,L,C"));
+    }
+
+    @Test
+    public void match() {
+        CompiledRewriteRules rules = new CompiledRewriteRules(Arrays.asList(
+                CompiledRewriteRules.Rule.create("php", ".*\\.php", "-", "F"),
+                CompiledRewriteRules.Rule.create("docs", "^/docs/(.*)/(.*)", "/documentation/$2/$1", "R=301,L"),
+                CompiledRewriteRules.Rule.create("home", "^/index\\.html$", "/", "R,L"),
+                CompiledRewriteRules.Rule.create("legacy", "^/(.*)", "/legacy/$1", "R,L,QSA")));
+
+        assertEquals(403, rules.match("/docs/a/b.php").getRule().getStatus());
+        CompiledRewriteRules.Match match = rules.match("/docs/a/b");
+        assertEquals("docs", match.getRule().getName());
+        assertEquals("/documentation/b/a", match.getSubstitution());
+        assertEquals("/", rules.match("/index.html").getSubstitution());
+        match = rules.match("/other");
+        assertEquals("/legacy/other", match.getSubstitution());
+        assertTrue(match.getRule().isQsAppend());
+        assertNull(rules.match("relative"));
+
+        assertEquals(0, rules.getCacheHits());
+        assertEquals(5, rules.getCacheMisses());
+        assertSame(match, rules.match("/other"));
+        assertEquals(1, rules.getCacheHits());
+        assertEquals(2, rules.getMatches("legacy"));
+        assertEquals(-1, rules.getMatches("unknown"));
+    }
+
+    @Test
+    public void cacheSize() {
+        CompiledRewriteRules rules = new CompiledRewriteRules(Arrays.asList(CompiledRewriteRules.Rule.create("all", "(.*)", "/x$1", "R,L")), 2);
+        rules.match("/a");
+        rules.match("/b");
+        rules.match("/c");
+        rules.match("/c");
+        assertEquals(1, rules.getCacheHits());
+        rules.match("/a");
+        assertEquals(1, rules.getCacheHits());
+    }
+
+    @Test
+    public void sequentialEquivalence10() {
+        this.sequentialEquivalence(10);
+    }
+
+    @Test
+    public void sequentialEquivalence100() {
+        this.sequentialEquivalence(100);
+    }
+
+    @Test
+    public void sequentialEquivalence1000() {
+        this.sequentialEquivalence(1000);
+    }
+
+    /**
+     * Verifies that the compiled rules select the same rule as evaluating every rule in order.
+     */
+    private void sequentialEquivalence(int count) {
+        Random random = new Random(count);
+        List<String[]> definitions = new ArrayList<String[]>();
+        for (int i = 0; i < count; ++i) {
+            String path = "/p" + random.nextInt(count / 2 + 1);
+            switch (random.nextInt(4)) {
+                case 0:
+                    definitions.add(new String[] { "^" + path + "\\.html$", "/exact" + i });
+                    break;
+                case 1:
+                    definitions.add(new String[] { "^" + path + "/(.*)", "/prefix" + i + "/$1" });
+                    break;
+                case 2:
+                    definitions.add(new String[] { "^" + path + "x?/(.*)\\.jsp", "/quantified" + i + "/$1" });
+                    break;
+                default:
+                    definitions.add(new String[] { ".*" + path + "\\.gif", "/generic" + i });
+            }
+        }
+        List<CompiledRewriteRules.Rule> list = new ArrayList<CompiledRewriteRules.Rule>();
+        List<Pattern> patterns = new ArrayList<Pattern>();
+        for (int i = 0; i < count; ++i) {
+            String[] definition = definitions.get(i);
+            list.add(CompiledRewriteRules.Rule.create("rule" + i, definition[0], definition[1], "R=301,L"));
+            patterns.add(Pattern.compile(definition[0]));
+        }
+        CompiledRewriteRules rules = new CompiledRewriteRules(list);
+
+        String[] suffixes = { ".html", "/a/b", "x/c.jsp", "/d.jsp", ".gif", "" };
+        for (int i = 0; i < count * 10; ++i) {
+            String uri = "/q/p" + random.nextInt(count / 2 + 1) + suffixes[random.nextInt(suffixes.length)];
+            if (random.nextBoolean()) {
+                uri = uri.substring(2);
+            }
+            String expected = null;
+            for (int j = 0; j < count; ++j) {
+                Matcher matcher = patterns.get(j).matcher(uri);
+                if (matcher.matches()) {
+                    expected = "rule" + j;
+                    break;
+                }
+            }
+            CompiledRewriteRules.Match match = rules.match(uri);
+            assertEquals(uri, expected, (match != null) ? match.getRule().getName() : null);
+        }
+    }
+}
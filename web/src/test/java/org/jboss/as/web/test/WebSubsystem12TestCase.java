@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2012, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.web.test;
+
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.web.WebExtension;
+import org.junit.Test;
+
+/**
+ * Tests the static content cache and asynchronous access log attributes of the 1.2 schema.
+ */
+public class WebSubsystem12TestCase extends AbstractSubsystemBaseTest {
+
+    public WebSubsystem12TestCase() {
+        super(WebExtension.SUBSYSTEM_NAME, new WebExtension());
+    }
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("subsystem-1.2.xml");
+    }
+
+    @Override
+    protected String getSubsystemXml(String configId) throws IOException {
+        return readResource(configId);
+    }
+
+    @Override
+    protected AdditionalInitialization createAdditionalInitialization() {
+        return AdditionalInitialization.MANAGEMENT;
+    }
+
+    @Test
+    public void testNewAttributesRequireCurrentNamespace() throws Exception {
+        String subsystemXml = getSubsystemXml().replace("urn:jboss:domain:web:1.2", "urn:jboss:domain:web:1.1");
+        try {
+            super.parse(subsystemXml);
+            fail("Static content cache and asynchronous access log attributes should not be accepted in the 1.1 namespace");
+        } catch (XMLStreamException e) {
+            // Expected
+        }
+    }
+}